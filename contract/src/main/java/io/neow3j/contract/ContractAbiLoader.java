@@ -3,6 +3,7 @@ package io.neow3j.contract;
 import io.neow3j.contract.abi.NeoABIUtils;
 import io.neow3j.contract.abi.exceptions.NEP3Exception;
 import io.neow3j.contract.abi.model.NeoContractInterface;
+import io.neow3j.crypto.Hash160;
 import io.neow3j.utils.Numeric;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +41,11 @@ public class ContractAbiLoader {
             return this;
         }
 
+        public Builder contractScriptHash(Hash160 contractScriptHash) {
+            this.contractScriptHash = contractScriptHash.toArray();
+            return this;
+        }
+
         public Builder address(String address) {
             contractScriptHash(address);
             return this;
@@ -3,7 +3,10 @@ package io.neow3j.contract;
 import io.neow3j.constants.NeoConstants;
 import io.neow3j.protocol.core.Response;
 import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Fixed8;
 import io.neow3j.utils.Keys;
+import io.neow3j.crypto.Hash160;
+import io.neow3j.crypto.Hash256;
 import io.neow3j.crypto.SecureRandomUtils;
 import io.neow3j.crypto.transaction.RawScript;
 import io.neow3j.crypto.transaction.RawTransactionAttribute;
@@ -39,7 +42,7 @@ public class ContractInvocation {
     private static final Logger LOG = LoggerFactory.getLogger(ContractInvocation.class);
 
     private Neow3j neow3j;
-    private String scriptHash;
+    private Hash160 scriptHash;
     private String function;
     private List<ContractParameter> params;
     private Account account;
@@ -100,12 +103,13 @@ public class ContractInvocation {
         Response<InvocationResult> response;
         if (function != null) {
             if (params.isEmpty()) {
-                response = neow3j.invokeFunction(scriptHash, function).send();
+                response = neow3j.invokeFunction(scriptHash.toHexString(), function).send();
             } else {
-                response = neow3j.invokeFunction(scriptHash, function, params).send();
+                response = neow3j.invokeFunction(scriptHash.toHexString(), function, params)
+                        .send();
             }
         } else {
-            response = neow3j.invoke(scriptHash, params).send();
+            response = neow3j.invoke(scriptHash.toHexString(), params).send();
         }
         response.throwOnError();
         return response.getResult();
@@ -192,7 +196,7 @@ public class ContractInvocation {
     public static class Builder {
 
         private Neow3j neow3j;
-        private String scriptHash;
+        private Hash160 scriptHash;
         private String function;
         private List<RawScript> witnesses;
         private List<ContractParameter> params;
@@ -239,6 +243,13 @@ public class ContractInvocation {
                 throw new IllegalArgumentException("Script hash must be 20 bytes long but was " +
                         scriptHash.length()/2 + " bytes long.");
             }
+            return contractScriptHash(Hash160.fromHexString(scriptHash));
+        }
+
+        public Builder contractScriptHash(Hash160 scriptHash) {
+            if (scriptHash == null) {
+                throw new IllegalArgumentException("Script hash must not be null");
+            }
             this.scriptHash = scriptHash;
             return this;
         }
@@ -354,7 +365,7 @@ public class ContractInvocation {
 
             List<RawTransactionOutput> intents = new ArrayList<>(outputs);
             intents.addAll(createOutputsFromFees(networkFee, systemFee));
-            Map<String, BigDecimal> requiredAssets = calculateRequiredAssetsForIntents(intents);
+            Map<Hash256, Fixed8> requiredAssets = calculateRequiredAssetsForIntents(intents);
 
             calculateInputsAndChange(requiredAssets);
 
@@ -368,7 +379,7 @@ public class ContractInvocation {
         private InvocationTransaction buildTransaction() {
 
             byte[] script = new ScriptBuilder()
-                    .appCall(Numeric.hexStringToByteArray(scriptHash), function, params)
+                    .appCall(scriptHash.toArray(), function, params)
                     .toArray();
 
             return new InvocationTransaction.Builder()
@@ -415,34 +426,39 @@ public class ContractInvocation {
             return outputs;
         }
 
-        private Map<String, BigDecimal> calculateRequiredAssetsForIntents(
+        private Map<Hash256, Fixed8> calculateRequiredAssetsForIntents(
                 List<RawTransactionOutput> outputs) {
 
-            Map<String, BigDecimal> assets = new HashMap<>();
+            Map<Hash256, Fixed8> assets = new HashMap<>();
             outputs.forEach(output -> {
-                BigDecimal value = new BigDecimal(output.getValue());
-                if (assets.containsKey(output.getAssetId())) {
-                    value = assets.get(output.getAssetId()).add(value);
+                Fixed8 value = output.getFixed8Value();
+                if (assets.containsKey(output.getAssetHash())) {
+                    value = assets.get(output.getAssetHash()).add(value);
                 }
-                assets.put(output.getAssetId(), value);
+                assets.put(output.getAssetHash(), value);
             });
             return assets;
         }
 
-        private void calculateInputsAndChange(Map<String, BigDecimal> requiredAssets) {
+        private void calculateInputsAndChange(Map<Hash256, Fixed8> requiredAssets) {
             requiredAssets.forEach((reqAssetId, reqValue) -> {
-                List<Utxo> utxos = account.getUtxosForAssetAmount(reqAssetId, reqValue, inputCalculationStrategy);
+                List<Utxo> utxos = account.getUtxosForAssetAmount(reqAssetId.toHexString(),
+                        reqValue.toBigDecimal(), inputCalculationStrategy);
                 inputs.addAll(utxos.stream().map(Utxo::toTransactionInput).collect(Collectors.toList()));
-                BigDecimal changeAmount = calculateChange(utxos, reqValue);
+                Fixed8 changeAmount = calculateChange(utxos, reqValue);
                 if (changeAmount != null) outputs.add(
-                        new RawTransactionOutput(reqAssetId, changeAmount.toPlainString(), account.getAddress()));
+                        RawTransactionOutput.fromFixed8(reqAssetId, changeAmount,
+                                account.getAddress()));
             });
         }
 
-        private BigDecimal calculateChange(List<Utxo> utxos, BigDecimal reqValue) {
-            BigDecimal inputAmount = utxos.stream().map(Utxo::getValue).reduce(BigDecimal::add).get();
-            if (inputAmount.compareTo(reqValue) > 0) {
-                return inputAmount.subtract(reqValue);
+        private Fixed8 calculateChange(List<Utxo> utxos, Fixed8 reqValue) {
+            long inputAmount = 0;
+            for (Utxo utxo : utxos) {
+                inputAmount = Math.addExact(inputAmount, utxo.getFixed8Value().getRawValue());
+            }
+            if (inputAmount > reqValue.getRawValue()) {
+                return Fixed8.fromRawValue(inputAmount - reqValue.getRawValue());
             }
             return null;
         }
@@ -0,0 +1,55 @@
+package io.neow3j.protocol.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a block fetched and emitted by the block observables of
+ * {@link io.neow3j.protocol.rx.JsonRpc2_0Rx}. The duration spans from requesting the block to
+ * emitting it.
+ *
+ * <p>Started through {@link ProtocolEvents#startBlock()}.</p>
+ */
+@Name("io.neow3j.Block")
+@Label("Block")
+@Category({"neow3j", "Blocks"})
+@Description("Block fetched from the node and emitted to subscribers")
+public class BlockEvent extends Event implements ProtocolEvents.Block {
+
+    @Label("Block Index")
+    private long blockIndex;
+
+    @Label("Transactions")
+    private int transactionCount;
+
+    @Label("Block Size")
+    @DataAmount
+    private long blockSize;
+
+    /**
+     * @return a started event, or null if the event is not enabled in any recording.
+     */
+    public static BlockEvent start() {
+        BlockEvent event = new BlockEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void end(long blockIndex, int transactionCount, long blockSize) {
+        end();
+        if (shouldCommit()) {
+            this.blockIndex = blockIndex;
+            this.transactionCount = transactionCount;
+            this.blockSize = blockSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.neow3j.protocol.jfr;
+
+/**
+ * Creates the JFR events of the core module. Loaded by {@link ProtocolEvents}.
+ */
+public final class JfrProtocolEventFactory implements ProtocolEvents.Factory {
+
+    @Override
+    public boolean isRpcRequestRecording() {
+        return RpcRequestEvent.isRecording();
+    }
+
+    @Override
+    public ProtocolEvents.RpcRequest startRpcRequest(String method) {
+        return RpcRequestEvent.start(method);
+    }
+
+    @Override
+    public ProtocolEvents.Block startBlock() {
+        return BlockEvent.start();
+    }
+}
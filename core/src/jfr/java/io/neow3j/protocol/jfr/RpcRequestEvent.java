@@ -0,0 +1,82 @@
+package io.neow3j.protocol.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a single JSON-RPC request sent by a {@link io.neow3j.protocol.Service}. Each
+ * retry is a separate event.
+ *
+ * <p>Started through {@link ProtocolEvents#startRpcRequest(String)}.</p>
+ */
+@Name("io.neow3j.RpcRequest")
+@Label("RPC Request")
+@Category({"neow3j", "RPC"})
+@Description("JSON-RPC request including serialization, I/O and deserialization")
+public class RpcRequestEvent extends Event implements ProtocolEvents.RpcRequest {
+
+    // Checked before every request, so that no event is allocated while nothing records.
+    private static final EventType TYPE = EventType.getEventType(RpcRequestEvent.class);
+
+    @Label("Method")
+    private String method;
+
+    @Label("Request Size")
+    @DataAmount
+    private long requestSize;
+
+    @Label("Response Size")
+    @DataAmount
+    private long responseSize;
+
+    @Label("Error Code")
+    @Description("The code of the JSON-RPC error in the response, or 0 if there was none")
+    private int errorCode;
+
+    @Label("Failure")
+    @Description("The exception that made the request fail, if any")
+    private String failure;
+
+    /**
+     * @return true if the event is enabled in any recording.
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * @param method the JSON-RPC method.
+     * @return a started event.
+     */
+    public static RpcRequestEvent start(String method) {
+        RpcRequestEvent event = new RpcRequestEvent();
+        event.method = method;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void complete(long requestSize, long responseSize, int errorCode) {
+        end();
+        if (shouldCommit()) {
+            this.requestSize = requestSize;
+            this.responseSize = responseSize;
+            this.errorCode = errorCode;
+            commit();
+        }
+    }
+
+    @Override
+    public void fail(Throwable cause) {
+        end();
+        if (shouldCommit()) {
+            this.failure = cause.toString();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.neow3j.protocol.jfr;
+
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.http.HttpService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.neow3j.protocol.http.HttpService.JSON_MEDIA_TYPE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class RpcRequestEventTest {
+
+    private static final String EVENT_NAME = "io.neow3j.RpcRequest";
+
+    @Test
+    public void testRequestEmitsEventOnlyWhileRecording() throws Exception {
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> new okhttp3.Response.Builder()
+                        .request(chain.request())
+                        .protocol(Protocol.HTTP_2)
+                        .code(200)
+                        .message("")
+                        .body(ResponseBody.create(JSON_MEDIA_TYPE,
+                                "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":1234}"))
+                        .build())
+                .build();
+        HttpService service = new HttpService(httpClient);
+        assertThat(RpcRequestEvent.isRecording(), is(false));
+
+        Path file = Files.createTempFile("neow3j", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withoutThreshold();
+            recording.start();
+            assertThat(RpcRequestEvent.isRecording(), is(true));
+            service.send(new Request<>("getblockcount", Collections.emptyList(), service,
+                    NeoBlockCount.class), NeoBlockCount.class);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(EVENT_NAME))
+                    .collect(Collectors.toList());
+            assertThat(events.size(), is(1));
+            assertThat(events.get(0).getString("method"), is("getblockcount"));
+            assertThat(events.get(0).getInt("errorCode"), is(0));
+        } finally {
+            new File(file.toString()).delete();
+        }
+        assertThat(RpcRequestEvent.isRecording(), is(false));
+    }
+}
@@ -2,6 +2,8 @@ package io.neow3j.protocol;
 
 import io.neow3j.protocol.core.Response;
 import io.neow3j.protocol.deserializer.RawResponseDeserializer;
+import io.neow3j.protocol.deserializer.StringInternPool;
+import io.neow3j.protocol.deserializer.StringInterningModule;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
@@ -35,6 +37,25 @@ public class ObjectMapperFactory {
         return configureObjectMapper(new ObjectMapper(), true);
     }
 
+    /**
+     * Creates a mapper that interns frequently repeated strings of blocks, transactions,
+     * unspents and application logs in the given pool. See {@link StringInterningModule}.
+     *
+     * @param shouldIncludeRawResponses whether the raw JSON is set on responses.
+     * @param internPool                the intern pool, or null to not intern strings.
+     * @return the mapper.
+     */
+    public static ObjectMapper getObjectMapper(boolean shouldIncludeRawResponses,
+            StringInternPool internPool) {
+        if (internPool == null) {
+            return getObjectMapper(shouldIncludeRawResponses);
+        }
+        ObjectMapper objectMapper =
+                configureObjectMapper(new ObjectMapper(), shouldIncludeRawResponses);
+        objectMapper.registerModule(new StringInterningModule(internPool));
+        return objectMapper;
+    }
+
     public static ObjectReader getObjectReader() {
         return DEFAULT_OBJECT_MAPPER.reader();
     }
@@ -0,0 +1,91 @@
+package io.neow3j.protocol;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.core.Request;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes JSON-RPC requests as UTF-8 JSON directly to an output stream, e.g. the body of an HTTP
+ * request, without building the JSON as string first.
+ *
+ * <p>The part of the envelope that precedes the parameters only depends on the method and is
+ * cached per method. Only the parameters, which e.g. hold the large hex string of a raw
+ * transaction, and the id are serialized for each request. The output is the same as the one
+ * of {@link ObjectMapper#writeValueAsString(Object)}.</p>
+ */
+public class RequestEncoder {
+
+    static final int MAX_CACHED_METHODS = 256;
+
+    private static final String JSONRPC_VERSION = "2.0";
+
+    private static final SerializableString ID = new SerializedString(",\"id\":");
+
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<String, SerializableString> envelopes =
+            new ConcurrentHashMap<>();
+
+    public RequestEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes the request to the stream. The stream is flushed but not closed.
+     *
+     * @param request the request.
+     * @param out     the stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    public void encode(Request<?, ?> request, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Flushing the stream on every value would e.g. emit an HTTP chunk for the parameters.
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        try {
+            if (isCacheable(request)) {
+                generator.writeRaw(getEnvelope(request.getMethod()));
+                objectMapper.writeValue(generator, request.getParams());
+                generator.writeRaw(ID);
+                generator.writeRaw(Long.toString(request.getId()));
+                generator.writeRaw('}');
+            } else {
+                objectMapper.writeValue(generator, request);
+            }
+        } finally {
+            generator.close();
+        }
+        out.flush();
+    }
+
+    private boolean isCacheable(Request<?, ?> request) {
+        // Subclasses may add properties, and the version is settable.
+        return request.getClass() == Request.class && request.getMethod() != null
+                && JSONRPC_VERSION.equals(request.getJsonrpc());
+    }
+
+    private SerializableString getEnvelope(String method) throws IOException {
+        SerializableString envelope = envelopes.get(method);
+        if (envelope == null) {
+            envelope = new SerializedString("{\"jsonrpc\":\"" + JSONRPC_VERSION
+                    + "\",\"method\":" + objectMapper.writeValueAsString(method)
+                    + ",\"params\":");
+            // Methods are a small, fixed set in practice. The bound protects against callers
+            // creating requests with arbitrary method names.
+            if (envelopes.size() < MAX_CACHED_METHODS) {
+                envelopes.putIfAbsent(method, envelope);
+            }
+        }
+        return envelope;
+    }
+
+    int getCachedMethodCount() {
+        return envelopes.size();
+    }
+}
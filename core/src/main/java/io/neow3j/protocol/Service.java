@@ -2,7 +2,14 @@ package io.neow3j.protocol;
 
 import io.neow3j.protocol.core.Request;
 import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.deserializer.StringInternPool;
+import io.neow3j.protocol.jfr.ProtocolEvents;
+import io.neow3j.protocol.limiter.RequestLimiter;
+import io.neow3j.protocol.metrics.CountingInputStream;
+import io.neow3j.protocol.metrics.RequestTimings;
+import io.neow3j.protocol.metrics.RpcMetrics;
 import io.neow3j.protocol.notifications.Notification;
+import io.neow3j.protocol.resilience.ResiliencePolicies;
 import io.neow3j.utils.Async;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import rx.Observable;
@@ -18,18 +25,85 @@ public abstract class Service implements Neow3jService {
 
     protected final ObjectMapper objectMapper;
 
+    protected final RequestEncoder requestEncoder;
+
+    private volatile RequestLimiter requestLimiter;
+
+    private volatile ResiliencePolicies resiliencePolicies;
+
+    private volatile RpcMetrics metrics;
+
     public Service(boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        requestEncoder = new RequestEncoder(objectMapper);
+    }
+
+    /**
+     * @param includeRawResponses whether the raw JSON is set on responses.
+     * @param internPool          the pool in which repeated strings of responses are interned,
+     *                            or null to not intern them.
+     */
+    public Service(boolean includeRawResponses, StringInternPool internPool) {
+        objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses, internPool);
+        requestEncoder = new RequestEncoder(objectMapper);
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
 
+    /**
+     * Sends the request and returns the stream of the response.
+     *
+     * <p>By default, the request is serialized into a string which is passed to
+     * {@link #performIO(String)}. Services that can write to their transport directly override
+     * this method and write the request with {@link #requestEncoder}, which saves the
+     * intermediate string and its encoding to bytes.</p>
+     *
+     * <p>Requests sent while metrics are set or JFR is recording are always serialized
+     * up front, so that the serialization time and the request size can be recorded.</p>
+     */
+    protected InputStream performIO(Request<?, ?> request) throws IOException {
+        return performIO(objectMapper.writeValueAsString(request));
+    }
+
     @Override
     public <T extends Response> T send(
             Request request, Class<T> responseType) throws IOException {
-        String payload = objectMapper.writeValueAsString(request);
+        ResiliencePolicies policies = resiliencePolicies;
+        if (policies == null) {
+            return sendLimited(request, responseType);
+        }
+        return policies.execute(request.getMethod(), () -> sendLimited(request, responseType));
+    }
+
+    private <T extends Response> T sendLimited(
+            Request request, Class<T> responseType) throws IOException {
+        RequestLimiter limiter = requestLimiter;
+        if (limiter == null) {
+            return doSend(request, responseType);
+        }
+
+        RequestLimiter.Permit permit = limiter.acquire(request.getMethod());
+        T response;
+        try {
+            response = doSend(request, responseType);
+        } catch (IOException | RuntimeException e) {
+            // Only timeouts, connection failures, 5xx and 429 lower the limit.
+            permit.onFailure(e);
+            throw e;
+        }
+        permit.onSuccess();
+        return response;
+    }
+
+    private <T extends Response> T doSend(
+            Request request, Class<T> responseType) throws IOException {
+        RpcMetrics metrics = this.metrics;
+        boolean recording = ProtocolEvents.isRpcRequestRecording();
+        if (metrics != null || recording) {
+            return doSendInstrumented(request, responseType, metrics, recording);
+        }
 
-        try (InputStream result = performIO(payload)) {
+        try (InputStream result = performIO(request)) {
             if (result != null) {
                 return objectMapper.readValue(result, responseType);
             } else {
@@ -38,12 +112,122 @@ public abstract class Service implements Neow3jService {
         }
     }
 
+    private <T extends Response> T doSendInstrumented(Request request, Class<T> responseType,
+            RpcMetrics metrics, boolean recording) throws IOException {
+
+        String method = request.getMethod();
+        if (metrics != null) {
+            metrics.onStart(method);
+        }
+        ProtocolEvents.RpcRequest event =
+                recording ? ProtocolEvents.startRpcRequest(method) : null;
+        try {
+            long start = System.nanoTime();
+            String payload = objectMapper.writeValueAsString(request);
+            long serialized = System.nanoTime();
+
+            T response = null;
+            long responseBytes = 0;
+            long received;
+            try (InputStream result = performIO(payload)) {
+                received = System.nanoTime();
+                if (result != null) {
+                    CountingInputStream counting = new CountingInputStream(result);
+                    response = objectMapper.readValue(counting, responseType);
+                    responseBytes = counting.getCount();
+                }
+            }
+            long end = System.nanoTime();
+
+            long requestBytes = utf8Length(payload);
+            Response.Error error = response == null ? null : response.getError();
+            if (metrics != null) {
+                metrics.onComplete(method, new RequestTimings(serialized - start,
+                        received - serialized, end - received, requestBytes, responseBytes), error);
+            }
+            if (event != null) {
+                event.complete(requestBytes, responseBytes, error == null ? 0 : error.getCode());
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            if (metrics != null) {
+                metrics.onFailure(method, e);
+            }
+            if (event != null) {
+                event.fail(e);
+            }
+            throw e;
+        }
+    }
+
+    private static long utf8Length(String s) {
+        long length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
     @Override
     public <T extends Response> CompletableFuture<T> sendAsync(
             Request jsonRpc20Request, Class<T> responseType) {
         return Async.run(() -> send(jsonRpc20Request, responseType));
     }
 
+    public RequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
+    /**
+     * Sets the limiter that bounds the rate and the number of concurrent requests sent by this
+     * service. This applies to {@link #send(Request, Class)} and
+     * {@link #sendAsync(Request, Class)}.
+     *
+     * @param requestLimiter the limiter, or null to send requests without limits.
+     */
+    public void setRequestLimiter(RequestLimiter requestLimiter) {
+        this.requestLimiter = requestLimiter;
+    }
+
+    public ResiliencePolicies getResiliencePolicies() {
+        return resiliencePolicies;
+    }
+
+    /**
+     * Sets the retry and circuit breaker policies applied to requests sent by this service.
+     * Each retry attempt passes through the {@link RequestLimiter} again.
+     *
+     * @param resiliencePolicies the policies, or null to send each request exactly once.
+     */
+    public void setResiliencePolicies(ResiliencePolicies resiliencePolicies) {
+        this.resiliencePolicies = resiliencePolicies;
+    }
+
+    public RpcMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the metrics that record the latency, size and outcome of every request sent by this
+     * service.
+     *
+     * @param metrics the metrics, or null to not record metrics.
+     * @see io.neow3j.protocol.metrics.InMemoryRpcMetrics
+     */
+    public void setMetrics(RpcMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @Override
     public <T extends Notification<?>> Observable<T> subscribe(
             Request request,
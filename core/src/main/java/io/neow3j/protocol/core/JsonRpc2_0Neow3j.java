@@ -40,6 +40,8 @@ import io.neow3j.protocol.core.methods.response.NeoSubmitBlock;
 import io.neow3j.protocol.core.methods.response.NeoValidateAddress;
 import io.neow3j.protocol.core.methods.response.TransactionOutput;
 import io.neow3j.protocol.rx.JsonRpc2_0Rx;
+import io.neow3j.protocol.rx.MempoolChange;
+import io.neow3j.protocol.rx.SharedBlockFeed;
 import io.neow3j.utils.Async;
 import rx.Observable;
 
@@ -497,6 +499,24 @@ public class JsonRpc2_0Neow3j implements Neow3j {
         return neow3jRx.blockObservable(fullTransactionObjects, blockTime);
     }
 
+    @Override
+    public Observable<NeoGetBlock> sharedBlockObservable(boolean fullTransactionObjects) {
+        return sharedBlockObservable(fullTransactionObjects, SharedBlockFeed.DEFAULT_BUFFER_SIZE,
+                SharedBlockFeed.SlowConsumerPolicy.BLOCK);
+    }
+
+    @Override
+    public Observable<NeoGetBlock> sharedBlockObservable(boolean fullTransactionObjects,
+            int bufferSize, SharedBlockFeed.SlowConsumerPolicy policy) {
+        return neow3jRx.sharedBlockObservable(fullTransactionObjects, blockTime, bufferSize,
+                policy);
+    }
+
+    @Override
+    public Observable<MempoolChange> mempoolObservable() {
+        return neow3jRx.mempoolObservable(blockTime);
+    }
+
     @Override
     public Observable<NeoGetBlock> replayBlocksObservable(
             BlockParameter startBlock, BlockParameter endBlock,
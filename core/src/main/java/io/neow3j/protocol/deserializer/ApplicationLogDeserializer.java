@@ -0,0 +1,139 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import io.neow3j.contract.ContractParameter;
+import io.neow3j.model.types.ContractParameterType;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog.EventParameter;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog.Execution;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog.Notification;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming deserializer of {@link NeoApplicationLog}. The contract parameters on the stack and
+ * in the notifications hold untyped values and are read by Jackson's deserializer of
+ * {@link ContractParameter}.
+ */
+public class ApplicationLogDeserializer extends StreamingDeserializer<NeoApplicationLog> {
+
+    private static final Map<String, ContractParameterType> PARAMETER_TYPES =
+            jsonValues(ContractParameterType.values(), ContractParameterType::jsonValue);
+
+    public ApplicationLogDeserializer() {
+        this(null);
+    }
+
+    public ApplicationLogDeserializer(StringInternPool internPool) {
+        super(NeoApplicationLog.class, internPool);
+    }
+
+    @Override
+    public NeoApplicationLog deserialize(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+
+        String transactionId = null;
+        List<Execution> executions = null;
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "txid":
+                    transactionId = readHash(p, ctxt);
+                    break;
+                case "executions":
+                    executions = readList(p, ctxt, this::readExecution, false);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new NeoApplicationLog(transactionId, executions);
+    }
+
+    private Execution readExecution(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+
+        String trigger = null;
+        String contract = null;
+        String state = null;
+        String gasConsumed = null;
+        List<ContractParameter> stack = null;
+        List<Notification> notifications = null;
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "trigger":
+                    trigger = readHash(p, ctxt);
+                    break;
+                case "contract":
+                    contract = readHash(p, ctxt);
+                    break;
+                case "vmstate":
+                    state = readHash(p, ctxt);
+                    break;
+                case "gas_consumed":
+                    gasConsumed = readString(p, ctxt);
+                    break;
+                case "stack":
+                    stack = readList(p, ctxt,
+                            (parser, c) -> c.readValue(parser, ContractParameter.class), false);
+                    break;
+                case "notifications":
+                    notifications = readList(p, ctxt, this::readNotification, true);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new Execution(trigger, contract, state, gasConsumed, stack, notifications);
+    }
+
+    private Notification readNotification(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+
+        String contract = null;
+        Notification.State state = null;
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "contract":
+                    contract = readHash(p, ctxt);
+                    break;
+                case "state":
+                    state = p.getCurrentToken() == JsonToken.VALUE_NULL
+                            ? null
+                            : readState(p, ctxt);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new Notification(contract, state);
+    }
+
+    private Notification.State readState(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+
+        ContractParameterType type = null;
+        List<EventParameter> value = null;
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "type":
+                    type = readEnum(p, ctxt, PARAMETER_TYPES, ContractParameterType.class);
+                    break;
+                case "value":
+                    value = readList(p, ctxt,
+                            (parser, c) -> c.readValue(parser, EventParameter.class), true);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new Notification.State(type, value);
+    }
+}
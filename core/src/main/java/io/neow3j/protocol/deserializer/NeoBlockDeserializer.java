@@ -0,0 +1,97 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Script;
+import io.neow3j.protocol.core.methods.response.Transaction;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Streaming deserializer of {@link NeoBlock}. The block's transactions are read with a
+ * {@link TransactionDeserializer}.
+ */
+public class NeoBlockDeserializer extends StreamingDeserializer<NeoBlock> {
+
+    private final TransactionDeserializer transactionDeserializer;
+
+    public NeoBlockDeserializer() {
+        this(null);
+    }
+
+    public NeoBlockDeserializer(StringInternPool internPool) {
+        super(NeoBlock.class, internPool);
+        this.transactionDeserializer = new TransactionDeserializer(internPool);
+    }
+
+    @Override
+    public NeoBlock deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String hash = null;
+        long size = 0;
+        int version = 0;
+        String prevBlockHash = null;
+        String merkleRootHash = null;
+        long time = 0;
+        long index = 0;
+        String nonce = null;
+        String nextConsensus = null;
+        Script script = null;
+        List<Transaction> transactions = null;
+        int confirmations = 0;
+        String nextBlockHash = null;
+
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "hash":
+                    hash = readHash(p, ctxt);
+                    break;
+                case "size":
+                    size = readLong(p, ctxt);
+                    break;
+                case "version":
+                    version = readInt(p, ctxt);
+                    break;
+                case "previousblockhash":
+                    prevBlockHash = readHash(p, ctxt);
+                    break;
+                case "merkleroot":
+                    merkleRootHash = readString(p, ctxt);
+                    break;
+                case "time":
+                    time = readLong(p, ctxt);
+                    break;
+                case "index":
+                    index = readLong(p, ctxt);
+                    break;
+                case "nonce":
+                    nonce = readString(p, ctxt);
+                    break;
+                case "nextconsensus":
+                    nextConsensus = readHash(p, ctxt);
+                    break;
+                case "script":
+                    script = p.getCurrentToken() == JsonToken.VALUE_NULL
+                            ? null
+                            : transactionDeserializer.readScript(p, ctxt);
+                    break;
+                case "tx":
+                    transactions = readList(p, ctxt, transactionDeserializer::deserialize, true);
+                    break;
+                case "confirmations":
+                    confirmations = readInt(p, ctxt);
+                    break;
+                case "nextblockhash":
+                    nextBlockHash = readHash(p, ctxt);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new NeoBlock(hash, size, version, prevBlockHash, merkleRootHash, time, index,
+                nonce, nextConsensus, script, transactions, confirmations, nextBlockHash);
+    }
+}
@@ -0,0 +1,205 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Base class of the hand-written deserializers of frequently parsed response types, which
+ * {@link StringInterningModule} uses to intern strings straight from the parser's buffer.
+ *
+ * <p>The subclasses read their type's fields straight from the token stream instead of going
+ * through Jackson's bean introspection. The common case of every value is handled inline. Any
+ * other token is passed on to Jackson's own deserializer of the value type, so that coercions
+ * and error messages are exactly those of the annotated model classes. They are not faster
+ * than the bean deserializers (see {@code StreamingDeserializerBenchmark} in the tests), so
+ * the default mappers of {@link io.neow3j.protocol.ObjectMapperFactory} do not use them.</p>
+ *
+ * @param <T> the deserialized type.
+ */
+public abstract class StreamingDeserializer<T> extends StdDeserializer<T> {
+
+    protected final StringInternPool internPool;
+
+    protected StreamingDeserializer(Class<T> type) {
+        this(type, null);
+    }
+
+    /**
+     * @param internPool the pool with which values read by {@link #readHash} are interned, or
+     *                   null to not intern them.
+     */
+    protected StreamingDeserializer(Class<T> type, StringInternPool internPool) {
+        super(type);
+        this.internPool = internPool;
+    }
+
+    /**
+     * Reads one element of a JSON array.
+     *
+     * @param <E> the element type.
+     */
+    @FunctionalInterface
+    protected interface ElementReader<E> {
+        E read(JsonParser p, DeserializationContext ctxt) throws IOException;
+    }
+
+    /**
+     * Positions the parser on the first field of the object at the current token.
+     *
+     * @return the name of the first field, or null if the object is empty.
+     */
+    protected String firstField(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.START_OBJECT) {
+            return p.nextFieldName();
+        }
+        if (t == JsonToken.FIELD_NAME) {
+            return p.getCurrentName();
+        }
+        if (t == JsonToken.END_OBJECT) {
+            return null;
+        }
+        return ctxt.reportInputMismatch(this, "Cannot deserialize instance of %s out of %s "
+                + "token", handledType().getName(), t);
+    }
+
+    protected static String readString(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    /**
+     * Reads a string that is likely to repeat across responses, e.g. a hash or an address, and
+     * interns it if this deserializer has an intern pool.
+     */
+    protected String readHash(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (internPool != null && p.getCurrentToken() == JsonToken.VALUE_STRING) {
+            return internPool.intern(p.getTextCharacters(), p.getTextOffset(),
+                    p.getTextLength());
+        }
+        return readString(p, ctxt);
+    }
+
+    protected static int readInt(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            return p.getIntValue();
+        }
+        return ctxt.readValue(p, Integer.TYPE);
+    }
+
+    protected static long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        return ctxt.readValue(p, Long.TYPE);
+    }
+
+    protected static Integer readInteger(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            return p.getIntValue();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, Integer.class);
+    }
+
+    protected static Long readLongObject(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, Long.class);
+    }
+
+    protected static BigDecimal readBigDecimal(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT || t == JsonToken.VALUE_NUMBER_FLOAT) {
+            return p.getDecimalValue();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, BigDecimal.class);
+    }
+
+    /**
+     * Reads an enum by the value of its {@code @JsonValue} method.
+     *
+     * @param lookup the constants by their JSON value, as created by {@link #jsonValues}.
+     */
+    protected static <E extends Enum<E>> E readEnum(JsonParser p, DeserializationContext ctxt,
+            Map<String, E> lookup, Class<E> type) throws IOException {
+
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (t == JsonToken.VALUE_STRING) {
+            E e = lookup.get(p.getText());
+            if (e != null) {
+                return e;
+            }
+        }
+        return ctxt.readValue(p, type);
+    }
+
+    protected static <E extends Enum<E>> Map<String, E> jsonValues(E[] constants,
+            Function<E, String> jsonValue) {
+        Map<String, E> lookup = new HashMap<>();
+        for (E e : constants) {
+            lookup.put(jsonValue.apply(e), e);
+        }
+        return lookup;
+    }
+
+    /**
+     * Reads a JSON array.
+     *
+     * @param nullAsEmpty whether a JSON null is read as an empty list, which corresponds to
+     *                    {@code @JsonSetter(nulls = Nulls.AS_EMPTY)}.
+     */
+    protected <E> List<E> readList(JsonParser p, DeserializationContext ctxt,
+            ElementReader<E> reader, boolean nullAsEmpty) throws IOException {
+
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.VALUE_NULL) {
+            return nullAsEmpty ? new ArrayList<>() : null;
+        }
+        if (t != JsonToken.START_ARRAY) {
+            return ctxt.reportInputMismatch(this, "Cannot deserialize instance of "
+                    + "java.util.ArrayList out of %s token", t);
+        }
+        List<E> list = new ArrayList<>();
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            list.add(t == JsonToken.VALUE_NULL ? null : reader.read(p, ctxt));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,118 @@
+package io.neow3j.protocol.deserializer;
+
+import io.neow3j.model.types.GASAsset;
+import io.neow3j.model.types.NEOAsset;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free pool of canonical string instances for values that repeat across many
+ * responses, such as asset ids, addresses and transaction hashes.
+ *
+ * <p>The pool is a direct-mapped cache: each string has a single slot determined by its hash,
+ * and a new string replaces whatever the slot held before. Memory use is therefore fixed, and
+ * strings that stop occurring are eventually dropped. A lookup compares the characters in the
+ * parser's buffer with the pooled instance, so a hit does not allocate a string at all.</p>
+ *
+ * <p>The ids of the NEO and GAS assets, with and without {@code 0x} prefix, are permanent
+ * canonical instances that are never evicted.</p>
+ */
+public class StringInternPool {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final String[] CANONICAL = {
+            NEOAsset.HASH_ID,
+            "0x" + NEOAsset.HASH_ID,
+            GASAsset.HASH_ID,
+            "0x" + GASAsset.HASH_ID
+    };
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+
+    public StringInternPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of slots, rounded up to the next power of two.
+     */
+    public StringInternPool(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @param value the string.
+     * @return the pooled instance equal to the given string.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        char[] chars = value.toCharArray();
+        return intern(chars, 0, chars.length, value);
+    }
+
+    /**
+     * Returns the pooled instance equal to the given characters. A new string is only created
+     * if the pool does not hold one.
+     *
+     * @param chars  the buffer holding the characters.
+     * @param offset the offset of the first character in the buffer.
+     * @param length the number of characters.
+     * @return the pooled instance.
+     */
+    public String intern(char[] chars, int offset, int length) {
+        return intern(chars, offset, length, null);
+    }
+
+    private String intern(char[] chars, int offset, int length, String value) {
+        for (String canonical : CANONICAL) {
+            if (matches(canonical, chars, offset, length)) {
+                return canonical;
+            }
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & mask;
+        String pooled = slots.get(index);
+        if (pooled != null && matches(pooled, chars, offset, length)) {
+            return pooled;
+        }
+        if (value == null) {
+            value = new String(chars, offset, length);
+        }
+        slots.lazySet(index, value);
+        return value;
+    }
+
+    private static boolean matches(String s, char[] chars, int offset, int length) {
+        if (s.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (s.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of slots.
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,35 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
+import io.neow3j.protocol.core.methods.response.Transaction;
+
+/**
+ * Jackson module that interns the hashes, addresses and other frequently repeated strings of
+ * blocks, transactions, unspents and application logs in a {@link StringInternPool}.
+ *
+ * <p>Responses read with this module share one instance of e.g. an asset id or an address
+ * instead of holding a copy per occurrence, which reduces the heap used by caches of
+ * deserialized blocks. Register it on a mapper after the default configuration of
+ * {@link io.neow3j.protocol.ObjectMapperFactory}, or use
+ * {@link io.neow3j.protocol.ObjectMapperFactory#getObjectMapper(boolean, StringInternPool)}.</p>
+ */
+public class StringInterningModule extends SimpleModule {
+
+    private final StringInternPool internPool;
+
+    public StringInterningModule(StringInternPool internPool) {
+        super("StringInterning");
+        this.internPool = internPool;
+        addDeserializer(NeoBlock.class, new NeoBlockDeserializer(internPool));
+        addDeserializer(Transaction.class, new TransactionDeserializer(internPool));
+        addDeserializer(NeoGetUnspents.Unspents.class, new UnspentsDeserializer(internPool));
+        addDeserializer(NeoApplicationLog.class, new ApplicationLogDeserializer(internPool));
+    }
+
+    public StringInternPool getInternPool() {
+        return internPool;
+    }
+}
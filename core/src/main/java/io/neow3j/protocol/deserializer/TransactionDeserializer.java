@@ -0,0 +1,208 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import io.neow3j.model.types.TransactionAttributeUsageType;
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.core.methods.response.Script;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.TransactionAttribute;
+import io.neow3j.protocol.core.methods.response.TransactionInput;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming deserializer of {@link Transaction}, including its inputs, outputs, attributes and
+ * witness scripts.
+ */
+public class TransactionDeserializer extends StreamingDeserializer<Transaction> {
+
+    private static final Map<String, TransactionType> TRANSACTION_TYPES =
+            jsonValues(TransactionType.values(), TransactionType::jsonValue);
+
+    private static final Map<String, TransactionAttributeUsageType> USAGE_TYPES =
+            jsonValues(TransactionAttributeUsageType.values(),
+                    TransactionAttributeUsageType::jsonValue);
+
+    public TransactionDeserializer() {
+        this(null);
+    }
+
+    public TransactionDeserializer(StringInternPool internPool) {
+        super(Transaction.class, internPool);
+    }
+
+    @Override
+    public Transaction deserialize(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+
+        String transactionId = null;
+        long size = 0;
+        TransactionType type = null;
+        int version = 0;
+        List<TransactionAttribute> attributes = null;
+        List<TransactionInput> inputs = null;
+        List<TransactionOutput> outputs = null;
+        String sysFee = null;
+        String netFee = null;
+        List<Script> scripts = null;
+        String script = null;
+        String gas = null;
+        Long nonce = null;
+        String blockHash = null;
+        Long confirmations = null;
+        Long blockTime = null;
+
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "txid":
+                    transactionId = readHash(p, ctxt);
+                    break;
+                case "size":
+                    size = readLong(p, ctxt);
+                    break;
+                case "type":
+                    type = readEnum(p, ctxt, TRANSACTION_TYPES, TransactionType.class);
+                    break;
+                case "version":
+                    version = readInt(p, ctxt);
+                    break;
+                case "attributes":
+                    attributes = readList(p, ctxt, this::readAttribute, true);
+                    break;
+                case "vin":
+                    inputs = readList(p, ctxt, this::readInput, true);
+                    break;
+                case "vout":
+                    outputs = readList(p, ctxt, this::readOutput, true);
+                    break;
+                case "sys_fee":
+                    sysFee = readString(p, ctxt);
+                    break;
+                case "net_fee":
+                    netFee = readString(p, ctxt);
+                    break;
+                case "scripts":
+                    scripts = readList(p, ctxt, this::readScript, true);
+                    break;
+                case "script":
+                    script = readString(p, ctxt);
+                    break;
+                case "gas":
+                    gas = readString(p, ctxt);
+                    break;
+                case "nonce":
+                    nonce = readLongObject(p, ctxt);
+                    break;
+                case "blockhash":
+                    blockHash = readHash(p, ctxt);
+                    break;
+                case "confirmations":
+                    confirmations = readLongObject(p, ctxt);
+                    break;
+                case "blocktime":
+                    blockTime = readLongObject(p, ctxt);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new Transaction(transactionId, size, type, version, attributes, inputs, outputs,
+                sysFee, netFee, scripts, script, gas, nonce, blockHash, confirmations,
+                blockTime);
+    }
+
+    TransactionInput readInput(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String prevHash = null;
+        int prevIndex = 0;
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "txid":
+                    prevHash = readHash(p, ctxt);
+                    break;
+                case "vout":
+                    prevIndex = readInt(p, ctxt);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new TransactionInput(prevHash, prevIndex);
+    }
+
+    TransactionOutput readOutput(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Integer index = null;
+        String assetId = null;
+        String value = null;
+        String address = null;
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "n":
+                case "N":
+                    index = readInteger(p, ctxt);
+                    break;
+                case "asset":
+                case "Asset":
+                    assetId = readHash(p, ctxt);
+                    break;
+                case "value":
+                case "Value":
+                    value = readString(p, ctxt);
+                    break;
+                case "address":
+                case "Address":
+                    address = readHash(p, ctxt);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new TransactionOutput(index, assetId, value, address);
+    }
+
+    TransactionAttribute readAttribute(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+
+        TransactionAttribute attribute = new TransactionAttribute();
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "usage":
+                    attribute.usage = readEnum(p, ctxt, USAGE_TYPES,
+                            TransactionAttributeUsageType.class);
+                    break;
+                case "data":
+                    attribute.setData(readString(p, ctxt));
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return attribute;
+    }
+
+    Script readScript(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String invocation = null;
+        String verification = null;
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "invocation":
+                    invocation = readString(p, ctxt);
+                    break;
+                case "verification":
+                    verification = readHash(p, ctxt);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new Script(invocation, verification);
+    }
+}
@@ -0,0 +1,101 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents.Balance;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents.UnspentTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents.Unspents;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Streaming deserializer of the result of {@code getunspents}.
+ */
+public class UnspentsDeserializer extends StreamingDeserializer<Unspents> {
+
+    public UnspentsDeserializer() {
+        this(null);
+    }
+
+    public UnspentsDeserializer(StringInternPool internPool) {
+        super(Unspents.class, internPool);
+    }
+
+    @Override
+    public Unspents deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        List<Balance> balances = null;
+        String address = null;
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "balance":
+                    balances = readList(p, ctxt, this::readBalance, true);
+                    break;
+                case "address":
+                    address = readHash(p, ctxt);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new Unspents(balances, address);
+    }
+
+    private Balance readBalance(JsonParser p, DeserializationContext ctxt) throws IOException {
+        List<UnspentTransaction> unspentTransactions = null;
+        String assetHash = null;
+        String assetName = null;
+        String assetSymbol = null;
+        BigDecimal amount = null;
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "unspent":
+                    unspentTransactions = readList(p, ctxt, this::readUnspentTransaction, true);
+                    break;
+                case "asset_hash":
+                    assetHash = readHash(p, ctxt);
+                    break;
+                case "asset":
+                    assetName = readHash(p, ctxt);
+                    break;
+                case "asset_symbol":
+                    assetSymbol = readHash(p, ctxt);
+                    break;
+                case "amount":
+                    amount = readBigDecimal(p, ctxt);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new Balance(unspentTransactions, assetHash, assetName, assetSymbol, amount);
+    }
+
+    private UnspentTransaction readUnspentTransaction(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+
+        String txId = null;
+        Integer index = null;
+        BigDecimal value = null;
+        for (String field = firstField(p, ctxt); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "txid":
+                    txId = readHash(p, ctxt);
+                    break;
+                case "n":
+                    index = readInteger(p, ctxt);
+                    break;
+                case "value":
+                    value = readBigDecimal(p, ctxt);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return new UnspentTransaction(txId, index, value);
+    }
+}
@@ -4,8 +4,23 @@ package io.neow3j.protocol.exceptions;
  * Client connection exception.
  */
 public class ClientConnectionException extends RuntimeException {
+
+    private final int statusCode;
+
     public ClientConnectionException(String message) {
+        this(message, -1);
+    }
+
+    public ClientConnectionException(String message, int statusCode) {
         super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * @return the HTTP status code of the response, or -1 if unknown.
+     */
+    public int getStatusCode() {
+        return statusCode;
     }
 
 }
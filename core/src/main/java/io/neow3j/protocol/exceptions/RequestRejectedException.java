@@ -0,0 +1,19 @@
+package io.neow3j.protocol.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Thrown if a request was not sent to the node because a client-side limit (concurrency,
+ * rate or circuit breaker) did not let it through in time.
+ */
+public class RequestRejectedException extends IOException {
+
+    public RequestRejectedException(String message) {
+        super(message);
+    }
+
+    public RequestRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
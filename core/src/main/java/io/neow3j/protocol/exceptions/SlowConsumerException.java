@@ -0,0 +1,13 @@
+package io.neow3j.protocol.exceptions;
+
+/**
+ * Signalled to a subscriber of a shared block feed that was disconnected because it did not
+ * keep up with new blocks and its buffer overflowed.
+ */
+public class SlowConsumerException extends RuntimeException {
+
+    public SlowConsumerException(String message) {
+        super(message);
+    }
+
+}
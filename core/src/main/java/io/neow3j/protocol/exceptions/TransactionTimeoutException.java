@@ -0,0 +1,13 @@
+package io.neow3j.protocol.exceptions;
+
+/**
+ * Signalled to the tracker of a transaction that was not included in a block within the
+ * configured number of blocks.
+ */
+public class TransactionTimeoutException extends RuntimeException {
+
+    public TransactionTimeoutException(String message) {
+        super(message);
+    }
+
+}
@@ -1,6 +1,8 @@
 package io.neow3j.protocol.http;
 
 import io.neow3j.protocol.Service;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.deserializer.StringInternPool;
 import io.neow3j.protocol.exceptions.ClientConnectionException;
 import okhttp3.Headers;
 import okhttp3.MediaType;
@@ -9,11 +11,13 @@ import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okio.Buffer;
+import okio.BufferedSink;
 import okio.BufferedSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
@@ -39,6 +43,8 @@ public class HttpService extends Service {
 
     private HashMap<String, String> headers = new HashMap<>();
 
+    private volatile boolean streamingRequests;
+
     public HttpService(String url, OkHttpClient httpClient, boolean includeRawResponses) {
         super(includeRawResponses);
         this.url = url;
@@ -46,6 +52,18 @@ public class HttpService extends Service {
         this.includeRawResponse = includeRawResponses;
     }
 
+    /**
+     * Creates a service that interns frequently repeated strings of responses, such as asset
+     * ids and addresses, in the given pool.
+     */
+    public HttpService(String url, OkHttpClient httpClient, boolean includeRawResponses,
+            StringInternPool internPool) {
+        super(includeRawResponses, internPool);
+        this.url = url;
+        this.httpClient = httpClient;
+        this.includeRawResponse = includeRawResponses;
+    }
+
     public HttpService(OkHttpClient httpClient, boolean includeRawResponses) {
         this(DEFAULT_URL, httpClient, includeRawResponses);
     }
@@ -90,8 +108,32 @@ public class HttpService extends Service {
 
     @Override
     protected InputStream performIO(String request) throws IOException {
+        return execute(RequestBody.create(JSON_MEDIA_TYPE, request));
+    }
 
-        RequestBody requestBody = RequestBody.create(JSON_MEDIA_TYPE, request);
+    @Override
+    protected InputStream performIO(Request<?, ?> request) throws IOException {
+
+        if (!streamingRequests) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            requestEncoder.encode(request, out);
+            return execute(RequestBody.create(JSON_MEDIA_TYPE, out.toByteArray()));
+        }
+        return execute(new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON_MEDIA_TYPE;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                // Called again if OkHttp retries the request or a logging interceptor reads it.
+                requestEncoder.encode(request, sink.outputStream());
+            }
+        });
+    }
+
+    private InputStream execute(RequestBody requestBody) throws IOException {
         Headers headers = buildHeaders();
 
         okhttp3.Request httpRequest = new okhttp3.Request.Builder()
@@ -112,7 +154,8 @@ public class HttpService extends Service {
             int code = response.code();
             String text = responseBody == null ? "N/A" : responseBody.string();
 
-            throw new ClientConnectionException("Invalid response received: " + code + "; " + text);
+            throw new ClientConnectionException("Invalid response received: " + code + "; " + text,
+                    code);
         }
     }
 
@@ -161,6 +204,23 @@ public class HttpService extends Service {
         return headers;
     }
 
+    public boolean isStreamingRequests() {
+        return streamingRequests;
+    }
+
+    /**
+     * Sets whether requests are written directly into the HTTP request body, which is sent
+     * with chunked transfer encoding because its length is not known up front. This avoids
+     * holding large requests, e.g. of big raw transactions, in memory as a string, but not all
+     * nodes and proxies accept chunked requests. Disabled by default, i.e. requests are
+     * encoded into a byte array first and sent with a content length.
+     *
+     * @param streamingRequests whether to stream requests.
+     */
+    public void setStreamingRequests(boolean streamingRequests) {
+        this.streamingRequests = streamingRequests;
+    }
+
     @Override
     public void close() throws IOException {
 
@@ -0,0 +1,309 @@
+package io.neow3j.protocol.ipc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.neow3j.protocol.Service;
+import io.neow3j.protocol.core.Request;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Unix domain socket implementation of the Service API that multiplexes many requests over a
+ * single connection.
+ *
+ * <p>Unlike {@link UnixIpcService}, a request does not hold the socket until its response has
+ * arrived. Sending threads write their requests back-to-back and wait for their own response,
+ * while a reader thread splits the incoming bytes at newlines and hands each response to the
+ * request with the same JSON-RPC id. Requests are encoded straight into the bytes written to
+ * the socket, and responses are passed to Jackson as bytes, without a {@code String} in
+ * between.</p>
+ *
+ * <p>Requests must have distinct ids while they are in flight, which is the case for requests
+ * created by {@link io.neow3j.protocol.core.JsonRpc2_0Neow3j}.</p>
+ */
+public class PipelinedUnixIpcService extends Service {
+
+    private static final Logger log = LoggerFactory.getLogger(PipelinedUnixIpcService.class);
+
+    public static final long DEFAULT_RESPONSE_TIMEOUT_MILLIS = 60_000;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte FRAME_DELIMITER = '\n';
+
+    private static final int INITIAL_FRAME_SIZE = 256;
+
+    private final ReadableByteChannel in;
+    private final WritableByteChannel out;
+    private final Closeable channel;
+    private final JsonFactory jsonFactory;
+    private final long responseTimeoutMillis;
+
+    private final ConcurrentHashMap<Long, CompletableFuture<byte[]>> pending =
+            new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final Thread reader;
+
+    private volatile IOException failure;
+
+    public PipelinedUnixIpcService(String ipcSocketPath) {
+        this(ipcSocketPath, false);
+    }
+
+    public PipelinedUnixIpcService(String ipcSocketPath, boolean includeRawResponses) {
+        this(openChannel(ipcSocketPath), includeRawResponses, DEFAULT_RESPONSE_TIMEOUT_MILLIS);
+    }
+
+    public PipelinedUnixIpcService(String ipcSocketPath, boolean includeRawResponses,
+            long responseTimeoutMillis) {
+        this(openChannel(ipcSocketPath), includeRawResponses, responseTimeoutMillis);
+    }
+
+    private PipelinedUnixIpcService(UnixSocketChannel channel, boolean includeRawResponses,
+            long responseTimeoutMillis) {
+        this(channel, channel, channel, includeRawResponses, responseTimeoutMillis);
+    }
+
+    PipelinedUnixIpcService(ReadableByteChannel in, WritableByteChannel out, Closeable channel,
+            boolean includeRawResponses, long responseTimeoutMillis) {
+        super(includeRawResponses);
+        this.in = in;
+        this.out = out;
+        this.channel = channel;
+        this.jsonFactory = objectMapper.getFactory();
+        this.responseTimeoutMillis = responseTimeoutMillis;
+        this.reader = new Thread(this::readResponses, "neow3j-ipc-reader");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    private static UnixSocketChannel openChannel(String ipcSocketPath) {
+        try {
+            return UnixSocketChannel.open(new UnixSocketAddress(ipcSocketPath));
+        } catch (IOException e) {
+            throw new RuntimeException(
+                    "Provided file socket cannot be opened: " + ipcSocketPath, e);
+        }
+    }
+
+    @Override
+    protected InputStream performIO(String payload) throws IOException {
+        byte[] request = payload.getBytes(UTF_8);
+        Long id = readId(request, request.length);
+        if (id == null) {
+            throw new IOException("Request has no id, its response could not be matched.");
+        }
+        FrameBuffer frame = new FrameBuffer(request.length + 1);
+        frame.write(request);
+        return exchange(id, frame);
+    }
+
+    /**
+     * Encodes the request with the {@link #requestEncoder} straight into the frame that is
+     * written to the socket, and takes the id from the request instead of parsing it.
+     */
+    @Override
+    protected InputStream performIO(Request<?, ?> request) throws IOException {
+        FrameBuffer frame = new FrameBuffer(INITIAL_FRAME_SIZE);
+        requestEncoder.encode(request, frame);
+        return exchange(request.getId(), frame);
+    }
+
+    private InputStream exchange(long id, FrameBuffer frame) throws IOException {
+        CompletableFuture<byte[]> response = new CompletableFuture<>();
+        if (pending.putIfAbsent(id, response) != null) {
+            throw new IOException("A request with id " + id + " is already in flight.");
+        }
+        try {
+            checkOpen();
+            if (log.isDebugEnabled()) {
+                log.debug(">> {}", frame.toString(UTF_8.name()));
+            }
+            frame.write(FRAME_DELIMITER);
+            write(frame.toByteBuffer());
+            byte[] result = response.get(responseTimeoutMillis, TimeUnit.MILLISECONDS);
+            return new ByteArrayInputStream(result);
+        } catch (TimeoutException e) {
+            throw new SocketTimeoutException("No response to request " + id + " within "
+                    + responseTimeoutMillis + " ms.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for response.");
+        } catch (ExecutionException e) {
+            throw new IOException("Connection failed.", e.getCause());
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        synchronized (writeLock) {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        IOException e = failure;
+        if (e != null) {
+            throw new IOException("Connection is closed.", e);
+        }
+    }
+
+    private void readResponses() {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        byte[] frame = new byte[READ_BUFFER_SIZE];
+        int frameLength = 0;
+        try {
+            while (true) {
+                buffer.clear();
+                if (in.read(buffer) < 0) {
+                    throw new IOException("Connection closed by peer.");
+                }
+                byte[] data = buffer.array();
+                int start = 0;
+                for (int i = 0; i < buffer.position(); i++) {
+                    if (data[i] != FRAME_DELIMITER) {
+                        continue;
+                    }
+                    int length = i - start;
+                    if (frameLength + length > frame.length) {
+                        frame = Arrays.copyOf(frame, Math.max(frame.length * 2,
+                                frameLength + length));
+                    }
+                    System.arraycopy(data, start, frame, frameLength, length);
+                    frameLength += length;
+                    dispatch(Arrays.copyOf(frame, frameLength));
+                    frameLength = 0;
+                    start = i + 1;
+                }
+                int rest = buffer.position() - start;
+                if (frameLength + rest > frame.length) {
+                    frame = Arrays.copyOf(frame, Math.max(frame.length * 2, frameLength + rest));
+                }
+                System.arraycopy(data, start, frame, frameLength, rest);
+                frameLength += rest;
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void dispatch(byte[] frame) {
+        if (isBlank(frame)) {
+            return;
+        }
+        Long id;
+        try {
+            id = readId(frame, frame.length);
+        } catch (IOException e) {
+            log.warn("Discarding malformed response: {}", e.getMessage());
+            return;
+        }
+        CompletableFuture<byte[]> response = id == null ? null : pending.get(id);
+        if (response == null) {
+            log.debug("Discarding response without pending request: {}",
+                    new String(frame, UTF_8));
+            return;
+        }
+        log.debug("<< {}", new String(frame, UTF_8));
+        response.complete(frame);
+    }
+
+    private static boolean isBlank(byte[] frame) {
+        for (byte b : frame) {
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the top-level "id" field of a JSON-RPC message without deserializing the rest.
+     */
+    private Long readId(byte[] message, int length) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(message, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("id".equals(field)) {
+                    if (value == JsonToken.VALUE_NUMBER_INT) {
+                        return parser.getLongValue();
+                    }
+                    if (value == JsonToken.VALUE_STRING) {
+                        try {
+                            return Long.parseLong(parser.getText());
+                        } catch (NumberFormatException e) {
+                            return null;
+                        }
+                    }
+                    return null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    private void fail(IOException cause) {
+        if (failure == null) {
+            failure = cause;
+        }
+        pending.values().forEach(f -> f.completeExceptionally(cause));
+    }
+
+    /**
+     * @return the number of requests waiting for their response.
+     */
+    public int getPendingRequests() {
+        return pending.size();
+    }
+
+    /**
+     * The bytes of one request and its delimiter, which are written to the socket without
+     * copying them.
+     */
+    private static class FrameBuffer extends ByteArrayOutputStream {
+
+        private FrameBuffer(int size) {
+            super(size);
+        }
+
+        private ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        fail(new IOException("Service closed."));
+        channel.close();
+    }
+}
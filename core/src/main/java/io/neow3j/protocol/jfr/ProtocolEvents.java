@@ -0,0 +1,76 @@
+package io.neow3j.protocol.jfr;
+
+import io.neow3j.utils.JfrSupport;
+
+/**
+ * Starts the JFR events of the core module. The events are only emitted if the library was
+ * built with the event classes and runs on a JVM with JFR, see {@link JfrSupport}; otherwise
+ * nothing is recorded.
+ */
+public final class ProtocolEvents {
+
+    private static final Factory FACTORY =
+            JfrSupport.load("io.neow3j.protocol.jfr.JfrProtocolEventFactory", Factory.class);
+
+    private ProtocolEvents() {
+    }
+
+    /**
+     * @return true if the events can be emitted at all.
+     */
+    public static boolean isAvailable() {
+        return FACTORY != null;
+    }
+
+    /**
+     * @return true if the RPC request event is enabled in any recording.
+     */
+    public static boolean isRpcRequestRecording() {
+        return FACTORY != null && FACTORY.isRpcRequestRecording();
+    }
+
+    /**
+     * @param method the JSON-RPC method.
+     * @return a started event, or null if the event can not be emitted.
+     */
+    public static RpcRequest startRpcRequest(String method) {
+        return FACTORY == null ? null : FACTORY.startRpcRequest(method);
+    }
+
+    /**
+     * @return a started event, or null if the event is not recorded.
+     */
+    public static Block startBlock() {
+        return FACTORY == null ? null : FACTORY.startBlock();
+    }
+
+    /**
+     * A single JSON-RPC request.
+     */
+    public interface RpcRequest {
+
+        void complete(long requestSize, long responseSize, int errorCode);
+
+        void fail(Throwable cause);
+    }
+
+    /**
+     * A block fetched and emitted to subscribers.
+     */
+    public interface Block {
+
+        void end(long blockIndex, int transactionCount, long blockSize);
+    }
+
+    /**
+     * Creates the events. Implemented by the class that is built with the event classes.
+     */
+    public interface Factory {
+
+        boolean isRpcRequestRecording();
+
+        RpcRequest startRpcRequest(String method);
+
+        Block startBlock();
+    }
+}
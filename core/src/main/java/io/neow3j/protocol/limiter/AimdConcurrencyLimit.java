@@ -0,0 +1,158 @@
+package io.neow3j.protocol.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive limit on the number of requests in flight to a single node.
+ *
+ * <p>The limit follows an additive-increase/multiplicative-decrease (AIMD) scheme. Each
+ * successful request that was sent while the limit was fully used raises the limit by one
+ * divided by the current limit, i.e. by roughly one per round-trip. A failed request, or one
+ * whose latency exceeds {@code latencyTolerance} times the lowest latency observed recently,
+ * is taken as an overload signal and scales the limit down by {@code backoffRatio}.</p>
+ *
+ * <p>Callers that find the limit exhausted wait in a bounded queue for at most the given
+ * timeout.</p>
+ */
+public class AimdConcurrencyLimit {
+
+    private static final int MIN_LATENCY_WINDOW = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int maxQueued;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+
+    // Lowest latency seen since the last reset. It is reset every MIN_LATENCY_WINDOW samples so
+    // that a node that got permanently slower does not keep the limit down forever.
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private int samplesSinceMinReset;
+
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+            double backoffRatio, double latencyTolerance, int maxQueued) {
+
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max.");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1.");
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("Queue size must not be negative.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.maxQueued = maxQueued;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes one slot, waiting at most the given time for a slot to become free.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit    the unit of the timeout.
+     * @return true if a slot was taken, false if the queue was full or the timeout elapsed.
+     * @throws InterruptedException if the current thread was interrupted while waiting.
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (queued >= maxQueued || remaining <= 0) {
+                return false;
+            }
+            queued++;
+            try {
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = permitReleased.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees a slot taken with {@link #tryAcquire(long, TimeUnit)} and adapts the limit.
+     *
+     * @param latencyNanos the time the request took.
+     * @param failed       whether the request failed with an I/O or connection error.
+     */
+    public void release(long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= (int) limit;
+            inFlight--;
+            if (failed || isTooSlow(latencyNanos)) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isTooSlow(long latencyNanos) {
+        if (++samplesSinceMinReset > MIN_LATENCY_WINDOW) {
+            samplesSinceMinReset = 0;
+            minLatencyNanos = Long.MAX_VALUE;
+        }
+        if (latencyNanos < minLatencyNanos) {
+            minLatencyNanos = latencyNanos;
+            return false;
+        }
+        return latencyTolerance > 0 && latencyNanos > minLatencyNanos * latencyTolerance;
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package io.neow3j.protocol.limiter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.exceptions.RequestRejectedException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the load a {@link io.neow3j.protocol.Service} puts on its node. A request first has
+ * to pass the token bucket configured for its JSON-RPC method (if any) and then has to get a
+ * slot from the adaptive concurrency limit. Both steps share the same maximum wait time. If a
+ * request cannot pass in time, a {@link RequestRejectedException} is thrown and the request is
+ * not sent.
+ *
+ * <p>One limiter should be used per node, since the concurrency limit adapts to the latency
+ * and error rate of that node.</p>
+ */
+public class RequestLimiter {
+
+    private final AimdConcurrencyLimit concurrencyLimit;
+    private final Map<String, TokenBucket> rateLimits;
+    private final double defaultPermitsPerSecond;
+    private final int defaultBurst;
+    private final long maxWaitNanos;
+
+    protected RequestLimiter(Builder builder) {
+        this.concurrencyLimit = new AimdConcurrencyLimit(builder.initialConcurrency,
+                builder.minConcurrency, builder.maxConcurrency, builder.backoffRatio,
+                builder.latencyTolerance, builder.maxQueued);
+        this.rateLimits = new ConcurrentHashMap<>(builder.rateLimits);
+        this.defaultPermitsPerSecond = builder.defaultPermitsPerSecond;
+        this.defaultBurst = builder.defaultBurst;
+        this.maxWaitNanos = builder.maxWaitNanos;
+    }
+
+    /**
+     * Waits until a request for the given method may be sent.
+     *
+     * @param method the JSON-RPC method of the request.
+     * @return the permit that has to be released when the request is completed.
+     * @throws RequestRejectedException if the request could not pass within the maximum wait
+     *                                  time.
+     * @throws InterruptedIOException   if the thread was interrupted while waiting.
+     */
+    public Permit acquire(String method) throws RequestRejectedException, InterruptedIOException {
+        long start = System.nanoTime();
+        try {
+            TokenBucket bucket = getRateLimit(method);
+            if (bucket != null && !bucket.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new RequestRejectedException(
+                        "Rate limit of " + bucket.getPermitsPerSecond() + " requests per second "
+                                + "exceeded for method '" + method + "'.");
+            }
+            long remaining = maxWaitNanos - (System.nanoTime() - start);
+            if (!concurrencyLimit.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                throw new RequestRejectedException("Concurrency limit of "
+                        + concurrencyLimit.getLimit() + " requests in flight reached.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to send request.");
+        }
+        return new Permit(System.nanoTime());
+    }
+
+    private TokenBucket getRateLimit(String method) {
+        if (method == null) {
+            return null;
+        }
+        if (defaultPermitsPerSecond <= 0) {
+            return rateLimits.get(method);
+        }
+        return rateLimits.computeIfAbsent(method,
+                m -> new TokenBucket(defaultPermitsPerSecond, defaultBurst));
+    }
+
+    /**
+     * Tells if a failed request is a sign that the node is overloaded: a timeout, a connection
+     * failure, or an HTTP 5xx or 429 response. A malformed response, any other HTTP status or
+     * an interrupt of the sending thread is not.
+     *
+     * @param cause the error of the request.
+     * @return true if the concurrency limit should be lowered.
+     */
+    public static boolean isOverload(Exception cause) {
+        if (cause instanceof ClientConnectionException) {
+            int code = ((ClientConnectionException) cause).getStatusCode();
+            // Without a status code, the connection itself failed.
+            return code < 0 || code == 429 || code >= 500;
+        }
+        if (cause instanceof JsonProcessingException) {
+            return false;
+        }
+        if (cause instanceof InterruptedIOException) {
+            return cause instanceof SocketTimeoutException;
+        }
+        return cause instanceof IOException;
+    }
+
+    /**
+     * @return the number of requests currently allowed to be in flight.
+     */
+    public int getConcurrencyLimit() {
+        return concurrencyLimit.getLimit();
+    }
+
+    public int getInFlight() {
+        return concurrencyLimit.getInFlight();
+    }
+
+    public int getQueued() {
+        return concurrencyLimit.getQueued();
+    }
+
+    /**
+     * A slot in the concurrency limit. Exactly one of its methods has to be called once the
+     * request is completed.
+     */
+    public class Permit {
+
+        private final long startNanos;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Releases the slot after the node answered the request.
+         */
+        public void onSuccess() {
+            concurrencyLimit.release(System.nanoTime() - startNanos, false);
+        }
+
+        /**
+         * Releases the slot after the request failed because of an I/O or connection error.
+         * This lowers the concurrency limit.
+         */
+        public void onFailure() {
+            concurrencyLimit.release(System.nanoTime() - startNanos, true);
+        }
+
+        /**
+         * Releases the slot after the request failed with the given error. Only lowers the
+         * concurrency limit if the error is a sign of overload, see {@link #isOverload}.
+         * Otherwise the request counts as completed.
+         */
+        public void onFailure(Exception cause) {
+            concurrencyLimit.release(System.nanoTime() - startNanos, isOverload(cause));
+        }
+    }
+
+    public static class Builder {
+
+        private int initialConcurrency = 8;
+        private int minConcurrency = 1;
+        private int maxConcurrency = 64;
+        private double backoffRatio = 0.9;
+        private double latencyTolerance = 3.0;
+        private int maxQueued = 1000;
+        private long maxWaitNanos = TimeUnit.SECONDS.toNanos(30);
+        private Map<String, TokenBucket> rateLimits = new HashMap<>();
+        private double defaultPermitsPerSecond;
+        private int defaultBurst;
+
+        public Builder() {
+        }
+
+        /**
+         * Sets the bounds of the adaptive concurrency limit and the value it starts with.
+         */
+        public Builder concurrency(int initial, int min, int max) {
+            this.initialConcurrency = initial;
+            this.minConcurrency = min;
+            this.maxConcurrency = max;
+            return this;
+        }
+
+        /**
+         * Sets the factor by which the concurrency limit is multiplied on an overload signal.
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets how many times slower than the lowest recent latency a request may be before it
+         * counts as an overload signal. Use 0 to only react to errors.
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Sets how many requests may wait for a free slot before further requests are rejected
+         * immediately.
+         */
+        public Builder maxQueued(int maxQueued) {
+            this.maxQueued = maxQueued;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a request may wait for the rate and concurrency limits.
+         */
+        public Builder maxWait(long maxWait, TimeUnit unit) {
+            this.maxWaitNanos = unit.toNanos(maxWait);
+            return this;
+        }
+
+        /**
+         * Limits the rate of requests for the given JSON-RPC method.
+         *
+         * @param method           the method, e.g. "getblock".
+         * @param permitsPerSecond the sustained number of requests per second.
+         * @param burst            the number of requests that may be sent at once after a
+         *                         quiet period.
+         */
+        public Builder rateLimit(String method, double permitsPerSecond, int burst) {
+            this.rateLimits.put(method, new TokenBucket(permitsPerSecond, burst));
+            return this;
+        }
+
+        /**
+         * Limits the rate of requests of all methods without their own rate limit. Each method
+         * gets its own bucket.
+         */
+        public Builder defaultRateLimit(double permitsPerSecond, int burst) {
+            // Validate the parameters now rather than on the first request.
+            new TokenBucket(permitsPerSecond, burst);
+            this.defaultPermitsPerSecond = permitsPerSecond;
+            this.defaultBurst = burst;
+            return this;
+        }
+
+        public RequestLimiter build() {
+            return new RequestLimiter(this);
+        }
+    }
+}
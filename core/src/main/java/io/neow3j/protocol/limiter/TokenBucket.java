@@ -0,0 +1,74 @@
+package io.neow3j.protocol.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limit. The bucket holds at most {@code burst} tokens and is refilled at
+ * {@code permitsPerSecond}. A caller that finds the bucket empty reserves the next token and
+ * sleeps until it is due, as long as that happens within its timeout.
+ */
+public class TokenBucket {
+
+    private final double permitsPerSecond;
+    private final double burst;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive.");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least one.");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes one token, sleeping until it is available if that happens within the given time.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit    the unit of the timeout.
+     * @return true if a token was taken, false if none would be available in time.
+     * @throws InterruptedException if the current thread was interrupted while sleeping.
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long waitNanos = reserve(unit.toNanos(timeout));
+        if (waitNanos < 0) {
+            return false;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return true;
+    }
+
+    /**
+     * Reserves a token and returns how long the caller has to wait for it, or -1 if the wait
+     * would be longer than {@code maxWaitNanos}, in which case nothing is reserved.
+     */
+    private synchronized long reserve(long maxWaitNanos) {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerSecond / 1e9);
+        lastRefillNanos = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        long waitNanos = (long) Math.ceil((1 - tokens) * 1e9 / permitsPerSecond);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        // Tokens may go negative. That is how later callers queue up behind this one.
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+}
@@ -0,0 +1,61 @@
+package io.neow3j.protocol.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that counts the bytes read from it. Bytes read again after a
+ * {@link #reset()} are not counted twice.
+ */
+public class CountingInputStream extends FilterInputStream {
+
+    private long count;
+    // A mark set on the wrapped stream before it was wrapped is at the current position.
+    private long mark = 0;
+
+    public CountingInputStream(InputStream in) {
+        super(in);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int result = in.read();
+        if (result != -1) {
+            count++;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int result = in.read(b, off, len);
+        if (result != -1) {
+            count += result;
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long result = in.skip(n);
+        count += result;
+        return result;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        in.mark(readlimit);
+        mark = count;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        in.reset();
+        count = mark;
+    }
+}
@@ -0,0 +1,71 @@
+package io.neow3j.protocol.metrics;
+
+/**
+ * Point-in-time view of a {@link LatencyHistogram}. All durations are in nanoseconds.
+ */
+public class HistogramSnapshot {
+
+    private final long count;
+    private final long sumNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+
+    public HistogramSnapshot(long count, long sumNanos, long maxNanos, long p50Nanos,
+            long p90Nanos, long p99Nanos, long p999Nanos) {
+        this.count = count;
+        this.sumNanos = sumNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSumNanos() {
+        return sumNanos;
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0 : sumNanos / count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot{"
+                + "count=" + count
+                + ", meanNanos=" + getMeanNanos()
+                + ", p50Nanos=" + p50Nanos
+                + ", p90Nanos=" + p90Nanos
+                + ", p99Nanos=" + p99Nanos
+                + ", p999Nanos=" + p999Nanos
+                + ", maxNanos=" + maxNanos
+                + '}';
+    }
+}
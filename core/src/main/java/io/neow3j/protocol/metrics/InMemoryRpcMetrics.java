@@ -0,0 +1,104 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.core.Response;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link RpcMetrics} implementation that keeps all metrics in memory. Recording is
+ * lock-free. Use {@link #snapshot()} to export the current values, e.g. periodically to a log
+ * or monitoring system.
+ */
+public class InMemoryRpcMetrics implements RpcMetrics {
+
+    private final ConcurrentHashMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Override
+    public void onStart(String method) {
+        inFlight.incrementAndGet();
+        getMethodMetrics(method).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void onComplete(String method, RequestTimings timings, Response.Error error) {
+        inFlight.decrementAndGet();
+        MethodMetrics m = getMethodMetrics(method);
+        m.inFlight.decrementAndGet();
+        m.completed.increment();
+        m.requestBytes.add(timings.getRequestBytes());
+        m.responseBytes.add(timings.getResponseBytes());
+        m.total.record(timings.getTotalNanos());
+        m.serialize.record(timings.getSerializeNanos());
+        m.io.record(timings.getIoNanos());
+        m.deserialize.record(timings.getDeserializeNanos());
+        if (error != null) {
+            m.errorCodes.computeIfAbsent(error.getCode(), c -> new LongAdder()).increment();
+        }
+    }
+
+    @Override
+    public void onFailure(String method, Throwable cause) {
+        inFlight.decrementAndGet();
+        MethodMetrics m = getMethodMetrics(method);
+        m.inFlight.decrementAndGet();
+        m.failed.increment();
+    }
+
+    private MethodMetrics getMethodMetrics(String method) {
+        if (method == null) {
+            method = "";
+        }
+        MethodMetrics m = methods.get(method);
+        if (m == null) {
+            m = methods.computeIfAbsent(method, k -> new MethodMetrics());
+        }
+        return m;
+    }
+
+    /**
+     * @return the number of requests in flight over all methods.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Takes a snapshot of the metrics of all methods that have been called so far.
+     *
+     * @return the snapshots by method name, sorted by method name.
+     */
+    public Map<String, MethodMetricsSnapshot> snapshot() {
+        Map<String, MethodMetricsSnapshot> snapshot = new TreeMap<>();
+        methods.forEach((method, m) -> snapshot.put(method, m.snapshot(method)));
+        return snapshot;
+    }
+
+    private static class MethodMetrics {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LatencyHistogram serialize = new LatencyHistogram();
+        private final LatencyHistogram io = new LatencyHistogram();
+        private final LatencyHistogram deserialize = new LatencyHistogram();
+        private final ConcurrentHashMap<Integer, LongAdder> errorCodes =
+                new ConcurrentHashMap<>();
+
+        private MethodMetricsSnapshot snapshot(String method) {
+            Map<Integer, Long> codes = new TreeMap<>();
+            errorCodes.forEach((code, count) -> codes.put(code, count.sum()));
+            return new MethodMetricsSnapshot(method, completed.sum(), failed.sum(),
+                    inFlight.get(), requestBytes.sum(), responseBytes.sum(), total.snapshot(),
+                    serialize.snapshot(), io.snapshot(), deserialize.snapshot(), codes);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.neow3j.protocol.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Point-in-time view of the metrics of one JSON-RPC method, as recorded by
+ * {@link InMemoryRpcMetrics}. The getters make it straightforward to export snapshots with
+ * Jackson or any other bean serializer.
+ */
+public class MethodMetricsSnapshot {
+
+    private final String method;
+    private final long completed;
+    private final long failed;
+    private final int inFlight;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final HistogramSnapshot total;
+    private final HistogramSnapshot serialize;
+    private final HistogramSnapshot io;
+    private final HistogramSnapshot deserialize;
+    private final Map<Integer, Long> errorCodes;
+
+    public MethodMetricsSnapshot(String method, long completed, long failed, int inFlight,
+            long requestBytes, long responseBytes, HistogramSnapshot total,
+            HistogramSnapshot serialize, HistogramSnapshot io, HistogramSnapshot deserialize,
+            Map<Integer, Long> errorCodes) {
+
+        this.method = method;
+        this.completed = completed;
+        this.failed = failed;
+        this.inFlight = inFlight;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.total = total;
+        this.serialize = serialize;
+        this.io = io;
+        this.deserialize = deserialize;
+        this.errorCodes = Collections.unmodifiableMap(errorCodes);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the number of requests for which a response was received, including responses
+     * that contain a JSON-RPC error.
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return the number of requests that failed without a response, e.g. on I/O errors.
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    public HistogramSnapshot getTotal() {
+        return total;
+    }
+
+    public HistogramSnapshot getSerialize() {
+        return serialize;
+    }
+
+    public HistogramSnapshot getIo() {
+        return io;
+    }
+
+    public HistogramSnapshot getDeserialize() {
+        return deserialize;
+    }
+
+    /**
+     * @return the number of responses per JSON-RPC error code.
+     */
+    public Map<Integer, Long> getErrorCodes() {
+        return errorCodes;
+    }
+}
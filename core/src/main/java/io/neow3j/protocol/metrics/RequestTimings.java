@@ -0,0 +1,50 @@
+package io.neow3j.protocol.metrics;
+
+/**
+ * Durations and sizes of a single completed request.
+ *
+ * <p>The I/O phase lasts until the transport hands over the response stream. For HTTP this is
+ * when the response headers have arrived. The response body is mostly read while it is
+ * deserialized, so the deserialization phase includes the transfer of the body.</p>
+ */
+public class RequestTimings {
+
+    private final long serializeNanos;
+    private final long ioNanos;
+    private final long deserializeNanos;
+    private final long requestBytes;
+    private final long responseBytes;
+
+    public RequestTimings(long serializeNanos, long ioNanos, long deserializeNanos,
+            long requestBytes, long responseBytes) {
+        this.serializeNanos = serializeNanos;
+        this.ioNanos = ioNanos;
+        this.deserializeNanos = deserializeNanos;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+    }
+
+    public long getSerializeNanos() {
+        return serializeNanos;
+    }
+
+    public long getIoNanos() {
+        return ioNanos;
+    }
+
+    public long getDeserializeNanos() {
+        return deserializeNanos;
+    }
+
+    public long getTotalNanos() {
+        return serializeNanos + ioNanos + deserializeNanos;
+    }
+
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+}
@@ -0,0 +1,40 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.core.Response;
+
+/**
+ * Instrumentation SPI of {@link io.neow3j.protocol.Service}. The service calls
+ * {@link #onStart(String)} before each request it sends and then exactly one of
+ * {@link #onComplete(String, RequestTimings, Response.Error)} or
+ * {@link #onFailure(String, Throwable)}. Retries are reported as separate requests.
+ *
+ * <p>Implementations are called on the sending thread and must be thread-safe and cheap.</p>
+ *
+ * @see InMemoryRpcMetrics
+ */
+public interface RpcMetrics {
+
+    /**
+     * Called before a request is serialized.
+     *
+     * @param method the JSON-RPC method of the request.
+     */
+    void onStart(String method);
+
+    /**
+     * Called after the node's response was deserialized.
+     *
+     * @param method  the JSON-RPC method of the request.
+     * @param timings the durations and sizes of the request.
+     * @param error   the JSON-RPC error contained in the response, or null if there was none.
+     */
+    void onComplete(String method, RequestTimings timings, Response.Error error);
+
+    /**
+     * Called if the request failed before a response could be deserialized.
+     *
+     * @param method the JSON-RPC method of the request.
+     * @param cause  the exception that made the request fail.
+     */
+    void onFailure(String method, Throwable cause);
+}
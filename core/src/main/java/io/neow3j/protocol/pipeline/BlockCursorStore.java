@@ -0,0 +1,26 @@
+package io.neow3j.protocol.pipeline;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Durable storage of the index of the last block that a {@link BlockPipeline} has fully
+ * processed.
+ */
+public interface BlockCursorStore {
+
+    /**
+     * @return the stored block index, or null if none has been stored yet.
+     * @throws IOException if the cursor cannot be read.
+     */
+    BigInteger load() throws IOException;
+
+    /**
+     * Stores the block index. When this method returns, the index must survive a crash of the
+     * process, and a crash during this method must leave either the old or the new index.
+     *
+     * @param blockIndex the index of the last fully processed block.
+     * @throws IOException if the cursor cannot be written.
+     */
+    void store(BigInteger blockIndex) throws IOException;
+}
@@ -0,0 +1,298 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.JsonRpc2_0Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.Observer;
+import rx.Scheduler;
+import rx.exceptions.Exceptions;
+import rx.observables.SyncOnSubscribe;
+import rx.schedulers.Schedulers;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+
+/**
+ * Processes every block of the chain in order, starting after the last block it has processed
+ * before.
+ *
+ * <p>After a block was processed, its index is stored in a {@link BlockCursorStore}. When the
+ * pipeline is subscribed to again, e.g. after a restart of the process, it continues with the
+ * block after the stored one. Blocks are fetched one after the other, waiting for new blocks
+ * once the pipeline has caught up with the chain, so that no block is skipped.</p>
+ *
+ * <p>With a parallelism greater than one, several blocks are processed at the same time. The
+ * cursor is still only moved forward in order, i.e. to a block once it and all blocks before it
+ * have been processed. A block is processed again after a crash if its index had not been
+ * stored yet, which makes the processing exactly-once for idempotent
+ * {@link BlockProcessor}s.</p>
+ *
+ * <p>The pipeline stops with an error if fetching or processing a block or storing the cursor
+ * fails. The cursor then points to the last block that was processed without gaps.</p>
+ */
+public class BlockPipeline {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BlockPipeline.class);
+
+    private final Neow3j neow3j;
+    private final BlockCursorStore cursorStore;
+    private final BlockProcessor processor;
+    private final BigInteger startBlock;
+    private final boolean fullTransactionObjects;
+    private final int parallelism;
+    private final int commitInterval;
+    private final long pollingInterval;
+    private final Scheduler scheduler;
+
+    private final Object commitLock = new Object();
+    private BigInteger committed;
+    private BigInteger processed;
+
+    private BlockPipeline(Builder builder) {
+        this.neow3j = builder.neow3j;
+        this.cursorStore = builder.cursorStore;
+        this.processor = builder.processor;
+        this.startBlock = builder.startBlock;
+        this.fullTransactionObjects = builder.fullTransactionObjects;
+        this.parallelism = builder.parallelism;
+        this.commitInterval = builder.commitInterval;
+        this.pollingInterval = builder.pollingInterval;
+        this.scheduler = builder.scheduler;
+    }
+
+    /**
+     * Creates an observable that runs the pipeline while it is subscribed to. Only one
+     * subscription should be active at a time.
+     *
+     * @return the indices of the processed blocks, in order.
+     */
+    public Observable<BigInteger> observable() {
+        return Observable.defer(() -> {
+            BigInteger cursor;
+            try {
+                cursor = cursorStore.load();
+            } catch (IOException e) {
+                return Observable.error(e);
+            }
+            synchronized (commitLock) {
+                committed = cursor;
+                processed = cursor;
+            }
+            BigInteger first = cursor == null ? startBlock : cursor.add(BigInteger.ONE);
+            LOG.info("Starting block pipeline at block {}.", first);
+
+            Observable<NeoBlock> blocks = Observable.create(
+                    SyncOnSubscribe.<Position, NeoBlock>createStateful(
+                            () -> new Position(first), this::fetchNext))
+                    // Requests from the workers are then served on the worker of the source,
+                    // which may wait for new blocks, without holding up delivery.
+                    .subscribeOn(scheduler);
+            Observable<BigInteger> processedBlocks;
+            if (parallelism == 1) {
+                processedBlocks = blocks.concatMap(block -> Observable.fromCallable(
+                        () -> process(block)));
+            } else {
+                processedBlocks = blocks.concatMapEager(block -> Observable.fromCallable(
+                        () -> process(block)).subscribeOn(scheduler), parallelism, parallelism);
+            }
+            return processedBlocks
+                    .doOnNext(this::onProcessed)
+                    .doOnTerminate(this::flush)
+                    .doOnUnsubscribe(this::flush);
+        });
+    }
+
+    /**
+     * @return the last block index that was stored in the cursor store, or null if none was
+     * stored yet.
+     */
+    public BigInteger getCommittedBlockIndex() {
+        synchronized (commitLock) {
+            return committed;
+        }
+    }
+
+    private Position fetchNext(Position position, Observer<? super NeoBlock> observer) {
+        try {
+            while (position.next.compareTo(position.latest) > 0) {
+                position.latest = neow3j.getBlockCount().send().getBlockIndex()
+                        .subtract(BigInteger.ONE);
+                if (position.next.compareTo(position.latest) > 0) {
+                    Thread.sleep(pollingInterval);
+                }
+            }
+            NeoGetBlock response = neow3j.getBlock(
+                    new BlockParameterIndex(position.next), fullTransactionObjects).send();
+            response.throwOnError();
+            observer.onNext(response.getBlock());
+            position.next = position.next.add(BigInteger.ONE);
+        } catch (InterruptedException e) {
+            // The subscription was cancelled while waiting for a new block.
+            Thread.currentThread().interrupt();
+            observer.onCompleted();
+        } catch (Exception e) {
+            observer.onError(e);
+        }
+        return position;
+    }
+
+    private BigInteger process(NeoBlock block) throws Exception {
+        processor.process(block);
+        return BigInteger.valueOf(block.getIndex());
+    }
+
+    private void onProcessed(BigInteger blockIndex) {
+        synchronized (commitLock) {
+            processed = blockIndex;
+            if (committed == null
+                    || blockIndex.subtract(committed).compareTo(
+                    BigInteger.valueOf(commitInterval)) >= 0) {
+                try {
+                    commit(blockIndex);
+                } catch (IOException e) {
+                    throw Exceptions.propagate(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the last processed block index if it has not been stored because of the commit
+     * interval.
+     */
+    private void flush() {
+        synchronized (commitLock) {
+            if (processed != null && !processed.equals(committed)) {
+                try {
+                    commit(processed);
+                } catch (IOException e) {
+                    LOG.error("Failed to store block cursor {}.", processed, e);
+                }
+            }
+        }
+    }
+
+    private void commit(BigInteger blockIndex) throws IOException {
+        cursorStore.store(blockIndex);
+        committed = blockIndex;
+    }
+
+    private static class Position {
+
+        private BigInteger next;
+        private BigInteger latest = BigInteger.valueOf(-1);
+
+        private Position(BigInteger next) {
+            this.next = next;
+        }
+    }
+
+    public static class Builder {
+
+        private Neow3j neow3j;
+        private BlockCursorStore cursorStore;
+        private BlockProcessor processor;
+        private BigInteger startBlock;
+        private boolean fullTransactionObjects;
+        private int parallelism;
+        private int commitInterval;
+        private long pollingInterval;
+        private Scheduler scheduler;
+
+        public Builder(Neow3j neow3j) {
+            this.neow3j = neow3j;
+            this.startBlock = BigInteger.ZERO;
+            this.fullTransactionObjects = true;
+            this.parallelism = 1;
+            this.commitInterval = 1;
+            this.pollingInterval = JsonRpc2_0Neow3j.DEFAULT_BLOCK_TIME;
+            this.scheduler = Schedulers.io();
+        }
+
+        public Builder cursorStore(BlockCursorStore cursorStore) {
+            this.cursorStore = cursorStore;
+            return this;
+        }
+
+        /**
+         * Stores the cursor in the given file with a {@link FileBlockCursorStore}.
+         */
+        public Builder cursorFile(Path file) {
+            this.cursorStore = new FileBlockCursorStore(file);
+            return this;
+        }
+
+        public Builder processor(BlockProcessor processor) {
+            this.processor = processor;
+            return this;
+        }
+
+        /**
+         * @param startBlock the block to start at if the cursor store holds no cursor yet.
+         */
+        public Builder startBlock(BigInteger startBlock) {
+            this.startBlock = startBlock;
+            return this;
+        }
+
+        public Builder fullTransactionObjects(boolean fullTransactionObjects) {
+            this.fullTransactionObjects = fullTransactionObjects;
+            return this;
+        }
+
+        /**
+         * @param parallelism the maximum number of blocks processed at the same time.
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param commitInterval the number of blocks after which the cursor is stored. A larger
+         *                       interval writes less often but reprocesses more blocks after a
+         *                       crash.
+         */
+        public Builder commitInterval(int commitInterval) {
+            this.commitInterval = commitInterval;
+            return this;
+        }
+
+        /**
+         * @param pollingInterval the time in milliseconds to wait for a new block once the
+         *                        pipeline has caught up with the chain.
+         */
+        public Builder pollingInterval(long pollingInterval) {
+            this.pollingInterval = pollingInterval;
+            return this;
+        }
+
+        /**
+         * @param scheduler the scheduler on which blocks are fetched and processed.
+         */
+        public Builder scheduler(Scheduler scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        public BlockPipeline build() {
+            if (neow3j == null) throw new IllegalStateException("Neow3j not set");
+            if (cursorStore == null) throw new IllegalStateException("Cursor store not set");
+            if (processor == null) throw new IllegalStateException("Block processor not set");
+            if (startBlock == null || startBlock.signum() < 0) {
+                throw new IllegalStateException("Start block must not be negative");
+            }
+            if (parallelism < 1) throw new IllegalStateException("Parallelism must be positive");
+            if (commitInterval < 1) {
+                throw new IllegalStateException("Commit interval must be positive");
+            }
+            return new BlockPipeline(this);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+
+/**
+ * Processes the blocks of a {@link BlockPipeline}.
+ *
+ * <p>A block whose processing completed but whose index was not yet stored when the process
+ * stopped is processed again on restart. Processors should therefore be idempotent, e.g. by
+ * writing their results keyed by block index.</p>
+ */
+@FunctionalInterface
+public interface BlockProcessor {
+
+    void process(NeoBlock block) throws Exception;
+}
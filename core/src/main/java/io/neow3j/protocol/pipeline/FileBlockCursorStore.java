@@ -0,0 +1,62 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.utils.AtomicFiles;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Stores the cursor of a {@link BlockPipeline} as decimal number in a local file.
+ *
+ * <p>The index is written to a temporary file next to the cursor file, which is synced to
+ * disk and then atomically renamed to the cursor file, see {@link AtomicFiles#replace}. A
+ * crash therefore leaves either the old or the new cursor, never a partially written one.
+ * Storing fails on file systems that can not rename atomically.</p>
+ */
+public class FileBlockCursorStore implements BlockCursorStore {
+
+    private final Path file;
+    private final Path tempFile;
+
+    public FileBlockCursorStore(Path file) {
+        this.file = file.toAbsolutePath();
+        this.tempFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public BigInteger load() throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        String content = new String(Files.readAllBytes(file), StandardCharsets.US_ASCII).trim();
+        try {
+            return new BigInteger(content);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid block cursor in " + file + ": '" + content + "'.", e);
+        }
+    }
+
+    @Override
+    public void store(BigInteger blockIndex) throws IOException {
+        byte[] content = blockIndex.toString().getBytes(StandardCharsets.US_ASCII);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        AtomicFiles.replace(tempFile, file);
+    }
+}
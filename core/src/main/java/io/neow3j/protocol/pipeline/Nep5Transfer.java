@@ -0,0 +1,105 @@
+package io.neow3j.protocol.pipeline;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * A {@code transfer} notification of a NEP-5 token contract.
+ */
+public class Nep5Transfer {
+
+    private final long blockIndex;
+    private final String transactionId;
+    private final int notificationIndex;
+    private final String contract;
+    private final String from;
+    private final String to;
+    private final BigInteger amount;
+
+    public Nep5Transfer(long blockIndex, String transactionId, int notificationIndex,
+            String contract, String from, String to, BigInteger amount) {
+        this.blockIndex = blockIndex;
+        this.transactionId = transactionId;
+        this.notificationIndex = notificationIndex;
+        this.contract = contract;
+        this.from = from;
+        this.to = to;
+        this.amount = amount;
+    }
+
+    public long getBlockIndex() {
+        return blockIndex;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    /**
+     * @return the position of the notification among all notifications of the transaction.
+     */
+    public int getNotificationIndex() {
+        return notificationIndex;
+    }
+
+    /**
+     * @return the script hash of the token contract.
+     */
+    public String getContract() {
+        return contract;
+    }
+
+    /**
+     * @return the address of the sender, or null if tokens were minted.
+     */
+    public String getFrom() {
+        return from;
+    }
+
+    /**
+     * @return the address of the receiver, or null if tokens were burned.
+     */
+    public String getTo() {
+        return to;
+    }
+
+    /**
+     * @return the amount in the smallest unit of the token.
+     */
+    public BigInteger getAmount() {
+        return amount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Nep5Transfer)) return false;
+        Nep5Transfer that = (Nep5Transfer) o;
+        return blockIndex == that.blockIndex &&
+                notificationIndex == that.notificationIndex &&
+                Objects.equals(transactionId, that.transactionId) &&
+                Objects.equals(contract, that.contract) &&
+                Objects.equals(from, that.from) &&
+                Objects.equals(to, that.to) &&
+                Objects.equals(amount, that.amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(blockIndex, transactionId, notificationIndex, contract, from, to,
+                amount);
+    }
+
+    @Override
+    public String toString() {
+        return "Nep5Transfer{" +
+                "blockIndex=" + blockIndex +
+                ", transactionId='" + transactionId + '\'' +
+                ", notificationIndex=" + notificationIndex +
+                ", contract='" + contract + '\'' +
+                ", from='" + from + '\'' +
+                ", to='" + to + '\'' +
+                ", amount=" + amount +
+                '}';
+    }
+}
@@ -0,0 +1,192 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.model.types.ContractParameterType;
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog.EventParameter;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog.Execution;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog.Notification;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetApplicationLog;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.utils.Keys;
+import rx.Observable;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Extracts the NEP-5 transfers from a stream of blocks.
+ *
+ * <p>The application logs of the invocation transactions are fetched concurrently, up to the
+ * configured number at a time and across block boundaries, so that the latency of the node is
+ * paid once per batch of concurrent requests instead of once per transaction. The transfers are
+ * nevertheless emitted in the order of the blocks, of the transactions within a block and of
+ * the notifications within a transaction.</p>
+ *
+ * <p>The blocks must contain the full transaction objects. Fetching the application logs
+ * requires the ApplicationLogs plugin on the node.</p>
+ */
+public class Nep5TransferExtractor {
+
+    public static final int DEFAULT_CONCURRENCY = 16;
+
+    /** The event name {@code transfer} as hex string. */
+    private static final String TRANSFER_EVENT = "7472616e73666572";
+
+    private static final String TRANSFER_EVENT_NAME = "transfer";
+
+    private static final String FAULT_STATE = "FAULT";
+
+    private final Neow3j neow3j;
+    private final int concurrency;
+    private final Scheduler scheduler;
+
+    public Nep5TransferExtractor(Neow3j neow3j) {
+        this(neow3j, DEFAULT_CONCURRENCY, Schedulers.io());
+    }
+
+    /**
+     * @param neow3j      the client used to fetch the application logs.
+     * @param concurrency the maximum number of application logs fetched at the same time.
+     * @param scheduler   the scheduler on which the application logs are fetched.
+     */
+    public Nep5TransferExtractor(Neow3j neow3j, int concurrency, Scheduler scheduler) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be positive.");
+        }
+        this.neow3j = neow3j;
+        this.concurrency = concurrency;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param blocks the blocks, with full transaction objects.
+     * @return the transfers of the blocks, in order.
+     */
+    public Observable<Nep5Transfer> transfers(Observable<NeoBlock> blocks) {
+        return blocks
+                .concatMap(block -> Observable.from(getInvocationTransactionIds(block))
+                        .map(txId -> new PendingLog(block.getIndex(), txId)))
+                .concatMapEager(pending -> Observable.fromCallable(() -> fetch(pending))
+                        .subscribeOn(scheduler), concurrency, concurrency)
+                .concatMapIterable(transfers -> transfers);
+    }
+
+    /**
+     * Fetches the application logs of the invocation transactions of the block concurrently
+     * and waits for them.
+     *
+     * <p>This can be used in a {@link BlockProcessor} of a {@link BlockPipeline}.</p>
+     *
+     * @param block the block, with full transaction objects.
+     * @return the transfers of the block, in order.
+     */
+    public List<Nep5Transfer> transfers(NeoBlock block) {
+        return transfers(Observable.just(block)).toList().toBlocking().single();
+    }
+
+    private List<Nep5Transfer> fetch(PendingLog pending) throws Exception {
+        NeoGetApplicationLog response = neow3j.getApplicationLog(pending.transactionId).send();
+        response.throwOnError();
+        return decode(pending.blockIndex, response.getApplicationLog());
+    }
+
+    /**
+     * Decodes the transfer notifications of an application log. Notifications of executions
+     * that ended in a fault are ignored because their effects were reverted.
+     *
+     * @param blockIndex the index of the block of the transaction.
+     * @param log        the application log of the transaction.
+     * @return the transfers, in the order of the notifications.
+     */
+    public static List<Nep5Transfer> decode(long blockIndex, NeoApplicationLog log) {
+        if (log == null || log.getExecutions() == null) {
+            return Collections.emptyList();
+        }
+        List<Nep5Transfer> transfers = new ArrayList<>();
+        int notificationIndex = 0;
+        for (Execution execution : log.getExecutions()) {
+            if (execution.getNotifications() == null) {
+                continue;
+            }
+            boolean fault = execution.getState() != null
+                    && execution.getState().contains(FAULT_STATE);
+            for (Notification notification : execution.getNotifications()) {
+                if (!fault && isTransfer(notification)) {
+                    List<EventParameter> values = notification.getState().getValue();
+                    transfers.add(new Nep5Transfer(blockIndex, log.getTransactionId(),
+                            notificationIndex, notification.getContract(),
+                            getAddress(values.get(1)), getAddress(values.get(2)),
+                            getAmount(values.get(3))));
+                }
+                notificationIndex++;
+            }
+        }
+        return transfers;
+    }
+
+    private static boolean isTransfer(Notification notification) {
+        if (notification.getState() == null
+                || notification.getState().getType() != ContractParameterType.ARRAY) {
+            return false;
+        }
+        List<EventParameter> values = notification.getState().getValue();
+        if (values.size() != 4 || !(values.get(0).getValue() instanceof String)) {
+            return false;
+        }
+        String name = (String) values.get(0).getValue();
+        if (values.get(0).getParamType() == ContractParameterType.STRING) {
+            return TRANSFER_EVENT_NAME.equals(name);
+        }
+        return TRANSFER_EVENT.equalsIgnoreCase(name);
+    }
+
+    private static String getAddress(EventParameter parameter) {
+        Object value = parameter.getValue();
+        if (!(value instanceof String) || ((String) value).isEmpty()) {
+            return null;
+        }
+        return parameter.getAsAddress();
+    }
+
+    private static BigInteger getAmount(EventParameter parameter) {
+        if (parameter.getParamType() == ContractParameterType.INTEGER) {
+            return new BigInteger(parameter.getValue().toString());
+        }
+        Object value = parameter.getValue();
+        if (!(value instanceof String) || ((String) value).isEmpty()) {
+            return BigInteger.ZERO;
+        }
+        return parameter.getAsNumber();
+    }
+
+    private static List<String> getInvocationTransactionIds(NeoBlock block) {
+        if (block.getTransactions() == null) {
+            return Collections.emptyList();
+        }
+        List<String> ids = new ArrayList<>();
+        for (Transaction tx : block.getTransactions()) {
+            if (tx.getType() == TransactionType.INVOCATION_TRANSACTION) {
+                ids.add(tx.getTransactionId());
+            }
+        }
+        return ids;
+    }
+
+    private static class PendingLog {
+
+        private final long blockIndex;
+        private final String transactionId;
+
+        private PendingLog(long blockIndex, String transactionId) {
+            this.blockIndex = blockIndex;
+            this.transactionId = transactionId;
+        }
+    }
+}
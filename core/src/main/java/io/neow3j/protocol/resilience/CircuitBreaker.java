@@ -0,0 +1,107 @@
+package io.neow3j.protocol.resilience;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker for a single endpoint.
+ *
+ * <p>While {@link State#CLOSED} all requests pass. After {@code failureThreshold} consecutive
+ * failures the breaker goes {@link State#OPEN} and lets no request pass for
+ * {@code openDuration}. Then it goes {@link State#HALF_OPEN} and lets up to
+ * {@code halfOpenProbes} requests through at the same time. A successful probe closes the
+ * breaker again, a failed probe opens it for another period.</p>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private int probesInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit) {
+        this(failureThreshold, openDuration, unit, 1);
+    }
+
+    public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit,
+            int halfOpenProbes) {
+
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("The failure threshold must be at least one.");
+        }
+        if (halfOpenProbes < 1) {
+            throw new IllegalArgumentException("At least one probe request is required.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = unit.toNanos(openDuration);
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * Checks if a request may be sent. If this returns true, exactly one of
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #onIgnored()} has to be called once
+     * the request is completed.
+     *
+     * @return true if the request may be sent.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            probesInFlight = 0;
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Releases a request that neither proved nor disproved the endpoint's health, e.g. one that
+     * was rejected by a local limit.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        consecutiveFailures = 0;
+        probesInFlight = 0;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,233 @@
+package io.neow3j.protocol.resilience;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.exceptions.RequestRejectedException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retry and circuit breaker policies of a {@link io.neow3j.protocol.Service}.
+ *
+ * <p>Each JSON-RPC method is retried according to its own {@link RetryPolicy} or the default
+ * one. Methods that change state on the node (e.g. {@code sendrawtransaction}) are classified
+ * as non-idempotent and are never retried unless a policy is explicitly set for them. All
+ * retries draw from a shared {@link RetryBudget}, and all requests pass through the
+ * {@link CircuitBreaker} of the endpoint. Requests are retried on transport errors and on
+ * HTTP 5xx and 429 responses, which also count as failures of the endpoint. Other errors,
+ * e.g. malformed responses, 4xx responses or a {@link RequestRejectedException} raised by a
+ * client-side limit, would fail again and are neither retried nor counted.</p>
+ *
+ * <p>Because the circuit breaker keeps the endpoint's state, an instance must not be shared
+ * between services of different endpoints.</p>
+ */
+public class ResiliencePolicies {
+
+    /**
+     * Methods that are not retried by default because a repeated call may have a different
+     * effect than a single one.
+     */
+    public static final Set<String> NON_IDEMPOTENT_METHODS = new HashSet<>(Arrays.asList(
+            "sendrawtransaction",
+            "sendtoaddress",
+            "sendmany",
+            "submitblock",
+            "getnewaddress"));
+
+    private final Map<String, RetryPolicy> retryPolicies;
+    private final RetryPolicy defaultRetryPolicy;
+    private final Set<String> nonIdempotentMethods;
+    private final RetryBudget retryBudget;
+    private final CircuitBreaker circuitBreaker;
+
+    protected ResiliencePolicies(Builder builder) {
+        this.retryPolicies = new HashMap<>(builder.retryPolicies);
+        this.defaultRetryPolicy = builder.defaultRetryPolicy;
+        this.nonIdempotentMethods = new HashSet<>(builder.nonIdempotentMethods);
+        this.retryBudget = builder.retryBudget;
+        this.circuitBreaker = builder.circuitBreaker;
+    }
+
+    /**
+     * A call to the node that may be retried.
+     *
+     * @param <T> the result type.
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws IOException;
+    }
+
+    /**
+     * Performs the call, retrying it according to the policy of the given method.
+     *
+     * @param method the JSON-RPC method of the call.
+     * @param call   the call.
+     * @param <T>    the result type.
+     * @return the result of the first successful attempt.
+     * @throws IOException if the last attempt failed or the circuit breaker is open.
+     */
+    public <T> T execute(String method, Call<T> call) throws IOException {
+        RetryPolicy policy = getRetryPolicy(method);
+        int attempt = 1;
+        Exception lastError = null;
+        while (true) {
+            if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+                throw new RequestRejectedException(
+                        "Circuit breaker is open, the endpoint is considered unhealthy.",
+                        lastError);
+            }
+            try {
+                T result = call.call();
+                onSuccess();
+                return result;
+            } catch (RequestRejectedException e) {
+                onIgnored();
+                throw e;
+            } catch (IOException | ClientConnectionException e) {
+                if (!isRetryable(e)) {
+                    onIgnored();
+                    throw e;
+                }
+                if (circuitBreaker != null) {
+                    circuitBreaker.onFailure();
+                }
+                if (attempt >= policy.getMaxAttempts()
+                        || (retryBudget != null && !retryBudget.tryWithdraw())) {
+                    throw e;
+                }
+                lastError = e;
+                sleep(policy.getBackoffNanos(attempt));
+                attempt++;
+            } catch (RuntimeException e) {
+                onIgnored();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @return true if the error is a transport error or an HTTP 5xx or 429 response, i.e. one
+     * that may not occur again.
+     */
+    private static boolean isRetryable(Exception e) {
+        if (e instanceof ClientConnectionException) {
+            int code = ((ClientConnectionException) e).getStatusCode();
+            return code == 429 || code >= 500;
+        }
+        // A malformed response is parsed the same way on every attempt.
+        return !(e instanceof JsonProcessingException);
+    }
+
+    private void onSuccess() {
+        if (circuitBreaker != null) {
+            circuitBreaker.onSuccess();
+        }
+        if (retryBudget != null) {
+            retryBudget.onSuccess();
+        }
+    }
+
+    private void onIgnored() {
+        if (circuitBreaker != null) {
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    private static void sleep(long nanos) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry request.");
+        }
+    }
+
+    /**
+     * @param method the JSON-RPC method.
+     * @return the retry policy that applies to the given method.
+     */
+    public RetryPolicy getRetryPolicy(String method) {
+        RetryPolicy policy = retryPolicies.get(method);
+        if (policy != null) {
+            return policy;
+        }
+        if (nonIdempotentMethods.contains(method)) {
+            return RetryPolicy.NONE;
+        }
+        return defaultRetryPolicy;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    public static class Builder {
+
+        private Map<String, RetryPolicy> retryPolicies = new HashMap<>();
+        private RetryPolicy defaultRetryPolicy = new RetryPolicy.Builder().build();
+        private Set<String> nonIdempotentMethods = new HashSet<>(NON_IDEMPOTENT_METHODS);
+        private RetryBudget retryBudget = new RetryBudget(0.1, 10);
+        private CircuitBreaker circuitBreaker = new CircuitBreaker(5, 10, TimeUnit.SECONDS);
+
+        public Builder() {
+        }
+
+        /**
+         * Sets the retry policy of the given method. This also applies to non-idempotent
+         * methods, so only set it for those if repeating them is known to be safe.
+         */
+        public Builder retryPolicy(String method, RetryPolicy policy) {
+            this.retryPolicies.put(method, policy);
+            return this;
+        }
+
+        /**
+         * Sets the retry policy of all idempotent methods without their own policy.
+         */
+        public Builder defaultRetryPolicy(RetryPolicy policy) {
+            this.defaultRetryPolicy = policy;
+            return this;
+        }
+
+        /**
+         * Marks the given method as non-idempotent, so that it is not retried by default.
+         */
+        public Builder nonIdempotent(String method) {
+            this.nonIdempotentMethods.add(method);
+            return this;
+        }
+
+        /**
+         * Sets the budget shared by all retries, or null to not limit retries beyond their
+         * policies.
+         */
+        public Builder retryBudget(RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
+        /**
+         * Sets the circuit breaker of the endpoint, or null to not use one.
+         */
+        public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        public ResiliencePolicies build() {
+            return new ResiliencePolicies(this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.neow3j.protocol.resilience;
+
+/**
+ * Caps retries to a fraction of the successful requests. Every success deposits
+ * {@code retryRatio} tokens, every retry withdraws one. The balance never exceeds
+ * {@code maxTokens}, so that a long healthy period does not allow a retry storm once the node
+ * starts failing.
+ */
+public class RetryBudget {
+
+    private final double retryRatio;
+    private final double maxTokens;
+
+    private double tokens;
+
+    /**
+     * @param retryRatio the number of retries earned by one successful request, e.g. 0.1 to
+     *                   allow one retry per ten requests.
+     * @param maxTokens  the maximum number of retries that can be saved up. The budget starts
+     *                   full.
+     */
+    public RetryBudget(double retryRatio, int maxTokens) {
+        if (retryRatio < 0) {
+            throw new IllegalArgumentException("The retry ratio must not be negative.");
+        }
+        if (maxTokens < 0) {
+            throw new IllegalArgumentException("The token maximum must not be negative.");
+        }
+        this.retryRatio = retryRatio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    public synchronized void onSuccess() {
+        tokens = Math.min(maxTokens, tokens + retryRatio);
+    }
+
+    /**
+     * Withdraws the token needed for one retry.
+     *
+     * @return true if the retry is within budget.
+     */
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    public synchronized double getTokens() {
+        return tokens;
+    }
+}
@@ -0,0 +1,96 @@
+package io.neow3j.protocol.resilience;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes how often and with which delays a failed request is retried. The delay before
+ * retry {@code n} is drawn uniformly from {@code [0, min(maxBackoff, initialBackoff *
+ * multiplier^(n-1))]} ("full jitter"), so that many clients retrying against the same node do
+ * not do so in lockstep.
+ */
+public class RetryPolicy {
+
+    /**
+     * Never retries.
+     */
+    public static final RetryPolicy NONE = new Builder().maxAttempts(1).build();
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double multiplier;
+
+    protected RetryPolicy(Builder builder) {
+        if (builder.maxAttempts < 1) {
+            throw new IllegalArgumentException("At least one attempt is required.");
+        }
+        if (builder.multiplier < 1) {
+            throw new IllegalArgumentException("The backoff multiplier must not be below 1.");
+        }
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffNanos = builder.initialBackoffNanos;
+        this.maxBackoffNanos = builder.maxBackoffNanos;
+        this.multiplier = builder.multiplier;
+    }
+
+    /**
+     * @return the maximum number of attempts including the first one.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Computes the delay before the given retry.
+     *
+     * @param retry the number of the retry, starting at 1.
+     * @return the delay in nanoseconds.
+     */
+    public long getBackoffNanos(int retry) {
+        double ceiling = initialBackoffNanos * Math.pow(multiplier, retry - 1);
+        long bound = (long) Math.min(maxBackoffNanos, ceiling);
+        if (bound <= 0) {
+            return 0;
+        }
+        return ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    public static class Builder {
+
+        private int maxAttempts = 3;
+        private long initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(100);
+        private long maxBackoffNanos = TimeUnit.SECONDS.toNanos(5);
+        private double multiplier = 2.0;
+
+        public Builder() {
+        }
+
+        /**
+         * Sets the maximum number of attempts including the first one.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder initialBackoff(long initialBackoff, TimeUnit unit) {
+            this.initialBackoffNanos = unit.toNanos(initialBackoff);
+            return this;
+        }
+
+        public Builder maxBackoff(long maxBackoff, TimeUnit unit) {
+            this.maxBackoffNanos = unit.toNanos(maxBackoff);
+            return this;
+        }
+
+        public Builder multiplier(double multiplier) {
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
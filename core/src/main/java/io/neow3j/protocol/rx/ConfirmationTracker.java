@@ -0,0 +1,314 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.exceptions.TransactionTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.Subscription;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tracks submitted transactions until they are included in a block and have the configured
+ * number of confirmations.
+ *
+ * <p>Instead of polling the node for every pending transaction, the tracker keeps the ids of
+ * the pending transactions in a hash set and looks up the transactions of each new block in
+ * it. Every block is thus scanned once, however many transactions are pending. The block
+ * stream must contain the full transaction objects and defaults to the shared block feed of
+ * the client.</p>
+ *
+ * <p>Only blocks that arrive after a transaction was registered are scanned for it, so a
+ * transaction should be registered before it is sent. If a transaction is not included within
+ * the configured number of blocks, its future completes with a
+ * {@link TransactionTimeoutException}. While it is pending, its {@link Rebroadcaster} can be
+ * called every given number of blocks, e.g. to send it again to the node.</p>
+ *
+ * <p>The tracker subscribes to the block stream when the first transaction is registered and
+ * stays subscribed until {@link #stop()} is called.</p>
+ */
+public class ConfirmationTracker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfirmationTracker.class);
+
+    /**
+     * Called for a transaction that has not been included in a block yet.
+     */
+    @FunctionalInterface
+    public interface Rebroadcaster {
+
+        void rebroadcast(String transactionId) throws Exception;
+    }
+
+    private final Observable<NeoGetBlock> blocks;
+    private final int confirmations;
+    private final int timeoutBlocks;
+    private final int rebroadcastInterval;
+
+    private final Object lock = new Object();
+    /** Transactions not included in a block yet, by normalized id. */
+    private final Map<String, Pending> pending = new HashMap<>();
+    /** Included transactions waiting for confirmations, by the index of their block. */
+    private final TreeMap<Long, List<Pending>> included = new TreeMap<>();
+    private long latestBlock = -1;
+    private Subscription subscription;
+
+    private ConfirmationTracker(Builder builder) {
+        this.blocks = builder.blocks != null
+                ? builder.blocks
+                : builder.neow3j.sharedBlockObservable(true);
+        this.confirmations = builder.confirmations;
+        this.timeoutBlocks = builder.timeoutBlocks;
+        this.rebroadcastInterval = builder.rebroadcastInterval;
+    }
+
+    /**
+     * Registers a transaction to be tracked.
+     *
+     * @param transactionId the id of the transaction, with or without 0x prefix.
+     * @return a future that completes once the transaction has the configured number of
+     * confirmations. Registering a transaction again returns the same future.
+     */
+    public CompletableFuture<TransactionConfirmation> track(String transactionId) {
+        return track(transactionId, null);
+    }
+
+    /**
+     * Registers a transaction to be tracked.
+     *
+     * @param transactionId the id of the transaction, with or without 0x prefix.
+     * @param rebroadcaster called every rebroadcast interval while the transaction is not
+     *                      included in a block, or null.
+     * @return a future that completes once the transaction has the configured number of
+     * confirmations. Registering a transaction again returns the same future.
+     */
+    public CompletableFuture<TransactionConfirmation> track(String transactionId,
+            Rebroadcaster rebroadcaster) {
+        String key = normalize(transactionId);
+        synchronized (lock) {
+            Pending existing = pending.get(key);
+            if (existing != null) {
+                return existing.future;
+            }
+            Pending tracked = new Pending(transactionId, rebroadcaster, latestBlock);
+            pending.put(key, tracked);
+            if (subscription == null) {
+                subscription = blocks.subscribe(this::onBlock, this::onError);
+            }
+            return tracked.future;
+        }
+    }
+
+    /**
+     * Unsubscribes from the block stream and cancels the futures of all tracked transactions.
+     */
+    public void stop() {
+        List<Pending> cancelled = new ArrayList<>();
+        synchronized (lock) {
+            if (subscription != null) {
+                subscription.unsubscribe();
+                subscription = null;
+            }
+            cancelled.addAll(pending.values());
+            included.values().forEach(cancelled::addAll);
+            pending.clear();
+            included.clear();
+        }
+        cancelled.forEach(p -> p.future.cancel(false));
+    }
+
+    /**
+     * @return the number of tracked transactions that are not included in a block yet.
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * @return the number of tracked transactions that are included in a block but do not have
+     * enough confirmations yet.
+     */
+    public int getUnconfirmedCount() {
+        synchronized (lock) {
+            return included.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    void onBlock(NeoGetBlock response) {
+        NeoBlock block = response.getBlock();
+        if (block == null) {
+            return;
+        }
+        long index = block.getIndex();
+        List<Runnable> completions = new ArrayList<>();
+        List<Pending> rebroadcasts = new ArrayList<>();
+        synchronized (lock) {
+            latestBlock = index;
+            if (block.getTransactions() != null && !pending.isEmpty()) {
+                for (Transaction tx : block.getTransactions()) {
+                    Pending tracked = pending.remove(normalize(tx.getTransactionId()));
+                    if (tracked != null) {
+                        tracked.blockHash = block.getHash();
+                        included.computeIfAbsent(index, i -> new ArrayList<>()).add(tracked);
+                    }
+                }
+            }
+
+            // Blocks are final in NEO, but a larger depth can still be required by callers.
+            long confirmedUpTo = index - confirmations + 1;
+            while (!included.isEmpty() && included.firstKey() <= confirmedUpTo) {
+                Map.Entry<Long, List<Pending>> entry = included.pollFirstEntry();
+                for (Pending tracked : entry.getValue()) {
+                    TransactionConfirmation confirmation = new TransactionConfirmation(
+                            tracked.transactionId, entry.getKey(), tracked.blockHash,
+                            (int) (index - entry.getKey() + 1));
+                    completions.add(() -> tracked.future.complete(confirmation));
+                }
+            }
+
+            if (timeoutBlocks > 0 || rebroadcastInterval > 0) {
+                Iterator<Pending> it = pending.values().iterator();
+                while (it.hasNext()) {
+                    Pending tracked = it.next();
+                    if (tracked.registeredAt < 0) {
+                        // Registered before the first block arrived.
+                        tracked.registeredAt = index - 1;
+                    }
+                    long waited = index - tracked.registeredAt;
+                    if (timeoutBlocks > 0 && waited >= timeoutBlocks) {
+                        it.remove();
+                        completions.add(() -> tracked.future.completeExceptionally(
+                                new TransactionTimeoutException("Transaction "
+                                        + tracked.transactionId + " was not included within "
+                                        + timeoutBlocks + " blocks.")));
+                    } else if (tracked.rebroadcaster != null && rebroadcastInterval > 0
+                            && waited % rebroadcastInterval == 0) {
+                        rebroadcasts.add(tracked);
+                    }
+                }
+            }
+        }
+        // Callbacks run outside the lock so that they can register transactions.
+        completions.forEach(Runnable::run);
+        for (Pending tracked : rebroadcasts) {
+            try {
+                tracked.rebroadcaster.rebroadcast(tracked.transactionId);
+            } catch (Exception e) {
+                LOG.warn("Failed to rebroadcast transaction {}.", tracked.transactionId, e);
+            }
+        }
+    }
+
+    private void onError(Throwable error) {
+        LOG.error("Block stream of confirmation tracker failed.", error);
+        List<Pending> failed = new ArrayList<>();
+        synchronized (lock) {
+            subscription = null;
+            failed.addAll(pending.values());
+            included.values().forEach(failed::addAll);
+            pending.clear();
+            included.clear();
+        }
+        failed.forEach(p -> p.future.completeExceptionally(error));
+    }
+
+    private static String normalize(String transactionId) {
+        String id = transactionId.startsWith("0x") ? transactionId.substring(2) : transactionId;
+        return id.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Pending {
+
+        private final String transactionId;
+        private final Rebroadcaster rebroadcaster;
+        private final CompletableFuture<TransactionConfirmation> future =
+                new CompletableFuture<>();
+        private long registeredAt;
+        private String blockHash;
+
+        private Pending(String transactionId, Rebroadcaster rebroadcaster, long registeredAt) {
+            this.transactionId = transactionId;
+            this.rebroadcaster = rebroadcaster;
+            this.registeredAt = registeredAt;
+        }
+    }
+
+    public static class Builder {
+
+        private Neow3j neow3j;
+        private Observable<NeoGetBlock> blocks;
+        private int confirmations;
+        private int timeoutBlocks;
+        private int rebroadcastInterval;
+
+        public Builder(Neow3j neow3j) {
+            this.neow3j = neow3j;
+            this.confirmations = 1;
+        }
+
+        /**
+         * @param blocks the stream of new blocks, with full transaction objects. Defaults to
+         *               {@link Neow3jRx#sharedBlockObservable(boolean)}.
+         */
+        public Builder blocks(Observable<NeoGetBlock> blocks) {
+            this.blocks = blocks;
+            return this;
+        }
+
+        /**
+         * @param confirmations the number of blocks, including the block of a transaction,
+         *                      after which it is confirmed. Defaults to 1.
+         */
+        public Builder confirmations(int confirmations) {
+            this.confirmations = confirmations;
+            return this;
+        }
+
+        /**
+         * @param timeoutBlocks the number of blocks after which a transaction that was not
+         *                      included times out, or 0 for no timeout.
+         */
+        public Builder timeoutBlocks(int timeoutBlocks) {
+            this.timeoutBlocks = timeoutBlocks;
+            return this;
+        }
+
+        /**
+         * @param rebroadcastInterval the number of blocks between calls of the rebroadcaster
+         *                            of a pending transaction, or 0 to never call it.
+         */
+        public Builder rebroadcastInterval(int rebroadcastInterval) {
+            this.rebroadcastInterval = rebroadcastInterval;
+            return this;
+        }
+
+        public ConfirmationTracker build() {
+            if (neow3j == null && blocks == null) {
+                throw new IllegalStateException("Neow3j not set");
+            }
+            if (confirmations < 1) {
+                throw new IllegalStateException("Confirmations must be positive");
+            }
+            if (timeoutBlocks < 0) {
+                throw new IllegalStateException("Timeout must not be negative");
+            }
+            if (rebroadcastInterval < 0) {
+                throw new IllegalStateException("Rebroadcast interval must not be negative");
+            }
+            return new ConfirmationTracker(this);
+        }
+    }
+}
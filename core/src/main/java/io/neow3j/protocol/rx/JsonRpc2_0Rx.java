@@ -4,10 +4,12 @@ import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.core.BlockParameter;
 import io.neow3j.protocol.core.BlockParameterIndex;
 import io.neow3j.protocol.core.BlockParameterName;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
 import io.neow3j.protocol.core.methods.response.NeoBlockCount;
 import io.neow3j.protocol.core.methods.response.NeoGetBlock;
 import io.neow3j.protocol.core.methods.response.Transaction;
 import io.neow3j.protocol.core.polling.BlockPolling;
+import io.neow3j.protocol.jfr.ProtocolEvents;
 import io.neow3j.utils.Observables;
 import rx.Observable;
 import rx.Scheduler;
@@ -17,6 +19,8 @@ import rx.subscriptions.Subscriptions;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
@@ -28,6 +32,7 @@ public class JsonRpc2_0Rx {
     private final Neow3j neow3j;
     private final ScheduledExecutorService scheduledExecutorService;
     private final Scheduler scheduler;
+    private final Map<Boolean, SharedBlockFeed> sharedBlockFeeds = new ConcurrentHashMap<>();
 
     public JsonRpc2_0Rx(Neow3j neow3j, ScheduledExecutorService scheduledExecutorService) {
         this.neow3j = neow3j;
@@ -35,6 +40,27 @@ public class JsonRpc2_0Rx {
         this.scheduler = Schedulers.from(scheduledExecutorService);
     }
 
+    /**
+     * Returns the feed of new blocks shared by all subscribers of this instance. There is one
+     * feed for blocks with full transaction objects and one for blocks without. The polling
+     * interval is taken from the first call.
+     */
+    public SharedBlockFeed sharedBlockFeed(boolean fullTransactionObjects, long pollingInterval) {
+        return sharedBlockFeeds.computeIfAbsent(fullTransactionObjects,
+                full -> new SharedBlockFeed(neow3j, scheduledExecutorService, pollingInterval,
+                        index -> getBlockObservable(index, full).toBlocking().single()));
+    }
+
+    public Observable<NeoGetBlock> sharedBlockObservable(boolean fullTransactionObjects,
+            long pollingInterval, int bufferSize, SharedBlockFeed.SlowConsumerPolicy policy) {
+        return sharedBlockFeed(fullTransactionObjects, pollingInterval)
+                .observable(bufferSize, policy);
+    }
+
+    public Observable<MempoolChange> mempoolObservable(long pollingInterval) {
+        return new MempoolWatcher(neow3j, scheduledExecutorService, pollingInterval).observable();
+    }
+
     public Observable<BigInteger> neoBlockObservable(long pollingInterval) {
         return Observable.create(subscriber -> {
             BlockPolling blockPolling = new BlockPolling(neow3j, subscriber::onNext);
@@ -79,10 +105,10 @@ public class JsonRpc2_0Rx {
 
         if (ascending) {
             return Observables.range(startBlockNumber, endBlockNumber)
-                    .flatMap(i -> neow3j.getBlock(new BlockParameterIndex(i), fullTransactionObjects).observable());
+                    .flatMap(i -> getBlockObservable(i, fullTransactionObjects));
         } else {
             return Observables.range(startBlockNumber, endBlockNumber, false)
-                    .flatMap(i -> neow3j.getBlock(new BlockParameterIndex(i), fullTransactionObjects).observable());
+                    .flatMap(i -> getBlockObservable(i, fullTransactionObjects));
         }
     }
 
@@ -148,8 +174,31 @@ public class JsonRpc2_0Rx {
 
     public Observable<NeoGetBlock> blockObservable(boolean fullTransactionObjects, long pollingInterval) {
         return neoBlockObservable(pollingInterval)
-                .flatMap(blockIndex ->
-                        neow3j.getBlock(new BlockParameterIndex(blockIndex), fullTransactionObjects).observable());
+                .flatMap(blockIndex -> getBlockObservable(blockIndex, fullTransactionObjects));
+    }
+
+    private Observable<NeoGetBlock> getBlockObservable(
+            BigInteger blockIndex, boolean fullTransactionObjects) {
+        if (!ProtocolEvents.isAvailable()) {
+            return neow3j.getBlock(new BlockParameterIndex(blockIndex), fullTransactionObjects)
+                    .observable();
+        }
+        return Observable.defer(() -> {
+            ProtocolEvents.Block event = ProtocolEvents.startBlock();
+            Observable<NeoGetBlock> block = neow3j.getBlock(
+                    new BlockParameterIndex(blockIndex), fullTransactionObjects).observable();
+            if (event == null) {
+                return block;
+            }
+            return block.doOnNext(b -> {
+                NeoBlock neoBlock = b.getBlock();
+                if (neoBlock != null) {
+                    List<Transaction> txs = neoBlock.getTransactions();
+                    event.end(neoBlock.getIndex(), txs == null ? 0 : txs.size(),
+                            neoBlock.getSize());
+                }
+            });
+        });
     }
 
     private static List<Transaction> toTransactions(NeoGetBlock neoGetBlock) {
@@ -0,0 +1,53 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.core.methods.response.Transaction;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The difference between two consecutive polls of the memory pool of a node.
+ */
+public class MempoolChange {
+
+    private final List<Transaction> added;
+    private final List<String> removed;
+    private final int poolSize;
+
+    public MempoolChange(List<Transaction> added, List<String> removed, int poolSize) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * @return the transactions that entered the memory pool, in the order reported by the node.
+     */
+    public List<Transaction> getAdded() {
+        return added;
+    }
+
+    /**
+     * @return the ids of the transactions that left the memory pool, e.g. because they were
+     * included in a block.
+     */
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * @return the number of transactions in the memory pool at the time of the poll.
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    @Override
+    public String toString() {
+        return "MempoolChange{" +
+                "added=" + added.size() +
+                ", removed=" + removed.size() +
+                ", poolSize=" + poolSize +
+                '}';
+    }
+}
@@ -0,0 +1,208 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.schedulers.Schedulers;
+import rx.subscriptions.Subscriptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls the memory pool of a node and emits the transactions that entered and left it since
+ * the previous poll.
+ *
+ * <p>Each subscription keeps the ids of the transactions seen in its previous poll. Only the
+ * transactions that are new compared to that snapshot are fetched, up to the configured
+ * number of them at a time. The first poll of a subscription reports all transactions in the
+ * memory pool as added. A transaction that cannot be fetched, e.g. because it left the memory
+ * pool in the meantime, is not added to the snapshot and thus fetched again on the next poll if
+ * it is still there.</p>
+ *
+ * <p>The executor only triggers the polls. The memory pool is queried, diffed and the
+ * transactions are fetched on the fetch scheduler, from which the changes are emitted. A tick
+ * is skipped while the previous poll of the subscription is still in progress.</p>
+ *
+ * <p>The watcher counts the transactions added and removed over all subscriptions and records
+ * the size of the memory pool at the last poll, which can be used to monitor the depth of the
+ * queue and its churn.</p>
+ */
+public class MempoolWatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MempoolWatcher.class);
+
+    public static final int DEFAULT_FETCH_CONCURRENCY = 8;
+
+    private final Neow3j neow3j;
+    private final ScheduledExecutorService executor;
+    private final long pollingInterval;
+    private final int fetchConcurrency;
+    private final Scheduler fetchScheduler;
+
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong added = new AtomicLong();
+    private final AtomicLong removed = new AtomicLong();
+    private final AtomicLong fetchFailures = new AtomicLong();
+    private volatile int poolSize;
+
+    public MempoolWatcher(Neow3j neow3j, ScheduledExecutorService executor,
+            long pollingInterval) {
+        this(neow3j, executor, pollingInterval, DEFAULT_FETCH_CONCURRENCY, Schedulers.io());
+    }
+
+    /**
+     * @param neow3j           the client used to poll the memory pool.
+     * @param executor         the executor that triggers the polls.
+     * @param pollingInterval  the polling interval in milliseconds.
+     * @param fetchConcurrency the maximum number of transactions fetched at the same time.
+     * @param fetchScheduler   the scheduler on which the memory pool is polled and
+     *                         transactions are fetched.
+     */
+    public MempoolWatcher(Neow3j neow3j, ScheduledExecutorService executor,
+            long pollingInterval, int fetchConcurrency, Scheduler fetchScheduler) {
+        if (fetchConcurrency < 1) {
+            throw new IllegalArgumentException("Fetch concurrency must be positive.");
+        }
+        this.neow3j = neow3j;
+        this.executor = executor;
+        this.pollingInterval = pollingInterval;
+        this.fetchConcurrency = fetchConcurrency;
+        this.fetchScheduler = fetchScheduler;
+    }
+
+    /**
+     * @return an observable of the changes of the memory pool. Polls without changes are not
+     * emitted.
+     */
+    public Observable<MempoolChange> observable() {
+        return Observable.create(subscriber -> {
+            Poller poller = new Poller(subscriber);
+            ScheduledFuture<?> schedule = executor.scheduleAtFixedRate(poller, 0,
+                    pollingInterval, TimeUnit.MILLISECONDS);
+            subscriber.add(Subscriptions.create(() -> schedule.cancel(false)));
+        });
+    }
+
+    public long getPollCount() {
+        return polls.get();
+    }
+
+    public long getAddedCount() {
+        return added.get();
+    }
+
+    public long getRemovedCount() {
+        return removed.get();
+    }
+
+    public long getFetchFailureCount() {
+        return fetchFailures.get();
+    }
+
+    /**
+     * @return the number of transactions in the memory pool at the last poll.
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    private Observable<Transaction> fetch(String txId, Set<String> failed) {
+        return Observable.fromCallable(() -> {
+            NeoGetTransaction response = neow3j.getTransaction(txId).send();
+            response.throwOnError();
+            return response.getTransaction();
+        }).onErrorResumeNext(e -> {
+            fetchFailures.incrementAndGet();
+            failed.add(txId);
+            LOG.debug("Failed to fetch memory pool transaction {}.", txId, e);
+            return Observable.empty();
+        }).subscribeOn(fetchScheduler);
+    }
+
+    private class Poller implements Runnable {
+
+        private final Subscriber<? super MempoolChange> subscriber;
+        private final AtomicBoolean polling = new AtomicBoolean();
+        private volatile Set<String> snapshot = Collections.emptySet();
+
+        Poller(Subscriber<? super MempoolChange> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void run() {
+            if (subscriber.isUnsubscribed() || !polling.compareAndSet(false, true)) {
+                // The previous poll is still fetching. The next one diffs against its snapshot.
+                return;
+            }
+            poll().subscribeOn(fetchScheduler).subscribe(
+                    change -> {
+                        if (!subscriber.isUnsubscribed()) {
+                            subscriber.onNext(change);
+                        }
+                    },
+                    e -> {
+                        // The next poll diffs against the last snapshot again.
+                        LOG.error("Error on polling the memory pool.", e);
+                        polling.set(false);
+                    },
+                    () -> polling.set(false));
+        }
+
+        private Observable<MempoolChange> poll() {
+            return Observable.fromCallable(() -> neow3j.getRawMemPool().send().getAddresses())
+                    .flatMap(this::diff);
+        }
+
+        private Observable<MempoolChange> diff(List<String> ids) {
+            List<String> poolIds = ids == null ? Collections.emptyList() : ids;
+            polls.incrementAndGet();
+            poolSize = poolIds.size();
+
+            Set<String> current = new HashSet<>(poolIds.size() * 4 / 3 + 1);
+            List<String> newIds = new ArrayList<>();
+            for (String id : poolIds) {
+                if (current.add(id) && !snapshot.contains(id)) {
+                    newIds.add(id);
+                }
+            }
+            List<String> removedIds = new ArrayList<>();
+            for (String id : snapshot) {
+                if (!current.contains(id)) {
+                    removedIds.add(id);
+                }
+            }
+
+            Set<String> failed = ConcurrentHashMap.newKeySet();
+            return Observable.from(newIds)
+                    .concatMapEager(id -> fetch(id, failed), fetchConcurrency, fetchConcurrency)
+                    .toList()
+                    .flatMap(newTxs -> {
+                        current.removeAll(failed);
+                        snapshot = current;
+                        if (newTxs.isEmpty() && removedIds.isEmpty()) {
+                            return Observable.empty();
+                        }
+                        added.addAndGet(newTxs.size());
+                        removed.addAndGet(removedIds.size());
+                        return Observable.just(
+                                new MempoolChange(newTxs, removedIds, poolIds.size()));
+                    });
+        }
+    }
+}
@@ -20,6 +20,41 @@ public interface Neow3jRx {
      */
     Observable<NeoGetBlock> blockObservable(boolean fullTransactionObjects);
 
+    /**
+     * Create an Observable that emits newly created blocks from a feed shared by all
+     * subscribers of this client. Unlike {@link #blockObservable(boolean)}, the node is polled
+     * and each block is fetched once, however many subscribers there are. A subscriber that
+     * does not keep up delays the others once its buffer of
+     * {@link SharedBlockFeed#DEFAULT_BUFFER_SIZE} blocks is full.
+     *
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @return Observable that emits all new blocks as they are added to the blockchain
+     */
+    Observable<NeoGetBlock> sharedBlockObservable(boolean fullTransactionObjects);
+
+    /**
+     * Create an Observable that emits newly created blocks from a feed shared by all
+     * subscribers of this client.
+     *
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *                               transaction hashes
+     * @param bufferSize             the number of blocks buffered for the subscriber
+     * @param policy                 what to do with new blocks if the buffer is full
+     * @return Observable that emits new blocks as they are added to the blockchain
+     */
+    Observable<NeoGetBlock> sharedBlockObservable(boolean fullTransactionObjects, int bufferSize,
+            SharedBlockFeed.SlowConsumerPolicy policy);
+
+    /**
+     * Create an Observable that emits the transactions that entered and left the memory pool
+     * of the node since its previous poll. Only new transactions are fetched. Use a
+     * {@link MempoolWatcher} directly for control over the fetching and for its metrics.
+     *
+     * @return Observable that emits the changes of the memory pool
+     */
+    Observable<MempoolChange> mempoolObservable();
+
     /**
      * Create an Observable that emits all blocks from the blockchain contained within the
      * requested range.
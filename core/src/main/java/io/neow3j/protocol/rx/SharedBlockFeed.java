@@ -0,0 +1,243 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.polling.BlockPolling;
+import io.neow3j.protocol.exceptions.SlowConsumerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.Subscriber;
+import rx.observers.SerializedSubscriber;
+import rx.subscriptions.Subscriptions;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Block feed that polls the node and fetches each new block once for all of its subscribers.
+ *
+ * <p>The feed starts polling when the first subscriber subscribes and stops when the last one
+ * unsubscribes. Each subscriber has its own bounded buffer from which blocks are delivered on
+ * the executor of the feed, so that a slow subscriber does not delay the others. What happens
+ * when the buffer of a subscriber is full is decided by its {@link SlowConsumerPolicy}.</p>
+ *
+ * <p>If fetching a block fails, the feed logs the error and fetches the block again on the
+ * next poll. Subscribers therefore receive every block in order unless their policy drops
+ * blocks.</p>
+ */
+public class SharedBlockFeed {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedBlockFeed.class);
+
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+
+    /**
+     * What the feed does with a new block if the buffer of a subscriber is full.
+     */
+    public enum SlowConsumerPolicy {
+        /** Drop the new block for this subscriber. */
+        DROP,
+        /** Wait until the subscriber has taken a block, which delays all subscribers. */
+        BLOCK,
+        /** Unsubscribe the subscriber with a {@link SlowConsumerException}. */
+        DISCONNECT
+    }
+
+    private final Neow3j neow3j;
+    private final ScheduledExecutorService executor;
+    private final long pollingInterval;
+    private final Function<BigInteger, NeoGetBlock> fetcher;
+
+    private final List<FeedSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object();
+    private BlockPolling polling;
+
+    /**
+     * @param neow3j          the client used to poll for new blocks.
+     * @param executor        the executor on which the feed polls and delivers blocks.
+     * @param pollingInterval the polling interval in milliseconds.
+     * @param fetcher         fetches the block with the given index.
+     */
+    public SharedBlockFeed(Neow3j neow3j, ScheduledExecutorService executor,
+            long pollingInterval, Function<BigInteger, NeoGetBlock> fetcher) {
+        this.neow3j = neow3j;
+        this.executor = executor;
+        this.pollingInterval = pollingInterval;
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * @return an observable of new blocks with a buffer of {@link #DEFAULT_BUFFER_SIZE} blocks
+     * that waits for the subscriber if the buffer is full.
+     */
+    public Observable<NeoGetBlock> observable() {
+        return observable(DEFAULT_BUFFER_SIZE, SlowConsumerPolicy.BLOCK);
+    }
+
+    /**
+     * @param bufferSize the number of blocks buffered for each subscriber.
+     * @param policy     what to do if a subscriber's buffer is full.
+     * @return an observable of new blocks.
+     */
+    public Observable<NeoGetBlock> observable(int bufferSize, SlowConsumerPolicy policy) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive.");
+        }
+        return Observable.create(subscriber -> {
+            FeedSubscriber feedSubscriber = new FeedSubscriber(subscriber, bufferSize, policy);
+            subscriber.add(Subscriptions.create(() -> remove(feedSubscriber)));
+            if (!subscriber.isUnsubscribed()) {
+                add(feedSubscriber);
+            }
+        });
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public boolean isRunning() {
+        synchronized (lock) {
+            return polling != null;
+        }
+    }
+
+    private void add(FeedSubscriber subscriber) {
+        synchronized (lock) {
+            subscribers.add(subscriber);
+            if (polling == null) {
+                polling = new BlockPolling(neow3j, this::onBlockIndex);
+                polling.run(executor, pollingInterval);
+                LOG.debug("Started shared block feed.");
+            }
+        }
+    }
+
+    private void remove(FeedSubscriber subscriber) {
+        synchronized (lock) {
+            if (subscribers.remove(subscriber) && subscribers.isEmpty() && polling != null) {
+                polling.cancel();
+                polling = null;
+                LOG.debug("Stopped shared block feed.");
+            }
+        }
+    }
+
+    /**
+     * Fetches the block and hands it to all subscribers. An exception leaves the block to be
+     * fetched again on the next poll.
+     */
+    void onBlockIndex(BigInteger blockIndex) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        NeoGetBlock block = fetcher.apply(blockIndex);
+        for (FeedSubscriber subscriber : subscribers) {
+            subscriber.offer(block);
+        }
+    }
+
+    private class FeedSubscriber {
+
+        private final Subscriber<? super NeoGetBlock> subscriber;
+        private final int bufferSize;
+        private final BlockingQueue<NeoGetBlock> buffer;
+        private final SlowConsumerPolicy policy;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final ReentrantLock deliveryLock = new ReentrantLock();
+        private final AtomicLong dropped = new AtomicLong();
+
+        FeedSubscriber(Subscriber<? super NeoGetBlock> subscriber, int bufferSize,
+                SlowConsumerPolicy policy) {
+            // Errors signalled by the feed may race with the delivery of blocks.
+            this.subscriber = new SerializedSubscriber<>(subscriber);
+            this.bufferSize = bufferSize;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+            this.policy = policy;
+        }
+
+        void offer(NeoGetBlock block) {
+            if (subscriber.isUnsubscribed()) {
+                return;
+            }
+            if (!buffer.offer(block)) {
+                switch (policy) {
+                    case DROP:
+                        LOG.warn("Dropped block for slow subscriber, {} dropped in total.",
+                                dropped.incrementAndGet());
+                        return;
+                    case DISCONNECT:
+                        remove(this);
+                        subscriber.onError(new SlowConsumerException("Subscriber did not keep up "
+                                + "with new blocks and its buffer of " + bufferSize
+                                + " blocks overflowed."));
+                        return;
+                    case BLOCK:
+                        if (!waitForSpace(block)) {
+                            return;
+                        }
+                        break;
+                }
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(() -> {
+                    scheduled.set(false);
+                    deliverBuffered();
+                });
+            }
+        }
+
+        private boolean waitForSpace(NeoGetBlock block) {
+            try {
+                while (!buffer.offer(block, 10, TimeUnit.MILLISECONDS)) {
+                    if (subscriber.isUnsubscribed()) {
+                        return false;
+                    }
+                    // The executor may have no free thread to deliver to the subscriber, e.g. if
+                    // it has only the one that is polling. Deliver here if nobody else does.
+                    deliverBuffered();
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        /**
+         * Delivers the buffered blocks unless another thread is already delivering them, which
+         * keeps the blocks in order.
+         */
+        private void deliverBuffered() {
+            while (deliveryLock.tryLock()) {
+                try {
+                    NeoGetBlock block;
+                    while (!subscriber.isUnsubscribed() && (block = buffer.poll()) != null) {
+                        try {
+                            subscriber.onNext(block);
+                        } catch (Throwable t) {
+                            subscriber.onError(t);
+                        }
+                    }
+                } finally {
+                    deliveryLock.unlock();
+                }
+                // A block offered while the lock was released would otherwise wait for the
+                // next one.
+                if (buffer.isEmpty() || subscriber.isUnsubscribed()) {
+                    return;
+                }
+            }
+        }
+    }
+}
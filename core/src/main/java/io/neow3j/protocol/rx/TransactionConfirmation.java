@@ -0,0 +1,54 @@
+package io.neow3j.protocol.rx;
+
+/**
+ * The inclusion of a tracked transaction in a block, as reported by a
+ * {@link ConfirmationTracker}.
+ */
+public class TransactionConfirmation {
+
+    private final String transactionId;
+    private final long blockIndex;
+    private final String blockHash;
+    private final int confirmations;
+
+    public TransactionConfirmation(String transactionId, long blockIndex, String blockHash,
+            int confirmations) {
+        this.transactionId = transactionId;
+        this.blockIndex = blockIndex;
+        this.blockHash = blockHash;
+        this.confirmations = confirmations;
+    }
+
+    /**
+     * @return the transaction id as passed to the tracker.
+     */
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public long getBlockIndex() {
+        return blockIndex;
+    }
+
+    public String getBlockHash() {
+        return blockHash;
+    }
+
+    /**
+     * @return the number of blocks from the block of the transaction up to and including the
+     * latest block when the confirmation was reported.
+     */
+    public int getConfirmations() {
+        return confirmations;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionConfirmation{" +
+                "transactionId='" + transactionId + '\'' +
+                ", blockIndex=" + blockIndex +
+                ", blockHash='" + blockHash + '\'' +
+                ", confirmations=" + confirmations +
+                '}';
+    }
+}
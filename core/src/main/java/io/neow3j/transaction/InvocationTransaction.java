@@ -4,8 +4,7 @@ import io.neow3j.crypto.transaction.RawTransaction;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
 import io.neow3j.model.types.TransactionType;
-import io.neow3j.utils.ArrayUtils;
-import io.neow3j.utils.Numeric;
+import io.neow3j.utils.Fixed8;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -26,15 +25,13 @@ public class InvocationTransaction extends RawTransaction {
     @Override
     public void serializeExclusive(BinaryWriter writer) throws IOException {
         writer.writeVarBytes(contractScript);
-        byte[] gas = Numeric.fromBigDecimalToFixed8Bytes(this.systemFee);
-        writer.write(ArrayUtils.reverseArray(gas));
+        Fixed8.fromDecimal(this.systemFee).serialize(writer);
     }
 
     @Override
     public void deserializeExclusive(BinaryReader reader) throws IOException {
         this.contractScript = reader.readVarBytes();
-        this.systemFee = Numeric.fromFixed8ToDecimal(
-                ArrayUtils.reverseArray(reader.readBytes(8)));
+        this.systemFee = Fixed8.deserialize(reader).toBigDecimal();
     }
 
     public static class Builder extends RawTransaction.Builder<Builder> {
@@ -57,6 +54,10 @@ public class InvocationTransaction extends RawTransaction {
             this.systemFee = gas; return this;
         }
 
+        public Builder systemFee(Fixed8 gas) {
+            this.systemFee = gas.toBigDecimal(); return this;
+        }
+
         @Override
         public InvocationTransaction build() {
             return new InvocationTransaction(this);
@@ -0,0 +1,93 @@
+package io.neow3j.protocol;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class RequestEncoderTest {
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    private final RequestEncoder encoder = new RequestEncoder(objectMapper);
+
+    @Test
+    public void testEncodingMatchesObjectMapper() throws IOException {
+        List<Request<?, NeoBlockCount>> requests = Arrays.asList(
+                request("getblockcount", Collections.emptyList()),
+                request("getblockhash", Collections.singletonList(
+                        new BlockParameterIndex(BigInteger.valueOf(16293)))),
+                request("sendrawtransaction", Collections.singletonList("80000001d405ab03e7")),
+                request("invoke\"é", Arrays.asList("a\nb", 1, null)),
+                request("getversion", null));
+        for (Request<?, NeoBlockCount> request : requests) {
+            assertThat(encode(request), is(objectMapper.writeValueAsString(request)));
+            // The second encoding uses the cached envelope.
+            assertThat(encode(request), is(objectMapper.writeValueAsString(request)));
+        }
+        assertThat(encoder.getCachedMethodCount(), is(5));
+    }
+
+    @Test
+    public void testUncachedRequests() throws IOException {
+        Request<?, NeoBlockCount> request = request("getblockcount", Collections.emptyList());
+        request.setJsonrpc("1.0");
+        assertThat(encode(request), is(objectMapper.writeValueAsString(request)));
+
+        Request<?, NeoBlockCount> subclass = new Request<String, NeoBlockCount>(
+                "getblockcount", Collections.emptyList(), null, NeoBlockCount.class) {
+            public String getExtra() {
+                return "extra";
+            }
+        };
+        assertThat(encode(subclass), is(objectMapper.writeValueAsString(subclass)));
+        assertThat(encoder.getCachedMethodCount(), is(0));
+    }
+
+    @Test
+    public void testCacheIsBounded() throws IOException {
+        for (int i = 0; i < RequestEncoder.MAX_CACHED_METHODS + 10; i++) {
+            Request<?, NeoBlockCount> request = request("method" + i, Collections.emptyList());
+            assertThat(encode(request), is(objectMapper.writeValueAsString(request)));
+        }
+        assertThat(encoder.getCachedMethodCount(), is(RequestEncoder.MAX_CACHED_METHODS));
+    }
+
+    @Test
+    public void testStreamIsNotClosed() throws IOException {
+        boolean[] closed = new boolean[1];
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        FilterOutputStream out = new FilterOutputStream(bytes) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        encoder.encode(request("getblockcount", Collections.emptyList()), out);
+        assertThat(closed[0], is(false));
+        assertThat(bytes.size() > 0, is(true));
+    }
+
+    private <S> Request<S, NeoBlockCount> request(String method, List<S> params) {
+        return new Request<>(method, params, null, NeoBlockCount.class);
+    }
+
+    private String encode(Request<?, ?> request) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.encode(request, out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
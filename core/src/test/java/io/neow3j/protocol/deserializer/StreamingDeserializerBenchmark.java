@@ -0,0 +1,136 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoGetApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bean deserializers of the annotated model classes with the streaming
+ * deserializers, without and with string interning, on the captured responses and on a block
+ * with 500 transactions.
+ *
+ * <p>Not run by the test task. Run it with the test classpath:</p>
+ * <pre>
+ * java -cp &lt;test classpath&gt; io.neow3j.protocol.deserializer.StreamingDeserializerBenchmark
+ * </pre>
+ *
+ * <p>Each case is warmed up and then measured in several rounds of fixed duration on a single
+ * thread; the mean time per response of the rounds is printed.</p>
+ */
+public class StreamingDeserializerBenchmark {
+
+    private static final long WARMUP_NANOS = TimeUnit.SECONDS.toNanos(3);
+    private static final long ROUND_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int ROUNDS = 5;
+
+    private static final ObjectMapper BEAN_MAPPER = ObjectMapperFactory.getObjectMapper();
+
+    private static final ObjectMapper STREAMING_MAPPER =
+            StreamingDeserializerTest.STREAMING_MAPPER;
+
+    private static final ObjectMapper INTERNING_MAPPER =
+            ObjectMapperFactory.getObjectMapper(false, new StringInternPool());
+
+    // Keeps the results reachable, so that the parsing is not optimized away.
+    private static int sink;
+
+    public static void main(String[] args) throws IOException {
+        Map<String, Case> cases = new LinkedHashMap<>();
+        cases.put("getblock", new Case(NeoGetBlock.class, resource("getblock.json")));
+        cases.put("getblock (500 txs)", new Case(NeoGetBlock.class, largeBlock(500)));
+        cases.put("gettransaction",
+                new Case(NeoGetTransaction.class, resource("gettransaction.json")));
+        cases.put("getunspents", new Case(NeoGetUnspents.class, resource("getunspents.json")));
+        cases.put("getapplicationlog",
+                new Case(NeoGetApplicationLog.class, resource("getapplicationlog.json")));
+
+        System.out.printf("%-20s %8s %12s %12s %12s%n",
+                "response", "bytes", "bean us/op", "stream us/op", "intern us/op");
+        for (Map.Entry<String, Case> entry : cases.entrySet()) {
+            Case c = entry.getValue();
+            System.out.printf("%-20s %8d %12.2f %12.2f %12.2f%n", entry.getKey(), c.json.length,
+                    measure(BEAN_MAPPER, c) / 1000, measure(STREAMING_MAPPER, c) / 1000,
+                    measure(INTERNING_MAPPER, c) / 1000);
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    /**
+     * @return the mean time in nanoseconds to read the response.
+     */
+    private static double measure(ObjectMapper mapper, Case c) throws IOException {
+        run(mapper, c, WARMUP_NANOS);
+        double total = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            total += run(mapper, c, ROUND_NANOS);
+        }
+        return total / ROUNDS;
+    }
+
+    private static double run(ObjectMapper mapper, Case c, long duration) throws IOException {
+        long start = System.nanoTime();
+        long end = start + duration;
+        long ops = 0;
+        long now;
+        do {
+            for (int i = 0; i < 16; i++) {
+                sink += mapper.readValue(c.json, c.type).getResult().hashCode();
+            }
+            ops += 16;
+            now = System.nanoTime();
+        } while (now < end);
+        return (double) (now - start) / ops;
+    }
+
+    private static byte[] largeBlock(int transactions) throws IOException {
+        ObjectNode response = (ObjectNode) BEAN_MAPPER.readTree(resource("getblock.json"));
+        ArrayNode txs = (ArrayNode) response.get("result").get("tx");
+        JsonNode[] templates = new JsonNode[txs.size()];
+        for (int i = 0; i < templates.length; i++) {
+            templates[i] = txs.get(i);
+        }
+        txs.removeAll();
+        for (int i = 0; i < transactions; i++) {
+            txs.add(templates[i % templates.length].deepCopy());
+        }
+        return BEAN_MAPPER.writeValueAsBytes(response);
+    }
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream in = StreamingDeserializerBenchmark.class.getResourceAsStream(
+                "/responses/" + name)) {
+            byte[] buffer = new byte[4096];
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int n;
+            while ((n = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static class Case {
+
+        private final Class<? extends Response<?>> type;
+        private final byte[] json;
+
+        private Case(Class<? extends Response<?>> type, byte[] json) {
+            this.type = type;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package io.neow3j.protocol.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.neow3j.model.types.TransactionAttributeUsageType;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class StreamingDeserializerTest {
+
+    /**
+     * Mapper with the same configuration as the one of {@link ObjectMapperFactory}, but
+     * without the streaming deserializers.
+     */
+    private static final ObjectMapper BEAN_MAPPER = new ObjectMapper()
+            .configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * Mapper with the same configuration and the streaming deserializers.
+     */
+    static final ObjectMapper STREAMING_MAPPER = new ObjectMapper()
+            .configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .registerModule(new SimpleModule()
+                    .addDeserializer(NeoBlock.class, new NeoBlockDeserializer())
+                    .addDeserializer(Transaction.class, new TransactionDeserializer())
+                    .addDeserializer(NeoGetUnspents.Unspents.class, new UnspentsDeserializer())
+                    .addDeserializer(NeoApplicationLog.class, new ApplicationLogDeserializer()));
+
+    @Test
+    public void testGetBlock() throws IOException {
+        assertSameAsBeanDeserializer(NeoGetBlock.class, resource("getblock.json"));
+    }
+
+    @Test
+    public void testGetTransaction() throws IOException {
+        assertSameAsBeanDeserializer(NeoGetTransaction.class, resource("gettransaction.json"));
+    }
+
+    @Test
+    public void testGetUnspents() throws IOException {
+        assertSameAsBeanDeserializer(NeoGetUnspents.class, resource("getunspents.json"));
+    }
+
+    @Test
+    public void testGetApplicationLog() throws IOException {
+        assertSameAsBeanDeserializer(NeoGetApplicationLog.class,
+                resource("getapplicationlog.json"));
+    }
+
+    @Test
+    public void testNullAndMissingFields() throws IOException {
+        String json = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":{"
+                + "\"hash\":null,\"size\":null,\"script\":null,\"tx\":["
+                + "{\"txid\":\"0x01\",\"attributes\":null,\"vin\":null,\"vout\":null,"
+                + "\"scripts\":null,\"nonce\":null},"
+                + "{\"txid\":\"0x02\"},"
+                + "null]}}";
+        assertSameAsBeanDeserializer(NeoGetBlock.class, json);
+
+        NeoGetBlock response = read(NeoGetBlock.class, json);
+        Transaction tx = response.getBlock().getTransactions().get(0);
+        assertThat(tx.getInputs(), is(empty()));
+        assertThat(tx.getScripts(), is(empty()));
+        assertThat(response.getBlock().getTransactions().get(1).getInputs(), is(nullValue()));
+        assertThat(response.getBlock().getTransactions().get(2), is(nullValue()));
+    }
+
+    @Test
+    public void testUnknownFieldsAreSkipped() throws IOException {
+        String json = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":{"
+                + "\"extra\":{\"nested\":[1,2,{\"a\":\"b\"}]},"
+                + "\"balance\":[{\"unspent\":[{\"txid\":\"aa\",\"n\":1,\"value\":1.5,"
+                + "\"extra\":[]}],\"asset\":\"NEO\",\"more\":null}],"
+                + "\"address\":\"AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y\",\"last\":true}}";
+        assertSameAsBeanDeserializer(NeoGetUnspents.class, json);
+    }
+
+    @Test
+    public void testAliasesAndCoercions() throws IOException {
+        String json = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":{"
+                + "\"txid\":\"0x01\",\"size\":\"283\",\"type\":\"InvocationTransaction\","
+                + "\"version\":1.0,\"nonce\":\"12\",\"sys_fee\":0,"
+                + "\"attributes\":[{\"usage\":32,\"data\":\"23ba\"},"
+                + "{\"usage\":\"Remark\",\"data\":\"\"}],"
+                + "\"vout\":[{\"N\":0,\"Asset\":\"0xc56f\",\"Value\":\"1\",\"Address\":\"AK2\"},"
+                + "{\"n\":\"1\",\"asset\":\"0xc56f\",\"value\":2,\"address\":\"AK2\"}]}}";
+        assertSameAsBeanDeserializer(NeoGetTransaction.class, json);
+
+        Transaction tx = read(NeoGetTransaction.class, json).getTransaction();
+        assertThat(tx.getSize(), is(283L));
+        assertThat(tx.getNonce(), is(12L));
+        assertThat(tx.getSysFee(), is("0"));
+        assertThat(tx.getAttributes().get(0).getUsage(),
+                is(TransactionAttributeUsageType.SCRIPT));
+        assertThat(tx.getOutputs().get(0).getIndex(), is(0));
+        assertThat(tx.getOutputs().get(1).getValue(), is("2"));
+    }
+
+    @Test
+    public void testApplicationLogWithoutNotifications() throws IOException {
+        String json = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":{\"txid\":\"0x01\","
+                + "\"executions\":[{\"trigger\":\"Application\",\"vmstate\":\"FAULT\","
+                + "\"stack\":null,\"notifications\":null},"
+                + "{\"notifications\":[{\"contract\":\"0x02\",\"state\":null}]}]}}";
+        assertSameAsBeanDeserializer(NeoGetApplicationLog.class, json);
+
+        NeoGetApplicationLog log = read(NeoGetApplicationLog.class, json);
+        assertThat(log.getApplicationLog().getExecutions().get(0).getStack(), is(nullValue()));
+        assertThat(log.getApplicationLog().getExecutions().get(0).getNotifications(),
+                is(empty()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnknownTransactionType() throws IOException {
+        read(NeoGetTransaction.class, "{\"result\":{\"type\":\"NoSuchTransaction\"}}");
+    }
+
+    @Test(expected = IOException.class)
+    public void testScalarInsteadOfObject() throws IOException {
+        read(NeoGetBlock.class, "{\"result\":{\"tx\":[\"0x01\"]}}");
+    }
+
+    @Test
+    public void testRawResponseIsIncluded() throws IOException {
+        String json = resource("getblock.json");
+        NeoGetBlock response = ObjectMapperFactory.getObjectMapper(true, new StringInternPool())
+                .readValue(new ByteArrayInputStream(json.getBytes(UTF_8)), NeoGetBlock.class);
+
+        assertThat(response.getRawResponse(), is(json.trim()));
+        assertThat(response.getBlock(), is(BEAN_MAPPER.readValue(json, NeoGetBlock.class)
+                .getBlock()));
+    }
+
+    private static <T extends Response<?>> T read(Class<T> type, String json)
+            throws IOException {
+        return STREAMING_MAPPER.readValue(json, type);
+    }
+
+    /**
+     * Asserts that the result read with the streaming deserializers serializes to exactly the
+     * same JSON as the result read with the bean deserializers of the model classes.
+     */
+    private static void assertSameAsBeanDeserializer(Class<? extends Response<?>> type,
+            String json) throws IOException {
+
+        Object expected = BEAN_MAPPER.readValue(json, type).getResult();
+        Object actual = read(type, json).getResult();
+        assertThat(BEAN_MAPPER.writeValueAsString(actual),
+                is(BEAN_MAPPER.writeValueAsString(expected)));
+    }
+
+    private static String resource(String name) throws IOException {
+        InputStream in = StreamingDeserializerTest.class.getResourceAsStream(
+                "/responses/" + name);
+        try (Reader reader = new InputStreamReader(in, UTF_8)) {
+            StringWriter writer = new StringWriter();
+            char[] buffer = new char[4096];
+            int n;
+            while ((n = reader.read(buffer)) >= 0) {
+                writer.write(buffer, 0, n);
+            }
+            return writer.toString();
+        }
+    }
+}
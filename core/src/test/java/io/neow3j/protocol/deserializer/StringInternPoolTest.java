@@ -0,0 +1,102 @@
+package io.neow3j.protocol.deserializer;
+
+import io.neow3j.model.types.GASAsset;
+import io.neow3j.model.types.NEOAsset;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class StringInternPoolTest {
+
+    private static final String BLOCK = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":{"
+            + "\"hash\":\"0x498b16db3fba92448fac63caeecb91ce38cb4b565de7d717d473f0dd37a1e816\","
+            + "\"nextconsensus\":\"AWZo4qAxhT8fwKL93QATSjCYCgHmCY1XLB\","
+            + "\"tx\":[{\"txid\":\"0x93c569cbe33e918f7a5392025fbdeab5f6c97c8e5897fafc466694b6e8e1b0d2\","
+            + "\"type\":\"ContractTransaction\",\"vout\":["
+            + "{\"n\":0,\"asset\":\"0x602c79718b16e442de58778e148d0b1084e3b2dffd5de6b7b16cee7969282de7\","
+            + "\"value\":\"10\",\"address\":\"AHb4HXonuseHsAztd97GZTtmNvwEoMDQg7\"},"
+            + "{\"n\":1,\"asset\":\"0x602c79718b16e442de58778e148d0b1084e3b2dffd5de6b7b16cee7969282de7\","
+            + "\"value\":\"5\",\"address\":\"AHb4HXonuseHsAztd97GZTtmNvwEoMDQg7\"}]}]}}";
+
+    @Test
+    public void testInternReturnsPooledInstance() {
+        StringInternPool pool = new StringInternPool(16);
+        String first = pool.intern(new String("AHb4HXonuseHsAztd97GZTtmNvwEoMDQg7"));
+        String second = pool.intern(new String("AHb4HXonuseHsAztd97GZTtmNvwEoMDQg7"));
+        assertThat(second, is(sameInstance(first)));
+    }
+
+    @Test
+    public void testInternFromCharacterBuffer() {
+        StringInternPool pool = new StringInternPool(16);
+        char[] buffer = "xxAHb4HXonuseHsAztd97GZTtmNvwEoMDQg7yy".toCharArray();
+        String first = pool.intern(buffer, 2, 34);
+        assertThat(first, is("AHb4HXonuseHsAztd97GZTtmNvwEoMDQg7"));
+        assertThat(pool.intern(buffer, 2, 34), is(sameInstance(first)));
+    }
+
+    @Test
+    public void testAssetIdsAreCanonical() {
+        StringInternPool pool = new StringInternPool(16);
+        assertThat(pool.intern(new String(NEOAsset.HASH_ID)),
+                is(sameInstance(NEOAsset.HASH_ID)));
+        assertThat(pool.intern(new String(GASAsset.HASH_ID)),
+                is(sameInstance(GASAsset.HASH_ID)));
+        assertThat(pool.intern("0x" + GASAsset.HASH_ID),
+                is(sameInstance(pool.intern("0x" + GASAsset.HASH_ID))));
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        StringInternPool pool = new StringInternPool(3);
+        assertThat(pool.getCapacity(), is(4));
+        String first = pool.intern(new String("a"));
+        for (int i = 0; i < 100; i++) {
+            pool.intern("value" + i);
+        }
+        // The slot of "a" has been taken by another string.
+        assertThat(pool.intern(new String("a")), is(not(sameInstance(first))));
+        assertThat(pool.intern(null), is(nullValue()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new StringInternPool(0);
+    }
+
+    @Test
+    public void testResponsesShareInstances() throws Exception {
+        ObjectMapper mapper = ObjectMapperFactory.getObjectMapper(false, new StringInternPool());
+        NeoBlock first = mapper.readValue(BLOCK, NeoGetBlock.class).getBlock();
+        NeoBlock second = mapper.readValue(BLOCK, NeoGetBlock.class).getBlock();
+
+        assertThat(second, is(first));
+        assertThat(second.getHash(), is(sameInstance(first.getHash())));
+        assertThat(second.getNextConsensus(), is(sameInstance(first.getNextConsensus())));
+
+        TransactionOutput out0 = first.getTransactions().get(0).getOutputs().get(0);
+        TransactionOutput out1 = second.getTransactions().get(0).getOutputs().get(1);
+        assertThat(out1.getAddress(), is(sameInstance(out0.getAddress())));
+        assertThat(out1.getAssetId(), is(sameInstance(out0.getAssetId())));
+        assertThat(out0.getValue(), is("10"));
+    }
+
+    @Test
+    public void testDefaultMapperDoesNotIntern() throws Exception {
+        ObjectMapper mapper = ObjectMapperFactory.getObjectMapper();
+        NeoBlock first = mapper.readValue(BLOCK, NeoGetBlock.class).getBlock();
+        NeoBlock second = mapper.readValue(BLOCK, NeoGetBlock.class).getBlock();
+        assertThat(second.getHash(), is(first.getHash()));
+        assertThat(second.getHash(), is(not(sameInstance(first.getHash()))));
+        assertThat(ObjectMapperFactory.getObjectMapper(false, null), is(sameInstance(mapper)));
+    }
+}
@@ -0,0 +1,77 @@
+package io.neow3j.protocol.http;
+
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static io.neow3j.protocol.http.HttpService.JSON_MEDIA_TYPE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class HttpServiceTest {
+
+    private static final String REQUEST =
+            "{\"jsonrpc\":\"2.0\",\"method\":\"getblockcount\",\"params\":[],\"id\":1}";
+
+    private RequestBody requestBody;
+    private HttpService service;
+
+    @Before
+    public void setUp() {
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    requestBody = chain.request().body();
+                    return new okhttp3.Response.Builder()
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_2)
+                            .code(200)
+                            .message("")
+                            .body(ResponseBody.create(JSON_MEDIA_TYPE,
+                                    "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":1234}"))
+                            .build();
+                })
+                .build();
+        service = new HttpService(httpClient);
+    }
+
+    @Test
+    public void testRequestsAreSentWithContentLengthByDefault() throws Exception {
+        assertThat(service.isStreamingRequests(), is(false));
+
+        send();
+
+        assertThat(requestBody.contentLength(), is((long) REQUEST.length()));
+        assertThat(body(), is(REQUEST));
+    }
+
+    @Test
+    public void testStreamedRequestsHaveNoContentLength() throws Exception {
+        service.setStreamingRequests(true);
+
+        send();
+
+        assertThat(requestBody.contentLength(), is(-1L));
+        assertThat(body(), is(REQUEST));
+    }
+
+    private void send() throws Exception {
+        Request<?, NeoBlockCount> request = new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class);
+        request.setId(1);
+        service.send(request, NeoBlockCount.class);
+    }
+
+    private String body() throws Exception {
+        Buffer buffer = new Buffer();
+        requestBody.writeTo(buffer);
+        return buffer.readUtf8();
+    }
+}
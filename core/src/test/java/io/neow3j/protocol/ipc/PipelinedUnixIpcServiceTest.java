@@ -0,0 +1,142 @@
+package io.neow3j.protocol.ipc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.methods.response.NeoBlockHash;
+import io.neow3j.protocol.metrics.InMemoryRpcMetrics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+public class PipelinedUnixIpcServiceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Pipe requests;
+    private Pipe responses;
+    private PipelinedUnixIpcService service;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() throws IOException {
+        requests = Pipe.open();
+        responses = Pipe.open();
+        service = new PipelinedUnixIpcService(responses.source(), requests.sink(),
+                () -> {
+                    responses.source().close();
+                    requests.sink().close();
+                }, false, 5000);
+        neow3j = Neow3j.build(service);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        service.close();
+    }
+
+    @Test
+    public void testOutOfOrderResponsesAreMatchedById() throws Exception {
+        int count = 20;
+        List<CompletableFuture<NeoBlockHash>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(neow3j.getBlockHash(new BlockParameterIndex(i)).sendAsync());
+        }
+
+        List<JsonNode> received = readRequests(count);
+        Collections.reverse(received);
+        StringBuilder answers = new StringBuilder();
+        for (JsonNode request : received) {
+            long height = request.get("params").get(0).asLong();
+            answers.append("{\"jsonrpc\":\"2.0\",\"id\":").append(request.get("id").asLong())
+                    .append(",\"result\":\"0x").append(height).append("\"}\n");
+        }
+        // Write in small chunks so that responses are split across reads.
+        writeInChunks(answers.toString().getBytes(UTF_8), 7);
+
+        for (int i = 0; i < count; i++) {
+            assertThat(futures.get(i).get().getBlockHash(), is("0x" + i));
+        }
+        assertThat(service.getPendingRequests(), is(0));
+    }
+
+    @Test
+    public void testEncodedAndStringRequestsAreFramed() throws Exception {
+        CompletableFuture<NeoBlockHash> encoded = neow3j.getBlockHash(
+                new BlockParameterIndex(1)).sendAsync();
+        JsonNode first = readRequests(1).get(0);
+        // With metrics, the request is serialized to a string first.
+        service.setMetrics(new InMemoryRpcMetrics());
+        CompletableFuture<NeoBlockHash> serialized = neow3j.getBlockHash(
+                new BlockParameterIndex(2)).sendAsync();
+        JsonNode second = readRequests(1).get(0);
+
+        assertThat(first.get("method").asText(), is("getblockhash"));
+        assertThat(first.get("params").get(0).asLong(), is(1L));
+        assertThat(second.get("params").get(0).asLong(), is(2L));
+        writeInChunks(("{\"jsonrpc\":\"2.0\",\"id\":" + second.get("id").asLong()
+                + ",\"result\":\"0x2\"}\n{\"jsonrpc\":\"2.0\",\"id\":"
+                + first.get("id").asLong() + ",\"result\":\"0x1\"}\n").getBytes(UTF_8), 64);
+        assertThat(encoded.get().getBlockHash(), is("0x1"));
+        assertThat(serialized.get().getBlockHash(), is("0x2"));
+    }
+
+    @Test
+    public void testPendingRequestsFailWhenConnectionCloses() throws Exception {
+        CompletableFuture<NeoBlockHash> future = neow3j.getBestBlockHash().sendAsync();
+        readRequests(1);
+        responses.sink().close();
+
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause() instanceof IOException, is(true));
+        }
+    }
+
+    private List<JsonNode> readRequests(int count) throws IOException {
+        List<JsonNode> result = new ArrayList<>();
+        ByteArrayOutputStream current = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        while (result.size() < count) {
+            buffer.clear();
+            requests.source().read(buffer);
+            for (int i = 0; i < buffer.position(); i++) {
+                byte b = buffer.get(i);
+                if (b == '\n') {
+                    result.add(MAPPER.readTree(current.toByteArray()));
+                    current.reset();
+                } else {
+                    current.write(b);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void writeInChunks(byte[] data, int chunkSize) throws IOException {
+        for (int off = 0; off < data.length; off += chunkSize) {
+            ByteBuffer chunk = ByteBuffer.wrap(data, off, Math.min(chunkSize, data.length - off));
+            while (chunk.hasRemaining()) {
+                responses.sink().write(chunk);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.neow3j.protocol.limiter;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.exceptions.RequestRejectedException;
+import org.junit.Test;
+
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class RequestLimiterTest {
+
+    @Test(expected = RequestRejectedException.class)
+    public void testRejectWhenConcurrencyLimitReached() throws Exception {
+        RequestLimiter limiter = new RequestLimiter.Builder()
+                .concurrency(2, 1, 2)
+                .maxQueued(0)
+                .build();
+
+        limiter.acquire("getblock");
+        limiter.acquire("getblock");
+        assertThat(limiter.getInFlight(), is(2));
+        limiter.acquire("getblock");
+    }
+
+    @Test
+    public void testQueuedRequestGetsReleasedSlot() throws Exception {
+        RequestLimiter limiter = new RequestLimiter.Builder()
+                .concurrency(1, 1, 1)
+                .maxWait(5, TimeUnit.SECONDS)
+                .build();
+
+        RequestLimiter.Permit permit = limiter.acquire("getblock");
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignored) {
+            }
+            permit.onSuccess();
+        });
+        releaser.start();
+
+        limiter.acquire("getblock");
+        assertThat(limiter.getInFlight(), is(1));
+        releaser.join();
+    }
+
+    @Test
+    public void testLimitGrowsWhenSaturatedAndShrinksOnFailure() throws Exception {
+        RequestLimiter limiter = new RequestLimiter.Builder()
+                .concurrency(2, 1, 10)
+                .latencyTolerance(0)
+                .build();
+
+        for (int i = 0; i < 20; i++) {
+            RequestLimiter.Permit p1 = limiter.acquire("getblock");
+            RequestLimiter.Permit p2 = limiter.acquire("getblock");
+            p1.onSuccess();
+            p2.onSuccess();
+        }
+        int grownLimit = limiter.getConcurrencyLimit();
+        assertThat(grownLimit, greaterThan(2));
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire("getblock").onFailure();
+        }
+        assertThat(limiter.getConcurrencyLimit(), lessThan(grownLimit));
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testLimitNeverLeavesBounds() throws Exception {
+        RequestLimiter limiter = new RequestLimiter.Builder()
+                .concurrency(3, 2, 4)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire("getblock").onFailure();
+        }
+        assertThat(limiter.getConcurrencyLimit(), is(2));
+    }
+
+    @Test(expected = RequestRejectedException.class)
+    public void testRejectWhenRateLimitExceeded() throws Exception {
+        RequestLimiter limiter = new RequestLimiter.Builder()
+                .rateLimit("sendrawtransaction", 1, 2)
+                .maxWait(0, TimeUnit.MILLISECONDS)
+                .build();
+
+        limiter.acquire("sendrawtransaction").onSuccess();
+        limiter.acquire("sendrawtransaction").onSuccess();
+        limiter.acquire("sendrawtransaction");
+    }
+
+    @Test
+    public void testOnlyOverloadErrorsLowerTheLimit() throws Exception {
+        RequestLimiter limiter = new RequestLimiter.Builder()
+                .concurrency(4, 1, 4)
+                .build();
+
+        limiter.acquire("getblock").onFailure(new JsonParseException(null, "Unexpected"));
+        limiter.acquire("getblock").onFailure(new ClientConnectionException("Bad request", 400));
+        limiter.acquire("getblock").onFailure(new IllegalStateException());
+        limiter.acquire("getblock").onFailure(new InterruptedIOException());
+        assertThat(limiter.getConcurrencyLimit(), is(4));
+        assertThat(limiter.getInFlight(), is(0));
+
+        limiter.acquire("getblock").onFailure(new ClientConnectionException("Busy", 503));
+        assertThat(limiter.getConcurrencyLimit(), lessThan(4));
+        assertThat(RequestLimiter.isOverload(new ClientConnectionException("Busy", 429)),
+                is(true));
+        assertThat(RequestLimiter.isOverload(new SocketTimeoutException()), is(true));
+        assertThat(RequestLimiter.isOverload(new ConnectException()), is(true));
+    }
+
+    @Test
+    public void testRateLimitIsPerMethod() throws Exception {
+        RequestLimiter limiter = new RequestLimiter.Builder()
+                .defaultRateLimit(1, 1)
+                .maxWait(0, TimeUnit.MILLISECONDS)
+                .build();
+
+        limiter.acquire("getblock").onSuccess();
+        limiter.acquire("getblockcount").onSuccess();
+        limiter.acquire("getrawmempool").onSuccess();
+    }
+
+    @Test
+    public void testRateLimitWaitsForNextToken() throws Exception {
+        RequestLimiter limiter = new RequestLimiter.Builder()
+                .rateLimit("getblock", 20, 1)
+                .maxWait(1, TimeUnit.SECONDS)
+                .build();
+
+        long start = System.nanoTime();
+        limiter.acquire("getblock").onSuccess();
+        limiter.acquire("getblock").onSuccess();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(elapsedMillis, greaterThan(40L));
+    }
+}
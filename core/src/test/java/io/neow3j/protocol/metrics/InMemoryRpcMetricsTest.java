@@ -0,0 +1,131 @@
+package io.neow3j.protocol.metrics;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.http.HttpService;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static io.neow3j.protocol.http.HttpService.JSON_MEDIA_TYPE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.fail;
+
+public class InMemoryRpcMetricsTest {
+
+    private static final String BLOCK_COUNT_RESPONSE =
+            "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":1234}";
+
+    private static final String ERROR_RESPONSE = "{\"id\":1,\"jsonrpc\":\"2.0\","
+            + "\"error\":{\"code\":-100,\"message\":\"Unknown transaction\"}}";
+
+    private String responseBody;
+    private int responseCode;
+    private InMemoryRpcMetrics metrics;
+    private Neow3j neow3j;
+
+    @Before
+    public void setUp() {
+        responseCode = 200;
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> new okhttp3.Response.Builder()
+                        .request(chain.request())
+                        .protocol(Protocol.HTTP_2)
+                        .code(responseCode)
+                        .message("")
+                        .body(ResponseBody.create(JSON_MEDIA_TYPE, responseBody))
+                        .build())
+                .build();
+        HttpService httpService = new HttpService(httpClient);
+        metrics = new InMemoryRpcMetrics();
+        httpService.setMetrics(metrics);
+        neow3j = Neow3j.build(httpService);
+    }
+
+    @Test
+    public void testRecordCompletedRequests() throws Exception {
+        responseBody = BLOCK_COUNT_RESPONSE;
+        neow3j.getBlockCount().send();
+        neow3j.getBlockCount().send();
+
+        MethodMetricsSnapshot snapshot = metrics.snapshot().get("getblockcount");
+        assertThat(snapshot.getCompleted(), is(2L));
+        assertThat(snapshot.getFailed(), is(0L));
+        assertThat(snapshot.getInFlight(), is(0));
+        assertThat(snapshot.getResponseBytes(), is(2L * BLOCK_COUNT_RESPONSE.length()));
+        assertThat(snapshot.getRequestBytes(), greaterThan(0L));
+        assertThat(snapshot.getTotal().getCount(), is(2L));
+        assertThat(snapshot.getSerialize().getCount(), is(2L));
+        assertThat(snapshot.getIo().getCount(), is(2L));
+        assertThat(snapshot.getDeserialize().getCount(), is(2L));
+        assertThat(snapshot.getErrorCodes().isEmpty(), is(true));
+        assertThat(metrics.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testRecordErrorCodes() throws Exception {
+        responseBody = ERROR_RESPONSE;
+        neow3j.getRawTransaction("0x1234").send();
+
+        Map<Integer, Long> errorCodes =
+                metrics.snapshot().get("getrawtransaction").getErrorCodes();
+        assertThat(errorCodes.get(-100), is(1L));
+    }
+
+    @Test
+    public void testRecordFailedRequests() throws Exception {
+        responseBody = "unavailable";
+        responseCode = 503;
+        try {
+            neow3j.getBlockCount().send();
+            fail();
+        } catch (ClientConnectionException ignored) {
+        }
+
+        MethodMetricsSnapshot snapshot = metrics.snapshot().get("getblockcount");
+        assertThat(snapshot.getFailed(), is(1L));
+        assertThat(snapshot.getCompleted(), is(0L));
+        assertThat(snapshot.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testHistogramBucketsAreContiguous() {
+        for (int i = 1; i < 200; i++) {
+            assertThat(LatencyHistogram.bucketUpperBoundMicros(i - 1) + 1,
+                    is(lowestValueOfBucket(i)));
+        }
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount(), is(100L));
+        assertThat(snapshot.getMaxNanos(), is(100_000_000L));
+        assertThat(snapshot.getMeanNanos(), is(50_500_000L));
+        // Buckets have a relative width of at most 25%.
+        assertThat(snapshot.getP50Nanos(), greaterThanOrEqualTo(50_000_000L));
+        assertThat(snapshot.getP50Nanos(), lessThanOrEqualTo(62_500_000L));
+        assertThat(snapshot.getP99Nanos(), greaterThanOrEqualTo(99_000_000L));
+    }
+
+    private static long lowestValueOfBucket(int index) {
+        long micros = 0;
+        while (LatencyHistogram.bucketIndex(micros) < index) {
+            micros = LatencyHistogram.bucketUpperBoundMicros(
+                    LatencyHistogram.bucketIndex(micros)) + 1;
+        }
+        return micros;
+    }
+}
@@ -0,0 +1,210 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.BlockParameterIndex;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import rx.Subscription;
+import rx.observers.TestSubscriber;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BlockPipelineTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final AtomicLong blockCount = new AtomicLong(5);
+
+    private Neow3j neow3j;
+    private Path cursorFile;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        neow3j = mock(Neow3j.class);
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), any(Class.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+            if (request.getMethod().equals("getblockcount")) {
+                NeoBlockCount count = new NeoBlockCount();
+                count.setResult(BigInteger.valueOf(blockCount.get()));
+                return count;
+            }
+            BigInteger index = (BigInteger) request.getParams().get(0);
+            NeoGetBlock response = new NeoGetBlock();
+            response.setResult(new NeoBlock(null, 0, 0, null, null, 0, index.longValue(), null,
+                    null, null, null, 0, null));
+            return response;
+        });
+        when(neow3j.getBlockCount()).thenAnswer(invocation -> new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class));
+        when(neow3j.getBlock(any(BlockParameterIndex.class), anyBoolean())).thenAnswer(
+                invocation -> new Request<>("getblock", Arrays.asList(
+                        ((BlockParameterIndex) invocation.getArguments()[0]).getBlockIndex(), 1),
+                        service, NeoGetBlock.class));
+        cursorFile = folder.getRoot().toPath().resolve("cursor");
+    }
+
+    @Test
+    public void testFileCursorStore() throws Exception {
+        FileBlockCursorStore store = new FileBlockCursorStore(cursorFile);
+        assertThat(store.load(), is(nullValue()));
+        store.store(BigInteger.valueOf(42));
+        assertThat(store.load(), is(BigInteger.valueOf(42)));
+        store.store(BigInteger.valueOf(43));
+        assertThat(store.load(), is(BigInteger.valueOf(43)));
+        assertThat(Files.exists(cursorFile.resolveSibling("cursor.tmp")), is(false));
+    }
+
+    @Test(expected = IOException.class)
+    public void testFileCursorStoreWithInvalidContent() throws Exception {
+        Files.write(cursorFile, "abc".getBytes(StandardCharsets.US_ASCII));
+        new FileBlockCursorStore(cursorFile).load();
+    }
+
+    @Test
+    public void testResumesAfterStoredCursor() throws Exception {
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+        BlockPipeline pipeline = pipeline(block -> processed.add(block.getIndex()), 1);
+
+        TestSubscriber<BigInteger> first = new TestSubscriber<>();
+        Subscription subscription = pipeline.observable().subscribe(first);
+        first.awaitValueCount(5, 5, TimeUnit.SECONDS);
+        blockCount.set(7);
+        first.awaitValueCount(7, 5, TimeUnit.SECONDS);
+        subscription.unsubscribe();
+        assertThat(processed, contains(0L, 1L, 2L, 3L, 4L, 5L, 6L));
+        assertThat(new FileBlockCursorStore(cursorFile).load(), is(BigInteger.valueOf(6)));
+
+        processed.clear();
+        blockCount.set(9);
+        TestSubscriber<BigInteger> second = new TestSubscriber<>();
+        subscription = pipeline(block -> processed.add(block.getIndex()), 1)
+                .observable().subscribe(second);
+        second.awaitValueCount(2, 5, TimeUnit.SECONDS);
+        subscription.unsubscribe();
+        assertThat(processed, contains(7L, 8L));
+    }
+
+    @Test
+    public void testParallelProcessingCommitsInOrder() throws Exception {
+        List<BigInteger> commits = Collections.synchronizedList(new ArrayList<>());
+        BlockCursorStore store = new BlockCursorStore() {
+            @Override
+            public BigInteger load() {
+                return null;
+            }
+
+            @Override
+            public void store(BigInteger blockIndex) {
+                commits.add(blockIndex);
+            }
+        };
+        blockCount.set(50);
+        BlockPipeline pipeline = new BlockPipeline.Builder(neow3j)
+                .cursorStore(store)
+                .processor(block -> Thread.sleep(ThreadLocalRandom.current().nextInt(5)))
+                .parallelism(8)
+                .pollingInterval(10)
+                .build();
+
+        TestSubscriber<BigInteger> subscriber = new TestSubscriber<>();
+        Subscription subscription = pipeline.observable().subscribe(subscriber);
+        subscriber.awaitValueCount(50, 5, TimeUnit.SECONDS);
+        subscription.unsubscribe();
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(subscriber.getOnNextEvents().get(i), is(BigInteger.valueOf(i)));
+            assertThat(commits.get(i), is(BigInteger.valueOf(i)));
+        }
+    }
+
+    @Test
+    public void testFailedBlockIsNotCommitted() throws Exception {
+        BlockPipeline pipeline = pipeline(block -> {
+            if (block.getIndex() == 3) {
+                throw new IllegalStateException("failed");
+            }
+        }, 1);
+        TestSubscriber<BigInteger> subscriber = new TestSubscriber<>();
+        pipeline.observable().subscribe(subscriber);
+        subscriber.awaitTerminalEvent(5, TimeUnit.SECONDS);
+
+        subscriber.assertError(IllegalStateException.class);
+        assertThat(pipeline.getCommittedBlockIndex(), is(BigInteger.valueOf(2)));
+        assertThat(new FileBlockCursorStore(cursorFile).load(), is(BigInteger.valueOf(2)));
+    }
+
+    @Test
+    public void testCommitIntervalFlushesOnUnsubscribe() throws Exception {
+        List<BigInteger> commits = Collections.synchronizedList(new ArrayList<>());
+        FileBlockCursorStore fileStore = new FileBlockCursorStore(cursorFile);
+        BlockPipeline pipeline = new BlockPipeline.Builder(neow3j)
+                .cursorStore(new BlockCursorStore() {
+                    @Override
+                    public BigInteger load() throws IOException {
+                        return fileStore.load();
+                    }
+
+                    @Override
+                    public void store(BigInteger blockIndex) throws IOException {
+                        commits.add(blockIndex);
+                        fileStore.store(blockIndex);
+                    }
+                })
+                .processor(block -> { })
+                .commitInterval(3)
+                .pollingInterval(10)
+                .build();
+        TestSubscriber<BigInteger> subscriber = new TestSubscriber<>();
+        Subscription subscription = pipeline.observable().subscribe(subscriber);
+        subscriber.awaitValueCount(5, 5, TimeUnit.SECONDS);
+        subscription.unsubscribe();
+
+        assertThat(commits, contains(BigInteger.valueOf(0), BigInteger.valueOf(3),
+                BigInteger.valueOf(4)));
+        assertThat(fileStore.load(), is(BigInteger.valueOf(4)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuildWithoutProcessor() {
+        new BlockPipeline.Builder(neow3j).cursorFile(cursorFile).build();
+    }
+
+    private BlockPipeline pipeline(BlockProcessor processor, int parallelism) {
+        return new BlockPipeline.Builder(neow3j)
+                .cursorFile(cursorFile)
+                .processor(processor)
+                .parallelism(parallelism)
+                .pollingInterval(10)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package io.neow3j.protocol.pipeline;
+
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.ObjectMapperFactory;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoApplicationLog;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetApplicationLog;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class Nep5TransferExtractorTest {
+
+    private static final String TOKEN = "0x43fa0777cf984faea46b954ec640a266bcbc3319";
+    private static final String SCRIPT_HASH = "10d46912932d6ebcd1d3c4a27a1a8ea77e68ac95";
+    private static final String ADDRESS = "AHJrv6y6L6k9PfJvY7vtX3XTAmEprsd3Xn";
+
+    private Neow3j neow3j;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        neow3j = mock(Neow3j.class);
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), any(Class.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+            String txId = (String) request.getParams().get(0);
+            // Later transactions are answered faster to shuffle the completion order.
+            int tx = Integer.parseInt(txId.substring(txId.indexOf('-') + 1));
+            Thread.sleep(Math.max(0, 10 - tx) + ThreadLocalRandom.current().nextInt(3));
+            NeoGetApplicationLog response = new NeoGetApplicationLog();
+            response.setResult(log(txId, "HALT, BREAK", transfer(SCRIPT_HASH, "", tx + 1)));
+            return response;
+        });
+        when(neow3j.getApplicationLog(anyString())).thenAnswer(invocation -> new Request<>(
+                "getapplicationlog", Collections.singletonList(invocation.getArguments()[0]),
+                service, NeoGetApplicationLog.class));
+    }
+
+    @Test
+    public void testDecode() throws Exception {
+        NeoApplicationLog log = log("0x01", "HALT, BREAK",
+                notification("72656164", SCRIPT_HASH, "b100"),
+                transfer("", SCRIPT_HASH, 0xb1),
+                transfer(SCRIPT_HASH, "", 0x0100));
+
+        List<Nep5Transfer> transfers = Nep5TransferExtractor.decode(7, log);
+
+        assertThat(transfers, contains(
+                new Nep5Transfer(7, "0x01", 1, TOKEN, null, ADDRESS, BigInteger.valueOf(177)),
+                new Nep5Transfer(7, "0x01", 2, TOKEN, ADDRESS, null, BigInteger.valueOf(256))));
+    }
+
+    @Test
+    public void testDecodeIgnoresFaultedExecutions() throws Exception {
+        NeoApplicationLog log = log("0x01", "FAULT, BREAK", transfer("", SCRIPT_HASH, 1));
+        assertThat(Nep5TransferExtractor.decode(7, log), hasSize(0));
+        assertThat(Nep5TransferExtractor.decode(7, null), hasSize(0));
+    }
+
+    @Test
+    public void testTransfersKeepBlockAndTransactionOrder() {
+        List<NeoBlock> blocks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            blocks.add(block(i, 6));
+        }
+        Nep5TransferExtractor extractor = new Nep5TransferExtractor(neow3j, 8, Schedulers.io());
+
+        List<Nep5Transfer> transfers = extractor.transfers(Observable.from(blocks))
+                .toList().toBlocking().single();
+
+        assertThat(transfers, hasSize(30));
+        for (int i = 0; i < transfers.size(); i++) {
+            Nep5Transfer transfer = transfers.get(i);
+            assertThat(transfer.getBlockIndex(), is((long) i / 6));
+            assertThat(transfer.getTransactionId(), is(i / 6 + "-" + i % 6));
+            assertThat(transfer.getAmount(), is(BigInteger.valueOf(i % 6 + 1)));
+            assertThat(transfer.getTo(), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void testTransfersOfSingleBlock() {
+        List<Nep5Transfer> transfers = new Nep5TransferExtractor(neow3j).transfers(block(3, 4));
+        assertThat(transfers.stream().map(Nep5Transfer::getTransactionId)
+                .collect(Collectors.toList()), contains("3-0", "3-1", "3-2", "3-3"));
+    }
+
+    private static NeoBlock block(long index, int invocations) {
+        List<Transaction> txs = new ArrayList<>();
+        txs.add(tx(index + "-miner", TransactionType.MINER_TRANSACTION));
+        for (int i = 0; i < invocations; i++) {
+            txs.add(tx(index + "-" + i, TransactionType.INVOCATION_TRANSACTION));
+        }
+        return new NeoBlock(null, 0, 0, null, null, 0, index, null, null, null, txs, 0, null);
+    }
+
+    private static Transaction tx(String id, TransactionType type) {
+        return new Transaction(id, 0, type, 0, null, null, null, null, null, null, null, null,
+                null);
+    }
+
+    private static String transfer(String from, String to, long amount) {
+        String hex = BigInteger.valueOf(amount).toString(16);
+        if (hex.length() % 2 != 0) {
+            hex = "0" + hex;
+        }
+        StringBuilder littleEndian = new StringBuilder();
+        for (int i = hex.length(); i > 0; i -= 2) {
+            littleEndian.append(hex, i - 2, i);
+        }
+        return notification("7472616e73666572", from, to, littleEndian.toString());
+    }
+
+    private static String notification(String... values) {
+        return "{\"contract\":\"" + TOKEN + "\",\"state\":{\"type\":\"Array\",\"value\":["
+                + Arrays.stream(values)
+                .map(v -> "{\"type\":\"ByteArray\",\"value\":\"" + v + "\"}")
+                .collect(Collectors.joining(",")) + "]}}";
+    }
+
+    private static NeoApplicationLog log(String txId, String state, String... notifications)
+            throws IOException {
+        return ObjectMapperFactory.getObjectMapper().readValue("{\"txid\":\"" + txId + "\","
+                + "\"executions\":[{\"trigger\":\"Application\",\"vmstate\":\"" + state + "\","
+                + "\"notifications\":[" + String.join(",", notifications) + "]}]}",
+                NeoApplicationLog.class);
+    }
+}
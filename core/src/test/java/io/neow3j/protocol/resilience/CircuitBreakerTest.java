@@ -0,0 +1,72 @@
+package io.neow3j.protocol.resilience;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void testOpensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 1, TimeUnit.HOURS);
+        for (int i = 0; i < 2; i++) {
+            assertThat(breaker.tryAcquire(), is(true));
+            breaker.onFailure();
+        }
+        assertThat(breaker.getState(), is(CircuitBreaker.State.CLOSED));
+        assertThat(breaker.tryAcquire(), is(true));
+        breaker.onFailure();
+        assertThat(breaker.getState(), is(CircuitBreaker.State.OPEN));
+        assertThat(breaker.tryAcquire(), is(false));
+    }
+
+    @Test
+    public void testSuccessResetsFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 1, TimeUnit.HOURS);
+        breaker.tryAcquire();
+        breaker.onFailure();
+        breaker.tryAcquire();
+        breaker.onSuccess();
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertThat(breaker.getState(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void testHalfOpenProbeClosesBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0, TimeUnit.MILLISECONDS);
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertThat(breaker.getState(), is(CircuitBreaker.State.OPEN));
+
+        assertThat(breaker.tryAcquire(), is(true));
+        assertThat(breaker.getState(), is(CircuitBreaker.State.HALF_OPEN));
+        // Only one probe at a time.
+        assertThat(breaker.tryAcquire(), is(false));
+        breaker.onSuccess();
+        assertThat(breaker.getState(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void testFailedProbeReopensBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0, TimeUnit.MILLISECONDS);
+        breaker.tryAcquire();
+        breaker.onFailure();
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertThat(breaker.getState(), is(CircuitBreaker.State.OPEN));
+    }
+
+    @Test
+    public void testIgnoredProbeFreesProbeSlot() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0, TimeUnit.MILLISECONDS);
+        breaker.tryAcquire();
+        breaker.onFailure();
+        breaker.tryAcquire();
+        breaker.onIgnored();
+        assertThat(breaker.tryAcquire(), is(true));
+    }
+}
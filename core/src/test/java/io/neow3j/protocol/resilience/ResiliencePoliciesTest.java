@@ -0,0 +1,224 @@
+package io.neow3j.protocol.resilience;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.exceptions.ClientConnectionException;
+import io.neow3j.protocol.exceptions.RequestRejectedException;
+import io.neow3j.protocol.http.HttpService;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.neow3j.protocol.http.HttpService.JSON_MEDIA_TYPE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+public class ResiliencePoliciesTest {
+
+    private static final RetryPolicy NO_BACKOFF = new RetryPolicy.Builder()
+            .maxAttempts(3)
+            .initialBackoff(0, TimeUnit.MILLISECONDS)
+            .build();
+
+    @Test
+    public void testRetriesUntilSuccess() throws Exception {
+        ResiliencePolicies policies = new ResiliencePolicies.Builder()
+                .defaultRetryPolicy(NO_BACKOFF)
+                .build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policies.execute("getblockcount", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("connection reset");
+            }
+            return "ok";
+        });
+
+        assertThat(result, is("ok"));
+        assertThat(attempts.get(), is(3));
+    }
+
+    @Test
+    public void testGivesUpAfterMaxAttempts() {
+        ResiliencePolicies policies = new ResiliencePolicies.Builder()
+                .defaultRetryPolicy(NO_BACKOFF)
+                .circuitBreaker(null)
+                .build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            policies.execute("getblockcount", () -> {
+                attempts.incrementAndGet();
+                throw new ClientConnectionException("Invalid response received: 503; N/A", 503);
+            });
+            fail();
+        } catch (ClientConnectionException | IOException e) {
+            assertThat(attempts.get(), is(3));
+        }
+    }
+
+    @Test
+    public void testPermanentErrorsAreNotRetriedNorCounted() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 1, TimeUnit.HOURS);
+        ResiliencePolicies policies = new ResiliencePolicies.Builder()
+                .defaultRetryPolicy(NO_BACKOFF)
+                .circuitBreaker(breaker)
+                .build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            policies.execute("getblockcount", () -> {
+                attempts.incrementAndGet();
+                throw new ClientConnectionException("Invalid response received: 400; N/A", 400);
+            });
+            fail();
+        } catch (ClientConnectionException | IOException e) {
+            assertThat(attempts.get(), is(1));
+        }
+        try {
+            policies.execute("getblockcount", () -> {
+                attempts.incrementAndGet();
+                throw new JsonParseException(null, "Unexpected end-of-input");
+            });
+            fail();
+        } catch (IOException e) {
+            assertThat(e, is(instanceOf(JsonParseException.class)));
+            assertThat(attempts.get(), is(2));
+        }
+        assertThat(breaker.getState(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void testNonIdempotentMethodIsNotRetried() {
+        ResiliencePolicies policies = new ResiliencePolicies.Builder()
+                .defaultRetryPolicy(NO_BACKOFF)
+                .build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            policies.execute("sendrawtransaction", () -> {
+                attempts.incrementAndGet();
+                throw new IOException("timeout");
+            });
+            fail();
+        } catch (IOException e) {
+            assertThat(attempts.get(), is(1));
+        }
+        assertThat(policies.getRetryPolicy("sendrawtransaction"), is(RetryPolicy.NONE));
+    }
+
+    @Test
+    public void testExplicitPolicyOverridesIdempotencyClassification() {
+        ResiliencePolicies policies = new ResiliencePolicies.Builder()
+                .retryPolicy("sendrawtransaction", NO_BACKOFF)
+                .build();
+
+        assertThat(policies.getRetryPolicy("sendrawtransaction"), is(NO_BACKOFF));
+    }
+
+    @Test
+    public void testRetryBudgetLimitsRetries() {
+        ResiliencePolicies policies = new ResiliencePolicies.Builder()
+                .defaultRetryPolicy(NO_BACKOFF)
+                .retryBudget(new RetryBudget(0.1, 1))
+                .circuitBreaker(null)
+                .build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                policies.execute("getblockcount", () -> {
+                    attempts.incrementAndGet();
+                    throw new IOException("timeout");
+                });
+                fail();
+            } catch (IOException ignored) {
+            }
+        }
+        // One retry in the budget: 2 attempts in the first call, 1 in the second.
+        assertThat(attempts.get(), is(3));
+    }
+
+    @Test
+    public void testOpenCircuitFailsFast() {
+        ResiliencePolicies policies = new ResiliencePolicies.Builder()
+                .defaultRetryPolicy(RetryPolicy.NONE)
+                .circuitBreaker(new CircuitBreaker(2, 1, TimeUnit.HOURS))
+                .build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                policies.execute("getblockcount", () -> {
+                    attempts.incrementAndGet();
+                    throw new IOException("timeout");
+                });
+                fail();
+            } catch (RequestRejectedException e) {
+                assertThat(i, is(2));
+            } catch (IOException ignored) {
+            }
+        }
+        assertThat(attempts.get(), is(2));
+    }
+
+    @Test
+    public void testCircuitOpeningBetweenRetriesKeepsLastError() {
+        ResiliencePolicies policies = new ResiliencePolicies.Builder()
+                .defaultRetryPolicy(NO_BACKOFF)
+                .circuitBreaker(new CircuitBreaker(1, 1, TimeUnit.HOURS))
+                .build();
+        IOException error = new IOException("connection reset");
+
+        try {
+            policies.execute("getblockcount", () -> {
+                throw error;
+            });
+            fail();
+        } catch (RequestRejectedException e) {
+            assertThat(e.getCause(), is(sameInstance(error)));
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void testServiceRetriesFailedHttpRequest() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    boolean fail = calls.incrementAndGet() == 1;
+                    return new okhttp3.Response.Builder()
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_2)
+                            .code(fail ? 503 : 200)
+                            .message("")
+                            .body(ResponseBody.create(JSON_MEDIA_TYPE, fail
+                                    ? "unavailable"
+                                    : "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":1234}"))
+                            .build();
+                })
+                .build();
+        HttpService service = new HttpService(httpClient);
+        service.setResiliencePolicies(new ResiliencePolicies.Builder()
+                .defaultRetryPolicy(NO_BACKOFF)
+                .build());
+
+        NeoBlockCount response = service.send(new Request<>("getblockcount",
+                Collections.emptyList(), service, NeoBlockCount.class), NeoBlockCount.class);
+
+        assertThat(response.getBlockIndex(), is(BigInteger.valueOf(1234)));
+        assertThat(calls.get(), is(2));
+    }
+}
@@ -0,0 +1,125 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.exceptions.TransactionTimeoutException;
+import org.junit.Test;
+import rx.subjects.PublishSubject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ConfirmationTrackerTest {
+
+    private final PublishSubject<NeoGetBlock> blocks = PublishSubject.create();
+
+    @Test
+    public void testCompletesAtConfirmationDepth() throws Exception {
+        ConfirmationTracker tracker = new ConfirmationTracker.Builder(null)
+                .blocks(blocks)
+                .confirmations(2)
+                .build();
+        CompletableFuture<TransactionConfirmation> first = tracker.track("0xAA");
+        CompletableFuture<TransactionConfirmation> second = tracker.track("bb");
+        assertThat(tracker.track("aa"), is(sameInstance(first)));
+        assertThat(tracker.getPendingCount(), is(2));
+
+        blocks.onNext(block(10, "0xcc"));
+        blocks.onNext(block(11, "0xaa", "0xdd"));
+        assertThat(first.isDone(), is(false));
+        assertThat(tracker.getPendingCount(), is(1));
+        assertThat(tracker.getUnconfirmedCount(), is(1));
+
+        blocks.onNext(block(12, "0xbb"));
+        TransactionConfirmation confirmation = first.get();
+        assertThat(confirmation.getTransactionId(), is("0xAA"));
+        assertThat(confirmation.getBlockIndex(), is(11L));
+        assertThat(confirmation.getBlockHash(), is("hash11"));
+        assertThat(confirmation.getConfirmations(), is(2));
+        assertThat(second.isDone(), is(false));
+
+        blocks.onNext(block(13));
+        assertThat(second.get().getBlockIndex(), is(12L));
+        assertThat(tracker.getUnconfirmedCount(), is(0));
+    }
+
+    @Test
+    public void testTimeoutAndRebroadcast() throws Exception {
+        List<String> rebroadcasts = new ArrayList<>();
+        ConfirmationTracker tracker = new ConfirmationTracker.Builder(null)
+                .blocks(blocks)
+                .timeoutBlocks(5)
+                .rebroadcastInterval(2)
+                .build();
+        blocks.onNext(block(1));
+        CompletableFuture<TransactionConfirmation> lost = tracker.track("aa", rebroadcasts::add);
+        CompletableFuture<TransactionConfirmation> late = tracker.track("bb");
+
+        for (int i = 2; i <= 5; i++) {
+            blocks.onNext(block(i));
+        }
+        blocks.onNext(block(6, "bb"));
+        assertThat(late.get().getBlockIndex(), is(6L));
+        assertThat(rebroadcasts, contains("aa", "aa"));
+
+        try {
+            lost.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(TransactionTimeoutException.class)));
+        }
+        assertThat(tracker.getPendingCount(), is(0));
+    }
+
+    @Test
+    public void testStopCancelsTrackedTransactions() {
+        ConfirmationTracker tracker = new ConfirmationTracker.Builder(null)
+                .blocks(blocks)
+                .build();
+        CompletableFuture<TransactionConfirmation> future = tracker.track("aa");
+        assertThat(blocks.hasObservers(), is(true));
+
+        tracker.stop();
+        assertThat(future.isCancelled(), is(true));
+        assertThat(blocks.hasObservers(), is(false));
+    }
+
+    @Test
+    public void testBlockStreamErrorFailsTrackedTransactions() throws Exception {
+        ConfirmationTracker tracker = new ConfirmationTracker.Builder(null)
+                .blocks(blocks)
+                .build();
+        CompletableFuture<TransactionConfirmation> future = tracker.track("aa");
+        blocks.onError(new IllegalStateException("stream failed"));
+        assertThat(future.isCompletedExceptionally(), is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testInvalidConfirmations() {
+        new ConfirmationTracker.Builder(null).blocks(blocks).confirmations(0).build();
+    }
+
+    private static NeoGetBlock block(long index, String... txIds) {
+        List<Transaction> txs = new ArrayList<>();
+        for (String id : Arrays.asList(txIds)) {
+            txs.add(new Transaction(id, 0, TransactionType.CONTRACT_TRANSACTION, 0, null, null,
+                    null, null, null, null, null, null, null));
+        }
+        NeoGetBlock response = new NeoGetBlock();
+        response.setResult(new NeoBlock("hash" + index, 0, 0, null, null, 0, index, null, null,
+                null, txs, 0, null));
+        return response;
+    }
+}
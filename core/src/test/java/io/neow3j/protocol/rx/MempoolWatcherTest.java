@@ -0,0 +1,166 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoGetRawMemPool;
+import io.neow3j.protocol.core.methods.response.NeoGetTransaction;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Subscription;
+import rx.observers.TestSubscriber;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MempoolWatcherTest {
+
+    private volatile List<String> mempool = Collections.emptyList();
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicInteger> fetches = new ConcurrentHashMap<>();
+    private final AtomicInteger polls = new AtomicInteger();
+    private volatile CountDownLatch fetchGate = new CountDownLatch(0);
+
+    private ScheduledExecutorService executor;
+    private MempoolWatcher watcher;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        Neow3j neow3j = mock(Neow3j.class);
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), any(Class.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+            if (request.getMethod().equals("getrawmempool")) {
+                NeoGetRawMemPool response = new NeoGetRawMemPool();
+                response.setResult(new ArrayList<>(mempool));
+                polls.incrementAndGet();
+                return response;
+            }
+            String txId = (String) request.getParams().get(0);
+            fetches.computeIfAbsent(txId, id -> new AtomicInteger()).incrementAndGet();
+            fetchGate.await();
+            NeoGetTransaction response = new NeoGetTransaction();
+            if (missing.contains(txId)) {
+                response.setError(new Response.Error(-100, "Unknown transaction"));
+            } else {
+                response.setResult(new Transaction(txId, 0, TransactionType.CONTRACT_TRANSACTION,
+                        0, null, null, null, null, null, null, null, null, null));
+            }
+            return response;
+        });
+        when(neow3j.getRawMemPool()).thenAnswer(invocation -> new Request<>("getrawmempool",
+                Collections.emptyList(), service, NeoGetRawMemPool.class));
+        when(neow3j.getTransaction(anyString())).thenAnswer(invocation -> new Request<>(
+                "getrawtransaction", Arrays.asList(invocation.getArguments()[0], 1), service,
+                NeoGetTransaction.class));
+
+        executor = Executors.newSingleThreadScheduledExecutor();
+        watcher = new MempoolWatcher(neow3j, executor, 10);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEmitsAddedAndRemovedTransactions() throws Exception {
+        mempool = Arrays.asList("a", "b");
+        TestSubscriber<MempoolChange> subscriber = new TestSubscriber<>();
+        Subscription subscription = watcher.observable().subscribe(subscriber);
+        subscriber.awaitValueCount(1, 5, TimeUnit.SECONDS);
+
+        mempool = Arrays.asList("b", "c", "d");
+        subscriber.awaitValueCount(2, 5, TimeUnit.SECONDS);
+        subscription.unsubscribe();
+
+        MempoolChange first = subscriber.getOnNextEvents().get(0);
+        assertThat(ids(first.getAdded()), contains("a", "b"));
+        assertThat(first.getRemoved(), is(empty()));
+        MempoolChange second = subscriber.getOnNextEvents().get(1);
+        assertThat(ids(second.getAdded()), contains("c", "d"));
+        assertThat(second.getRemoved(), contains("a"));
+        assertThat(second.getPoolSize(), is(3));
+
+        // Every transaction is fetched only once, however often it is polled.
+        for (String id : Arrays.asList("a", "b", "c", "d")) {
+            assertThat(fetches.get(id).get(), is(1));
+        }
+        assertThat(watcher.getAddedCount(), is(4L));
+        assertThat(watcher.getRemovedCount(), is(1L));
+        assertThat(watcher.getPoolSize(), is(3));
+    }
+
+    @Test
+    public void testFailedFetchIsRetriedOnNextPoll() throws Exception {
+        missing.add("b");
+        mempool = Arrays.asList("a", "b");
+        TestSubscriber<MempoolChange> subscriber = new TestSubscriber<>();
+        Subscription subscription = watcher.observable().subscribe(subscriber);
+        subscriber.awaitValueCount(1, 5, TimeUnit.SECONDS);
+        assertThat(ids(subscriber.getOnNextEvents().get(0).getAdded()), contains("a"));
+
+        int pollsBefore = polls.get();
+        while (polls.get() < pollsBefore + 2) {
+            Thread.sleep(5);
+        }
+        missing.clear();
+        subscriber.awaitValueCount(2, 5, TimeUnit.SECONDS);
+        subscription.unsubscribe();
+
+        MempoolChange second = subscriber.getOnNextEvents().get(1);
+        assertThat(ids(second.getAdded()), contains("b"));
+        assertThat(second.getRemoved(), is(empty()));
+        assertThat(watcher.getFetchFailureCount() >= 2, is(true));
+    }
+
+    @Test
+    public void testSlowFetchDoesNotBlockTheExecutor() throws Exception {
+        fetchGate = new CountDownLatch(1);
+        mempool = Collections.singletonList("a");
+        TestSubscriber<MempoolChange> subscriber = new TestSubscriber<>();
+        Subscription subscription = watcher.observable().subscribe(subscriber);
+        while (!fetches.containsKey("a")) {
+            Thread.sleep(5);
+        }
+
+        // The executor runs other tasks while the transaction is fetched.
+        executor.submit(() -> { }).get(1, TimeUnit.SECONDS);
+        fetchGate.countDown();
+        subscriber.awaitValueCount(1, 5, TimeUnit.SECONDS);
+        subscription.unsubscribe();
+
+        assertThat(ids(subscriber.getOnNextEvents().get(0).getAdded()), contains("a"));
+        // The ticks during the fetch were skipped instead of fetching the transaction again.
+        assertThat(fetches.get("a").get(), is(1));
+    }
+
+    private static List<String> ids(List<Transaction> txs) {
+        return txs.stream().map(Transaction::getTransactionId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,199 @@
+package io.neow3j.protocol.rx;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlockCount;
+import io.neow3j.protocol.core.methods.response.NeoGetBlock;
+import io.neow3j.protocol.exceptions.SlowConsumerException;
+import io.neow3j.protocol.rx.SharedBlockFeed.SlowConsumerPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Subscription;
+import rx.observers.TestSubscriber;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SharedBlockFeedTest {
+
+    private final AtomicLong blockCount = new AtomicLong(10);
+    private final AtomicInteger polls = new AtomicInteger();
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private ScheduledExecutorService executor;
+    private SharedBlockFeed feed;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        Neow3j neow3j = mock(Neow3j.class);
+        Request<?, NeoBlockCount> request = mock(Request.class);
+        when(request.send()).thenAnswer(invocation -> {
+            NeoBlockCount count = new NeoBlockCount();
+            count.setResult(BigInteger.valueOf(blockCount.get()));
+            polls.incrementAndGet();
+            return count;
+        });
+        when(neow3j.getBlockCount()).thenAnswer(invocation -> request);
+
+        executor = Executors.newScheduledThreadPool(2);
+        feed = new SharedBlockFeed(neow3j, executor, 10, index -> {
+            fetches.incrementAndGet();
+            return block(index.longValue());
+        });
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testBlocksAreFetchedOnceForAllSubscribers() throws Exception {
+        TestSubscriber<NeoGetBlock> first = new TestSubscriber<>();
+        TestSubscriber<NeoGetBlock> second = new TestSubscriber<>();
+        Subscription s1 = feed.observable().subscribe(first);
+        Subscription s2 = feed.observable().subscribe(second);
+        assertThat(feed.isRunning(), is(true));
+        assertThat(feed.getSubscriberCount(), is(2));
+
+        awaitPolls(1);
+        blockCount.set(13);
+        first.awaitValueCount(3, 5, TimeUnit.SECONDS);
+        second.awaitValueCount(3, 5, TimeUnit.SECONDS);
+
+        assertThat(ids(first.getOnNextEvents()), contains(10L, 11L, 12L));
+        assertThat(ids(second.getOnNextEvents()), contains(10L, 11L, 12L));
+        assertThat(fetches.get(), is(3));
+
+        s1.unsubscribe();
+        assertThat(feed.isRunning(), is(true));
+        s2.unsubscribe();
+        assertThat(feed.isRunning(), is(false));
+
+        // A new subscriber starts the feed again.
+        Subscription s3 = feed.observable().subscribe(new TestSubscriber<>());
+        assertThat(feed.isRunning(), is(true));
+        s3.unsubscribe();
+        assertThat(feed.isRunning(), is(false));
+    }
+
+    @Test
+    public void testDropPolicy() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TestSubscriber<NeoGetBlock> slow = slowSubscriber(entered, release);
+        TestSubscriber<NeoGetBlock> fast = new TestSubscriber<>();
+        feed.observable(1, SlowConsumerPolicy.DROP).subscribe(slow);
+        feed.observable(16, SlowConsumerPolicy.DROP).subscribe(fast);
+
+        feed.onBlockIndex(BigInteger.valueOf(1));
+        assertThat(entered.await(5, TimeUnit.SECONDS), is(true));
+        feed.onBlockIndex(BigInteger.valueOf(2));
+        feed.onBlockIndex(BigInteger.valueOf(3));
+        release.countDown();
+
+        fast.awaitValueCount(3, 5, TimeUnit.SECONDS);
+        slow.awaitValueCount(2, 5, TimeUnit.SECONDS);
+        assertThat(ids(fast.getOnNextEvents()), contains(1L, 2L, 3L));
+        assertThat(ids(slow.getOnNextEvents()), contains(1L, 2L));
+    }
+
+    @Test
+    public void testDisconnectPolicy() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TestSubscriber<NeoGetBlock> slow = slowSubscriber(entered, release);
+        TestSubscriber<NeoGetBlock> fast = new TestSubscriber<>();
+        feed.observable(1, SlowConsumerPolicy.DISCONNECT).subscribe(slow);
+        feed.observable(16, SlowConsumerPolicy.DISCONNECT).subscribe(fast);
+
+        feed.onBlockIndex(BigInteger.valueOf(1));
+        assertThat(entered.await(5, TimeUnit.SECONDS), is(true));
+        feed.onBlockIndex(BigInteger.valueOf(2));
+        feed.onBlockIndex(BigInteger.valueOf(3));
+        assertThat(feed.getSubscriberCount(), is(1));
+        release.countDown();
+
+        slow.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        assertThat(slow.getOnErrorEvents().get(0), is(instanceOf(SlowConsumerException.class)));
+        feed.onBlockIndex(BigInteger.valueOf(4));
+        fast.awaitValueCount(4, 5, TimeUnit.SECONDS);
+        assertThat(ids(fast.getOnNextEvents()), contains(1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    public void testBlockPolicyDeliversEveryBlock() throws Exception {
+        TestSubscriber<NeoGetBlock> slow = new TestSubscriber<NeoGetBlock>() {
+            @Override
+            public void onNext(NeoGetBlock block) {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onNext(block);
+            }
+        };
+        feed.observable(1, SlowConsumerPolicy.BLOCK).subscribe(slow);
+        for (long i = 1; i <= 10; i++) {
+            feed.onBlockIndex(BigInteger.valueOf(i));
+        }
+        slow.awaitValueCount(10, 5, TimeUnit.SECONDS);
+        assertThat(ids(slow.getOnNextEvents()),
+                contains(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBufferSize() {
+        feed.observable(0, SlowConsumerPolicy.DROP);
+    }
+
+    private TestSubscriber<NeoGetBlock> slowSubscriber(CountDownLatch entered,
+            CountDownLatch release) {
+        return new TestSubscriber<NeoGetBlock>() {
+            @Override
+            public void onNext(NeoGetBlock block) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onNext(block);
+            }
+        };
+    }
+
+    private void awaitPolls(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (polls.get() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static NeoGetBlock block(long index) {
+        NeoGetBlock block = new NeoGetBlock();
+        block.setId(index);
+        return block;
+    }
+
+    private static List<Long> ids(List<NeoGetBlock> blocks) {
+        return blocks.stream().map(NeoGetBlock::getId).collect(Collectors.toList());
+    }
+}
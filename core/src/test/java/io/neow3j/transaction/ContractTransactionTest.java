@@ -181,6 +181,17 @@ public class ContractTransactionTest {
         assertNotNull(rawTransactionObj);
     }
 
+    @Test
+    public void deserialize_FromHex() throws IllegalAccessException, InstantiationException {
+        String rawTransaction = "800000016f291e0c1f333d837b84fb707f2f0c91b3f25b6f8c4e397b1d20cc6758e4aed50000019b7cffdaa674beae0f930ebe6085af9093e5fe56b34a5c220ccdcf6efc336fc500ca9a3b0000000023ba2703c53263e8d6e522dc32203339dcd8eee9018240ee9596a52a9033b1103f9a710467b1ac84575426c8a9a2a3c001cb04b2a5b08e266a19e3c216ed1ab8ae2c00b23b9e8ee8d9d8700958fb8655097d789dc990c9409060c6ce30864233dc96bbedaaf2c98fc5e12f673493b63ed0e6f83d760037e56347408cf8fae3cb2a3266a98aaccfcad10c7591a683b5701cf085e1f9c5aa4a695221036245f426b4522e8a2901be6ccc1f71e37dc376726cc6665d80c5997e240568fb210303897394935bb5418b1c1c4cf35513e276c6bd313ddd1330f113ec3dc34fbd0d2102e2baf21e36df2007189d05b9e682f4192a101dcdf07eed7d6313625a930874b453ae";
+
+        ContractTransaction fromHex = NeoSerializableInterface.fromHex("0x" + rawTransaction, ContractTransaction.class);
+        ContractTransaction fromArray = NeoSerializableInterface.from(Numeric.hexStringToByteArray(rawTransaction), ContractTransaction.class);
+        assertEquals(rawTransaction, Numeric.toHexStringNoPrefix(fromHex.toArray()));
+        assertEquals(fromArray.getTxId(), fromHex.getTxId());
+        assertEquals(fromArray.getOutputs(), fromHex.getOutputs());
+    }
+
     @Test
     public void verify_Signature() throws SignatureException {
 
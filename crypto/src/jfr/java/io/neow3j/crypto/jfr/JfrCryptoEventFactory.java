@@ -0,0 +1,22 @@
+package io.neow3j.crypto.jfr;
+
+/**
+ * Creates the JFR events of the crypto module. Loaded by {@link CryptoEvents}.
+ */
+public final class JfrCryptoEventFactory implements CryptoEvents.Factory {
+
+    @Override
+    public CryptoEvents.Nep2 startNep2(String operation) {
+        return Nep2Event.start(operation);
+    }
+
+    @Override
+    public CryptoEvents.Sign startSign() {
+        return SignEvent.start();
+    }
+
+    @Override
+    public CryptoEvents.TransactionSerialization startTransactionSerialization() {
+        return TransactionSerializationEvent.start();
+    }
+}
@@ -0,0 +1,57 @@
+package io.neow3j.crypto.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a NEP-2 encryption or decryption, which is dominated by the scrypt key
+ * derivation.
+ *
+ * <p>Started through {@link CryptoEvents#startNep2(String)}.</p>
+ */
+@Name("io.neow3j.Nep2")
+@Label("NEP-2 Key Derivation")
+@Category({"neow3j", "Crypto"})
+@Description("NEP-2 encryption or decryption of a private key, including scrypt")
+public class Nep2Event extends Event implements CryptoEvents.Nep2 {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Scrypt N")
+    private int n;
+
+    @Label("Scrypt r")
+    private int r;
+
+    @Label("Scrypt p")
+    private int p;
+
+    /**
+     * @param operation "encrypt" or "decrypt".
+     * @return a started event, or null if the event is not enabled in any recording.
+     */
+    public static Nep2Event start(String operation) {
+        Nep2Event event = new Nep2Event();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void end(int n, int r, int p) {
+        end();
+        if (shouldCommit()) {
+            this.n = n;
+            this.r = r;
+            this.p = p;
+            commit();
+        }
+    }
+}
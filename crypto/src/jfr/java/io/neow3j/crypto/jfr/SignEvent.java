@@ -0,0 +1,50 @@
+package io.neow3j.crypto.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the creation of an ECDSA signature.
+ *
+ * <p>Started through {@link CryptoEvents#startSign()}.</p>
+ */
+@Name("io.neow3j.Sign")
+@Label("Sign Message")
+@Category({"neow3j", "Crypto"})
+@Description("Creation of a recoverable ECDSA signature")
+public class SignEvent extends Event implements CryptoEvents.Sign {
+
+    @Label("Message Size")
+    @DataAmount
+    private int messageSize;
+
+    @Label("Hashed")
+    @Description("Whether the message was hashed before signing")
+    private boolean hashed;
+
+    /**
+     * @return a started event, or null if the event is not enabled in any recording.
+     */
+    public static SignEvent start() {
+        SignEvent event = new SignEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void end(int messageSize, boolean hashed) {
+        end();
+        if (shouldCommit()) {
+            this.messageSize = messageSize;
+            this.hashed = hashed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.neow3j.crypto.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the serialization of a raw transaction.
+ *
+ * <p>Started through {@link CryptoEvents#startTransactionSerialization()}.</p>
+ */
+@Name("io.neow3j.TransactionSerialization")
+@Label("Transaction Serialization")
+@Category({"neow3j", "Transaction"})
+@Description("Serialization of a raw transaction to bytes")
+public class TransactionSerializationEvent extends Event
+        implements CryptoEvents.TransactionSerialization {
+
+    @Label("Transaction Type")
+    private String transactionType;
+
+    @Label("Size")
+    @DataAmount
+    private int size;
+
+    @Label("With Scripts")
+    @Description("Whether the witness scripts were included")
+    private boolean withScripts;
+
+    /**
+     * @return a started event, or null if the event is not enabled in any recording.
+     */
+    public static TransactionSerializationEvent start() {
+        TransactionSerializationEvent event = new TransactionSerializationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void end(String transactionType, int size, boolean withScripts) {
+        end();
+        if (shouldCommit()) {
+            this.transactionType = transactionType;
+            this.size = size;
+            this.withScripts = withScripts;
+            commit();
+        }
+    }
+}
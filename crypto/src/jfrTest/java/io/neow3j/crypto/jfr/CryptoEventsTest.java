@@ -0,0 +1,70 @@
+package io.neow3j.crypto.jfr;
+
+import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.NEP2;
+import io.neow3j.crypto.ScryptParams;
+import io.neow3j.crypto.Sign;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class CryptoEventsTest {
+
+    private static final ECKeyPair KEY_PAIR = ECKeyPair.create(new BigInteger(
+            "9117f4bf9be717c9a90994326897f4243503accd06712162267e77f18b49c3a3", 16));
+
+    @Test
+    public void testSignEmitsEvent() throws Exception {
+        List<RecordedEvent> events = record("io.neow3j.Sign",
+                () -> Sign.signMessage(new byte[]{1, 2, 3}, KEY_PAIR));
+
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getInt("messageSize"), is(3));
+        assertThat(events.get(0).getBoolean("hashed"), is(true));
+    }
+
+    @Test
+    public void testNep2EmitsEvents() throws Exception {
+        ScryptParams params = new ScryptParams(256, 1, 1);
+        List<RecordedEvent> events = record("io.neow3j.Nep2", () -> {
+            String encrypted = NEP2.encrypt("neo", KEY_PAIR, params);
+            NEP2.decrypt("neo", encrypted, params);
+        });
+
+        assertThat(events.size(), is(2));
+        assertThat(events.get(0).getString("operation"), is("encrypt"));
+        assertThat(events.get(1).getString("operation"), is("decrypt"));
+        assertThat(events.get(1).getInt("n"), is(256));
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+
+    private static List<RecordedEvent> record(String eventName, Action action) throws Exception {
+        Path file = Files.createTempFile("neow3j", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            new File(file.toString()).delete();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.neow3j.crypto;
 import io.neow3j.crypto.exceptions.CipherException;
 import io.neow3j.crypto.exceptions.NEP2InvalidFormat;
 import io.neow3j.crypto.exceptions.NEP2InvalidPassphrase;
+import io.neow3j.crypto.jfr.CryptoEvents;
 import io.neow3j.utils.Keys;
 import io.neow3j.utils.Numeric;
 import org.bouncycastle.crypto.generators.SCrypt;
@@ -66,6 +67,19 @@ public class NEP2 {
     public static ECKeyPair decrypt(String password, String nep2String, ScryptParams scryptParams)
             throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
 
+        CryptoEvents.Nep2 event = CryptoEvents.startNep2("decrypt");
+        try {
+            return doDecrypt(password, nep2String, scryptParams);
+        } finally {
+            if (event != null) {
+                event.end(scryptParams.getN(), scryptParams.getR(), scryptParams.getP());
+            }
+        }
+    }
+
+    private static ECKeyPair doDecrypt(String password, String nep2String, ScryptParams scryptParams)
+            throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
+
         byte[] nep2Data = Base58.base58CheckDecode(nep2String);
 
         if (nep2Data.length != NEP2_PRIVATE_KEY_LENGTH || nep2Data[0] != NEP2_PREFIX_1 || nep2Data[1] != NEP2_PREFIX_2 || nep2Data[2] != NEP2_FLAGBYTE) {
@@ -137,6 +151,19 @@ public class NEP2 {
     public static String encrypt(String password, ECKeyPair ecKeyPair, int n, int p, int r)
             throws CipherException {
 
+        CryptoEvents.Nep2 event = CryptoEvents.startNep2("encrypt");
+        try {
+            return doEncrypt(password, ecKeyPair, n, p, r);
+        } finally {
+            if (event != null) {
+                event.end(n, r, p);
+            }
+        }
+    }
+
+    private static String doEncrypt(String password, ECKeyPair ecKeyPair, int n, int p, int r)
+            throws CipherException {
+
         byte[] addressHash = getAddressHash(ecKeyPair);
 
         byte[] derivedKey = generateDerivedScryptKey(
@@ -1,6 +1,7 @@
 package io.neow3j.crypto;
 
 import io.neow3j.constants.NeoConstants;
+import io.neow3j.crypto.jfr.CryptoEvents;
 import io.neow3j.crypto.transaction.RawTransaction;
 import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Keys;
@@ -34,6 +35,17 @@ public class Sign {
     }
 
     public static SignatureData signMessage(byte[] message, ECKeyPair keyPair, boolean needToHash) {
+        CryptoEvents.Sign event = CryptoEvents.startSign();
+        SignatureData signatureData = doSignMessage(message, keyPair, needToHash);
+        if (event != null) {
+            event.end(message.length, needToHash);
+        }
+        return signatureData;
+    }
+
+    private static SignatureData doSignMessage(byte[] message, ECKeyPair keyPair,
+            boolean needToHash) {
+
         BigInteger publicKey = keyPair.getPublicKey();
         byte[] messageHash;
         if (needToHash) {
@@ -0,0 +1,75 @@
+package io.neow3j.crypto.jfr;
+
+import io.neow3j.utils.JfrSupport;
+
+/**
+ * Starts the JFR events of the crypto module. The events are only emitted if the library was
+ * built with the event classes and runs on a JVM with JFR, see {@link JfrSupport}; otherwise
+ * all methods return null.
+ */
+public final class CryptoEvents {
+
+    private static final Factory FACTORY =
+            JfrSupport.load("io.neow3j.crypto.jfr.JfrCryptoEventFactory", Factory.class);
+
+    private CryptoEvents() {
+    }
+
+    /**
+     * @param operation "encrypt" or "decrypt".
+     * @return a started event, or null if the event is not recorded.
+     */
+    public static Nep2 startNep2(String operation) {
+        return FACTORY == null ? null : FACTORY.startNep2(operation);
+    }
+
+    /**
+     * @return a started event, or null if the event is not recorded.
+     */
+    public static Sign startSign() {
+        return FACTORY == null ? null : FACTORY.startSign();
+    }
+
+    /**
+     * @return a started event, or null if the event is not recorded.
+     */
+    public static TransactionSerialization startTransactionSerialization() {
+        return FACTORY == null ? null : FACTORY.startTransactionSerialization();
+    }
+
+    /**
+     * NEP-2 encryption or decryption of a private key.
+     */
+    public interface Nep2 {
+
+        void end(int n, int r, int p);
+    }
+
+    /**
+     * Creation of an ECDSA signature.
+     */
+    public interface Sign {
+
+        void end(int messageSize, boolean hashed);
+    }
+
+    /**
+     * Serialization of a transaction.
+     */
+    public interface TransactionSerialization {
+
+        void end(String transactionType, int size, boolean withScripts);
+    }
+
+    /**
+     * Creates the events. Implemented by the class that is built with the event classes.
+     */
+    public interface Factory {
+
+        Nep2 startNep2(String operation);
+
+        Sign startSign();
+
+        TransactionSerialization startTransactionSerialization();
+    }
+}
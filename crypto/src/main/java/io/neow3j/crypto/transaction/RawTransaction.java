@@ -1,11 +1,12 @@
 package io.neow3j.crypto.transaction;
 
 import io.neow3j.crypto.Hash;
+import io.neow3j.crypto.Hash256;
+import io.neow3j.crypto.jfr.CryptoEvents;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.model.types.TransactionType;
-import io.neow3j.utils.ArrayUtils;
 import io.neow3j.utils.Numeric;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,8 +90,11 @@ public abstract class RawTransaction extends NeoSerializable {
     }
 
     public String getTxId() {
-        byte[] hash = Hash.sha256(Hash.sha256(toArrayWithoutScripts()));
-        return Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(hash));
+        return getTxHash().toHexString();
+    }
+
+    public Hash256 getTxHash() {
+        return Hash256.fromLittleEndianArray(Hash.sha256(Hash.sha256(toArrayWithoutScripts())));
     }
 
     @Override
@@ -135,6 +139,16 @@ public abstract class RawTransaction extends NeoSerializable {
      * @return the serialized transaction
      */
     public byte[] toArrayWithoutScripts() {
+        CryptoEvents.TransactionSerialization event =
+                CryptoEvents.startTransactionSerialization();
+        byte[] bytes = serializeToArrayWithoutScripts();
+        if (event != null) {
+            event.end(String.valueOf(transactionType), bytes.length, false);
+        }
+        return bytes;
+    }
+
+    private byte[] serializeToArrayWithoutScripts() {
         try (ByteArrayOutputStream ms = new ByteArrayOutputStream()) {
             try (BinaryWriter writer = new BinaryWriter(ms)) {
                 serializeWithoutScripts(writer);
@@ -154,7 +168,13 @@ public abstract class RawTransaction extends NeoSerializable {
      */
     @Override
     public byte[] toArray() {
-        return super.toArray();
+        CryptoEvents.TransactionSerialization event =
+                CryptoEvents.startTransactionSerialization();
+        byte[] bytes = super.toArray();
+        if (event != null) {
+            event.end(String.valueOf(transactionType), bytes.length, true);
+        }
+        return bytes;
     }
 
     protected static abstract class Builder<T extends Builder<T>> {
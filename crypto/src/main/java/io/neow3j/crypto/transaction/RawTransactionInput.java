@@ -1,33 +1,65 @@
 package io.neow3j.crypto.transaction;
 
+import io.neow3j.crypto.Hash256;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
 import io.neow3j.io.NeoSerializable;
-import io.neow3j.utils.ArrayUtils;
-import io.neow3j.utils.BigIntegers;
-import io.neow3j.utils.Numeric;
 
 import java.io.IOException;
 import java.util.Objects;
 
 public class RawTransactionInput extends NeoSerializable {
 
+    /**
+     * @deprecated Use {@link #getPrevHash()} or {@link #getPrevTxHash()}. Assignments are
+     * still picked up when the input is serialized or compared.
+     */
+    @Deprecated
     public String prevHash;
 
     public int prevIndex;
 
+    private Hash256 prevTxHash;
+
+    // The value of prevHash from which prevTxHash was parsed or derived.
+    private String prevTxHashSource;
+
     public RawTransactionInput() {
     }
 
     public RawTransactionInput(String prevHash, int prevIndex) {
-        this.prevHash = prevHash;
+        this(Hash256.fromHexString(prevHash), prevIndex);
+    }
+
+    public RawTransactionInput(Hash256 prevHash, int prevIndex) {
+        setPrevTxHash(prevHash);
         this.prevIndex = prevIndex;
     }
 
+    /**
+     * @return the id of the previous transaction as hex string in big-endian order without
+     * prefix.
+     */
     public String getPrevHash() {
         return prevHash;
     }
 
+    public Hash256 getPrevTxHash() {
+        String hex = prevHash;
+        if (hex != prevTxHashSource) {
+            // The deprecated field was assigned.
+            prevTxHash = hex == null ? null : Hash256.fromHexString(hex);
+            prevTxHashSource = hex;
+        }
+        return prevTxHash;
+    }
+
+    private void setPrevTxHash(Hash256 hash) {
+        prevTxHash = hash;
+        prevHash = hash == null ? null : hash.toHexString();
+        prevTxHashSource = prevHash;
+    }
+
     public int getPrevIndex() {
         return prevIndex;
     }
@@ -38,12 +70,12 @@ public class RawTransactionInput extends NeoSerializable {
         if (!(o instanceof RawTransactionInput)) return false;
         RawTransactionInput that = (RawTransactionInput) o;
         return getPrevIndex() == that.getPrevIndex() &&
-                Objects.equals(getPrevHash(), that.getPrevHash());
+                Objects.equals(getPrevTxHash(), that.getPrevTxHash());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getPrevHash(), getPrevIndex());
+        return Objects.hash(getPrevTxHash(), getPrevIndex());
     }
 
     @Override
@@ -56,14 +88,13 @@ public class RawTransactionInput extends NeoSerializable {
 
     @Override
     public void deserialize(BinaryReader reader) throws IOException {
-        this.prevHash = Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(reader.readBytes(32)));
-        byte[] readBytes = reader.readBytes(2);
-        this.prevIndex = Numeric.toBigInt(ArrayUtils.reverseArray(readBytes)).intValue();
+        setPrevTxHash(Hash256.deserialize(reader));
+        this.prevIndex = reader.readShort() & 0xffff;
     }
 
     @Override
     public void serialize(BinaryWriter writer) throws IOException {
-        writer.write(ArrayUtils.reverseArray(Numeric.hexStringToByteArray(this.prevHash)));
-        writer.write(BigIntegers.toLittleEndianByteArrayZeroPadded(this.prevIndex, 2));
+        getPrevTxHash().serialize(writer);
+        writer.writeShort((short) this.prevIndex);
     }
 }
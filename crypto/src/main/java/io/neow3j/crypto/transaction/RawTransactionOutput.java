@@ -1,43 +1,77 @@
 package io.neow3j.crypto.transaction;
 
-import io.neow3j.utils.Keys;
+import io.neow3j.crypto.Hash160;
+import io.neow3j.crypto.Hash256;
 import io.neow3j.io.BinaryReader;
 import io.neow3j.io.BinaryWriter;
 import io.neow3j.io.NeoSerializable;
 import io.neow3j.model.types.NEOAsset;
-import io.neow3j.utils.ArrayUtils;
-import io.neow3j.utils.Numeric;
+import io.neow3j.utils.Fixed8;
 
 import java.io.IOException;
 import java.util.Objects;
 
 public class RawTransactionOutput extends NeoSerializable {
 
-    private String assetId;
+    private Hash256 assetId;
 
-    private String value;
+    private Fixed8 value;
 
-    private String address;
+    private Hash160 scriptHash;
 
     public RawTransactionOutput() {
     }
 
     public RawTransactionOutput(String assetId, String value, String address) {
+        this(assetId == null ? null : Hash256.fromHexString(assetId), value, address);
+    }
+
+    public RawTransactionOutput(Hash256 assetId, String value, String address) {
+        this(assetId, value, address == null ? null : Hash160.fromAddress(address));
+    }
+
+    public RawTransactionOutput(Hash256 assetId, String value, Hash160 scriptHash) {
+        this(assetId, value == null ? null : Fixed8.fromDecimal(value), scriptHash);
+    }
+
+    private RawTransactionOutput(Hash256 assetId, Fixed8 value, Hash160 scriptHash) {
         this.assetId = assetId;
         this.value = value;
-        this.address = address;
+        this.scriptHash = scriptHash;
     }
 
+    public static RawTransactionOutput fromFixed8(Hash256 assetId, Fixed8 value,
+            String address) {
+
+        return new RawTransactionOutput(assetId, value,
+                address == null ? null : Hash160.fromAddress(address));
+    }
+
+    /**
+     * @return the asset id as hex string in big-endian order without prefix.
+     */
     public String getAssetId() {
+        return assetId == null ? null : assetId.toHexString();
+    }
+
+    public Hash256 getAssetHash() {
         return assetId;
     }
 
     public String getValue() {
+        return value == null ? null : value.toString();
+    }
+
+    public Fixed8 getFixed8Value() {
         return value;
     }
 
     public String getAddress() {
-        return address;
+        return scriptHash == null ? null : scriptHash.toAddress();
+    }
+
+    public Hash160 getScriptHash() {
+        return scriptHash;
     }
 
     public static RawTransactionOutput createNeoTransactionOutput(String value, String address) {
@@ -49,14 +83,14 @@ public class RawTransactionOutput extends NeoSerializable {
         if (this == o) return true;
         if (!(o instanceof RawTransactionOutput)) return false;
         RawTransactionOutput that = (RawTransactionOutput) o;
-        return Objects.equals(getAssetId(), that.getAssetId()) &&
-                Objects.equals(getValue(), that.getValue()) &&
-                Objects.equals(getAddress(), that.getAddress());
+        return Objects.equals(assetId, that.assetId) &&
+                Objects.equals(value, that.value) &&
+                Objects.equals(scriptHash, that.scriptHash);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getAssetId(), getValue(), getAddress());
+        return Objects.hash(assetId, value, scriptHash);
     }
 
     @Override
@@ -64,22 +98,21 @@ public class RawTransactionOutput extends NeoSerializable {
         return "TransactionOutput{" +
                 "assetId='" + assetId + '\'' +
                 ", value='" + value + '\'' +
-                ", address='" + address + '\'' +
+                ", address='" + getAddress() + '\'' +
                 '}';
     }
 
     @Override
     public void deserialize(BinaryReader reader) throws IOException {
-        this.assetId = Numeric.toHexStringNoPrefix(ArrayUtils.reverseArray(reader.readBytes(32)));
-        this.value = Numeric.fromFixed8ToDecimal(ArrayUtils.reverseArray(reader.readBytes(8))).toString();
-        this.address = Keys.toAddress(reader.readBytes(20));
+        this.assetId = Hash256.deserialize(reader);
+        this.value = Fixed8.deserialize(reader);
+        this.scriptHash = Hash160.deserialize(reader);
     }
 
     @Override
     public void serialize(BinaryWriter writer) throws IOException {
-        writer.write(ArrayUtils.reverseArray(Numeric.hexStringToByteArray(assetId)));
-        byte[] value = Numeric.fromBigDecimalToFixed8Bytes(this.value);
-        writer.write(ArrayUtils.reverseArray(value));
-        writer.write(Keys.toScriptHash(this.address));
+        this.assetId.serialize(writer);
+        this.value.serialize(writer);
+        this.scriptHash.serialize(writer);
     }
 }
@@ -0,0 +1,43 @@
+package io.neow3j.crypto.transaction;
+
+import io.neow3j.crypto.Hash256;
+import io.neow3j.io.BinaryReader;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class RawTransactionInputTest {
+
+    private static final String TX1 = "4ee4af75d5aa60598fbae40ce86fb9a23ffec5a75dfa8b59d259d15f9e304319";
+    private static final String TX2 = "9f1b9a6f3593ff546a9dab147ba8ad520f7b6233bb0f8e75e05ad23d57ebd76e";
+
+    @Test
+    public void testSerializeAndDeserialize() throws Exception {
+        RawTransactionInput input = new RawTransactionInput(TX1, 258);
+
+        RawTransactionInput read = new BinaryReader(input.toArray())
+                .readSerializable(RawTransactionInput.class);
+
+        assertThat(read, is(input));
+        assertThat(read.getPrevHash(), is(TX1));
+        assertThat(read.getPrevTxHash(), is(Hash256.fromHexString(TX1)));
+        assertThat(read.getPrevIndex(), is(258));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testAssignedPrevHashFieldIsUsed() throws Exception {
+        RawTransactionInput input = new RawTransactionInput(TX1, 0);
+        assertThat(input.prevHash, is(TX1));
+
+        input.prevHash = TX2;
+
+        assertThat(input.getPrevHash(), is(TX2));
+        assertThat(input.getPrevTxHash(), is(Hash256.fromHexString(TX2)));
+        assertThat(input, is(new RawTransactionInput(TX2, 0)));
+        assertThat(input, is(not(new RawTransactionInput(TX1, 0))));
+        assertThat(input.toArray(), is(new RawTransactionInput(TX2, 0).toArray()));
+    }
+}
@@ -0,0 +1,181 @@
+package io.neow3j.crypto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.utils.Keys;
+
+import java.io.IOException;
+
+import static io.neow3j.crypto.HashEncoding.checkLength;
+import static io.neow3j.crypto.HashEncoding.getLong;
+import static io.neow3j.crypto.HashEncoding.hexStart;
+import static io.neow3j.crypto.HashEncoding.parseHex;
+import static io.neow3j.crypto.HashEncoding.putHex;
+import static io.neow3j.crypto.HashEncoding.putLong;
+
+/**
+ * Immutable 20 byte hash, i.e. the script hash of an account or contract.
+ *
+ * <p>The hash is held in two longs and an int in big-endian order, which is the order in which
+ * contract script hashes are usually displayed. Addresses and the wire format contain script
+ * hashes in little-endian order. In JSON, a hash is represented by its hex string without
+ * prefix. A {@code 0x} prefix is accepted when parsing.</p>
+ */
+public final class Hash160 implements Comparable<Hash160> {
+
+    public static final int LENGTH = 20;
+
+    public static final Hash160 ZERO = new Hash160(0, 0, 0);
+
+    private final long l0;
+    private final long l1;
+    private final int i2;
+
+    private Hash160(long l0, long l1, int i2) {
+        this.l0 = l0;
+        this.l1 = l1;
+        this.i2 = i2;
+    }
+
+    /**
+     * @param hex the hash as hex string in big-endian order, with or without 0x prefix.
+     * @return the hash.
+     */
+    @JsonCreator
+    public static Hash160 fromHexString(String hex) {
+        int s = hexStart(hex, LENGTH);
+        return new Hash160(parseHex(hex, s, 16), parseHex(hex, s + 16, 16),
+                (int) parseHex(hex, s + 32, 8));
+    }
+
+    /**
+     * @param bytes the hash in big-endian order.
+     * @return the hash.
+     */
+    public static Hash160 fromArray(byte[] bytes) {
+        checkLength(bytes, LENGTH);
+        return new Hash160(getLong(bytes, 0, 8, false), getLong(bytes, 8, 8, false),
+                (int) getLong(bytes, 16, 4, false));
+    }
+
+    /**
+     * @param bytes the hash in little-endian order, e.g. as returned by
+     *              {@link Keys#toScriptHash(String)}.
+     * @return the hash.
+     */
+    public static Hash160 fromLittleEndianArray(byte[] bytes) {
+        checkLength(bytes, LENGTH);
+        return new Hash160(getLong(bytes, 12, 8, true), getLong(bytes, 4, 8, true),
+                (int) getLong(bytes, 0, 4, true));
+    }
+
+    /**
+     * @param address a NEO address.
+     * @return the script hash of the address.
+     * @throws IllegalArgumentException if the address is not valid.
+     */
+    public static Hash160 fromAddress(String address) {
+        return fromLittleEndianArray(Keys.toScriptHash(address));
+    }
+
+    /**
+     * @param script a verification or contract script.
+     * @return the script hash of the script.
+     */
+    public static Hash160 fromScript(byte[] script) {
+        return fromLittleEndianArray(Hash.sha256AndThenRipemd160(script));
+    }
+
+    /**
+     * Reads a hash in little-endian order.
+     */
+    public static Hash160 deserialize(BinaryReader reader) throws IOException {
+        int i2 = reader.readInt();
+        long l1 = reader.readLong();
+        long l0 = reader.readLong();
+        return new Hash160(l0, l1, i2);
+    }
+
+    /**
+     * Writes the hash in little-endian order.
+     */
+    public void serialize(BinaryWriter writer) throws IOException {
+        writer.writeInt(i2);
+        writer.writeLong(l1);
+        writer.writeLong(l0);
+    }
+
+    /**
+     * @return the hash in big-endian order.
+     */
+    public byte[] toArray() {
+        byte[] bytes = new byte[LENGTH];
+        putLong(bytes, 0, l0, 8, false);
+        putLong(bytes, 8, l1, 8, false);
+        putLong(bytes, 16, i2, 4, false);
+        return bytes;
+    }
+
+    /**
+     * @return the hash in little-endian order.
+     */
+    public byte[] toLittleEndianArray() {
+        byte[] bytes = new byte[LENGTH];
+        putLong(bytes, 12, l0, 8, true);
+        putLong(bytes, 4, l1, 8, true);
+        putLong(bytes, 0, i2, 4, true);
+        return bytes;
+    }
+
+    /**
+     * @return the address with this script hash.
+     */
+    public String toAddress() {
+        return Keys.toAddress(toLittleEndianArray());
+    }
+
+    /**
+     * @return the hash as hex string in big-endian order without prefix.
+     */
+    @JsonValue
+    public String toHexString() {
+        char[] hex = new char[LENGTH * 2];
+        putHex(hex, 0, l0, 16);
+        putHex(hex, 16, l1, 16);
+        putHex(hex, 32, i2, 8);
+        return new String(hex);
+    }
+
+    @Override
+    public int compareTo(Hash160 o) {
+        int c = Long.compareUnsigned(l0, o.l0);
+        if (c == 0) {
+            c = Long.compareUnsigned(l1, o.l1);
+        }
+        if (c == 0) {
+            c = Integer.compareUnsigned(i2, o.i2);
+        }
+        return c;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Hash160)) return false;
+        Hash160 that = (Hash160) o;
+        return l0 == that.l0 && l1 == that.l1 && i2 == that.i2;
+    }
+
+    @Override
+    public int hashCode() {
+        // The bytes of a hash are uniformly distributed, so a few of them suffice.
+        return Long.hashCode(l0) ^ i2;
+    }
+
+    @Override
+    public String toString() {
+        return toHexString();
+    }
+}
@@ -0,0 +1,166 @@
+package io.neow3j.crypto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+
+import java.io.IOException;
+
+import static io.neow3j.crypto.HashEncoding.checkLength;
+import static io.neow3j.crypto.HashEncoding.getLong;
+import static io.neow3j.crypto.HashEncoding.hexStart;
+import static io.neow3j.crypto.HashEncoding.parseHex;
+import static io.neow3j.crypto.HashEncoding.putHex;
+import static io.neow3j.crypto.HashEncoding.putLong;
+
+/**
+ * Immutable 32 byte hash, e.g. a transaction id, block hash or asset id.
+ *
+ * <p>The hash is held in four longs in big-endian order, which is the order in which NEO nodes
+ * display hashes in JSON. On the wire, hashes are written in little-endian order, as done by
+ * {@link #serialize(BinaryWriter)}. In JSON, a hash is represented by its hex string without
+ * prefix. A {@code 0x} prefix is accepted when parsing.</p>
+ */
+public final class Hash256 implements Comparable<Hash256> {
+
+    public static final int LENGTH = 32;
+
+    public static final Hash256 ZERO = new Hash256(0, 0, 0, 0);
+
+    private final long l0;
+    private final long l1;
+    private final long l2;
+    private final long l3;
+
+    private Hash256(long l0, long l1, long l2, long l3) {
+        this.l0 = l0;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.l3 = l3;
+    }
+
+    /**
+     * @param hex the hash as hex string in big-endian order, with or without 0x prefix.
+     * @return the hash.
+     */
+    @JsonCreator
+    public static Hash256 fromHexString(String hex) {
+        int s = hexStart(hex, LENGTH);
+        return new Hash256(parseHex(hex, s, 16), parseHex(hex, s + 16, 16),
+                parseHex(hex, s + 32, 16), parseHex(hex, s + 48, 16));
+    }
+
+    /**
+     * @param bytes the hash in big-endian order.
+     * @return the hash.
+     */
+    public static Hash256 fromArray(byte[] bytes) {
+        checkLength(bytes, LENGTH);
+        return new Hash256(getLong(bytes, 0, 8, false), getLong(bytes, 8, 8, false),
+                getLong(bytes, 16, 8, false), getLong(bytes, 24, 8, false));
+    }
+
+    /**
+     * @param bytes the hash in little-endian order, e.g. as returned by
+     *              {@link Hash#sha256(byte[])}.
+     * @return the hash.
+     */
+    public static Hash256 fromLittleEndianArray(byte[] bytes) {
+        checkLength(bytes, LENGTH);
+        return new Hash256(getLong(bytes, 24, 8, true), getLong(bytes, 16, 8, true),
+                getLong(bytes, 8, 8, true), getLong(bytes, 0, 8, true));
+    }
+
+    /**
+     * Reads a hash in little-endian order.
+     */
+    public static Hash256 deserialize(BinaryReader reader) throws IOException {
+        long l3 = reader.readLong();
+        long l2 = reader.readLong();
+        long l1 = reader.readLong();
+        long l0 = reader.readLong();
+        return new Hash256(l0, l1, l2, l3);
+    }
+
+    /**
+     * Writes the hash in little-endian order.
+     */
+    public void serialize(BinaryWriter writer) throws IOException {
+        writer.writeLong(l3);
+        writer.writeLong(l2);
+        writer.writeLong(l1);
+        writer.writeLong(l0);
+    }
+
+    /**
+     * @return the hash in big-endian order.
+     */
+    public byte[] toArray() {
+        byte[] bytes = new byte[LENGTH];
+        putLong(bytes, 0, l0, 8, false);
+        putLong(bytes, 8, l1, 8, false);
+        putLong(bytes, 16, l2, 8, false);
+        putLong(bytes, 24, l3, 8, false);
+        return bytes;
+    }
+
+    /**
+     * @return the hash in little-endian order.
+     */
+    public byte[] toLittleEndianArray() {
+        byte[] bytes = new byte[LENGTH];
+        putLong(bytes, 24, l0, 8, true);
+        putLong(bytes, 16, l1, 8, true);
+        putLong(bytes, 8, l2, 8, true);
+        putLong(bytes, 0, l3, 8, true);
+        return bytes;
+    }
+
+    /**
+     * @return the hash as hex string in big-endian order without prefix.
+     */
+    @JsonValue
+    public String toHexString() {
+        char[] hex = new char[LENGTH * 2];
+        putHex(hex, 0, l0, 16);
+        putHex(hex, 16, l1, 16);
+        putHex(hex, 32, l2, 16);
+        putHex(hex, 48, l3, 16);
+        return new String(hex);
+    }
+
+    @Override
+    public int compareTo(Hash256 o) {
+        int c = Long.compareUnsigned(l0, o.l0);
+        if (c == 0) {
+            c = Long.compareUnsigned(l1, o.l1);
+        }
+        if (c == 0) {
+            c = Long.compareUnsigned(l2, o.l2);
+        }
+        if (c == 0) {
+            c = Long.compareUnsigned(l3, o.l3);
+        }
+        return c;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Hash256)) return false;
+        Hash256 that = (Hash256) o;
+        return l0 == that.l0 && l1 == that.l1 && l2 == that.l2 && l3 == that.l3;
+    }
+
+    @Override
+    public int hashCode() {
+        // The bytes of a hash are uniformly distributed, so a few of them suffice.
+        return Long.hashCode(l3 ^ l0);
+    }
+
+    @Override
+    public String toString() {
+        return toHexString();
+    }
+}
@@ -0,0 +1,84 @@
+package io.neow3j.crypto;
+
+import io.neow3j.utils.HexCodec;
+
+/**
+ * Conversions between the hex and byte representations of hashes and the longs in which
+ * {@link Hash160} and {@link Hash256} store them.
+ */
+final class HashEncoding {
+
+    private HashEncoding() {
+    }
+
+    /**
+     * Checks the length of a hex string with optional 0x prefix.
+     *
+     * @return the index of the first hex digit.
+     */
+    static int hexStart(String hex, int byteLength) {
+        if (hex == null) {
+            throw new IllegalArgumentException("Hash must not be null.");
+        }
+        int start = hex.length() > 1 && hex.charAt(0) == '0' && hex.charAt(1) == 'x' ? 2 : 0;
+        if (hex.length() - start != byteLength * 2) {
+            throw new IllegalArgumentException("Hash must be " + byteLength + " bytes long but "
+                    + "was " + (hex.length() - start) / 2.0 + " bytes.");
+        }
+        return start;
+    }
+
+    /**
+     * Parses an even number of {@code digits} hex digits starting at {@code from} as a
+     * big-endian number.
+     */
+    static long parseHex(String hex, int from, int digits) {
+        long value = 0;
+        for (int i = from; i < from + digits; i += 2) {
+            value = (value << 8) | HexCodec.decodeByte(hex, i);
+        }
+        return value;
+    }
+
+    /**
+     * Writes the lowest {@code digits} hex digits of the value to {@code out}, where
+     * {@code digits} is even.
+     */
+    static void putHex(char[] out, int pos, long value, int digits) {
+        for (int i = pos + digits - 2; i >= pos; i -= 2) {
+            HexCodec.encodeByte((int) value, out, i);
+            value >>>= 8;
+        }
+    }
+
+    static void checkLength(byte[] bytes, int byteLength) {
+        if (bytes == null || bytes.length != byteLength) {
+            throw new IllegalArgumentException("Hash must be " + byteLength + " bytes long.");
+        }
+    }
+
+    /**
+     * Reads {@code count} bytes starting at {@code from} as a big-endian number, or as a
+     * little-endian number if {@code littleEndian} is set.
+     */
+    static long getLong(byte[] bytes, int from, int count, boolean littleEndian) {
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            int index = littleEndian ? from + count - 1 - i : from + i;
+            value = (value << 8) | (bytes[index] & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * Writes the lowest {@code count} bytes of the value to {@code out} in big-endian order,
+     * or in little-endian order if {@code littleEndian} is set.
+     */
+    static void putLong(byte[] out, int from, long value, int count, boolean littleEndian) {
+        for (int i = count - 1; i >= 0; i--) {
+            int index = littleEndian ? from + count - 1 - i : from + i;
+            out[index] = (byte) value;
+            value >>>= 8;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.neow3j.io;
+
+import io.neow3j.utils.HexCodec;
+
+import java.io.InputStream;
+
+/**
+ * Input stream over the bytes encoded in a hex string.
+ *
+ * <p>The bytes are decoded as they are read, so that e.g. a raw transaction or block returned
+ * by a node can be deserialized with a {@link BinaryReader} without first decoding the whole
+ * string into a byte array. A 0x prefix is skipped.</p>
+ */
+public class HexInputStream extends InputStream {
+
+    private final CharSequence hex;
+    private final int end;
+    private int position;
+    private int mark;
+
+    /**
+     * @param hex the hex string, with or without 0x prefix.
+     * @throws IllegalArgumentException if the string has an odd number of hex digits.
+     */
+    public HexInputStream(CharSequence hex) {
+        this(hex, HexCodec.hexStart(hex), hex.length());
+    }
+
+    /**
+     * @param hex   the hex string.
+     * @param start the index of the first hex digit to read.
+     * @param end   the index after the last hex digit to read.
+     * @throws IllegalArgumentException if the range has an odd number of hex digits.
+     */
+    public HexInputStream(CharSequence hex, int start, int end) {
+        if (start < 0 || end > hex.length() || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of "
+                    + "bounds for length " + hex.length() + ".");
+        }
+        if ((end - start) % 2 != 0) {
+            throw new IllegalArgumentException("Hex string must have an even number of "
+                    + "characters but had " + (end - start) + ".");
+        }
+        this.hex = hex;
+        this.end = end;
+        this.position = start;
+        this.mark = start;
+    }
+
+    @Override
+    public int read() {
+        if (position >= end) {
+            return -1;
+        }
+        int value = HexCodec.decodeByte(hex, position);
+        position += 2;
+        return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (position >= end) {
+            return -1;
+        }
+        int chars = Math.min(len * 2, end - position);
+        int read = HexCodec.decode(hex, position, position + chars, b, off);
+        position += chars;
+        return read;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = Math.max(0, Math.min(n, available()));
+        position += (int) skipped * 2;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (end - position) / 2;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        mark = position;
+    }
+
+    @Override
+    public synchronized void reset() {
+        position = mark;
+    }
+}
@@ -33,6 +33,18 @@ public interface NeoSerializableInterface {
         }
     }
 
+    /**
+     * Deserializes an object from its hex representation, e.g. a raw transaction, decoding the
+     * hex string while reading instead of decoding it into a byte array first.
+     */
+    static <T extends NeoSerializable> T fromHex(CharSequence hex, Class<T> t) throws InstantiationException, IllegalAccessException {
+        try (BinaryReader reader = new BinaryReader(new HexInputStream(hex))) {
+            return reader.readSerializable(t);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
     static <T extends NeoSerializable> List<T> fromAsList(byte[] value, Class<T> t) throws InstantiationException, IllegalAccessException {
         try (ByteArrayInputStream ms = new ByteArrayInputStream(value)) {
             try (BinaryReader reader = new BinaryReader(ms)) {
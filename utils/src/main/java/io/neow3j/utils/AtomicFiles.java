@@ -0,0 +1,61 @@
+package io.neow3j.utils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Durable replacement of files by a temporary file that was written and synced to disk before.
+ */
+public final class AtomicFiles {
+
+    private static final boolean WINDOWS =
+            System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+
+    private AtomicFiles() {
+    }
+
+    /**
+     * Atomically renames the source file to the target file and syncs the directory of the
+     * target file, so that the rename survives a crash. The source file must be in the same
+     * directory as the target file and must have been synced to disk.
+     *
+     * @param source the temporary file.
+     * @param target the file to replace.
+     * @throws AtomicMoveNotSupportedException if the file system can not rename atomically. The
+     *                                         source file is deleted in that case.
+     * @throws IOException                     if the file can not be renamed or the directory
+     *                                         can not be synced.
+     */
+    public static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.deleteIfExists(source);
+            throw e;
+        }
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Syncs the entries of the directory, e.g. a created or renamed file, to disk. Does nothing
+     * on Windows, where directories can not be opened and NTFS journals renames.
+     *
+     * @param directory the directory.
+     * @throws IOException if the directory can not be synced.
+     */
+    public static void syncDirectory(Path directory) throws IOException {
+        if (WINDOWS) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+}
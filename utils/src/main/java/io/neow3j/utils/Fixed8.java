@@ -0,0 +1,261 @@
+package io.neow3j.utils;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Immutable fixed point number with 8 decimals, as used for asset amounts and fees.
+ *
+ * <p>The number is held in a long counting units of 10^-8, which is also its wire format.
+ * Arithmetic is exact and throws an {@link ArithmeticException} on overflow instead of
+ * wrapping around. In JSON, a Fixed8 is represented by its plain decimal string, e.g.
+ * {@code "28056.999"}.</p>
+ */
+public final class Fixed8 implements Comparable<Fixed8> {
+
+    public static final int DECIMALS = 8;
+
+    public static final long FACTOR = 100_000_000L;
+
+    public static final Fixed8 ZERO = new Fixed8(0);
+
+    public static final Fixed8 ONE = new Fixed8(FACTOR);
+
+    public static final Fixed8 MAX_VALUE = new Fixed8(Long.MAX_VALUE);
+
+    public static final Fixed8 MIN_VALUE = new Fixed8(Long.MIN_VALUE);
+
+    private final long value;
+
+    private Fixed8(long value) {
+        this.value = value;
+    }
+
+    /**
+     * @param value the number in units of 10^-8.
+     * @return the Fixed8.
+     */
+    public static Fixed8 fromRawValue(long value) {
+        return value == 0 ? ZERO : new Fixed8(value);
+    }
+
+    /**
+     * Converts a decimal number. Decimals beyond the eighth are truncated, as done by
+     * {@link Numeric#fromDecimalToFixed8(BigDecimal)}.
+     *
+     * @param value the decimal number.
+     * @return the Fixed8.
+     * @throws IllegalArgumentException if the number is out of the range of a Fixed8.
+     */
+    public static Fixed8 fromDecimal(BigDecimal value) {
+        return fromDecimal(value, RoundingMode.DOWN);
+    }
+
+    /**
+     * Converts a decimal number, rounding decimals beyond the eighth with the given mode.
+     *
+     * @param value    the decimal number.
+     * @param rounding the rounding mode.
+     * @return the Fixed8.
+     * @throws IllegalArgumentException if the number is out of the range of a Fixed8.
+     */
+    public static Fixed8 fromDecimal(BigDecimal value, RoundingMode rounding) {
+        BigInteger unscaled = value.setScale(DECIMALS, rounding).unscaledValue();
+        if (unscaled.bitLength() > 63) {
+            throw new IllegalArgumentException("Given number " + value + " is out of the range "
+                    + "of a Fixed8 number.");
+        }
+        return fromRawValue(unscaled.longValue());
+    }
+
+    /**
+     * Converts a decimal number, rounding decimals beyond the eighth up. A Fixed8 that is at
+     * least this value is then at least the decimal number as well, so it can replace the
+     * decimal number as a required amount.
+     *
+     * @param value the decimal number.
+     * @return the smallest Fixed8 that is not less than the number.
+     * @throws IllegalArgumentException if the number is out of the range of a Fixed8.
+     */
+    public static Fixed8 ceil(BigDecimal value) {
+        return fromDecimal(value, RoundingMode.CEILING);
+    }
+
+    /**
+     * Parses a decimal string, e.g. {@code "10"} or {@code "-0.5"}. Decimals beyond the eighth
+     * are truncated. Plain decimal strings are parsed without intermediate objects, strings in
+     * scientific notation are parsed with {@link BigDecimal}.
+     *
+     * @param value the decimal string.
+     * @return the Fixed8.
+     * @throws NumberFormatException    if the string is not a decimal number.
+     * @throws IllegalArgumentException if the number is out of the range of a Fixed8.
+     */
+    @JsonCreator
+    public static Fixed8 fromDecimal(String value) {
+        int length = value.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            i++;
+        }
+        // The number is accumulated negatively, so that Long.MIN_VALUE can be represented.
+        long result = 0;
+        int digits = 0;
+        int decimals = -1;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.' && decimals < 0) {
+                decimals = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                if (c == 'e' || c == 'E') {
+                    return fromDecimal(new BigDecimal(value));
+                }
+                throw new NumberFormatException("Invalid character '" + c + "' in decimal number "
+                        + value + ".");
+            }
+            digits++;
+            if (decimals >= 0 && ++decimals > DECIMALS) {
+                continue;
+            }
+            result = accumulate(result, 10, c - '0', value);
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("No digits in decimal number " + value + ".");
+        }
+        for (int d = Math.max(decimals, 0); d < DECIMALS; d++) {
+            result = accumulate(result, 10, 0, value);
+        }
+        if (!negative) {
+            if (result == Long.MIN_VALUE) {
+                throw outOfRange(value);
+            }
+            result = -result;
+        }
+        return fromRawValue(result);
+    }
+
+    private static long accumulate(long result, int radix, int digit, String value) {
+        if (result < Long.MIN_VALUE / radix) {
+            throw outOfRange(value);
+        }
+        result *= radix;
+        if (result < Long.MIN_VALUE + digit) {
+            throw outOfRange(value);
+        }
+        return result - digit;
+    }
+
+    private static IllegalArgumentException outOfRange(String value) {
+        return new IllegalArgumentException("Given number " + value + " is out of the range of "
+                + "a Fixed8 number.");
+    }
+
+    /**
+     * Reads a Fixed8 in its wire format, i.e. a little-endian long.
+     */
+    public static Fixed8 deserialize(BinaryReader reader) throws IOException {
+        return fromRawValue(reader.readLong());
+    }
+
+    /**
+     * Writes this number in its wire format, i.e. a little-endian long.
+     */
+    public void serialize(BinaryWriter writer) throws IOException {
+        writer.writeLong(value);
+    }
+
+    /**
+     * @return the number in units of 10^-8.
+     */
+    public long getRawValue() {
+        return value;
+    }
+
+    /**
+     * @return the number as a decimal without trailing zeros, with the same value and scale as
+     * {@link Numeric#fromFixed8ToDecimal(BigInteger)}.
+     */
+    public BigDecimal toBigDecimal() {
+        BigDecimal decimal = BigDecimal.valueOf(value, DECIMALS).stripTrailingZeros();
+        return decimal.scale() < 0 ? decimal.setScale(0) : decimal;
+    }
+
+    public Fixed8 add(Fixed8 other) {
+        return fromRawValue(Math.addExact(value, other.value));
+    }
+
+    public Fixed8 subtract(Fixed8 other) {
+        return fromRawValue(Math.subtractExact(value, other.value));
+    }
+
+    public Fixed8 multiply(long factor) {
+        return fromRawValue(Math.multiplyExact(value, factor));
+    }
+
+    public Fixed8 negate() {
+        return fromRawValue(Math.negateExact(value));
+    }
+
+    public int signum() {
+        return Long.signum(value);
+    }
+
+    @Override
+    public int compareTo(Fixed8 o) {
+        return Long.compare(value, o.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Fixed8)) return false;
+        return value == ((Fixed8) o).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    /**
+     * @return the number as plain decimal string without trailing zeros, e.g. {@code "10"} or
+     * {@code "0.00000001"}.
+     */
+    @JsonValue
+    @Override
+    public String toString() {
+        // Long.MIN_VALUE has no positive counterpart, so the digits are taken from the negative.
+        long negative = value > 0 ? -value : value;
+        long integer = -(negative / FACTOR);
+        long fraction = -(negative % FACTOR);
+        StringBuilder sb = new StringBuilder(28);
+        if (value < 0) {
+            sb.append('-');
+        }
+        sb.append(integer);
+        if (fraction != 0) {
+            int end = DECIMALS;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                end--;
+            }
+            sb.append('.');
+            for (int d = Long.toString(fraction).length(); d < end; d++) {
+                sb.append('0');
+            }
+            sb.append(fraction);
+        }
+        return sb.toString();
+    }
+}
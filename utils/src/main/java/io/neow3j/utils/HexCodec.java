@@ -0,0 +1,216 @@
+package io.neow3j.utils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Table-driven hex encoder and decoder.
+ *
+ * <p>Encoding looks up both characters of a byte in a table instead of formatting it, and
+ * decoding looks up the value of a character instead of calling {@link Character#digit(char,
+ * int)}. Besides the convenience methods working on whole arrays and strings, there are
+ * variants that encode into or decode into a given range of a {@code char[]}, {@code byte[]}
+ * or {@link ByteBuffer}, so that callers can reuse their buffers.</p>
+ *
+ * <p>Encoded hex is lower case. Decoding accepts upper and lower case digits and throws an
+ * {@link IllegalArgumentException} on any other character.</p>
+ */
+public final class HexCodec {
+
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    /** The two hex characters of every byte value, high character first. */
+    private static final char[] BYTE_TO_CHARS = new char[256 * 2];
+
+    /** The value of every ASCII character that is a hex digit, -1 for all others. */
+    private static final byte[] CHAR_TO_NIBBLE = new byte[128];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            BYTE_TO_CHARS[i * 2] = DIGITS[i >>> 4];
+            BYTE_TO_CHARS[i * 2 + 1] = DIGITS[i & 0xf];
+        }
+        for (int i = 0; i < CHAR_TO_NIBBLE.length; i++) {
+            CHAR_TO_NIBBLE[i] = (byte) Character.digit((char) i, 16);
+        }
+    }
+
+    private HexCodec() {
+    }
+
+    /**
+     * @return the bytes as hex string without prefix.
+     */
+    public static String encode(byte[] bytes) {
+        return encode(bytes, 0, bytes.length, false);
+    }
+
+    /**
+     * @return the given range of bytes as hex string, prefixed with 0x if {@code withPrefix} is
+     * set.
+     */
+    public static String encode(byte[] bytes, int offset, int length, boolean withPrefix) {
+        int start = withPrefix ? 2 : 0;
+        char[] hex = new char[start + length * 2];
+        if (withPrefix) {
+            hex[0] = '0';
+            hex[1] = 'x';
+        }
+        encode(bytes, offset, length, hex, start);
+        return new String(hex);
+    }
+
+    /**
+     * Encodes the remaining bytes of the buffer without changing its position.
+     *
+     * @return the bytes as hex string without prefix.
+     */
+    public static String encode(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            return encode(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    false);
+        }
+        char[] hex = new char[length * 2];
+        for (int i = 0; i < length; i++) {
+            encodeByte(buffer.get(buffer.position() + i), hex, i * 2);
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Encodes the given range of bytes into {@code out}, starting at {@code outOffset}.
+     *
+     * @return the number of characters written, i.e. twice the number of bytes.
+     */
+    public static int encode(byte[] bytes, int offset, int length, char[] out, int outOffset) {
+        checkRange(bytes.length, offset, length);
+        checkRange(out.length, outOffset, length * 2);
+        for (int i = 0; i < length; i++) {
+            encodeByte(bytes[offset + i], out, outOffset + i * 2);
+        }
+        return length * 2;
+    }
+
+    /**
+     * Appends the given range of bytes to {@code out}.
+     */
+    public static void encode(byte[] bytes, int offset, int length, StringBuilder out) {
+        checkRange(bytes.length, offset, length);
+        out.ensureCapacity(out.length() + length * 2);
+        for (int i = offset; i < offset + length; i++) {
+            int index = (bytes[i] & 0xff) * 2;
+            out.append(BYTE_TO_CHARS[index]).append(BYTE_TO_CHARS[index + 1]);
+        }
+    }
+
+    /**
+     * Encodes the lowest byte of {@code b} into {@code out} at {@code pos} and {@code pos + 1}.
+     */
+    public static void encodeByte(int b, char[] out, int pos) {
+        int index = (b & 0xff) * 2;
+        out[pos] = BYTE_TO_CHARS[index];
+        out[pos + 1] = BYTE_TO_CHARS[index + 1];
+    }
+
+    /**
+     * Decodes a hex string with optional 0x prefix. Like
+     * {@link Numeric#hexStringToByteArray(String)}, a string of odd length is decoded as if it
+     * had a leading zero.
+     *
+     * @return the decoded bytes.
+     */
+    public static byte[] decode(CharSequence hex) {
+        int start = hexStart(hex);
+        int length = hex.length() - start;
+        byte[] bytes = new byte[(length + 1) / 2];
+        if (length % 2 != 0) {
+            bytes[0] = (byte) nibble(hex, start);
+            decode(hex, start + 1, hex.length(), bytes, 1);
+        } else {
+            decode(hex, start, hex.length(), bytes, 0);
+        }
+        return bytes;
+    }
+
+    /**
+     * Decodes the characters from {@code start} to {@code end} into {@code out}, starting at
+     * {@code outOffset}.
+     *
+     * @return the number of bytes written, i.e. half the number of characters.
+     * @throws IllegalArgumentException if the range has odd length or contains a character
+     *                                  that is not a hex digit.
+     */
+    public static int decode(CharSequence hex, int start, int end, byte[] out, int outOffset) {
+        int length = checkHexRange(hex, start, end);
+        checkRange(out.length, outOffset, length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = (byte) decodeByte(hex, start + i * 2);
+        }
+        return length;
+    }
+
+    /**
+     * Decodes the characters from {@code start} to {@code end} into the buffer at its current
+     * position and advances the position.
+     *
+     * @return the number of bytes written, i.e. half the number of characters.
+     * @throws IllegalArgumentException if the range has odd length or contains a character
+     *                                  that is not a hex digit.
+     */
+    public static int decode(CharSequence hex, int start, int end, ByteBuffer out) {
+        int length = checkHexRange(hex, start, end);
+        if (out.hasArray()) {
+            decode(hex, start, end, out.array(), out.arrayOffset() + out.position());
+            out.position(out.position() + length);
+            return length;
+        }
+        for (int i = 0; i < length; i++) {
+            out.put((byte) decodeByte(hex, start + i * 2));
+        }
+        return length;
+    }
+
+    /**
+     * Decodes the two characters at {@code index} and {@code index + 1}.
+     *
+     * @return the byte as value from 0 to 255.
+     * @throws IllegalArgumentException if one of the characters is not a hex digit.
+     */
+    public static int decodeByte(CharSequence hex, int index) {
+        return (nibble(hex, index) << 4) | nibble(hex, index + 1);
+    }
+
+    /**
+     * @return the index of the first hex digit, i.e. 2 if the string starts with 0x and 0
+     * otherwise.
+     */
+    public static int hexStart(CharSequence hex) {
+        return hex.length() > 1 && hex.charAt(0) == '0' && hex.charAt(1) == 'x' ? 2 : 0;
+    }
+
+    private static int nibble(CharSequence hex, int index) {
+        char c = hex.charAt(index);
+        int value = c < CHAR_TO_NIBBLE.length ? CHAR_TO_NIBBLE[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid hex character '" + c + "' at index "
+                    + index + ".");
+        }
+        return value;
+    }
+
+    private static int checkHexRange(CharSequence hex, int start, int end) {
+        checkRange(hex.length(), start, end - start);
+        if ((end - start) % 2 != 0) {
+            throw new IllegalArgumentException("Hex string must have an even number of "
+                    + "characters but had " + (end - start) + ".");
+        }
+        return (end - start) / 2;
+    }
+
+    private static void checkRange(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + "
+                    + length + ") out of bounds for length " + size + ".");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.neow3j.utils;
+
+/**
+ * Tells if Java Flight Recorder events can be emitted in the running JVM.
+ *
+ * <p>neow3j emits custom JFR events at a few key points (RPC calls, NEP-2 key derivation,
+ * signing, transaction serialization and block processing). The event classes extend
+ * {@code jdk.jfr.Event}, which is only present on JDK 11+ and OpenJDK 8u262+. They live in the
+ * {@code src/jfr/java} directories of the modules, which are only compiled if the JDK of the
+ * build has the {@code jdk.jfr} API, and are reached through a factory that is loaded with
+ * {@link #load(String, Class)}. The library therefore builds and runs without JFR.</p>
+ */
+public final class JfrSupport {
+
+    public static final boolean AVAILABLE = isJfrAvailable();
+
+    private JfrSupport() {
+    }
+
+    /**
+     * Creates the JFR event factory of a module.
+     *
+     * @param className the name of the factory class, which must have a public no-argument
+     *                  constructor.
+     * @param type      the interface of the factory.
+     * @return the factory, or null if JFR is not available or the library was built without
+     * the event classes.
+     */
+    public static <T> T load(String className, Class<T> type) {
+        if (!AVAILABLE) {
+            return null;
+        }
+        try {
+            Class<?> factory = Class.forName(className, true, type.getClassLoader());
+            return type.cast(factory.getConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JfrSupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
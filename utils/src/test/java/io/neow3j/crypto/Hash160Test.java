@@ -0,0 +1,87 @@
+package io.neow3j.crypto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Keys;
+import io.neow3j.utils.Numeric;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class Hash160Test {
+
+    private static final String ADDRESS = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+
+    private static final String SCRIPT_HASH = "23ba2703c53263e8d6e522dc32203339dcd8eee9";
+
+    @Test
+    public void testAddress() {
+        byte[] littleEndian = Keys.toScriptHash(ADDRESS);
+        Hash160 hash = Hash160.fromAddress(ADDRESS);
+        assertThat(hash.toLittleEndianArray(), is(littleEndian));
+        assertThat(hash.toArray(), is(ArrayUtils.reverseArray(littleEndian)));
+        assertThat(hash.toAddress(), is(ADDRESS));
+    }
+
+    @Test
+    public void testHexStringRoundTrip() {
+        Hash160 hash = Hash160.fromHexString(SCRIPT_HASH);
+        assertThat(hash.toHexString(), is(SCRIPT_HASH));
+        assertThat(Hash160.fromHexString("0x" + SCRIPT_HASH), is(hash));
+        assertThat(hash.toArray(), is(Numeric.hexStringToByteArray(SCRIPT_HASH)));
+        assertThat(Hash160.fromArray(hash.toArray()), is(hash));
+        assertThat(Hash160.fromLittleEndianArray(hash.toLittleEndianArray()), is(hash));
+        // The last four bytes are held in an int, check one with the sign bit set.
+        String negative = "00000000000000000000000000000000ffffff01";
+        assertThat(Hash160.fromHexString(negative).toHexString(), is(negative));
+        assertThat(Hash160.fromHexString(negative).compareTo(Hash160.ZERO), is(1));
+    }
+
+    @Test
+    public void testFromScript() {
+        byte[] script = Numeric.hexStringToByteArray(
+                "21031a6c6fbbdf02ca351745fa86b9ba5a9452d785ac4f7fc2b7548ca2a46c4fcf4aac");
+        assertThat(Hash160.fromScript(script).toLittleEndianArray(),
+                is(Hash.sha256AndThenRipemd160(script)));
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        Hash160 hash = Hash160.fromAddress(ADDRESS);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BinaryWriter writer = new BinaryWriter(out)) {
+            hash.serialize(writer);
+        }
+        assertThat(out.toByteArray(), is(Keys.toScriptHash(ADDRESS)));
+        assertThat(Hash160.deserialize(new BinaryReader(out.toByteArray())), is(hash));
+    }
+
+    @Test
+    public void testEqualsAndCompare() {
+        Hash160 a = Hash160.fromHexString(SCRIPT_HASH);
+        Hash160 b = Hash160.fromAddress(ADDRESS);
+        assertThat(a, is(not(b)));
+        assertThat(a.hashCode(), is(Hash160.fromHexString(SCRIPT_HASH).hashCode()));
+        assertThat(Hash160.ZERO.compareTo(a), is(lessThan(0)));
+    }
+
+    @Test
+    public void testJson() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Hash160 hash = Hash160.fromHexString(SCRIPT_HASH);
+        assertThat(mapper.writeValueAsString(hash), is("\"" + SCRIPT_HASH + "\""));
+        assertThat(mapper.readValue("\"0x" + SCRIPT_HASH + "\"", Hash160.class), is(hash));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidAddress() {
+        Hash160.fromAddress("AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8z");
+    }
+}
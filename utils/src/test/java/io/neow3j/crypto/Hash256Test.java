@@ -0,0 +1,91 @@
+package io.neow3j.crypto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import io.neow3j.utils.ArrayUtils;
+import io.neow3j.utils.Numeric;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class Hash256Test {
+
+    private static final String NEO_ID =
+            "c56f33fc6ecfcd0c225c4ab356fee59390af8560be0e930faebe74a6daff7c9b";
+
+    @Test
+    public void testHexStringRoundTrip() {
+        assertThat(Hash256.fromHexString(NEO_ID).toHexString(), is(NEO_ID));
+        assertThat(Hash256.fromHexString("0x" + NEO_ID), is(Hash256.fromHexString(NEO_ID)));
+        assertThat(Hash256.fromHexString(NEO_ID.toUpperCase()).toString(), is(NEO_ID));
+    }
+
+    @Test
+    public void testByteOrder() {
+        byte[] bigEndian = Numeric.hexStringToByteArray(NEO_ID);
+        Hash256 hash = Hash256.fromHexString(NEO_ID);
+        assertThat(hash.toArray(), is(bigEndian));
+        assertThat(hash.toLittleEndianArray(), is(ArrayUtils.reverseArray(bigEndian)));
+        assertThat(Hash256.fromArray(bigEndian), is(hash));
+        assertThat(Hash256.fromLittleEndianArray(ArrayUtils.reverseArray(bigEndian)), is(hash));
+    }
+
+    @Test
+    public void testSerializeMatchesReversedBytes() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BinaryWriter writer = new BinaryWriter(out)) {
+            Hash256.fromHexString(NEO_ID).serialize(writer);
+        }
+        byte[] expected = ArrayUtils.reverseArray(Numeric.hexStringToByteArray(NEO_ID));
+        assertThat(out.toByteArray(), is(expected));
+        assertThat(Hash256.deserialize(new BinaryReader(expected)).toHexString(), is(NEO_ID));
+    }
+
+    @Test
+    public void testEqualsAndCompare() {
+        Hash256 a = Hash256.fromHexString(NEO_ID);
+        Hash256 b = Hash256.fromHexString(
+                "602c79718b16e442de58778e148d0b1084e3b2dffd5de6b7b16cee7969282de7");
+        assertThat(a, is(Hash256.fromHexString(NEO_ID)));
+        assertThat(a.hashCode(), is(Hash256.fromHexString(NEO_ID).hashCode()));
+        assertThat(a, is(not(b)));
+        // Compared as unsigned big-endian numbers.
+        assertThat(a.compareTo(b), is(greaterThan(0)));
+        assertThat(Hash256.ZERO.compareTo(b), is(lessThan(0)));
+    }
+
+    @Test
+    public void testJson() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        List<Hash256> hashes = Arrays.asList(Hash256.fromHexString(NEO_ID), Hash256.ZERO);
+        String json = mapper.writeValueAsString(hashes);
+        assertThat(json, is("[\"" + NEO_ID + "\",\"" + Hash256.ZERO.toHexString() + "\"]"));
+        assertThat(Hash256.ZERO.toArray(), is(new byte[32]));
+        assertThat(mapper.readValue("\"0x" + NEO_ID + "\"", Hash256.class),
+                is(Hash256.fromHexString(NEO_ID)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongLength() {
+        Hash256.fromHexString(NEO_ID.substring(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCharacter() {
+        Hash256.fromHexString("z" + NEO_ID.substring(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongArrayLength() {
+        Hash256.fromArray(new byte[20]);
+    }
+}
@@ -0,0 +1,42 @@
+package io.neow3j.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class AtomicFilesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReplace() throws Exception {
+        Path target = folder.getRoot().toPath().resolve("file");
+        Files.write(target, "old".getBytes(StandardCharsets.US_ASCII));
+        Path source = folder.getRoot().toPath().resolve("file.tmp");
+        Files.write(source, "new".getBytes(StandardCharsets.US_ASCII));
+
+        AtomicFiles.replace(source, target);
+
+        assertThat(new String(Files.readAllBytes(target), StandardCharsets.US_ASCII), is("new"));
+        assertThat(Files.exists(source), is(false));
+    }
+
+    @Test
+    public void testReplaceCreatesTarget() throws Exception {
+        Path target = folder.getRoot().toPath().resolve("file");
+        Path source = folder.getRoot().toPath().resolve("file.tmp");
+        Files.write(source, "new".getBytes(StandardCharsets.US_ASCII));
+
+        AtomicFiles.replace(source, target);
+
+        assertThat(new String(Files.readAllBytes(target), StandardCharsets.US_ASCII), is("new"));
+    }
+}
@@ -0,0 +1,136 @@
+package io.neow3j.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.BinaryWriter;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public class Fixed8Test {
+
+    @Test
+    public void testFromDecimalString() {
+        assertThat(Fixed8.fromDecimal("10").getRawValue(), is(1_000_000_000L));
+        assertThat(Fixed8.fromDecimal("28056.999").getRawValue(), is(2_805_699_900_000L));
+        assertThat(Fixed8.fromDecimal("0.00000001").getRawValue(), is(1L));
+        assertThat(Fixed8.fromDecimal("-.5").getRawValue(), is(-50_000_000L));
+        assertThat(Fixed8.fromDecimal("+1.").getRawValue(), is(100_000_000L));
+        assertThat(Fixed8.fromDecimal("1E-8").getRawValue(), is(1L));
+        assertThat(Fixed8.fromDecimal("0"), is(Fixed8.ZERO));
+    }
+
+    @Test
+    public void testFromDecimalTruncatesLikeNumeric() {
+        for (String value : new String[]{"1.123456789", "-1.123456789", "0.000000009"}) {
+            assertThat(Fixed8.fromDecimal(value).getRawValue(),
+                    is(Numeric.fromDecimalToFixed8(value).longValueExact()));
+            assertThat(Fixed8.fromDecimal(new BigDecimal(value)),
+                    is(Fixed8.fromDecimal(value)));
+        }
+        assertThat(Fixed8.fromDecimal(new BigDecimal("0.000000001"), RoundingMode.CEILING)
+                .getRawValue(), is(1L));
+    }
+
+    @Test
+    public void testCeil() {
+        assertThat(Fixed8.ceil(new BigDecimal("0.000000001")).getRawValue(), is(1L));
+        assertThat(Fixed8.ceil(new BigDecimal("-0.000000001")), is(Fixed8.ZERO));
+        assertThat(Fixed8.ceil(new BigDecimal("1.5")), is(Fixed8.fromDecimal("1.5")));
+    }
+
+    @Test
+    public void testRange() {
+        assertThat(Fixed8.fromDecimal("92233720368.54775807"), is(Fixed8.MAX_VALUE));
+        assertThat(Fixed8.fromDecimal("-92233720368.54775808"), is(Fixed8.MIN_VALUE));
+        assertThat(Fixed8.MIN_VALUE.toString(), is("-92233720368.54775808"));
+        assertThat(Fixed8.fromDecimal(new BigDecimal("92233720368.54775807")),
+                is(Fixed8.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStringOutOfRange() {
+        Fixed8.fromDecimal("92233720368.54775808");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecimalOutOfRange() {
+        Fixed8.fromDecimal(new BigDecimal("-92233720368.54775809"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidString() {
+        Fixed8.fromDecimal("1.2.3");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testNoDigits() {
+        Fixed8.fromDecimal("-.");
+    }
+
+    @Test
+    public void testToString() {
+        assertThat(Fixed8.fromRawValue(1_000_000_000L).toString(), is("10"));
+        assertThat(Fixed8.fromRawValue(2_805_699_900_000L).toString(), is("28056.999"));
+        assertThat(Fixed8.fromRawValue(1L).toString(), is("0.00000001"));
+        assertThat(Fixed8.fromRawValue(-150_000_000L).toString(), is("-1.5"));
+        assertThat(Fixed8.ZERO.toString(), is("0"));
+    }
+
+    @Test
+    public void testToBigDecimalMatchesNumeric() {
+        for (long raw : new long[]{0L, 1L, 1_000_000_000L, 2_805_699_900_000L, Long.MAX_VALUE}) {
+            BigDecimal expected = Numeric.fromFixed8ToDecimal(BigInteger.valueOf(raw));
+            assertThat(Fixed8.fromRawValue(raw).toBigDecimal(), is(expected));
+        }
+    }
+
+    @Test
+    public void testArithmetic() {
+        Fixed8 a = Fixed8.fromDecimal("1.5");
+        Fixed8 b = Fixed8.fromDecimal("0.25");
+        assertThat(a.add(b), is(Fixed8.fromDecimal("1.75")));
+        assertThat(b.subtract(a), is(Fixed8.fromDecimal("-1.25")));
+        assertThat(a.multiply(3), is(Fixed8.fromDecimal("4.5")));
+        assertThat(a.negate().signum(), is(-1));
+        assertThat(b.compareTo(a), is(lessThan(0)));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testAddOverflow() {
+        Fixed8.MAX_VALUE.add(Fixed8.fromRawValue(1));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testMultiplyOverflow() {
+        Fixed8.MAX_VALUE.multiply(2);
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        Fixed8 value = Fixed8.fromDecimal("28056.999");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        value.serialize(new BinaryWriter(out));
+        byte[] expected = ArrayUtils.reverseArray(Numeric.fromBigDecimalToFixed8Bytes("28056.999"));
+        assertThat(out.toByteArray(), is(expected));
+
+        BinaryReader reader = new BinaryReader(new ByteArrayInputStream(expected));
+        assertThat(Fixed8.deserialize(reader), is(value));
+    }
+
+    @Test
+    public void testJson() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Fixed8 value = Fixed8.fromDecimal("0.1");
+        assertThat(mapper.writeValueAsString(value), is("\"0.1\""));
+        assertThat(mapper.readValue("\"0.1\"", Fixed8.class), is(value));
+    }
+}
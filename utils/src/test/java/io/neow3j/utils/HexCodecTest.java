@@ -0,0 +1,129 @@
+package io.neow3j.utils;
+
+import io.neow3j.io.BinaryReader;
+import io.neow3j.io.HexInputStream;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class HexCodecTest {
+
+    private static final byte[] BYTES = new byte[]{0x00, 0x01, 0x7f, (byte) 0x80, (byte) 0xab,
+            (byte) 0xff};
+
+    private static final String HEX = "00017f80abff";
+
+    @Test
+    public void testEncode() {
+        assertThat(HexCodec.encode(BYTES), is(HEX));
+        assertThat(HexCodec.encode(BYTES, 2, 3, true), is("0x7f80ab"));
+        assertThat(HexCodec.encode(new byte[0]), is(""));
+
+        char[] out = new char[8];
+        assertThat(HexCodec.encode(BYTES, 4, 2, out, 2), is(4));
+        assertThat(new String(out, 2, 4), is("abff"));
+
+        StringBuilder sb = new StringBuilder("x");
+        HexCodec.encode(BYTES, 0, 2, sb);
+        assertThat(sb.toString(), is("x0001"));
+    }
+
+    @Test
+    public void testEncodeMatchesFormat() {
+        byte[] all = new byte[256];
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < all.length; i++) {
+            all[i] = (byte) i;
+            expected.append(String.format("%02x", i));
+        }
+        assertThat(HexCodec.encode(all), is(expected.toString()));
+        assertThat(HexCodec.decode(expected.toString().toUpperCase()), is(all));
+    }
+
+    @Test
+    public void testEncodeByteBuffer() {
+        ByteBuffer heap = ByteBuffer.wrap(BYTES, 1, 3);
+        assertThat(HexCodec.encode(heap), is("017f80"));
+        assertThat(heap.position(), is(1));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(BYTES.length);
+        direct.put(BYTES).flip();
+        assertThat(HexCodec.encode(direct), is(HEX));
+        assertThat(direct.position(), is(0));
+    }
+
+    @Test
+    public void testDecode() {
+        assertThat(HexCodec.decode(HEX), is(BYTES));
+        assertThat(HexCodec.decode("0x" + HEX), is(BYTES));
+        assertThat(HexCodec.decode("0xabc"), is(new byte[]{0x0a, (byte) 0xbc}));
+        assertThat(HexCodec.decode(""), is(new byte[0]));
+
+        byte[] out = new byte[4];
+        assertThat(HexCodec.decode(new StringBuilder("xx7F80"), 2, 6, out, 1), is(2));
+        assertThat(out, is(new byte[]{0x00, 0x7f, (byte) 0x80, 0x00}));
+    }
+
+    @Test
+    public void testDecodeByteBuffer() {
+        ByteBuffer heap = ByteBuffer.allocate(8);
+        heap.position(1);
+        assertThat(HexCodec.decode(HEX, 0, HEX.length(), heap), is(6));
+        assertThat(heap.position(), is(7));
+        assertThat(heap.get(6), is((byte) 0xff));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(6);
+        HexCodec.decode(HEX, 0, HEX.length(), direct);
+        direct.flip();
+        assertThat(HexCodec.encode(direct), is(HEX));
+    }
+
+    @Test
+    public void testNumericDelegates() {
+        assertThat(Numeric.hexStringToByteArray("0x" + HEX), is(BYTES));
+        assertThat(Numeric.toHexStringNoPrefix(BYTES), is(HEX));
+        assertThat(Numeric.toHexString(BYTES), is("0x" + HEX));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeInvalidCharacter() {
+        HexCodec.decode("0g");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeNonAsciiCharacter() {
+        HexCodec.decode("0ä");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeRangeOfOddLength() {
+        HexCodec.decode(HEX, 0, 3, new byte[2], 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testDecodeOutOfBounds() {
+        HexCodec.decode(HEX, 0, HEX.length(), new byte[5], 0);
+    }
+
+    @Test
+    public void testHexInputStream() throws IOException {
+        HexInputStream in = new HexInputStream("0x" + HEX);
+        assertThat(in.available(), is(6));
+        assertThat(in.read(), is(0x00));
+        in.mark(0);
+        byte[] b = new byte[10];
+        assertThat(in.read(b, 0, 10), is(5));
+        assertThat(in.read(), is(-1));
+        in.reset();
+        assertThat(in.skip(3), is(3L));
+        assertThat(in.read(), is(0xab));
+
+        BinaryReader reader = new BinaryReader(new HexInputStream("2a000000ffff"));
+        assertThat(reader.readInt(), is(42));
+        assertThat(reader.readShort(), is((short) -1));
+    }
+}
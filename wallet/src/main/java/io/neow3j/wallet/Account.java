@@ -2,6 +2,8 @@ package io.neow3j.wallet;
 
 import io.neow3j.constants.OpCode;
 import io.neow3j.crypto.ECKeyPair;
+import io.neow3j.crypto.Hash160;
+import io.neow3j.crypto.Hash256;
 import io.neow3j.utils.Keys;
 import io.neow3j.crypto.NEP2;
 import io.neow3j.crypto.ScryptParams;
@@ -16,6 +18,7 @@ import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.core.methods.response.NeoGetNep5Balances;
 import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
 import io.neow3j.protocol.exceptions.ErrorResponseException;
+import io.neow3j.utils.Fixed8;
 import io.neow3j.utils.Numeric;
 import io.neow3j.wallet.Balances.AssetBalance;
 import io.neow3j.wallet.exceptions.InsufficientFundsException;
@@ -73,6 +76,10 @@ public class Account {
         return Keys.toScriptHash(address);
     }
 
+    public Hash160 getScriptHash160() {
+        return Hash160.fromAddress(address);
+    }
+
     public ECKeyPair getECKeyPair() {
         if (privateKey != null && publicKey != null) {
             return new ECKeyPair(privateKey, publicKey);
@@ -115,6 +122,16 @@ public class Account {
         return encryptedPrivateKey;
     }
 
+    /**
+     * Sets the encrypted private key of an account that was created without it, e.g. from a
+     * {@link WalletIndex}.
+     */
+    void loadEncryptedPrivateKey(String encryptedPrivateKey) {
+        if (this.privateKey == null && this.encryptedPrivateKey == null) {
+            this.encryptedPrivateKey = encryptedPrivateKey;
+        }
+    }
+
     public Balances getBalances() {
         return balances;
     }
@@ -125,15 +142,62 @@ public class Account {
         balances.updateAssetBalances(response.getUnspents());
     }
 
+    /**
+     * Updates the asset balances from the outputs tracked locally, without a request to the
+     * node.
+     *
+     * @param tracker a tracker that watches the address of this account.
+     */
+    public void updateAssetBalances(UtxoTracker tracker) {
+        if (!tracker.getAddresses().contains(getAddress())) {
+            throw new IllegalArgumentException("The tracker does not watch the address of " +
+                    "this account");
+        }
+        balances.updateAssetBalances(tracker.getUtxos(getAddress()));
+    }
+
     public void updateTokenBalances(Neow3j neow3j) throws IOException, ErrorResponseException {
         NeoGetNep5Balances response = neow3j.getNep5Balances(getAddress()).send();
         response.throwOnError();
         balances.updateTokenBalances(response.getBalances());
     }
 
+    /**
+     * Fetches the selected balances and then updates them together, so that a failed request
+     * leaves all balances of this account unchanged.
+     */
+    void updateBalances(Neow3j neow3j, boolean assets, boolean tokens)
+            throws IOException, ErrorResponseException {
+        NeoGetUnspents.Unspents unspents = null;
+        NeoGetNep5Balances.Balances tokenBalances = null;
+        if (assets) {
+            NeoGetUnspents response = neow3j.getUnspents(getAddress()).send();
+            response.throwOnError();
+            unspents = response.getUnspents();
+        }
+        if (tokens) {
+            NeoGetNep5Balances response = neow3j.getNep5Balances(getAddress()).send();
+            response.throwOnError();
+            tokenBalances = response.getBalances();
+        }
+        balances.updateBalances(unspents, tokenBalances);
+    }
+
     public List<Utxo> getUtxosForAssetAmount(String assetId, BigDecimal amount,
                                              InputCalculationStrategy strategy) {
 
+        return getUtxosForAssetAmount(Hash256.fromHexString(assetId), amount, strategy);
+    }
+
+    public List<Utxo> getUtxosForAssetAmount(Hash256 assetId, BigDecimal amount,
+                                             InputCalculationStrategy strategy) {
+
+        return getUtxosForAssetAmount(assetId, Fixed8.ceil(amount), strategy);
+    }
+
+    public List<Utxo> getUtxosForAssetAmount(Hash256 assetId, Fixed8 amount,
+                                             InputCalculationStrategy strategy) {
+
         if (getBalances() == null) {
             throw new IllegalStateException("Account does not have any asset balances. " +
                     "Update account's asset balances first.");
@@ -143,11 +207,11 @@ public class Account {
                     "with ID " + assetId);
         }
         AssetBalance balance = getBalances().getAssetBalance(assetId);
-        if (balance.getAmount().compareTo(amount) < 0) {
+        if (balance.getAmount().compareTo(amount.toBigDecimal()) < 0) {
             throw new InsufficientFundsException("Needed " + amount + " but only found " +
                     balance.getAmount() + " for asset with ID " + assetId);
         }
-        return strategy.calculateInputs(balance.getUtxos(), amount);
+        return strategy.calculateInputs(balance, amount);
     }
 
     /**
@@ -1,5 +1,6 @@
 package io.neow3j.wallet;
 
+import io.neow3j.crypto.Hash256;
 import io.neow3j.crypto.transaction.RawScript;
 import io.neow3j.crypto.transaction.RawTransactionAttribute;
 import io.neow3j.crypto.transaction.RawTransactionInput;
@@ -8,8 +9,11 @@ import io.neow3j.model.types.GASAsset;
 import io.neow3j.protocol.Neow3j;
 import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
 import io.neow3j.protocol.exceptions.ErrorResponseException;
+import io.neow3j.protocol.exceptions.RequestRejectedException;
 import io.neow3j.transaction.ContractTransaction;
+import io.neow3j.utils.Fixed8;
 import io.neow3j.utils.Numeric;
+import io.neow3j.wallet.exceptions.ReservationExpiredException;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -24,17 +28,27 @@ public class AssetTransfer {
     private Neow3j neow3j;
     private ContractTransaction tx;
     private Account account;
+    private UtxoReservationPool.Reservation reservation;
 
     private AssetTransfer(Builder builder) {
         this.neow3j = builder.neow3j;
         this.tx = builder.tx;
         this.account = builder.account;
+        this.reservation = builder.reservation;
     }
 
     public ContractTransaction getTransaction() {
         return tx;
     }
 
+    /**
+     * @return the reservation of the inputs of the transaction, or null if the transfer was
+     * built without a {@link UtxoReservationPool}.
+     */
+    public UtxoReservationPool.Reservation getReservation() {
+        return reservation;
+    }
+
     /**
      * Adds the given witness to the transaction's witnesses.
      * <br><br>
@@ -51,10 +65,44 @@ public class AssetTransfer {
         return this;
     }
 
+    /**
+     * Sends the transaction.
+     *
+     * <p>If the transfer has a reservation, it is confirmed when the node accepted the
+     * transaction, so that its inputs stay claimed until the balances of the account reflect
+     * the transaction. It is released if the node rejected the transaction or the request was
+     * rejected before it was sent. If the outcome is unknown, e.g. because the connection
+     * failed, the reservation is confirmed as well, because the transaction may have reached
+     * the node. Release it once the transaction is known to be lost.</p>
+     *
+     * @throws ReservationExpiredException if the reservation expired. The transaction is not
+     *                                     sent and the reservation is released, since another
+     *                                     transaction may have claimed the inputs. Build a new
+     *                                     transfer instead.
+     */
     public AssetTransfer send() throws IOException, ErrorResponseException {
+        if (reservation != null && reservation.isExpired()) {
+            reservation.release();
+            throw new ReservationExpiredException("The reservation of the inputs expired.");
+        }
         String rawTx = Numeric.toHexStringNoPrefix(tx.toArray());
-        NeoSendRawTransaction response = neow3j.sendRawTransaction(rawTx).send();
-        response.throwOnError();
+        try {
+            NeoSendRawTransaction response = neow3j.sendRawTransaction(rawTx).send();
+            response.throwOnError();
+        } catch (ErrorResponseException | RequestRejectedException e) {
+            if (reservation != null) {
+                reservation.release();
+            }
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            if (reservation != null) {
+                reservation.confirm();
+            }
+            throw e;
+        }
+        if (reservation != null) {
+            reservation.confirm();
+        }
         return this;
     }
 
@@ -84,8 +132,10 @@ public class AssetTransfer {
         private List<RawScript> witnesses;
         private List<RawTransactionAttribute> attributes;
         private InputCalculationStrategy inputCalculationStrategy;
+        private UtxoReservationPool reservationPool;
+        private UtxoReservationPool.Reservation reservation;
         private ContractTransaction tx;
-        private String assetId;
+        private Hash256 assetId;
         private String toAddress;
         private BigDecimal amount;
 
@@ -136,6 +186,10 @@ public class AssetTransfer {
         }
 
         public Builder asset(String assetId) {
+            return asset(Hash256.fromHexString(assetId));
+        }
+
+        public Builder asset(Hash256 assetId) {
             throwIfOutputsAreSet();
             this.assetId = assetId;
             return this;
@@ -182,6 +236,20 @@ public class AssetTransfer {
             return this;
         }
 
+        /**
+         * Reserves the inputs in the given pool, so that transfers of the same account can be
+         * built in parallel without spending the same outputs. The reservation is available
+         * from {@link AssetTransfer#getReservation()}. It is released if building the transfer
+         * fails and confirmed or released by {@link AssetTransfer#send()}.
+         *
+         * @param pool The pool to reserve the inputs in.
+         * @return this Builder object.
+         */
+        public Builder reservationPool(UtxoReservationPool pool) {
+            this.reservationPool = pool;
+            return this;
+        }
+
         public AssetTransfer build() {
             if (neow3j == null) throw new IllegalStateException("Neow3j not set");
             if (account == null) throw new IllegalStateException("Account not set");
@@ -195,13 +263,21 @@ public class AssetTransfer {
 
             List<RawTransactionOutput> intents = new ArrayList<>(outputs);
             intents.addAll(createOutputsFromFees(networkFee));
-            Map<String, BigDecimal> requiredAssets = calculateRequiredAssetsForIntents(intents);
-
-            calculateInputsAndChange(requiredAssets);
+            Map<Hash256, Fixed8> requiredAssets = calculateRequiredAssetsForIntents(intents);
 
-            this.tx = buildTransaction();
-
-            return new AssetTransfer(this);
+            if (reservationPool != null) {
+                reservation = reservationPool.newReservation();
+            }
+            try {
+                calculateInputsAndChange(requiredAssets);
+                this.tx = buildTransaction();
+                return new AssetTransfer(this);
+            } catch (RuntimeException e) {
+                if (reservation != null) {
+                    reservation.release();
+                }
+                throw e;
+            }
         }
 
         private ContractTransaction buildTransaction() {
@@ -224,34 +300,42 @@ public class AssetTransfer {
             return outputs;
         }
 
-        private Map<String, BigDecimal> calculateRequiredAssetsForIntents(
+        private Map<Hash256, Fixed8> calculateRequiredAssetsForIntents(
                 List<RawTransactionOutput> outputs) {
 
-            Map<String, BigDecimal> assets = new HashMap<>();
+            Map<Hash256, Fixed8> assets = new HashMap<>();
             outputs.forEach(output -> {
-                BigDecimal value = new BigDecimal(output.getValue());
-                if (assets.containsKey(output.getAssetId())) {
-                    value = assets.get(output.getAssetId()).add(value);
+                Fixed8 value = output.getFixed8Value();
+                if (assets.containsKey(output.getAssetHash())) {
+                    value = assets.get(output.getAssetHash()).add(value);
                 }
-                assets.put(output.getAssetId(), value);
+                assets.put(output.getAssetHash(), value);
             });
             return assets;
         }
 
-        private void calculateInputsAndChange(Map<String, BigDecimal> requiredAssets) {
+        private void calculateInputsAndChange(Map<Hash256, Fixed8> requiredAssets) {
             requiredAssets.forEach((reqAssetId, reqValue) -> {
-                List<Utxo> utxos = account.getUtxosForAssetAmount(reqAssetId, reqValue, inputCalculationStrategy);
+                List<Utxo> utxos = reservation == null
+                        ? account.getUtxosForAssetAmount(
+                                reqAssetId, reqValue, inputCalculationStrategy)
+                        : reservation.claim(account, reqAssetId, reqValue,
+                                inputCalculationStrategy);
                 inputs.addAll(utxos.stream().map(Utxo::toTransactionInput).collect(Collectors.toList()));
-                BigDecimal changeAmount = calculateChange(utxos, reqValue);
+                Fixed8 changeAmount = calculateChange(utxos, reqValue);
                 if (changeAmount != null) outputs.add(
-                        new RawTransactionOutput(reqAssetId, changeAmount.toPlainString(), account.getAddress()));
+                        RawTransactionOutput.fromFixed8(reqAssetId, changeAmount,
+                                account.getAddress()));
             });
         }
 
-        private BigDecimal calculateChange(List<Utxo> utxos, BigDecimal reqValue) {
-            BigDecimal inputAmount = utxos.stream().map(Utxo::getValue).reduce(BigDecimal::add).get();
-            if (inputAmount.compareTo(reqValue) > 0) {
-                return inputAmount.subtract(reqValue);
+        private Fixed8 calculateChange(List<Utxo> utxos, Fixed8 reqValue) {
+            long inputAmount = 0;
+            for (Utxo utxo : utxos) {
+                inputAmount = Math.addExact(inputAmount, utxo.getFixed8Value().getRawValue());
+            }
+            if (inputAmount > reqValue.getRawValue()) {
+                return Fixed8.fromRawValue(inputAmount - reqValue.getRawValue());
             }
             return null;
         }
@@ -0,0 +1,86 @@
+package io.neow3j.wallet;
+
+/**
+ * Options for {@link Wallet#refreshBalances(io.neow3j.protocol.Neow3j, BalanceRefreshOptions)}.
+ */
+public class BalanceRefreshOptions {
+
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    private final int parallelism;
+    private final boolean assets;
+    private final boolean tokens;
+
+    private BalanceRefreshOptions(Builder builder) {
+        this.parallelism = builder.parallelism;
+        this.assets = builder.assets;
+        this.tokens = builder.tokens;
+    }
+
+    /**
+     * @return the options with the default values, i.e. both asset and token balances refreshed
+     * with {@link #DEFAULT_PARALLELISM} requests in flight.
+     */
+    public static BalanceRefreshOptions defaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * @return the maximum number of accounts refreshed at the same time.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isAssets() {
+        return assets;
+    }
+
+    public boolean isTokens() {
+        return tokens;
+    }
+
+    public static class Builder {
+
+        private int parallelism = DEFAULT_PARALLELISM;
+        private boolean assets = true;
+        private boolean tokens = true;
+
+        /**
+         * @param parallelism the maximum number of accounts refreshed at the same time.
+         * @return this builder.
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param assets whether to refresh the asset balances with {@code getunspents}.
+         * @return this builder.
+         */
+        public Builder assets(boolean assets) {
+            this.assets = assets;
+            return this;
+        }
+
+        /**
+         * @param tokens whether to refresh the token balances with {@code getnep5balances}.
+         * @return this builder.
+         */
+        public Builder tokens(boolean tokens) {
+            this.tokens = tokens;
+            return this;
+        }
+
+        public BalanceRefreshOptions build() {
+            if (parallelism < 1) {
+                throw new IllegalStateException("Parallelism must be at least 1");
+            }
+            if (!assets && !tokens) {
+                throw new IllegalStateException("Neither asset nor token balances selected");
+            }
+            return new BalanceRefreshOptions(this);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.neow3j.wallet;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The outcome of {@link Wallet#refreshBalances(io.neow3j.protocol.Neow3j, BalanceRefreshOptions)}.
+ */
+public class BalanceRefreshResult {
+
+    private final int refreshedCount;
+    private final Map<String, Exception> failures;
+
+    BalanceRefreshResult(int refreshedCount, Map<String, Exception> failures) {
+        this.refreshedCount = refreshedCount;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * @return the number of accounts whose balances were updated.
+     */
+    public int getRefreshedCount() {
+        return refreshedCount;
+    }
+
+    /**
+     * @return the cause of the failure by address for every account whose balances were left
+     * unchanged.
+     */
+    public Map<String, Exception> getFailures() {
+        return failures;
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BalanceRefreshResult{" +
+                "refreshedCount=" + refreshedCount +
+                ", failures=" + failures.keySet() +
+                '}';
+    }
+}
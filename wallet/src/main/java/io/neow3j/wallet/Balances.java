@@ -1,5 +1,7 @@
 package io.neow3j.wallet;
 
+import io.neow3j.crypto.Hash160;
+import io.neow3j.crypto.Hash256;
 import io.neow3j.protocol.core.methods.response.NeoGetNep5Balances;
 import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
 import io.neow3j.protocol.core.methods.response.NeoGetUnspents.Unspents;
@@ -7,21 +9,27 @@ import io.neow3j.protocol.core.methods.response.NeoGetUnspents.Unspents;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * The asset and token balances of an account.
+ *
+ * <p>Both balances are published together as one immutable {@link Snapshot}, so that a reader
+ * never sees the asset balances of one update with the token balances of another. Updates are
+ * serialized, reads do not lock.</p>
+ */
 public class Balances {
 
-    private Map<String, AssetBalance> assetBalances;
-    private Map<String, BigDecimal> tokenBalances;
+    private volatile Snapshot snapshot;
     private Account account;
 
     public Balances(Account account) {
         this.account = account;
-        this.assetBalances = new HashMap<>();
-        this.tokenBalances = new HashMap<>();
+        this.snapshot = new Snapshot(Collections.emptyMap(), Collections.emptyMap());
     }
 
     /**
@@ -29,25 +37,38 @@ public class Balances {
      * @param unspents The unspents fetched from a RPC node.
      */
     public void updateAssetBalances(NeoGetUnspents.Unspents unspents) {
-        if (!unspents.getAddress().equals(account.getAddress())) {
-            throw new IllegalArgumentException("The provided unspents are not related to the " +
-                    "account of this balance");
+        updateBalances(unspents, null);
+    }
+
+    /**
+     * Overrides the asset balances with the provided unspent outputs.
+     * @param utxos The unspent outputs by asset id, e.g. from a {@link UtxoTracker}.
+     */
+    void updateAssetBalances(Map<String, List<Utxo>> utxos) {
+        Map<Hash256, AssetBalance> balances = new HashMap<>(utxos.size());
+        utxos.forEach((assetId, assetUtxos) ->
+                balances.put(Hash256.fromHexString(assetId), new AssetBalance(assetUtxos)));
+        synchronized (this) {
+            snapshot = new Snapshot(balances, snapshot.tokenBalances);
         }
-        assetBalances = new HashMap<>(unspents.getBalances().size());
-        unspents.getBalances().forEach(b -> {
-            List<Utxo> utxos = b.getUnspentTransactions().stream()
-                    .map(utxo -> new Utxo(utxo.getTxId(), utxo.getIndex(), utxo.getValue()))
-                    .collect(Collectors.toList());
-            assetBalances.put(b.getAssetHash(), new AssetBalance(utxos));
-        });
     }
 
     public boolean hasAsset(String assetId) {
-        return assetBalances.containsKey(assetId);
+        Hash256 hash = parseAssetId(assetId);
+        return hash != null && hasAsset(hash);
     }
 
     public AssetBalance getAssetBalance(String assetId) {
-        return assetBalances.get(assetId);
+        Hash256 hash = parseAssetId(assetId);
+        return hash == null ? null : getAssetBalance(hash);
+    }
+
+    public boolean hasAsset(Hash256 assetId) {
+        return snapshot.assetBalances.containsKey(assetId);
+    }
+
+    public AssetBalance getAssetBalance(Hash256 assetId) {
+        return snapshot.assetBalances.get(assetId);
     }
 
     /**
@@ -55,27 +76,121 @@ public class Balances {
      * @param balances The NEP5 token balances fetched from a RPC node.
      */
     public void updateTokenBalances(NeoGetNep5Balances.Balances balances) {
-        if (!balances.getAddress().equals(account.getAddress())) {
-            throw new IllegalArgumentException("The provided token balances are not related to the " +
-                    "account of this balance");
+        updateBalances(null, balances);
+    }
+
+    /**
+     * Overrides the asset and token balances together. Nothing is changed if one of them is not
+     * related to the account of this balance.
+     * @param unspents The unspents fetched from a RPC node, or null to keep the asset balances.
+     * @param balances The NEP5 token balances fetched from a RPC node, or null to keep the
+     *                 token balances.
+     */
+    void updateBalances(Unspents unspents, NeoGetNep5Balances.Balances balances) {
+        Map<Hash256, AssetBalance> newAssetBalances = null;
+        Map<Hash160, BigDecimal> newTokenBalances = null;
+        if (unspents != null) {
+            checkAddress(unspents.getAddress());
+            newAssetBalances = toAssetBalances(unspents);
+        }
+        if (balances != null) {
+            checkAddress(balances.getAddress());
+            newTokenBalances = toTokenBalances(balances);
+        }
+        synchronized (this) {
+            Snapshot current = snapshot;
+            snapshot = new Snapshot(
+                    newAssetBalances == null ? current.assetBalances : newAssetBalances,
+                    newTokenBalances == null ? current.tokenBalances : newTokenBalances);
         }
-        this.tokenBalances = new HashMap<>(balances.getBalances().size());
-        balances.getBalances().forEach(
-                b -> this.tokenBalances.put(b.getAssetHash(), new BigDecimal(b.getAmount())));
     }
 
     public boolean hasToken(String tokenId) {
-        return tokenBalances.containsKey(tokenId);
+        Hash160 hash = parseTokenId(tokenId);
+        return hash != null && hasToken(hash);
     }
 
     public BigDecimal getTokenBalance(String tokenId) {
-        return tokenBalances.get(tokenId);
+        Hash160 hash = parseTokenId(tokenId);
+        return hash == null ? null : getTokenBalance(hash);
+    }
+
+    public boolean hasToken(Hash160 tokenId) {
+        return snapshot.tokenBalances.containsKey(tokenId);
+    }
+
+    public BigDecimal getTokenBalance(Hash160 tokenId) {
+        return snapshot.tokenBalances.get(tokenId);
+    }
+
+    /**
+     * @return the asset id, or null if it is not a valid hash, since no balance can have it.
+     */
+    private static Hash256 parseAssetId(String assetId) {
+        try {
+            return Hash256.fromHexString(assetId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the token id, or null if it is not a valid hash, since no balance can have it.
+     */
+    private static Hash160 parseTokenId(String tokenId) {
+        try {
+            return Hash160.fromHexString(tokenId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void checkAddress(String address) {
+        if (!address.equals(account.getAddress())) {
+            throw new IllegalArgumentException("The provided balances are not related to the " +
+                    "account of this balance");
+        }
+    }
+
+    private static Map<Hash256, AssetBalance> toAssetBalances(Unspents unspents) {
+        Map<Hash256, AssetBalance> balances = new HashMap<>(unspents.getBalances().size());
+        unspents.getBalances().forEach(b -> {
+            List<Utxo> utxos = b.getUnspentTransactions().stream()
+                    .map(utxo -> new Utxo(utxo.getTxId(), utxo.getIndex(), utxo.getValue()))
+                    .collect(Collectors.toList());
+            balances.put(Hash256.fromHexString(b.getAssetHash()), new AssetBalance(utxos));
+        });
+        return balances;
+    }
+
+    private static Map<Hash160, BigDecimal> toTokenBalances(NeoGetNep5Balances.Balances balances) {
+        Map<Hash160, BigDecimal> tokens = new HashMap<>(balances.getBalances().size());
+        balances.getBalances().forEach(b -> tokens.put(Hash160.fromHexString(b.getAssetHash()),
+                new BigDecimal(b.getAmount())));
+        return tokens;
+    }
+
+    /**
+     * The asset and token balances of one update. The maps are not modified after
+     * construction.
+     */
+    private static final class Snapshot {
+
+        final Map<Hash256, AssetBalance> assetBalances;
+        final Map<Hash160, BigDecimal> tokenBalances;
+
+        Snapshot(Map<Hash256, AssetBalance> assetBalances,
+                Map<Hash160, BigDecimal> tokenBalances) {
+            this.assetBalances = assetBalances;
+            this.tokenBalances = tokenBalances;
+        }
     }
 
     public static class AssetBalance {
 
         List<Utxo> utxos;
         BigDecimal amount;
+        private UtxoValueIndex valueIndex;
 
         public AssetBalance(List<Utxo> utxos, BigDecimal amount) {
             this.utxos = utxos;
@@ -87,6 +202,9 @@ public class Balances {
             calculateAmountFormUtxos();
         }
 
+        /**
+         * @return the outputs. Call {@link #calculateAmountFormUtxos()} after changing them.
+         */
         public List<Utxo> getUtxos() {
             return utxos;
         }
@@ -98,7 +216,23 @@ public class Balances {
             return amount;
         }
 
-        public void calculateAmountFormUtxos() {
+        /**
+         * @return the outputs sorted by value, which is built on first use from the outputs at
+         * that time and rebuilt after {@link #calculateAmountFormUtxos()}.
+         */
+        public synchronized UtxoValueIndex getValueIndex() {
+            if (valueIndex == null) {
+                valueIndex = new UtxoValueIndex(utxos);
+            }
+            return valueIndex;
+        }
+
+        /**
+         * Recalculates the amount from the outputs and drops the value index, e.g. after the
+         * outputs were changed.
+         */
+        public synchronized void calculateAmountFormUtxos() {
+            valueIndex = null;
             amount = utxos.stream()
                     .map(Utxo::getValue)
                     .reduce(BigDecimal::add)
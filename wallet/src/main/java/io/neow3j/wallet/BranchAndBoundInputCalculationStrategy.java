@@ -0,0 +1,93 @@
+package io.neow3j.wallet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Selects the inputs with the least change, ideally an exact match of the required amount.
+ *
+ * <p>The smallest single output that covers the amount is found by binary search. Then the
+ * combinations of the smaller outputs are searched depth-first from the largest down, pruned
+ * with the prefix sums of the {@link UtxoValueIndex} whenever the remaining outputs cannot
+ * cover the amount anymore. The search stops at an exact match or after a bounded number of
+ * steps, keeping the best selection found so far. If no selection was found by then, the
+ * inputs of {@link MinimumInputsInputCalculationStrategy} are used.</p>
+ */
+public class BranchAndBoundInputCalculationStrategy extends IndexedInputCalculationStrategy {
+
+    public static final int DEFAULT_MAX_TRIES = 100_000;
+
+    private final int maxTries;
+
+    public BranchAndBoundInputCalculationStrategy() {
+        this(DEFAULT_MAX_TRIES);
+    }
+
+    /**
+     * @param maxTries the maximum number of search steps per selection.
+     */
+    public BranchAndBoundInputCalculationStrategy(int maxTries) {
+        this.maxTries = maxTries;
+    }
+
+    @Override
+    protected List<Utxo> calculateInputs(UtxoValueIndex index, long required) {
+        if (required <= 0) {
+            return Collections.emptyList();
+        }
+        int[] best = null;
+        long bestChange = Long.MAX_VALUE;
+        int single = index.ceiling(required);
+        if (single < index.size()) {
+            best = new int[]{single};
+            bestChange = index.getValue(single) - required;
+        }
+
+        // Search the combinations of the outputs smaller than the required amount.
+        int[] selected = new int[single];
+        int depth = 0;
+        long sum = 0;
+        int position = single - 1;
+        for (int tries = 0; bestChange > 0 && tries < maxTries; tries++) {
+            if (position >= 0 && sum + index.sum(0, position + 1) >= required) {
+                long value = index.getValue(position);
+                if (sum + value >= required) {
+                    if (sum + value - required < bestChange) {
+                        bestChange = sum + value - required;
+                        best = Arrays.copyOf(selected, depth + 1);
+                        best[depth] = position;
+                    }
+                    // A smaller output instead of this one might leave less change.
+                    position--;
+                } else {
+                    selected[depth++] = position;
+                    sum += value;
+                    position--;
+                }
+                continue;
+            }
+            // The remaining outputs cannot cover the amount, so exclude the last selected one.
+            if (depth == 0) {
+                break;
+            }
+            int excluded = selected[--depth];
+            sum -= index.getValue(excluded);
+            position = excluded - 1;
+            // Excluding one of equal outputs after the other gives the same combinations.
+            while (position >= 0 && index.getValue(position) == index.getValue(excluded)) {
+                position--;
+            }
+        }
+
+        if (best == null) {
+            return new MinimumInputsInputCalculationStrategy().calculateInputs(index, required);
+        }
+        List<Utxo> inputs = new ArrayList<>(best.length);
+        for (int p : best) {
+            inputs.add(index.getUtxo(p));
+        }
+        return inputs;
+    }
+}
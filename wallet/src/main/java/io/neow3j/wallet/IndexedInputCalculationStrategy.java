@@ -0,0 +1,55 @@
+package io.neow3j.wallet;
+
+import io.neow3j.utils.Fixed8;
+import io.neow3j.wallet.Balances.AssetBalance;
+import io.neow3j.wallet.exceptions.InsufficientFundsException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Base of the strategies that select inputs with a {@link UtxoValueIndex}. Selecting from an
+ * {@link AssetBalance} uses the index the balance keeps, or an index derived from it without the
+ * excluded outputs, while selecting from a list builds a new index.
+ */
+public abstract class IndexedInputCalculationStrategy implements InputCalculationStrategy {
+
+    @Override
+    public List<Utxo> calculateInputs(List<Utxo> utxos, BigDecimal requiredAmount) {
+        return calculateInputs(utxos, Fixed8.ceil(requiredAmount));
+    }
+
+    @Override
+    public List<Utxo> calculateInputs(List<Utxo> utxos, Fixed8 requiredAmount) {
+        return select(new UtxoValueIndex(utxos), requiredAmount.getRawValue());
+    }
+
+    @Override
+    public List<Utxo> calculateInputs(AssetBalance balance, Fixed8 requiredAmount) {
+        return select(balance.getValueIndex(), requiredAmount.getRawValue());
+    }
+
+    @Override
+    public List<Utxo> calculateInputs(AssetBalance balance, Fixed8 requiredAmount,
+            Predicate<Utxo> excluded) {
+
+        return select(balance.getValueIndex().without(excluded), requiredAmount.getRawValue());
+    }
+
+    private List<Utxo> select(UtxoValueIndex index, long required) {
+        if (index.getTotal() < required) {
+            throw new InsufficientFundsException();
+        }
+        return calculateInputs(index, required);
+    }
+
+    /**
+     * Selects the inputs.
+     *
+     * @param index    the outputs to select from, which sum up to at least the required amount.
+     * @param required the required amount as raw Fixed8 value.
+     * @return the inputs, which sum up to at least the required amount.
+     */
+    protected abstract List<Utxo> calculateInputs(UtxoValueIndex index, long required);
+}
@@ -1,11 +1,40 @@
 package io.neow3j.wallet;
 
+import io.neow3j.utils.Fixed8;
+import io.neow3j.wallet.Balances.AssetBalance;
+
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 public interface InputCalculationStrategy {
 
    InputCalculationStrategy DEFAULT_INPUT_CALCULATION_STRATEGY = new LeftToRightInputCalculationStrategy();
 
     List<Utxo> calculateInputs(List<Utxo> ouputs, BigDecimal requiredAmount);
+
+    default List<Utxo> calculateInputs(List<Utxo> outputs, Fixed8 requiredAmount) {
+        return calculateInputs(outputs, requiredAmount.toBigDecimal());
+    }
+
+    /**
+     * Selects the inputs from the outputs of an asset balance. Strategies that select by value
+     * override this to use the value index the balance keeps.
+     */
+    default List<Utxo> calculateInputs(AssetBalance balance, Fixed8 requiredAmount) {
+        return calculateInputs(balance.getUtxos(), requiredAmount);
+    }
+
+    /**
+     * Selects the inputs from the outputs of an asset balance that are not excluded, e.g.
+     * because they are reserved for another transaction.
+     */
+    default List<Utxo> calculateInputs(AssetBalance balance, Fixed8 requiredAmount,
+            Predicate<Utxo> excluded) {
+
+        return calculateInputs(balance.getUtxos().stream()
+                .filter(excluded.negate())
+                .collect(Collectors.toList()), requiredAmount);
+    }
 }
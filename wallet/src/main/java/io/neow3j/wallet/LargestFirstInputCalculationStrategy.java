@@ -0,0 +1,21 @@
+package io.neow3j.wallet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selects the largest outputs until they cover the required amount. This needs the least
+ * number of inputs, but usually leaves a large change.
+ */
+public class LargestFirstInputCalculationStrategy extends IndexedInputCalculationStrategy {
+
+    @Override
+    protected List<Utxo> calculateInputs(UtxoValueIndex index, long required) {
+        int count = index.minimumInputCount(required);
+        List<Utxo> inputs = new ArrayList<>(count);
+        for (int i = index.size() - 1; i >= index.size() - count; i--) {
+            inputs.add(index.getUtxo(i));
+        }
+        return inputs;
+    }
+}
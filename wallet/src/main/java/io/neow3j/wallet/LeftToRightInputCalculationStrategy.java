@@ -1,5 +1,6 @@
 package io.neow3j.wallet;
 
+import io.neow3j.utils.Fixed8;
 import io.neow3j.wallet.exceptions.InsufficientFundsException;
 
 import java.math.BigDecimal;
@@ -11,15 +12,21 @@ public class LeftToRightInputCalculationStrategy implements InputCalculationStra
 
     @Override
     public List<Utxo> calculateInputs(List<Utxo> utxos, BigDecimal requiredAmount) {
-        BigDecimal amount = BigDecimal.ZERO;
+        return calculateInputs(utxos, Fixed8.ceil(requiredAmount));
+    }
+
+    @Override
+    public List<Utxo> calculateInputs(List<Utxo> utxos, Fixed8 requiredAmount) {
+        long required = requiredAmount.getRawValue();
+        long amount = 0;
         ListIterator<Utxo> it = utxos.listIterator();
         List<Utxo> inputs = new ArrayList<>();
-        while(amount.compareTo(requiredAmount) < 0 && it.hasNext()) {
+        while(amount < required && it.hasNext()) {
             Utxo utxo = it.next();
-            amount = amount.add(utxo.getValue());
+            amount = Math.addExact(amount, utxo.getFixed8Value().getRawValue());
             inputs.add(utxo);
         }
-        if (amount.compareTo(requiredAmount) < 0) {
+        if (amount < required) {
             throw new InsufficientFundsException();
         }
         return inputs;
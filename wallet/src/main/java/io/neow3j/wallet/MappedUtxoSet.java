@@ -0,0 +1,565 @@
+package io.neow3j.wallet;
+
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.TransactionInput;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import io.neow3j.utils.AtomicFiles;
+import io.neow3j.utils.Fixed8;
+import io.neow3j.utils.HexCodec;
+import io.neow3j.utils.Keys;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Set of unspent transaction outputs of the whole chain, stored off-heap in a memory-mapped
+ * file.
+ *
+ * <p>The outputs are kept in an open-addressing hash table of fixed-width slots, keyed by the
+ * 34-byte outpoint, i.e. transaction id and output index. Each slot also holds the index of
+ * the asset in a small asset table, the value as {@link Fixed8} and the script hash of the
+ * receiving address. Adding and spending an output are therefore O(1) and need no object per
+ * output, so that the tens of millions of outputs of the chain fit in the page cache instead of
+ * the heap. The table doubles in a new file when it is half full.</p>
+ *
+ * <p>The set is fed with {@link #applyBlock(NeoBlock)}, which records the index of the last
+ * applied block in the file. The file is consistent after {@link #flush()} or
+ * {@link #close()}. Before the first change after opening or flushing, a dirty flag is set in
+ * the header and synced to disk, and flushing clears it again. A file that was changed but not
+ * flushed before a crash is therefore refused by {@link #open(Path, long)} and should be
+ * rebuilt. Instances are not thread-safe.</p>
+ */
+public class MappedUtxoSet implements Closeable {
+
+    static final int SLOT_SIZE = 64;
+    static final int HEADER_SIZE = 8192;
+    static final int MAX_ASSETS = 254;
+
+    private static final int MAGIC = 0x4e55_5453;
+    private static final int VERSION = 1;
+
+    // Header layout.
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+    private static final int BLOCK_INDEX_OFFSET = 24;
+    private static final int ASSET_COUNT_OFFSET = 32;
+    private static final int DIRTY_OFFSET = 36;
+    private static final int ASSETS_OFFSET = 40;
+
+    // Slot layout.
+    private static final int USED = 0;
+    private static final int TX_ID = 1;
+    private static final int INDEX = 33;
+    private static final int ASSET = 35;
+    private static final int VALUE = 36;
+    private static final int SCRIPT_HASH = 44;
+
+    private static final int TX_ID_SIZE = 32;
+    private static final int SCRIPT_HASH_SIZE = 20;
+    private static final int SLOTS_PER_SEGMENT_BITS = 24;
+    private static final long MIN_CAPACITY = 1024;
+
+    private Path file;
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] segments;
+    private long capacity;
+    private long mask;
+    private long size;
+    private boolean dirty;
+
+    private final Map<String, Integer> assetIndices = new HashMap<>();
+
+    private final byte[] txIdBytes = new byte[TX_ID_SIZE];
+    private final ByteBuffer txId = ByteBuffer.wrap(txIdBytes).order(ByteOrder.LITTLE_ENDIAN);
+
+    private MappedUtxoSet(Path file, FileChannel channel, long capacity, boolean create)
+            throws IOException {
+        this.file = file;
+        map(channel, capacity);
+        if (create) {
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putLong(CAPACITY_OFFSET, capacity);
+            header.putLong(SIZE_OFFSET, 0);
+            header.putLong(BLOCK_INDEX_OFFSET, -1);
+            header.putInt(ASSET_COUNT_OFFSET, 0);
+        } else {
+            size = header.getLong(SIZE_OFFSET);
+            int assetCount = header.getInt(ASSET_COUNT_OFFSET);
+            byte[] assetId = new byte[TX_ID_SIZE];
+            for (int i = 0; i < assetCount; i++) {
+                header.position(ASSETS_OFFSET + i * TX_ID_SIZE);
+                header.get(assetId);
+                assetIndices.put(HexCodec.encode(assetId), i);
+            }
+        }
+    }
+
+    /**
+     * Opens the set stored in the file, or creates an empty one.
+     *
+     * @param file            the file.
+     * @param expectedOutputs the number of outputs to size a new file for.
+     * @return the set.
+     * @throws IOException if the file cannot be opened, is not a UTXO set or was not flushed
+     *                     after its last change.
+     */
+    public static MappedUtxoSet open(Path file, long expectedOutputs) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                return new MappedUtxoSet(file, channel, capacityFor(expectedOutputs), true);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(ASSETS_OFFSET).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(buffer, 0);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException(file + " is not a UTXO set.");
+            }
+            if (buffer.getInt(DIRTY_OFFSET) != 0) {
+                throw new IOException("The UTXO set " + file + " was not flushed after its "
+                        + "last change and needs to be rebuilt.");
+            }
+            return new MappedUtxoSet(file, channel, buffer.getLong(CAPACITY_OFFSET), false);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the index of the last block applied, or -1 if none was applied.
+     */
+    public long getBlockIndex() {
+        return header.getLong(BLOCK_INDEX_OFFSET);
+    }
+
+    /**
+     * Adds an output.
+     *
+     * @param txId    the id of the transaction, as hex string with or without 0x prefix.
+     * @param index   the index of the output in the transaction.
+     * @param assetId the id of the asset, as hex string with or without 0x prefix.
+     * @param value   the value.
+     * @param address the receiving address.
+     * @return true if the output was not in the set yet.
+     * @throws IOException if the table needs to grow and the file cannot be resized.
+     */
+    public boolean add(String txId, int index, String assetId, Fixed8 value, String address)
+            throws IOException {
+        return add(txId, index, assetId, value.getRawValue(), Keys.toScriptHash(address));
+    }
+
+    /**
+     * Removes an output.
+     *
+     * @return true if the output was in the set.
+     */
+    public boolean spend(String txId, int index) {
+        setTxId(txId);
+        long slot = find(index);
+        if (slot < 0) {
+            return false;
+        }
+        markDirty();
+        remove(slot);
+        return true;
+    }
+
+    public boolean contains(String txId, int index) {
+        setTxId(txId);
+        return find(index) >= 0;
+    }
+
+    /**
+     * @return the value of the output, or null if it is not in the set.
+     */
+    public Fixed8 getValue(String txId, int index) {
+        setTxId(txId);
+        long slot = find(index);
+        return slot < 0 ? null : Fixed8.fromRawValue(segment(slot).getLong(offset(slot) + VALUE));
+    }
+
+    /**
+     * Spends the outputs referenced by the inputs of the transactions of the block and adds
+     * their outputs. The block must contain the full transaction objects.
+     *
+     * @throws IOException if the table needs to grow and the file cannot be resized.
+     */
+    public void applyBlock(NeoBlock block) throws IOException {
+        markDirty();
+        if (block.getTransactions() != null) {
+            for (Transaction tx : block.getTransactions()) {
+                if (tx.getInputs() != null) {
+                    for (TransactionInput input : tx.getInputs()) {
+                        spend(input.getPrevHash(), input.getPrevIndex());
+                    }
+                }
+                if (tx.getOutputs() != null) {
+                    for (int i = 0; i < tx.getOutputs().size(); i++) {
+                        TransactionOutput output = tx.getOutputs().get(i);
+                        int index = output.getIndex() != null ? output.getIndex() : i;
+                        add(tx.getTransactionId(), index, output.getAssetId(),
+                                Fixed8.fromDecimal(output.getValue()).getRawValue(),
+                                Keys.toScriptHash(output.getAddress()));
+                    }
+                }
+            }
+        }
+        header.putLong(BLOCK_INDEX_OFFSET, block.getIndex());
+    }
+
+    /**
+     * Sums up the outputs of the asset by address in one pass over the set.
+     *
+     * @param assetId the id of the asset, as hex string with or without 0x prefix.
+     * @return the balance of every address that holds the asset.
+     */
+    public Map<String, Fixed8> aggregateBalances(String assetId) {
+        Map<ScriptHash, long[]> sums = new HashMap<>();
+        Integer asset = assetIndices.get(normalize(assetId));
+        if (asset != null) {
+            byte[] scriptHash = new byte[SCRIPT_HASH_SIZE];
+            for (long slot = 0; slot < capacity; slot++) {
+                ByteBuffer segment = segment(slot);
+                int offset = offset(slot);
+                if (segment.get(offset + USED) == 0
+                        || (segment.get(offset + ASSET) & 0xff) != asset) {
+                    continue;
+                }
+                readScriptHash(segment, offset, scriptHash);
+                long[] sum = sums.computeIfAbsent(new ScriptHash(scriptHash.clone()),
+                        k -> new long[1]);
+                sum[0] = Math.addExact(sum[0], segment.getLong(offset + VALUE));
+            }
+        }
+        Map<String, Fixed8> balances = new HashMap<>(sums.size() * 2);
+        sums.forEach((scriptHash, sum) ->
+                balances.put(Keys.toAddress(scriptHash.bytes), Fixed8.fromRawValue(sum[0])));
+        return balances;
+    }
+
+    /**
+     * Sums up the outputs of the asset held by the address in one pass over the set.
+     */
+    public Fixed8 getBalance(String address, String assetId) {
+        Integer asset = assetIndices.get(normalize(assetId));
+        if (asset == null) {
+            return Fixed8.ZERO;
+        }
+        byte[] wanted = Keys.toScriptHash(address);
+        byte[] scriptHash = new byte[SCRIPT_HASH_SIZE];
+        long sum = 0;
+        for (long slot = 0; slot < capacity; slot++) {
+            ByteBuffer segment = segment(slot);
+            int offset = offset(slot);
+            if (segment.get(offset + USED) != 0
+                    && (segment.get(offset + ASSET) & 0xff) == asset) {
+                readScriptHash(segment, offset, scriptHash);
+                if (Arrays.equals(scriptHash, wanted)) {
+                    sum = Math.addExact(sum, segment.getLong(offset + VALUE));
+                }
+            }
+        }
+        return Fixed8.fromRawValue(sum);
+    }
+
+    /**
+     * Writes all changes to the file and clears its dirty flag.
+     */
+    public void flush() {
+        force();
+        if (dirty) {
+            header.putInt(DIRTY_OFFSET, 0);
+            header.force();
+            dirty = false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private boolean add(String txIdHex, int index, String assetId, long value,
+            byte[] scriptHash) throws IOException {
+        if (index < 0 || index > 0xffff) {
+            throw new IllegalArgumentException("Output index out of range: " + index);
+        }
+        markDirty();
+        int asset = assetIndex(assetId);
+        setTxId(txIdHex);
+        if ((size + 1) * 2 > capacity) {
+            grow();
+        }
+        long slot = find(index);
+        if (slot >= 0) {
+            return false;
+        }
+        slot = -slot - 1;
+        ByteBuffer segment = segment(slot);
+        int offset = offset(slot);
+        for (int i = 0; i < TX_ID_SIZE; i++) {
+            segment.put(offset + TX_ID + i, txIdBytes[i]);
+        }
+        segment.putShort(offset + INDEX, (short) index);
+        segment.put(offset + ASSET, (byte) asset);
+        segment.putLong(offset + VALUE, value);
+        for (int i = 0; i < SCRIPT_HASH_SIZE; i++) {
+            segment.put(offset + SCRIPT_HASH + i, scriptHash[i]);
+        }
+        segment.put(offset + USED, (byte) 1);
+        size++;
+        return true;
+    }
+
+    /**
+     * @return the slot of the output with the current transaction id and the given index, or
+     * {@code -(slot + 1)} of the free slot where it would be inserted.
+     */
+    private long find(int index) {
+        long slot = home(txId.getLong(0), index);
+        while (true) {
+            ByteBuffer segment = segment(slot);
+            int offset = offset(slot);
+            if (segment.get(offset + USED) == 0) {
+                return -slot - 1;
+            }
+            if ((segment.getShort(offset + INDEX) & 0xffff) == index && txIdEquals(segment,
+                    offset)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean txIdEquals(ByteBuffer segment, int offset) {
+        for (int i = 0; i < TX_ID_SIZE; i += 8) {
+            if (segment.getLong(offset + TX_ID + i) != txId.getLong(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void remove(long slot) {
+        // Shift the following entries of the probe sequence back, so that lookups do not stop
+        // at the freed slot.
+        long free = slot;
+        long next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            ByteBuffer segment = segment(next);
+            int offset = offset(next);
+            if (segment.get(offset + USED) == 0) {
+                break;
+            }
+            long home = home(segment.getLong(offset + TX_ID),
+                    segment.getShort(offset + INDEX) & 0xffff);
+            boolean stays = free <= next
+                    ? free < home && home <= next
+                    : free < home || home <= next;
+            if (!stays) {
+                copySlot(segment, offset, segment(free), offset(free));
+                free = next;
+            }
+        }
+        segment(free).put(offset(free) + USED, (byte) 0);
+        size--;
+    }
+
+    private void grow() throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".resize");
+        Files.deleteIfExists(tempFile);
+        FileChannel newChannel = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel oldChannel = channel;
+        MappedByteBuffer oldHeader = header;
+        MappedByteBuffer[] oldSegments = segments;
+        long oldCapacity = capacity;
+        try {
+            map(newChannel, oldCapacity * 2);
+            for (int i = 0; i < HEADER_SIZE; i++) {
+                header.put(i, oldHeader.get(i));
+            }
+            header.putLong(CAPACITY_OFFSET, capacity);
+            for (long slot = 0; slot < oldCapacity; slot++) {
+                ByteBuffer segment = oldSegments[(int) (slot >>> SLOTS_PER_SEGMENT_BITS)];
+                int offset = offset(slot);
+                if (segment.get(offset + USED) != 0) {
+                    long target = home(segment.getLong(offset + TX_ID),
+                            segment.getShort(offset + INDEX) & 0xffff);
+                    while (segment(target).get(offset(target) + USED) != 0) {
+                        target = (target + 1) & mask;
+                    }
+                    copySlot(segment, offset, segment(target), offset(target));
+                }
+            }
+            // The copied header keeps the dirty flag, as the change that grows the table is
+            // not complete yet.
+            force();
+            AtomicFiles.replace(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            newChannel.close();
+            Files.deleteIfExists(tempFile);
+            channel = oldChannel;
+            header = oldHeader;
+            segments = oldSegments;
+            capacity = oldCapacity;
+            mask = oldCapacity - 1;
+            throw e;
+        }
+        oldChannel.close();
+    }
+
+    /**
+     * Sets the dirty flag and syncs it to disk, before the first change after opening or
+     * flushing.
+     */
+    private void markDirty() {
+        if (!dirty) {
+            header.putInt(DIRTY_OFFSET, 1);
+            header.force();
+            dirty = true;
+        }
+    }
+
+    private void force() {
+        header.putLong(SIZE_OFFSET, size);
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        header.force();
+    }
+
+    private void map(FileChannel channel, long capacity) throws IOException {
+        this.channel = channel;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.header = mapRegion(channel, 0, HEADER_SIZE);
+        long slotsPerSegment = Math.min(capacity, 1L << SLOTS_PER_SEGMENT_BITS);
+        int segmentCount = (int) (capacity / slotsPerSegment);
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = mapRegion(channel, HEADER_SIZE + i * slotsPerSegment * SLOT_SIZE,
+                    slotsPerSegment * SLOT_SIZE);
+        }
+    }
+
+    private static MappedByteBuffer mapRegion(FileChannel channel, long position, long size)
+            throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private ByteBuffer segment(long slot) {
+        return segments[(int) (slot >>> SLOTS_PER_SEGMENT_BITS)];
+    }
+
+    private static int offset(long slot) {
+        return (int) (slot & ((1L << SLOTS_PER_SEGMENT_BITS) - 1)) * SLOT_SIZE;
+    }
+
+    private long home(long txIdPrefix, int index) {
+        long h = (txIdPrefix ^ index) * 0x9E3779B97F4A7C15L;
+        return (h ^ (h >>> 29)) & mask;
+    }
+
+    private static void copySlot(ByteBuffer from, int fromOffset, ByteBuffer to, int toOffset) {
+        for (int i = 0; i < SLOT_SIZE; i += 8) {
+            to.putLong(toOffset + i, from.getLong(fromOffset + i));
+        }
+    }
+
+    private static void readScriptHash(ByteBuffer segment, int offset, byte[] scriptHash) {
+        for (int i = 0; i < SCRIPT_HASH_SIZE; i++) {
+            scriptHash[i] = segment.get(offset + SCRIPT_HASH + i);
+        }
+    }
+
+    private void setTxId(String hex) {
+        int start = HexCodec.hexStart(hex);
+        if (hex.length() - start != TX_ID_SIZE * 2) {
+            throw new IllegalArgumentException("Transaction id must have 32 bytes: " + hex);
+        }
+        HexCodec.decode(hex, start, hex.length(), txIdBytes, 0);
+    }
+
+    private int assetIndex(String assetId) {
+        String normalized = normalize(assetId);
+        Integer index = assetIndices.get(normalized);
+        if (index != null) {
+            return index;
+        }
+        int count = assetIndices.size();
+        if (count == MAX_ASSETS) {
+            throw new IllegalStateException("The set cannot hold more than " + MAX_ASSETS
+                    + " assets.");
+        }
+        byte[] bytes = HexCodec.decode(normalized);
+        if (bytes.length != TX_ID_SIZE) {
+            throw new IllegalArgumentException("Asset id must have 32 bytes: " + assetId);
+        }
+        for (int i = 0; i < TX_ID_SIZE; i++) {
+            header.put(ASSETS_OFFSET + count * TX_ID_SIZE + i, bytes[i]);
+        }
+        header.putInt(ASSET_COUNT_OFFSET, count + 1);
+        assetIndices.put(normalized, count);
+        return count;
+    }
+
+    private static String normalize(String hex) {
+        return HexCodec.encode(HexCodec.decode(hex));
+    }
+
+    private static long capacityFor(long expectedOutputs) {
+        long capacity = MIN_CAPACITY;
+        while (capacity < expectedOutputs * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static final class ScriptHash {
+
+        private final byte[] bytes;
+        private final int hash;
+
+        private ScriptHash(byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ScriptHash && Arrays.equals(bytes, ((ScriptHash) o).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
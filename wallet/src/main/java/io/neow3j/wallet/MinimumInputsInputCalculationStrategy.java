@@ -0,0 +1,29 @@
+package io.neow3j.wallet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selects as few inputs as {@link LargestFirstInputCalculationStrategy}, but with less change:
+ * of the k inputs needed, the k - 1 largest outputs are taken and the last input is the
+ * smallest output that covers the rest of the required amount.
+ */
+public class MinimumInputsInputCalculationStrategy extends IndexedInputCalculationStrategy {
+
+    @Override
+    protected List<Utxo> calculateInputs(UtxoValueIndex index, long required) {
+        int count = index.minimumInputCount(required);
+        List<Utxo> inputs = new ArrayList<>(count);
+        if (count == 0) {
+            return inputs;
+        }
+        int firstLarge = index.size() - (count - 1);
+        for (int i = index.size() - 1; i >= firstLarge; i--) {
+            inputs.add(index.getUtxo(i));
+        }
+        // The k-th largest output covers the rest, so the ceiling is below the large outputs.
+        long rest = required - index.sum(firstLarge, index.size());
+        inputs.add(index.getUtxo(index.ceiling(rest)));
+        return inputs;
+    }
+}
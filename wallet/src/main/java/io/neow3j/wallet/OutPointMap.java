@@ -0,0 +1,190 @@
+package io.neow3j.wallet;
+
+import java.util.function.Consumer;
+
+/**
+ * Open-addressing hash map from transaction outputs, i.e. pairs of transaction id and output
+ * index, to values.
+ *
+ * <p>The keys are kept in primitive arrays: the first 64 bits of the transaction id, which is a
+ * hash and thus evenly distributed, and the output index. The full transaction id is only
+ * compared on a match of both, which resolves collisions of the first 64 bits. Transaction ids
+ * are compared as given, so callers must use one notation, e.g. lower case without 0x
+ * prefix.</p>
+ */
+final class OutPointMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] indices;
+    private String[] txIds;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    OutPointMap() {
+        this(MIN_CAPACITY);
+    }
+
+    OutPointMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(String txId, int index) {
+        int slot = find(txId, key(txId), index);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /**
+     * @return the previous value, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    V put(String txId, int index, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null.");
+        }
+        long key = key(txId);
+        int slot = find(txId, key, index);
+        if (slot >= 0) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        if ((size + 1) * 2 > values.length) {
+            rehash(values.length * 2);
+        }
+        insert(key, index, txId, value);
+        size++;
+        return null;
+    }
+
+    /**
+     * @return the removed value, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    V remove(String txId, int index) {
+        int slot = find(txId, key(txId), index);
+        if (slot < 0) {
+            return null;
+        }
+        V removed = (V) values[slot];
+        // Shift the following entries of the probe sequence back, so that lookups do not stop
+        // at the freed slot.
+        int free = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (values[next] == null) {
+                break;
+            }
+            int home = slot(keys[next], indices[next]);
+            boolean stays = free <= next
+                    ? free < home && home <= next
+                    : free < home || home <= next;
+            if (!stays) {
+                move(next, free);
+                free = next;
+            }
+        }
+        values[free] = null;
+        txIds[free] = null;
+        size--;
+        return removed;
+    }
+
+    void clear() {
+        allocate(MIN_CAPACITY);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<? super V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    private int find(String txId, long key, int index) {
+        int slot = slot(key, index);
+        while (values[slot] != null) {
+            if (keys[slot] == key && indices[slot] == index && txIds[slot].equals(txId)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(long key, int index, String txId, Object value) {
+        int slot = slot(key, index);
+        while (values[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        indices[slot] = index;
+        txIds[slot] = txId;
+        values[slot] = value;
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        indices[to] = indices[from];
+        txIds[to] = txIds[from];
+        values[to] = values[from];
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldIndices = indices;
+        String[] oldTxIds = txIds;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                insert(oldKeys[i], oldIndices[i], oldTxIds[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        indices = new int[capacity];
+        txIds = new String[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long key, int index) {
+        long h = (key ^ index) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * @return the first 16 hex digits of the transaction id as number.
+     */
+    static long key(String txId) {
+        long key = 0;
+        int start = txId.startsWith("0x") ? 2 : 0;
+        int end = Math.min(txId.length(), start + 16);
+        for (int i = start; i < end; i++) {
+            key = (key << 4) | Character.digit(txId.charAt(i), 16);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,344 @@
+package io.neow3j.wallet;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.exceptions.ErrorResponseException;
+import io.neow3j.protocol.exceptions.RequestRejectedException;
+import io.neow3j.wallet.exceptions.ReservationExpiredException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Pays many {@link PayoutIntent}s from one account with as few transactions as possible.
+ *
+ * <p>The intents are packed into batches in the order they are given, such that the outputs of
+ * a batch, including one change output per asset, stay within the output limit and the
+ * estimated size of its transaction stays within the size limit. Each batch becomes one
+ * {@link AssetTransfer}, so inputs are selected and change is calculated once per asset and
+ * batch. The inputs are reserved in a {@link UtxoReservationPool}, which lets the batches be
+ * built and signed in parallel. If a signed transaction turns out to be larger than the size
+ * limit, e.g. because of many inputs, its batch is split in halves.</p>
+ *
+ * <p>The transactions are sent with a bounded number of concurrent requests. A batch that can
+ * not be built or that the node rejects fails as a whole and the reservation of its inputs is
+ * released. If sending fails in a way that leaves open whether the node got the transaction,
+ * e.g. a broken connection, the outcome of the batch is {@link PayoutResult.Status#UNKNOWN} and
+ * the reservation is kept, so that its inputs are not spent twice. A batch whose reservation
+ * expired while it waited to be sent is built again with newly selected inputs. The
+ * reservations of sent batches are kept and should be bound to the confirmation of their
+ * transactions, see {@link PayoutResult#getTransfer()}.</p>
+ */
+public class PayoutEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PayoutEngine.class);
+
+    public static final int DEFAULT_MAX_OUTPUTS_PER_TRANSACTION = 500;
+    public static final int DEFAULT_MAX_TRANSACTION_SIZE = 102_400;
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_SEND_CONCURRENCY = 4;
+
+    // Asset id, value and script hash of an output.
+    private static final int OUTPUT_SIZE = 32 + 8 + 20;
+    // Header, counts and the witness of a single signature account.
+    private static final int TRANSACTION_OVERHEAD = 128;
+    // Rebuilds of a batch whose reservation expired while waiting to be sent.
+    private static final int MAX_REBUILDS = 2;
+
+    private final Neow3j neow3j;
+    private final Account account;
+    private final int maxOutputsPerTransaction;
+    private final int maxTransactionSize;
+    private final InputCalculationStrategy inputCalculationStrategy;
+    private final UtxoReservationPool reservationPool;
+    private final int parallelism;
+    private final Semaphore sendPermits;
+    private final BigDecimal networkFee;
+
+    private PayoutEngine(Builder builder) {
+        this.neow3j = builder.neow3j;
+        this.account = builder.account;
+        this.maxOutputsPerTransaction = builder.maxOutputsPerTransaction;
+        this.maxTransactionSize = builder.maxTransactionSize;
+        this.inputCalculationStrategy = builder.inputCalculationStrategy;
+        this.reservationPool = builder.reservationPool;
+        this.parallelism = builder.parallelism;
+        this.sendPermits = new Semaphore(builder.sendConcurrency);
+        this.networkFee = builder.networkFee;
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    public UtxoReservationPool getReservationPool() {
+        return reservationPool;
+    }
+
+    /**
+     * Pays the intents. The intents are consumed as the batches are submitted, so that at most
+     * a few batches per thread are held in memory.
+     *
+     * @param intents The intents to pay.
+     * @return the results in the order of the intents.
+     * @throws InterruptedException if interrupted while waiting for the batches.
+     */
+    public List<PayoutResult> pay(Iterable<PayoutIntent> intents) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        Semaphore pendingBatches = new Semaphore(2 * parallelism);
+        List<Future<List<PayoutResult>>> futures = new ArrayList<>();
+        try {
+            List<PayoutIntent> batch = new ArrayList<>();
+            Set<String> assets = new HashSet<>();
+            for (PayoutIntent intent : intents) {
+                int assetCount = assets.size() + (assets.contains(intent.getAssetId()) ? 0 : 1);
+                if (!batch.isEmpty() && !fits(batch.size() + 1, assetCount)) {
+                    futures.add(submit(executor, pendingBatches, batch));
+                    batch = new ArrayList<>();
+                    assets.clear();
+                }
+                batch.add(intent);
+                assets.add(intent.getAssetId());
+            }
+            if (!batch.isEmpty()) {
+                futures.add(submit(executor, pendingBatches, batch));
+            }
+            List<PayoutResult> results = new ArrayList<>();
+            for (Future<List<PayoutResult>> future : futures) {
+                results.addAll(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            // Failures are reported per intent, so this is a bug.
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean fits(int payouts, int assets) {
+        int changeOutputs = assets + (networkFee.signum() > 0 ? 1 : 0);
+        int outputs = payouts + changeOutputs;
+        return outputs <= maxOutputsPerTransaction
+                && TRANSACTION_OVERHEAD + outputs * OUTPUT_SIZE <= maxTransactionSize;
+    }
+
+    private Future<List<PayoutResult>> submit(ExecutorService executor, Semaphore pendingBatches,
+            List<PayoutIntent> batch) throws InterruptedException {
+
+        pendingBatches.acquire();
+        try {
+            return executor.submit(() -> {
+                try {
+                    return pay(batch, 0);
+                } finally {
+                    pendingBatches.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            pendingBatches.release();
+            throw e;
+        }
+    }
+
+    private List<PayoutResult> pay(List<PayoutIntent> batch, int rebuilds)
+            throws InterruptedException {
+
+        AssetTransfer transfer = null;
+        try {
+            transfer = new AssetTransfer.Builder(neow3j)
+                    .account(account)
+                    .outputs(batch.stream()
+                            .map(PayoutIntent::toTransactionOutput)
+                            .collect(Collectors.toList()))
+                    .networkFee(networkFee)
+                    .inputCalculationStrategy(inputCalculationStrategy)
+                    .reservationPool(reservationPool)
+                    .build()
+                    .sign();
+
+            int size = transfer.getTransaction().toArray().length;
+            if (size > maxTransactionSize) {
+                transfer.getReservation().release();
+                if (batch.size() == 1) {
+                    throw new IllegalStateException("The transaction size of " + size +
+                            " bytes exceeds the maximum of " + maxTransactionSize + " bytes.");
+                }
+                LOG.debug("Splitting a batch of {} payouts with a transaction size of {} bytes.",
+                        batch.size(), size);
+                int half = batch.size() / 2;
+                List<PayoutResult> results = new ArrayList<>(pay(batch.subList(0, half), 0));
+                results.addAll(pay(batch.subList(half, batch.size()), 0));
+                return results;
+            }
+
+            sendPermits.acquire();
+        } catch (InterruptedException e) {
+            release(transfer);
+            throw e;
+        } catch (Exception e) {
+            LOG.warn("Failed to pay a batch of {} payouts.", batch.size(), e);
+            release(transfer);
+            return results(batch, PayoutResult.Status.FAILED, null, e);
+        }
+        // The transfer releases its reservation if it expired while waiting for the permit or if
+        // the node rejects the transaction, and keeps it if the outcome is unknown.
+        ReservationExpiredException expired;
+        try {
+            transfer.send();
+            return results(batch, PayoutResult.Status.SENT, transfer, null);
+        } catch (ReservationExpiredException e) {
+            expired = e;
+        } catch (ErrorResponseException | RequestRejectedException e) {
+            LOG.warn("Failed to pay a batch of {} payouts.", batch.size(), e);
+            return results(batch, PayoutResult.Status.FAILED, null, e);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Unknown outcome of sending transaction {} with {} payouts.",
+                    transfer.getTransaction().getTxId(), batch.size(), e);
+            return results(batch, PayoutResult.Status.UNKNOWN, transfer, e);
+        } finally {
+            sendPermits.release();
+        }
+        // Another batch may have claimed the inputs, so select them again.
+        if (rebuilds < MAX_REBUILDS) {
+            LOG.debug("Rebuilding a batch of {} payouts whose reservation expired.", batch.size());
+            return pay(batch, rebuilds + 1);
+        }
+        LOG.warn("Failed to pay a batch of {} payouts.", batch.size(), expired);
+        return results(batch, PayoutResult.Status.FAILED, null, expired);
+    }
+
+    private static void release(AssetTransfer transfer) {
+        if (transfer != null) {
+            transfer.getReservation().release();
+        }
+    }
+
+    private static List<PayoutResult> results(List<PayoutIntent> batch,
+            PayoutResult.Status status, AssetTransfer transfer, Exception error) {
+
+        return batch.stream()
+                .map(intent -> new PayoutResult(intent, status, transfer, error))
+                .collect(Collectors.toList());
+    }
+
+    public static class Builder {
+
+        private Neow3j neow3j;
+        private Account account;
+        private int maxOutputsPerTransaction;
+        private int maxTransactionSize;
+        private InputCalculationStrategy inputCalculationStrategy;
+        private UtxoReservationPool reservationPool;
+        private int parallelism;
+        private int sendConcurrency;
+        private BigDecimal networkFee;
+
+        public Builder(Neow3j neow3j) {
+            this.neow3j = neow3j;
+            this.maxOutputsPerTransaction = DEFAULT_MAX_OUTPUTS_PER_TRANSACTION;
+            this.maxTransactionSize = DEFAULT_MAX_TRANSACTION_SIZE;
+            this.inputCalculationStrategy = InputCalculationStrategy.DEFAULT_INPUT_CALCULATION_STRATEGY;
+            this.parallelism = DEFAULT_PARALLELISM;
+            this.sendConcurrency = DEFAULT_SEND_CONCURRENCY;
+            this.networkFee = BigDecimal.ZERO;
+        }
+
+        public Builder account(Account account) {
+            this.account = account;
+            return this;
+        }
+
+        /**
+         * @param maxOutputs The maximum number of outputs of a transaction, including the change
+         *                   outputs.
+         * @return this Builder object.
+         */
+        public Builder maxOutputsPerTransaction(int maxOutputs) {
+            this.maxOutputsPerTransaction = maxOutputs;
+            return this;
+        }
+
+        /**
+         * @param maxSize The maximum size of a signed transaction in bytes.
+         * @return this Builder object.
+         */
+        public Builder maxTransactionSize(int maxSize) {
+            this.maxTransactionSize = maxSize;
+            return this;
+        }
+
+        public Builder inputCalculationStrategy(InputCalculationStrategy strategy) {
+            this.inputCalculationStrategy = strategy;
+            return this;
+        }
+
+        /**
+         * Sets the pool in which the inputs of the transactions are reserved. Use the same pool
+         * for all transfers of the account, so that they never spend the same outputs.
+         *
+         * @param pool The pool to reserve the inputs in.
+         * @return this Builder object.
+         */
+        public Builder reservationPool(UtxoReservationPool pool) {
+            this.reservationPool = pool;
+            return this;
+        }
+
+        /**
+         * @param parallelism The number of batches that are built and signed in parallel.
+         * @return this Builder object.
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param sendConcurrency The maximum number of transactions that are sent at the same
+         *                        time.
+         * @return this Builder object.
+         */
+        public Builder sendConcurrency(int sendConcurrency) {
+            this.sendConcurrency = sendConcurrency;
+            return this;
+        }
+
+        /**
+         * @param networkFee The network fee of each transaction.
+         * @return this Builder object.
+         */
+        public Builder networkFee(BigDecimal networkFee) {
+            this.networkFee = networkFee;
+            return this;
+        }
+
+        public PayoutEngine build() {
+            if (neow3j == null) throw new IllegalStateException("Neow3j not set");
+            if (account == null) throw new IllegalStateException("Account not set");
+            if (maxOutputsPerTransaction < 3) {
+                // One payout, its change and the change of the network fee.
+                throw new IllegalStateException("Maximum number of outputs must be at least 3");
+            }
+            if (parallelism < 1) throw new IllegalStateException("Parallelism must be positive");
+            if (sendConcurrency < 1) {
+                throw new IllegalStateException("Send concurrency must be positive");
+            }
+            if (reservationPool == null) {
+                reservationPool = new UtxoReservationPool();
+            }
+            return new PayoutEngine(this);
+        }
+    }
+}
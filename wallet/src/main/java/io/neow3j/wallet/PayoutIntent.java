@@ -0,0 +1,89 @@
+package io.neow3j.wallet;
+
+import io.neow3j.crypto.Hash256;
+import io.neow3j.crypto.transaction.RawTransactionOutput;
+import io.neow3j.utils.Fixed8;
+import io.neow3j.utils.Keys;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * A payment of an amount of an asset to an address, to be paid by a {@link PayoutEngine}.
+ */
+public class PayoutIntent {
+
+    private final Hash256 assetId;
+    private final String address;
+    private final BigDecimal amount;
+    private final Fixed8 value;
+
+    /**
+     * @param assetId the id of the asset, as hex string with or without 0x prefix.
+     * @param address the receiving address.
+     * @param amount  the amount, with at most 8 decimals.
+     * @throws IllegalArgumentException if the asset id or address is invalid, or the amount is
+     *                                  not positive or not representable as {@link Fixed8}.
+     */
+    public PayoutIntent(String assetId, String address, BigDecimal amount) {
+        if (address == null || !Keys.isValidAddress(address)) {
+            throw new IllegalArgumentException("Not a valid NEO address: " + address);
+        }
+        if (amount.signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be positive: " + amount);
+        }
+        try {
+            this.value = Fixed8.fromDecimal(amount, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount must not have more than 8 decimals: "
+                    + amount);
+        }
+        this.assetId = Hash256.fromHexString(assetId);
+        this.address = address;
+        this.amount = amount;
+    }
+
+    /**
+     * @return the asset id as hex string without prefix.
+     */
+    public String getAssetId() {
+        return assetId.toHexString();
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    RawTransactionOutput toTransactionOutput() {
+        return RawTransactionOutput.fromFixed8(assetId, value, address);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PayoutIntent)) return false;
+        PayoutIntent that = (PayoutIntent) o;
+        return Objects.equals(assetId, that.assetId) &&
+                Objects.equals(address, that.address) &&
+                Objects.equals(amount, that.amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(assetId, address, amount);
+    }
+
+    @Override
+    public String toString() {
+        return "PayoutIntent{" +
+                "assetId='" + assetId + '\'' +
+                ", address='" + address + '\'' +
+                ", amount=" + amount +
+                '}';
+    }
+}
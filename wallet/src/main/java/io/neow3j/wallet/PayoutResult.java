@@ -0,0 +1,75 @@
+package io.neow3j.wallet;
+
+/**
+ * The outcome of a {@link PayoutIntent} paid by a {@link PayoutEngine}.
+ */
+public class PayoutResult {
+
+    public enum Status {
+        /** The transaction with the payment was accepted by the node. */
+        SENT,
+        /** The payment was not sent, e.g. because of insufficient funds or a rejection. */
+        FAILED,
+        /**
+         * The transaction with the payment was sent, but whether the node accepted it is not
+         * known, e.g. because the connection failed. Its inputs stay reserved; check whether
+         * the transaction shows up before paying again.
+         */
+        UNKNOWN
+    }
+
+    private final PayoutIntent intent;
+    private final Status status;
+    private final AssetTransfer transfer;
+    private final Exception error;
+
+    PayoutResult(PayoutIntent intent, Status status, AssetTransfer transfer, Exception error) {
+        this.intent = intent;
+        this.status = status;
+        this.transfer = transfer;
+        this.error = error;
+    }
+
+    public PayoutIntent getIntent() {
+        return intent;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the transfer that contains the payment, shared with the other payments of its
+     * batch, or null if the payment failed. Its reservation should be bound to the confirmation
+     * of the transaction.
+     */
+    public AssetTransfer getTransfer() {
+        return transfer;
+    }
+
+    /**
+     * @return the id of the transaction that contains the payment, or null if the payment
+     * failed.
+     */
+    public String getTransactionId() {
+        return transfer == null ? null : transfer.getTransaction().getTxId();
+    }
+
+    /**
+     * @return the cause of the failure or of the unknown outcome, or null if the payment was
+     * sent.
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "PayoutResult{" +
+                "intent=" + intent +
+                ", status=" + status +
+                ", transactionId=" + getTransactionId() +
+                ", error=" + error +
+                '}';
+    }
+}
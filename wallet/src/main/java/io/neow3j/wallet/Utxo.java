@@ -1,8 +1,11 @@
 package io.neow3j.wallet;
 
+import io.neow3j.crypto.Hash256;
 import io.neow3j.crypto.transaction.RawTransactionInput;
+import io.neow3j.utils.Fixed8;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 
 /**
  * Represents a transaction output.
@@ -11,18 +14,68 @@ public class Utxo {
 
     private String txId;
 
+    private Hash256 txHash;
+
     private Integer index;
 
     private BigDecimal value;
 
+    private Fixed8 fixed8Value;
+
+    private String outpoint;
+
     public Utxo(String txId, Integer index, BigDecimal value) {
         this.txId = txId;
         this.index = index;
         this.value = value;
+        this.fixed8Value = value == null ? null : Fixed8.fromDecimal(value);
+    }
+
+    private Utxo(String txId, Integer index, Fixed8 value) {
+        this.txId = txId;
+        this.index = index;
+        this.value = value.toBigDecimal();
+        this.fixed8Value = value;
     }
 
+    private Utxo(Hash256 txHash, Integer index, Fixed8 value) {
+        this((String) null, index, value);
+        this.txHash = txHash;
+    }
+
+    public static Utxo fromFixed8(String txId, Integer index, Fixed8 value) {
+        return new Utxo(txId, index, value);
+    }
+
+    public static Utxo fromTxHash(Hash256 txHash, Integer index, Fixed8 value) {
+        return new Utxo(txHash, index, value);
+    }
+
+    /**
+     * @return the id of the transaction as given, or as hex string without prefix if the
+     * output was created from its hash.
+     */
     public String getTxId() {
-        return txId;
+        String id = txId;
+        if (id == null && txHash != null) {
+            id = txHash.toHexString();
+            txId = id;
+        }
+        return id;
+    }
+
+    /**
+     * @return the id of the transaction.
+     * @throws IllegalArgumentException if the output was created with a transaction id that is
+     *                                  not a hash.
+     */
+    public Hash256 getTxHash() {
+        Hash256 hash = txHash;
+        if (hash == null && txId != null) {
+            hash = Hash256.fromHexString(txId);
+            txHash = hash;
+        }
+        return hash;
     }
 
     public Integer getIndex() {
@@ -33,7 +86,32 @@ public class Utxo {
         return value;
     }
 
+    /**
+     * @return the value as Fixed8, which coin selection and change calculation sum up without
+     * allocating.
+     */
+    public Fixed8 getFixed8Value() {
+        return fixed8Value;
+    }
+
+    /**
+     * @return the transaction id in lower case without prefix and the index, separated by a
+     * colon, which identifies the output.
+     */
+    String getOutpoint() {
+        String key = outpoint;
+        if (key == null) {
+            String id = getTxId();
+            if (id.startsWith("0x")) {
+                id = id.substring(2);
+            }
+            key = id.toLowerCase(Locale.ROOT) + ":" + index;
+            outpoint = key;
+        }
+        return key;
+    }
+
     public RawTransactionInput toTransactionInput() {
-        return new RawTransactionInput(txId, index);
+        return new RawTransactionInput(getTxHash(), index);
     }
 }
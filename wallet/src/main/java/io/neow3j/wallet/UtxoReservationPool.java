@@ -0,0 +1,320 @@
+package io.neow3j.wallet;
+
+import io.neow3j.crypto.Hash256;
+import io.neow3j.utils.Fixed8;
+import io.neow3j.wallet.exceptions.InsufficientFundsException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Reserves unspent outputs for transactions that are built at the same time, so that two
+ * transactions of one account never spend the same output.
+ *
+ * <p>The claims are kept in a {@link ConcurrentHashMap} from outpoint to reservation and are
+ * taken with compare-and-set operations, so that no lock is held while inputs are selected or
+ * transactions are signed. Inputs are selected from the outputs that are not claimed; if
+ * another thread claims one of the selected outputs first, the claims of the attempt are
+ * dropped and the selection is repeated.</p>
+ *
+ * <p>A reservation expires after a timeout unless it is confirmed or released before. Once
+ * confirmed, its outputs stay claimed for a retention time, which should be long enough for
+ * the balances of the account to be refreshed, since the spent outputs are still in the
+ * balances until then. Expired claims are taken over on demand, and every
+ * {@value #PURGE_INTERVAL} new reservations they are removed with {@link #purgeExpired()}, so
+ * that the claims of a long-lived pool do not pile up.</p>
+ */
+public class UtxoReservationPool {
+
+    public static final long DEFAULT_TIMEOUT = 60_000;
+    public static final long DEFAULT_SPENT_RETENTION = 10 * 60_000;
+
+    static final int PURGE_INTERVAL = 256;
+
+    private static final int MAX_ATTEMPTS = 16;
+
+    private final ConcurrentHashMap<String, Reservation> claims = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+    private final long spentRetentionNanos;
+    private final LongSupplier clock;
+    private final AtomicInteger reservationCount = new AtomicInteger();
+
+    public UtxoReservationPool() {
+        this(DEFAULT_TIMEOUT, DEFAULT_SPENT_RETENTION);
+    }
+
+    /**
+     * @param timeout        the time in milliseconds after which a reservation that was neither
+     *                       confirmed nor released expires.
+     * @param spentRetention the time in milliseconds for which the outputs of a confirmed
+     *                       reservation stay claimed.
+     */
+    public UtxoReservationPool(long timeout, long spentRetention) {
+        this(timeout, spentRetention, System::nanoTime);
+    }
+
+    UtxoReservationPool(long timeout, long spentRetention, LongSupplier clock) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        this.spentRetentionNanos = TimeUnit.MILLISECONDS.toNanos(spentRetention);
+        this.clock = clock;
+    }
+
+    /**
+     * @return a new reservation without outputs, to which outputs of several assets can be
+     * added with {@link Reservation#claim(Account, Hash256, Fixed8, InputCalculationStrategy)}.
+     */
+    public Reservation newReservation() {
+        if (reservationCount.incrementAndGet() % PURGE_INTERVAL == 0) {
+            purgeExpired();
+        }
+        return new Reservation(clock.getAsLong() + timeoutNanos);
+    }
+
+    /**
+     * Selects and reserves inputs of the asset that cover the amount.
+     *
+     * @return the reservation.
+     * @throws InsufficientFundsException if the outputs that are not reserved do not cover the
+     *                                    amount.
+     */
+    public Reservation reserve(Account account, String assetId, Fixed8 amount,
+            InputCalculationStrategy strategy) {
+
+        return reserve(account, Hash256.fromHexString(assetId), amount, strategy);
+    }
+
+    /**
+     * Selects and reserves inputs of the asset that cover the amount.
+     *
+     * @return the reservation.
+     * @throws InsufficientFundsException if the outputs that are not reserved do not cover the
+     *                                    amount.
+     */
+    public Reservation reserve(Account account, Hash256 assetId, Fixed8 amount,
+            InputCalculationStrategy strategy) {
+
+        Reservation reservation = newReservation();
+        reservation.claim(account, assetId, amount, strategy);
+        return reservation;
+    }
+
+    /**
+     * @return true if the output is claimed by a reservation that has not expired.
+     */
+    public boolean isReserved(Utxo utxo) {
+        return isClaimed(claims.get(key(utxo)), clock.getAsLong());
+    }
+
+    /**
+     * @return the number of outputs claimed by reservations that have not expired.
+     */
+    public int getReservedCount() {
+        long now = clock.getAsLong();
+        return (int) claims.values().stream().filter(r -> isClaimed(r, now)).count();
+    }
+
+    /**
+     * Removes the claims of expired reservations.
+     *
+     * @return the number of removed claims.
+     */
+    public int purgeExpired() {
+        long now = clock.getAsLong();
+        int[] removed = new int[1];
+        claims.forEach((key, reservation) -> {
+            if (!isClaimed(reservation, now) && claims.remove(key, reservation)) {
+                removed[0]++;
+            }
+        });
+        return removed[0];
+    }
+
+    /**
+     * @return the number of claims, including those of expired reservations.
+     */
+    int getClaimCount() {
+        return claims.size();
+    }
+
+    private static boolean isClaimed(Reservation reservation, long now) {
+        return reservation != null && reservation.deadline - now > 0;
+    }
+
+    private static String key(Utxo utxo) {
+        return utxo.getOutpoint();
+    }
+
+    /**
+     * Outputs reserved for one transaction.
+     */
+    public class Reservation {
+
+        private final List<Utxo> utxos = new ArrayList<>();
+        private final List<String> keys = new ArrayList<>();
+        private volatile long deadline;
+
+        private Reservation(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /**
+         * Selects inputs of the asset that cover the amount from the outputs of the account
+         * that are not reserved, and adds them to this reservation.
+         *
+         * @return the selected inputs.
+         * @throws InsufficientFundsException if the outputs that are not reserved do not cover
+         *                                    the amount.
+         * @throws IllegalStateException      if the reservation expired or the inputs could
+         *                                    not be claimed because of contention.
+         */
+        public List<Utxo> claim(Account account, String assetId, Fixed8 amount,
+                InputCalculationStrategy strategy) {
+
+            return claim(account, Hash256.fromHexString(assetId), amount, strategy);
+        }
+
+        /**
+         * Selects inputs of the asset that cover the amount from the outputs of the account
+         * that are not reserved, and adds them to this reservation.
+         *
+         * @return the selected inputs.
+         * @throws InsufficientFundsException if the outputs that are not reserved do not cover
+         *                                    the amount.
+         * @throws IllegalStateException      if the reservation expired or the inputs could
+         *                                    not be claimed because of contention.
+         */
+        public synchronized List<Utxo> claim(Account account, Hash256 assetId, Fixed8 amount,
+                InputCalculationStrategy strategy) {
+
+            Balances.AssetBalance balance = account.getBalances().getAssetBalance(assetId);
+            if (balance == null) {
+                throw new InsufficientFundsException("Account balance does not contain the " +
+                        "asset with ID " + assetId);
+            }
+            // Selects from the value index of the balance, without the claimed outputs.
+            return claim(now -> claims.isEmpty()
+                    ? strategy.calculateInputs(balance, amount)
+                    : strategy.calculateInputs(balance, amount,
+                            u -> isClaimed(claims.get(key(u)), now)));
+        }
+
+        /**
+         * Selects inputs that cover the amount from the outputs that are not reserved, and adds
+         * them to this reservation.
+         *
+         * @return the selected inputs.
+         * @throws InsufficientFundsException if the outputs that are not reserved do not cover
+         *                                    the amount.
+         * @throws IllegalStateException      if the reservation expired or the inputs could
+         *                                    not be claimed because of contention.
+         */
+        public synchronized List<Utxo> claim(List<Utxo> candidates, Fixed8 amount,
+                InputCalculationStrategy strategy) {
+
+            return claim(now -> strategy.calculateInputs(candidates.stream()
+                    .filter(u -> !isClaimed(claims.get(key(u)), now))
+                    .collect(Collectors.toList()), amount));
+        }
+
+        /**
+         * @param selection selects inputs from the outputs that are not claimed at the given
+         *                  time.
+         */
+        private List<Utxo> claim(LongFunction<List<Utxo>> selection) {
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                long now = clock.getAsLong();
+                if (!isClaimed(this, now)) {
+                    throw new IllegalStateException("The reservation expired.");
+                }
+                List<Utxo> selected = selection.apply(now);
+                List<String> claimed = new ArrayList<>(selected.size());
+                for (Utxo utxo : selected) {
+                    String key = key(utxo);
+                    if (!tryClaim(key, now)) {
+                        break;
+                    }
+                    claimed.add(key);
+                }
+                if (claimed.size() == selected.size()) {
+                    utxos.addAll(selected);
+                    keys.addAll(claimed);
+                    return selected;
+                }
+                // Another reservation was faster, so try again without its outputs.
+                claimed.forEach(key -> claims.remove(key, this));
+            }
+            throw new IllegalStateException("Could not reserve inputs after " + MAX_ATTEMPTS
+                    + " attempts.");
+        }
+
+        private boolean tryClaim(String key, long now) {
+            while (true) {
+                Reservation current = claims.putIfAbsent(key, this);
+                if (current == null) {
+                    return true;
+                }
+                if (current == this || isClaimed(current, now)) {
+                    return false;
+                }
+                if (claims.replace(key, current, this)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * @return the reserved outputs.
+         */
+        public synchronized List<Utxo> getUtxos() {
+            return Collections.unmodifiableList(new ArrayList<>(utxos));
+        }
+
+        public boolean isExpired() {
+            return !isClaimed(this, clock.getAsLong());
+        }
+
+        /**
+         * Marks the outputs as spent, e.g. when a node accepted the transaction or it was
+         * included in a block. They stay claimed for the spent retention time of the pool from
+         * now on. A reservation must be confirmed before it expires, because expired claims may
+         * have been taken over.
+         */
+        public void confirm() {
+            deadline = clock.getAsLong() + spentRetentionNanos;
+        }
+
+        /**
+         * Releases the outputs, e.g. when the transaction failed, so that other transactions
+         * can spend them.
+         */
+        public synchronized void release() {
+            deadline = clock.getAsLong();
+            keys.forEach(key -> claims.remove(key, this));
+        }
+
+        /**
+         * Confirms this reservation when the stage completes normally and releases it when the
+         * stage completes exceptionally, e.g. with the future of a confirmation tracker.
+         *
+         * @return this reservation.
+         */
+        public Reservation bindTo(CompletionStage<?> confirmation) {
+            confirmation.whenComplete((result, error) -> {
+                if (error == null) {
+                    confirm();
+                } else {
+                    release();
+                }
+            });
+            return this;
+        }
+    }
+}
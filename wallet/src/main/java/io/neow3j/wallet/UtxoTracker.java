@@ -0,0 +1,229 @@
+package io.neow3j.wallet;
+
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.TransactionInput;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import io.neow3j.protocol.exceptions.ErrorResponseException;
+import io.neow3j.protocol.pipeline.BlockCursorStore;
+import io.neow3j.protocol.pipeline.BlockPipeline;
+import io.neow3j.utils.Fixed8;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Subscription;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the unspent transaction outputs of a set of watched addresses up to date from the
+ * blocks of the chain, so that their asset balances can be refreshed without a request to the
+ * node.
+ *
+ * <p>The tracker is bootstrapped once with {@code getunspents} for every watched address. After
+ * that, each block is applied incrementally: the outputs of its transactions that go to a
+ * watched address are added and the outputs referenced by the inputs of its transactions are
+ * removed. Applying a block is idempotent, so blocks that were already reflected in the
+ * bootstrap can be applied again without harm.</p>
+ *
+ * <p>Transaction and asset ids are kept in lower case without 0x prefix, as returned by
+ * {@code getunspents}.</p>
+ */
+public class UtxoTracker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UtxoTracker.class);
+
+    private final Neow3j neow3j;
+    private final Set<String> addresses;
+
+    private final OutPointMap<Entry> outputs = new OutPointMap<>();
+    /** The outputs of each watched address by asset id. */
+    private final Map<String, Map<String, Set<Entry>>> outputsByAddress = new HashMap<>();
+
+    /**
+     * @param neow3j    the client used to bootstrap and follow the chain.
+     * @param addresses the addresses to watch.
+     */
+    public UtxoTracker(Neow3j neow3j, Collection<String> addresses) {
+        this.neow3j = neow3j;
+        this.addresses = Collections.unmodifiableSet(new HashSet<>(addresses));
+    }
+
+    public Set<String> getAddresses() {
+        return addresses;
+    }
+
+    /**
+     * Replaces the tracked outputs with the unspent outputs reported by the node.
+     *
+     * @throws IOException            if a request fails.
+     * @throws ErrorResponseException if the node returns an error, e.g. because it lacks the
+     *                                plugin for {@code getunspents}.
+     */
+    public void bootstrap() throws IOException, ErrorResponseException {
+        Map<String, NeoGetUnspents.Unspents> unspents = new HashMap<>();
+        for (String address : addresses) {
+            NeoGetUnspents response = neow3j.getUnspents(address).send();
+            response.throwOnError();
+            unspents.put(address, response.getUnspents());
+        }
+        synchronized (this) {
+            outputs.clear();
+            outputsByAddress.clear();
+            unspents.forEach((address, u) -> u.getBalances().forEach(balance -> {
+                String assetId = normalize(balance.getAssetHash());
+                balance.getUnspentTransactions().forEach(utxo -> add(address, assetId,
+                        Utxo.fromFixed8(normalize(utxo.getTxId()), utxo.getIndex(),
+                                Fixed8.fromDecimal(utxo.getValue()))));
+            }));
+        }
+    }
+
+    /**
+     * Bootstraps the tracker and follows the chain from the latest block on.
+     *
+     * @param pollingInterval the time in milliseconds to wait for new blocks.
+     * @return the subscription to the blocks, which stops following the chain when
+     * unsubscribed.
+     * @throws IOException            if a request fails.
+     * @throws ErrorResponseException if the node returns an error.
+     */
+    public Subscription start(long pollingInterval) throws IOException, ErrorResponseException {
+        // Blocks from here on may already be reflected in the bootstrap, which does no harm.
+        BigInteger latest = neow3j.getBlockCount().send().getBlockIndex()
+                .subtract(BigInteger.ONE);
+        bootstrap();
+        return new BlockPipeline.Builder(neow3j)
+                .cursorStore(new BlockCursorStore() {
+                    @Override
+                    public BigInteger load() {
+                        return null;
+                    }
+
+                    @Override
+                    public void store(BigInteger blockIndex) {
+                    }
+                })
+                .startBlock(latest.max(BigInteger.ZERO))
+                .processor(this::applyBlock)
+                .pollingInterval(pollingInterval)
+                .build()
+                .observable()
+                .subscribe(index -> { }, e -> LOG.error("Stopped tracking UTXOs.", e));
+    }
+
+    /**
+     * Applies the inputs and outputs of the transactions of the block, which must contain the
+     * full transaction objects.
+     */
+    public synchronized void applyBlock(NeoBlock block) {
+        if (block.getTransactions() == null) {
+            return;
+        }
+        for (Transaction tx : block.getTransactions()) {
+            if (tx.getInputs() != null) {
+                for (TransactionInput input : tx.getInputs()) {
+                    Entry spent = outputs.remove(normalize(input.getPrevHash()),
+                            input.getPrevIndex());
+                    if (spent != null) {
+                        outputsByAddress.get(spent.address).get(spent.assetId).remove(spent);
+                    }
+                }
+            }
+            if (tx.getOutputs() != null) {
+                String txId = normalize(tx.getTransactionId());
+                for (int i = 0; i < tx.getOutputs().size(); i++) {
+                    TransactionOutput output = tx.getOutputs().get(i);
+                    if (!addresses.contains(output.getAddress())) {
+                        continue;
+                    }
+                    int index = output.getIndex() != null ? output.getIndex() : i;
+                    add(output.getAddress(), normalize(output.getAssetId()),
+                            Utxo.fromFixed8(txId, index, Fixed8.fromDecimal(output.getValue())));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of tracked unspent outputs over all watched addresses.
+     */
+    public synchronized int getUtxoCount() {
+        return outputs.size();
+    }
+
+    /**
+     * @param address a watched address.
+     * @return the unspent outputs of the address by asset id. Assets without outputs are left
+     * out.
+     */
+    public synchronized Map<String, List<Utxo>> getUtxos(String address) {
+        Map<String, Set<Entry>> byAsset = outputsByAddress.get(address);
+        if (byAsset == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<Utxo>> utxos = new HashMap<>(byAsset.size() * 2);
+        byAsset.forEach((assetId, entries) -> {
+            if (!entries.isEmpty()) {
+                List<Utxo> list = new ArrayList<>(entries.size());
+                entries.forEach(entry -> list.add(entry.utxo));
+                utxos.put(assetId, list);
+            }
+        });
+        return utxos;
+    }
+
+    /**
+     * Creates a snapshot of the asset balances of the account from the tracked outputs.
+     *
+     * @param account an account with a watched address.
+     * @return the balances, which are not updated by later blocks.
+     */
+    public Balances getBalances(Account account) {
+        Balances balances = new Balances(account);
+        balances.updateAssetBalances(getUtxos(account.getAddress()));
+        return balances;
+    }
+
+    private void add(String address, String assetId, Utxo utxo) {
+        Entry entry = new Entry(address, assetId, utxo);
+        Entry previous = outputs.put(utxo.getTxId(), utxo.getIndex(), entry);
+        if (previous != null) {
+            outputsByAddress.get(previous.address).get(previous.assetId).remove(previous);
+        }
+        outputsByAddress
+                .computeIfAbsent(address, a -> new HashMap<>())
+                .computeIfAbsent(assetId, a -> new LinkedHashSet<>())
+                .add(entry);
+    }
+
+    private static String normalize(String hash) {
+        String hex = hash.startsWith("0x") ? hash.substring(2) : hash;
+        return hex.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Entry {
+
+        private final String address;
+        private final String assetId;
+        private final Utxo utxo;
+
+        private Entry(String address, String assetId, Utxo utxo) {
+            this.address = address;
+            this.assetId = assetId;
+            this.utxo = utxo;
+        }
+    }
+}
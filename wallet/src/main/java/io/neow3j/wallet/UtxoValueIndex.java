@@ -0,0 +1,151 @@
+package io.neow3j.wallet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Unspent outputs of one asset sorted by value, with prefix sums of the values.
+ *
+ * <p>Building the index costs O(n log n). After that, finding the smallest output of at least a
+ * value, the sum of the k smallest or largest outputs and the least number of outputs that
+ * cover an amount cost O(log n) or less, which lets coin selection avoid a scan over all
+ * outputs per transfer. Outputs of equal value keep the order of the list the index was built
+ * from. Values are raw {@link io.neow3j.utils.Fixed8} values.</p>
+ */
+public final class UtxoValueIndex {
+
+    private final Utxo[] utxos;
+    private final long[] values;
+    /** The sum of the values before each position, with the total at the end. */
+    private final long[] prefixSums;
+
+    public UtxoValueIndex(List<Utxo> utxos) {
+        List<Utxo> sorted = new ArrayList<>(utxos);
+        sorted.sort(Comparator.comparingLong(u -> u.getFixed8Value().getRawValue()));
+        this.utxos = sorted.toArray(new Utxo[0]);
+        this.values = new long[this.utxos.length];
+        this.prefixSums = new long[this.utxos.length + 1];
+        for (int i = 0; i < this.utxos.length; i++) {
+            values[i] = this.utxos[i].getFixed8Value().getRawValue();
+            prefixSums[i + 1] = Math.addExact(prefixSums[i], values[i]);
+        }
+    }
+
+    private UtxoValueIndex(Utxo[] utxos, long[] values, long[] prefixSums) {
+        this.utxos = utxos;
+        this.values = values;
+        this.prefixSums = prefixSums;
+    }
+
+    /**
+     * Derives the index of the outputs that are not excluded in one pass, without sorting
+     * again.
+     *
+     * @param excluded tells the outputs to leave out.
+     * @return the derived index, or this index if no output is excluded.
+     */
+    public UtxoValueIndex without(Predicate<Utxo> excluded) {
+        Utxo[] kept = null;
+        int count = 0;
+        for (int i = 0; i < utxos.length; i++) {
+            if (excluded.test(utxos[i])) {
+                if (kept == null) {
+                    kept = new Utxo[utxos.length - 1];
+                    System.arraycopy(utxos, 0, kept, 0, i);
+                    count = i;
+                }
+            } else if (kept != null) {
+                kept[count++] = utxos[i];
+            }
+        }
+        if (kept == null) {
+            return this;
+        }
+        long[] keptValues = new long[count];
+        long[] keptPrefixSums = new long[count + 1];
+        for (int i = 0; i < count; i++) {
+            keptValues[i] = kept[i].getFixed8Value().getRawValue();
+            keptPrefixSums[i + 1] = keptPrefixSums[i] + keptValues[i];
+        }
+        return new UtxoValueIndex(Arrays.copyOf(kept, count), keptValues, keptPrefixSums);
+    }
+
+    public int size() {
+        return utxos.length;
+    }
+
+    /**
+     * @param position the position in ascending order of value.
+     */
+    public Utxo getUtxo(int position) {
+        return utxos[position];
+    }
+
+    /**
+     * @param position the position in ascending order of value.
+     */
+    public long getValue(int position) {
+        return values[position];
+    }
+
+    public long getTotal() {
+        return prefixSums[utxos.length];
+    }
+
+    /**
+     * @return the sum of the values from position {@code from} inclusive to {@code to}
+     * exclusive.
+     */
+    public long sum(int from, int to) {
+        return prefixSums[to] - prefixSums[from];
+    }
+
+    public long sumOfLargest(int count) {
+        return sum(utxos.length - count, utxos.length);
+    }
+
+    /**
+     * @return the position of the smallest output with at least the value, or {@link #size()}
+     * if there is none.
+     */
+    public int ceiling(long value) {
+        int low = 0;
+        int high = utxos.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the least number of outputs whose values sum up to at least the amount, i.e. the
+     * number of the largest outputs needed, or -1 if all outputs together are not enough.
+     */
+    public int minimumInputCount(long amount) {
+        if (amount <= 0) {
+            return 0;
+        }
+        if (getTotal() < amount) {
+            return -1;
+        }
+        int low = 1;
+        int high = utxos.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sumOfLargest(mid) < amount) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,21 +1,33 @@
 package io.neow3j.wallet;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.crypto.Hash160;
 import io.neow3j.crypto.NEP2;
 import io.neow3j.crypto.ScryptParams;
 import io.neow3j.crypto.exceptions.CipherException;
 import io.neow3j.crypto.exceptions.NEP2InvalidFormat;
 import io.neow3j.crypto.exceptions.NEP2InvalidPassphrase;
+import io.neow3j.protocol.Neow3j;
 import io.neow3j.wallet.nep6.NEP6Account;
 import io.neow3j.wallet.nep6.NEP6Wallet;
+import io.neow3j.wallet.nep6.NEP6WalletReader;
+import io.neow3j.wallet.nep6.NEP6WalletWriter;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static io.neow3j.crypto.SecurityProviderChecker.addBouncyCastle;
@@ -39,10 +51,26 @@ public class Wallet {
 
     private String version;
 
-    private List<Account> accounts = new ArrayList<>();
+    /** All accounts in insertion order. Guarded by itself. */
+    private final Map<String, Account> accounts = new LinkedHashMap<>();
+
+    private final Map<String, Account> accountsByAddress = new ConcurrentHashMap<>();
+
+    private final Map<Hash160, Account> accountsByScriptHash = new ConcurrentHashMap<>();
+
+    /** Snapshot of the accounts for {@link #getAccounts()}, or null after a change. */
+    private volatile List<Account> accountList;
+
+    private volatile Account defaultAccount;
+
+    /** Keeps the JSON of the saved accounts between saves. */
+    private final NEP6WalletWriter nep6Writer = new NEP6WalletWriter(OBJECT_MAPPER);
 
     private ScryptParams scryptParams;
 
+    /** The wallet file to read the keys from, or null if the keys were read. */
+    private volatile File keysFile;
+
     static {
         addBouncyCastle();
     }
@@ -54,7 +82,8 @@ public class Wallet {
         this.name = builder.name;
         this.version = builder.version;
         this.scryptParams = builder.scryptParams;
-        this.accounts = builder.accounts;
+        this.keysFile = builder.keysFile;
+        builder.accounts.forEach(this::addAccount);
     }
 
     public String getName() {
@@ -65,8 +94,42 @@ public class Wallet {
         return version;
     }
 
+    /**
+     * @return the accounts in the order in which they were added. The list is an unmodifiable
+     * snapshot, which does not change when accounts are added or removed later.
+     */
     public List<Account> getAccounts() {
-        return accounts;
+        List<Account> list = accountList;
+        if (list == null) {
+            synchronized (accounts) {
+                list = accountList;
+                if (list == null) {
+                    list = Collections.unmodifiableList(new ArrayList<>(accounts.values()));
+                    accountList = list;
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * @param address the address of the account.
+     * @return the account, or null if there is no account with that address in this wallet.
+     */
+    public Account getAccount(String address) {
+        return accountsByAddress.get(address);
+    }
+
+    /**
+     * @param scriptHash the script hash of the account.
+     * @return the account, or null if there is no account with that script hash in this wallet.
+     */
+    public Account getAccount(Hash160 scriptHash) {
+        return accountsByScriptHash.get(scriptHash);
+    }
+
+    public boolean containsAccount(String address) {
+        return accountsByAddress.containsKey(address);
     }
 
     /**
@@ -76,8 +139,16 @@ public class Wallet {
      * @param index the index of the new default account.
      */
     public void setDefaultAccount(int index) {
-        for (int i = 0; i < accounts.size(); i++) {
-            accounts.get(i).setIsDefault(i == index);
+        synchronized (accounts) {
+            Account newDefault = null;
+            int i = 0;
+            for (Account account : accounts.values()) {
+                account.setIsDefault(i == index);
+                if (i++ == index) {
+                    newDefault = account;
+                }
+            }
+            defaultAccount = newDefault;
         }
     }
 
@@ -86,9 +157,11 @@ public class Wallet {
     }
 
     public Account getDefaultAccount() {
-        return this.accounts.stream().filter(Account::isDefault)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("No default account found."));
+        Account account = defaultAccount;
+        if (account == null) {
+            throw new IllegalStateException("No default account found.");
+        }
+        return account;
     }
 
     public void setName(String name) {
@@ -107,10 +180,18 @@ public class Wallet {
      * the wallet.
      */
     public boolean addAccount(Account account) {
-        if (accounts.stream().anyMatch(acc -> acc.getAddress().equals(account.getAddress()))) {
-            return false;
+        Hash160 scriptHash = account.getScriptHash160();
+        synchronized (accounts) {
+            if (accounts.putIfAbsent(account.getAddress(), account) != null) {
+                return false;
+            }
+            accountsByAddress.put(account.getAddress(), account);
+            accountsByScriptHash.put(scriptHash, account);
+            if (defaultAccount == null && account.isDefault()) {
+                defaultAccount = account;
+            }
+            accountList = null;
         }
-        accounts.add(account);
         return true;
     }
 
@@ -121,26 +202,84 @@ public class Wallet {
      * @return true if an account was removed, false if no account with the given address was found.
      */
     public boolean removeAccount(String address) {
-        return accounts.removeIf(acc -> acc.getAddress().equals(address));
+        synchronized (accounts) {
+            Account removed = accounts.remove(address);
+            if (removed == null) {
+                return false;
+            }
+            accountsByAddress.remove(address);
+            accountsByScriptHash.remove(removed.getScriptHash160());
+            if (removed == defaultAccount) {
+                // Only here the accounts are scanned, for another account marked as default.
+                defaultAccount = accounts.values().stream().filter(Account::isDefault)
+                        .findFirst().orElse(null);
+            }
+            accountList = null;
+        }
+        return true;
     }
 
     public void decryptAllAccounts(String password)
             throws NEP2InvalidFormat, CipherException, NEP2InvalidPassphrase {
 
-        for (Account acct : accounts) {
+        checkKeysLoaded();
+        for (Account acct : getAccounts()) {
             acct.decryptPrivateKey(password, scryptParams);
         }
     }
 
     public void encryptAllAccounts(String password) throws CipherException {
 
-        for (Account acct : accounts) {
+        checkKeysLoaded();
+        for (Account acct : getAccounts()) {
             acct.encryptPrivateKey(password, scryptParams);
         }
     }
 
+    /**
+     * Refreshes the balances of all accounts of this wallet from the node, with up to
+     * {@link BalanceRefreshOptions#getParallelism()} accounts in flight at the same time.
+     *
+     * <p>The balances of an account are only updated after all its requests succeeded. A failure
+     * of one account does not abort the refresh of the others, but is reported in the
+     * result.</p>
+     *
+     * @param neow3j  the client used to fetch the balances.
+     * @param options the balances to refresh and the parallelism.
+     * @return the number of refreshed accounts and the failures by address.
+     * @throws InterruptedException if the thread is interrupted while waiting for the refresh.
+     */
+    public BalanceRefreshResult refreshBalances(Neow3j neow3j, BalanceRefreshOptions options)
+            throws InterruptedException {
+
+        List<Account> snapshot = getAccounts();
+        if (snapshot.isEmpty()) {
+            return new BalanceRefreshResult(0, Collections.emptyMap());
+        }
+        Map<String, Exception> failures = new ConcurrentHashMap<>();
+        List<Callable<Void>> tasks = new ArrayList<>(snapshot.size());
+        for (Account account : snapshot) {
+            tasks.add(() -> {
+                try {
+                    account.updateBalances(neow3j, options.isAssets(), options.isTokens());
+                } catch (Exception e) {
+                    failures.put(account.getAddress(), e);
+                }
+                return null;
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(options.getParallelism(), snapshot.size()));
+        try {
+            executor.invokeAll(tasks);
+        } finally {
+            executor.shutdownNow();
+        }
+        return new BalanceRefreshResult(snapshot.size() - failures.size(), failures);
+    }
+
     public NEP6Wallet toNEP6Wallet() {
-        List<NEP6Account> accts = accounts.stream().map(
+        List<NEP6Account> accts = getAccounts().stream().map(
                 a -> a.toNEP6Account()).collect(Collectors.toList());
         return new NEP6Wallet(name, version, scryptParams, accts, null);
     }
@@ -157,9 +296,53 @@ public class Wallet {
         return fromNEP6Wallet(new FileInputStream(nep6WalletFile));
     }
 
+    /**
+     * Reads a NEP-6 wallet file with a {@link NEP6WalletReader}, which creates the accounts one
+     * at a time instead of reading the whole file into a {@link NEP6Wallet} first.
+     *
+     * @param nep6WalletFileInputStream the stream of the wallet file, which is closed.
+     * @return the builder of the wallet.
+     * @throws IOException if the stream cannot be read or does not contain a wallet.
+     */
     public static Builder fromNEP6Wallet(InputStream nep6WalletFileInputStream) throws IOException {
-        NEP6Wallet nep6Wallet = OBJECT_MAPPER.readValue(nep6WalletFileInputStream, NEP6Wallet.class);
-        return fromNEP6Wallet(nep6Wallet);
+        Builder b = new Builder();
+        NEP6Wallet nep6Wallet = new NEP6WalletReader(OBJECT_MAPPER).read(
+                nep6WalletFileInputStream,
+                nep6Acct -> b.accounts.add(Account.fromNEP6Account(nep6Acct).build()));
+        b.name = nep6Wallet.getName();
+        b.version = nep6Wallet.getVersion();
+        b.scryptParams = nep6Wallet.getScrypt();
+        return b;
+    }
+
+    /**
+     * Opens a NEP-6 wallet file from its {@link WalletIndex} if the index is up to date, and
+     * reads the wallet file as {@link #fromNEP6Wallet(File)} does otherwise.
+     *
+     * <p>When opened from the index, the accounts of the wallet file are not parsed and the
+     * accounts have no keys until {@link Wallet#loadKeys()} is called. Saving the wallet loads
+     * the keys first.</p>
+     *
+     * @param nep6WalletFile the NEP-6 wallet file.
+     * @return the builder of the wallet.
+     * @throws IOException if a file cannot be read or does not contain a wallet.
+     */
+    public static Builder fromIndexedNEP6Wallet(File nep6WalletFile) throws IOException {
+        WalletIndex index = WalletIndex.open(nep6WalletFile.toPath());
+        if (index == null) {
+            return fromNEP6Wallet(nep6WalletFile);
+        }
+        NEP6Wallet nep6Wallet = new NEP6WalletReader(OBJECT_MAPPER).read(
+                new FileInputStream(nep6WalletFile), null);
+        Builder b = new Builder();
+        b.name = nep6Wallet.getName();
+        b.version = nep6Wallet.getVersion();
+        b.scryptParams = nep6Wallet.getScrypt();
+        for (int i = 0; i < index.size(); i++) {
+            b.accounts.add(index.getAccount(i));
+        }
+        b.keysFile = nep6WalletFile;
+        return b;
     }
 
     public static Builder fromNEP6Wallet(NEP6Wallet nep6Wallet) {
@@ -176,22 +359,83 @@ public class Wallet {
     /**
      * Creates a NEP6 compatible wallet file.
      *
+     * <p>The file is written with a {@link NEP6WalletWriter} to a temporary file, which then
+     * replaces the destination atomically. Accounts that did not change since the last save of
+     * this wallet are not serialized again.</p>
+     *
      * @param destination the file that the wallet file should be saved.
      * @return the new wallet.
      * @throws IOException
      */
     public Wallet saveNEP6Wallet(File destination) throws IOException {
+        return saveNEP6Wallet(destination, false);
+    }
+
+    /**
+     * Creates a NEP6 compatible wallet file and optionally a {@link WalletIndex} next to it.
+     * Without the index, an index left from an earlier save is deleted.
+     *
+     * @param destination the file that the wallet file should be saved.
+     * @param withIndex   whether to write the index of the accounts as well.
+     * @return the new wallet.
+     * @throws IOException
+     */
+    public Wallet saveNEP6Wallet(File destination, boolean withIndex) throws IOException {
+        loadKeys();
+        List<Account> accts = getAccounts();
+        saveNEP6Wallet(destination, accts);
+        if (withIndex) {
+            WalletIndex.write(destination.toPath(), accts);
+        } else {
+            Files.deleteIfExists(WalletIndex.indexFileOf(destination.toPath()));
+        }
+        return this;
+    }
+
+    /**
+     * Reads the encrypted private keys of the accounts from the wallet file, if the wallet was
+     * opened with {@link #fromIndexedNEP6Wallet(File)} and the keys were not read yet.
+     *
+     * @return this wallet.
+     * @throws IOException if the wallet file cannot be read.
+     */
+    public Wallet loadKeys() throws IOException {
+        synchronized (nep6Writer) {
+            File file = keysFile;
+            if (file != null) {
+                new NEP6WalletReader(OBJECT_MAPPER).read(new FileInputStream(file), nep6Acct -> {
+                    Account account = getAccount(nep6Acct.getAddress());
+                    if (account != null && nep6Acct.getKey() != null) {
+                        account.loadEncryptedPrivateKey(nep6Acct.getKey());
+                    }
+                });
+                keysFile = null;
+            }
+        }
+        return this;
+    }
+
+    private void checkKeysLoaded() {
+        if (keysFile != null) {
+            throw new IllegalStateException("The keys of the wallet are not loaded. Call "
+                    + "loadKeys() first.");
+        }
+    }
+
+    private Wallet saveNEP6Wallet(File destination, List<Account> accts) throws IOException {
         if (destination == null) {
             throw new IllegalArgumentException("Destination file cannot be null");
         }
 
-        NEP6Wallet nep6Wallet = toNEP6Wallet();
-
         if (!destination.isFile()) {
             throw new IllegalArgumentException("Destination file cannot be a directory");
         }
 
-        OBJECT_MAPPER.writeValue(destination, nep6Wallet);
+        synchronized (nep6Writer) {
+            nep6Writer.write(destination.toPath(),
+                    new NEP6Wallet(name, version, scryptParams, null, null),
+                    () -> accts.stream().map(Account::toNEP6Account).iterator());
+        }
         return this;
     }
 
@@ -245,6 +489,7 @@ public class Wallet {
         String version;
         List<Account> accounts;
         ScryptParams scryptParams;
+        File keysFile;
 
         public Builder() {
             this.name = DEFAULT_WALLET_NAME;
@@ -288,7 +533,7 @@ public class Wallet {
         return "Wallet{" +
                 "name='" + name + '\'' +
                 ", version='" + version + '\'' +
-                ", accounts=" + accounts +
+                ", accounts=" + getAccounts() +
                 ", scryptParams=" + scryptParams +
                 '}';
     }
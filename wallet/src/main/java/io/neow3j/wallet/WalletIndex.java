@@ -0,0 +1,378 @@
+package io.neow3j.wallet;
+
+import io.neow3j.crypto.Hash160;
+import io.neow3j.model.types.ContractParameterType;
+import io.neow3j.utils.AtomicFiles;
+import io.neow3j.utils.Numeric;
+import io.neow3j.wallet.nep6.NEP6Account;
+import io.neow3j.wallet.nep6.NEP6Contract;
+import io.neow3j.wallet.nep6.NEP6Contract.NEP6Parameter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Binary index of the accounts of a NEP-6 wallet file, stored in a sidecar file next to it.
+ *
+ * <p>The index holds the address, script hash, label, flags and verification contract of
+ * every account, but no keys, not even encrypted ones. It is memory-mapped and read lazily, so
+ * that a service can list and look up the accounts of a large wallet without parsing the JSON
+ * file. The index records the SHA-256 checksum of the wallet file it was written for and is
+ * ignored when the wallet file changed since. The keys must still be read from the wallet file
+ * when an account is needed for signing.</p>
+ *
+ * <p>Layout: a header with magic, version, account count and checksum; the offsets of the
+ * account records in wallet order; the script hashes in ascending order with the position of
+ * their account; and the account records.</p>
+ */
+public class WalletIndex {
+
+    public static final String FILE_SUFFIX = ".idx";
+
+    private static final int MAGIC = 0x4e365749;
+    private static final int VERSION = 1;
+    private static final int CHECKSUM_SIZE = 32;
+    private static final int HEADER_SIZE = 16 + CHECKSUM_SIZE;
+    private static final int SORTED_ENTRY_SIZE = Hash160.LENGTH + 4;
+
+    private static final int FLAG_DEFAULT = 1;
+    private static final int FLAG_LOCKED = 1 << 1;
+    private static final int FLAG_CONTRACT = 1 << 2;
+    private static final int FLAG_DEPLOYED = 1 << 3;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int sortedOffset;
+
+    private WalletIndex(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.size = buffer.getInt(8);
+        this.sortedOffset = HEADER_SIZE + size * 4;
+    }
+
+    /**
+     * @return the path of the index of the wallet file.
+     */
+    public static Path indexFileOf(Path walletFile) {
+        return walletFile.resolveSibling(walletFile.getFileName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Opens the index of the wallet file.
+     *
+     * @param walletFile the NEP-6 wallet file.
+     * @return the index, or null if there is no index or it was not written for the current
+     * content of the wallet file.
+     * @throws IOException if a file cannot be read.
+     */
+    public static WalletIndex open(Path walletFile) throws IOException {
+        Path indexFile = indexFileOf(walletFile);
+        if (!Files.exists(indexFile)) {
+            return null;
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                return null;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            return null;
+        }
+        byte[] checksum = new byte[CHECKSUM_SIZE];
+        buffer.position(16);
+        buffer.get(checksum);
+        if (!Arrays.equals(checksum, checksum(walletFile))) {
+            return null;
+        }
+        return new WalletIndex(buffer);
+    }
+
+    /**
+     * Writes the index of the accounts for the current content of the wallet file. The index
+     * is written to a temporary file first and then atomically renamed, see
+     * {@link AtomicFiles#replace}.
+     *
+     * @param walletFile the NEP-6 wallet file, which must already contain the accounts.
+     * @param accounts   the accounts in wallet order.
+     * @throws IOException if a file cannot be read or written, or the file system cannot rename
+     *                     it atomically.
+     */
+    public static void write(Path walletFile, Collection<Account> accounts) throws IOException {
+        List<byte[]> records = new ArrayList<>(accounts.size());
+        List<byte[]> scriptHashes = new ArrayList<>(accounts.size());
+        int recordsSize = 0;
+        for (Account account : accounts) {
+            byte[] scriptHash = account.getScriptHash160().toArray();
+            byte[] record = record(account, scriptHash);
+            records.add(record);
+            scriptHashes.add(scriptHash);
+            recordsSize += record.length;
+        }
+        int count = records.size();
+        Integer[] sorted = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, Comparator.comparing(scriptHashes::get, WalletIndex::compare));
+
+        ByteBuffer out = ByteBuffer.allocate(
+                HEADER_SIZE + count * (4 + SORTED_ENTRY_SIZE) + recordsSize);
+        out.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(0).put(checksum(walletFile));
+        int offset = HEADER_SIZE + count * (4 + SORTED_ENTRY_SIZE);
+        for (byte[] record : records) {
+            out.putInt(offset);
+            offset += record.length;
+        }
+        for (Integer i : sorted) {
+            out.put(scriptHashes.get(i)).putInt(i);
+        }
+        records.forEach(out::put);
+        out.flip();
+
+        Path indexFile = indexFileOf(walletFile);
+        Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        AtomicFiles.replace(tempFile, indexFile);
+    }
+
+    /**
+     * @return the number of accounts.
+     */
+    public int size() {
+        return size;
+    }
+
+    public String getAddress(int index) {
+        int offset = recordOffset(index) + 1 + Hash160.LENGTH;
+        return readString(offset, buffer.get(offset) & 0xff, 1);
+    }
+
+    public Hash160 getScriptHash(int index) {
+        byte[] scriptHash = new byte[Hash160.LENGTH];
+        read(recordOffset(index) + 1, scriptHash);
+        return Hash160.fromArray(scriptHash);
+    }
+
+    public String getLabel(int index) {
+        int offset = labelOffset(index);
+        int length = buffer.getShort(offset);
+        return length < 0 ? null : readString(offset, length, 2);
+    }
+
+    public boolean isDefault(int index) {
+        return (flags(index) & FLAG_DEFAULT) != 0;
+    }
+
+    public boolean isLocked(int index) {
+        return (flags(index) & FLAG_LOCKED) != 0;
+    }
+
+    /**
+     * @return the verification script of the account, or null if the account has no contract.
+     */
+    public byte[] getVerificationScript(int index) {
+        if ((flags(index) & FLAG_CONTRACT) == 0) {
+            return null;
+        }
+        int offset = scriptOffset(index);
+        byte[] script = new byte[buffer.getInt(offset)];
+        read(offset + 4, script);
+        return script;
+    }
+
+    /**
+     * @return the position of the account with the script hash in wallet order, or -1 if
+     * there is none.
+     */
+    public int indexOf(Hash160 scriptHash) {
+        byte[] wanted = scriptHash.toArray();
+        byte[] candidate = new byte[Hash160.LENGTH];
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int offset = sortedOffset + mid * SORTED_ENTRY_SIZE;
+            read(offset, candidate);
+            int c = compare(candidate, wanted);
+            if (c < 0) {
+                low = mid + 1;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                return buffer.getInt(offset + Hash160.LENGTH);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the position of the account with the address in wallet order, or -1 if there is
+     * none.
+     */
+    public int indexOf(String address) {
+        int index = indexOf(Hash160.fromAddress(address));
+        return index >= 0 && getAddress(index).equals(address) ? index : -1;
+    }
+
+    /**
+     * Creates the account at the position from the index. The account has no keys, so it can
+     * be used to look up balances, but not to sign.
+     */
+    public Account getAccount(int index) {
+        return Account.fromNEP6Account(new NEP6Account(getAddress(index), getLabel(index),
+                isDefault(index), isLocked(index), null, getContract(index), null)).build();
+    }
+
+    private NEP6Contract getContract(int index) {
+        int flags = flags(index);
+        if ((flags & FLAG_CONTRACT) == 0) {
+            return null;
+        }
+        int offset = scriptOffset(index);
+        byte[] script = new byte[buffer.getInt(offset)];
+        read(offset + 4, script);
+        offset += 4 + script.length;
+        int parameterCount = buffer.get(offset++) & 0xff;
+        List<NEP6Parameter> parameters = new ArrayList<>(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            int length = buffer.getShort(offset);
+            String name = readString(offset, length, 2);
+            offset += 2 + length;
+            parameters.add(new NEP6Parameter(name,
+                    ContractParameterType.valueOf(buffer.get(offset++))));
+        }
+        return new NEP6Contract(Numeric.toHexStringNoPrefix(script), parameters,
+                (flags & FLAG_DEPLOYED) != 0);
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return buffer.getInt(HEADER_SIZE + index * 4);
+    }
+
+    private int flags(int index) {
+        return buffer.get(recordOffset(index));
+    }
+
+    private int labelOffset(int index) {
+        int offset = recordOffset(index) + 1 + Hash160.LENGTH;
+        return offset + 1 + (buffer.get(offset) & 0xff);
+    }
+
+    private int scriptOffset(int index) {
+        int offset = labelOffset(index);
+        return offset + 2 + Math.max(buffer.getShort(offset), 0);
+    }
+
+    private void read(int offset, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+    }
+
+    private String readString(int offset, int length, int lengthSize) {
+        byte[] bytes = new byte[length];
+        read(offset + lengthSize, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] record(Account account, byte[] scriptHash) {
+        byte[] address = account.getAddress().getBytes(StandardCharsets.UTF_8);
+        byte[] label = account.getLabel() == null
+                ? null : account.getLabel().getBytes(StandardCharsets.UTF_8);
+        if (address.length > 0xff || (label != null && label.length > Short.MAX_VALUE)) {
+            throw new IllegalArgumentException("Address or label of account "
+                    + account.getAddress() + " is too long for the index.");
+        }
+        NEP6Contract contract = account.getContract();
+        boolean hasContract = contract != null && contract.getScript() != null;
+        int flags = (account.isDefault() ? FLAG_DEFAULT : 0)
+                | (account.isLocked() ? FLAG_LOCKED : 0)
+                | (hasContract ? FLAG_CONTRACT : 0)
+                | (hasContract && Boolean.TRUE.equals(contract.getDeployed()) ? FLAG_DEPLOYED : 0);
+
+        byte[] script = new byte[0];
+        List<NEP6Parameter> parameters = new ArrayList<>();
+        if (hasContract) {
+            script = Numeric.hexStringToByteArray(contract.getScript());
+            if (contract.getParameters() != null) {
+                parameters = contract.getParameters();
+            }
+        }
+        List<byte[]> names = new ArrayList<>(parameters.size());
+        int size = 1 + scriptHash.length + 1 + address.length + 2
+                + (label == null ? 0 : label.length) + 4 + script.length + 1;
+        for (NEP6Parameter parameter : parameters) {
+            byte[] name = parameter.getParamName().getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            size += 2 + name.length + 1;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(size);
+        record.put((byte) flags).put(scriptHash);
+        record.put((byte) address.length).put(address);
+        if (label == null) {
+            record.putShort((short) -1);
+        } else {
+            record.putShort((short) label.length).put(label);
+        }
+        record.putInt(script.length).put(script);
+        record.put((byte) parameters.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            record.putShort((short) names.get(i).length).put(names.get(i));
+            record.put(parameters.get(i).getParamType().byteValue());
+        }
+        return record.array();
+    }
+
+    private static int compare(byte[] a, byte[] b) {
+        for (int i = 0; i < a.length; i++) {
+            int c = Integer.compare(a[i] & 0xff, b[i] & 0xff);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    private static byte[] checksum(Path walletFile) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+        byte[] chunk = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(walletFile)) {
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                digest.update(chunk, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+}
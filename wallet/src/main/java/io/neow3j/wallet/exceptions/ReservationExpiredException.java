@@ -0,0 +1,12 @@
+package io.neow3j.wallet.exceptions;
+
+/**
+ * Thrown if a transaction is not sent because the reservation of its inputs expired, so that
+ * another transaction may spend them.
+ */
+public class ReservationExpiredException extends IllegalStateException {
+
+    public ReservationExpiredException(String message) {
+        super(message);
+    }
+}
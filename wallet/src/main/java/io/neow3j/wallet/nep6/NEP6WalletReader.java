@@ -0,0 +1,90 @@
+package io.neow3j.wallet.nep6;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.crypto.ScryptParams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader of NEP-6 wallet files.
+ *
+ * <p>Unlike reading the file into a {@link NEP6Wallet}, the accounts are parsed one at a time
+ * and handed to a consumer, so that the accounts of a large wallet never exist as a whole JSON
+ * object graph.</p>
+ */
+public class NEP6WalletReader {
+
+    private final ObjectMapper objectMapper;
+
+    public NEP6WalletReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads a wallet file and closes the stream.
+     *
+     * @param in       the stream of the wallet file.
+     * @param accounts the consumer of the accounts, which are passed in the order of the file,
+     *                 or null to skip the accounts without parsing them.
+     * @return the wallet without accounts.
+     * @throws IOException if the stream cannot be read or does not contain a wallet.
+     */
+    public NEP6Wallet read(InputStream in, Consumer<NEP6Account> accounts) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a NEP-6 wallet object, but found "
+                        + parser.getCurrentToken() + ".");
+            }
+            String name = null;
+            String version = null;
+            ScryptParams scrypt = null;
+            Object extra = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "name":
+                        name = parser.getValueAsString();
+                        break;
+                    case "version":
+                        version = parser.getValueAsString();
+                        break;
+                    case "scrypt":
+                        scrypt = objectMapper.readValue(parser, ScryptParams.class);
+                        break;
+                    case "accounts":
+                        if (accounts == null) {
+                            parser.skipChildren();
+                        } else {
+                            readAccounts(parser, value, accounts);
+                        }
+                        break;
+                    case "extra":
+                        extra = objectMapper.readValue(parser, Object.class);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return new NEP6Wallet(name, version, scrypt, null, extra);
+        }
+    }
+
+    private void readAccounts(JsonParser parser, JsonToken value,
+            Consumer<NEP6Account> accounts) throws IOException {
+
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (value != JsonToken.START_ARRAY) {
+            throw new IOException("Expected an array of accounts, but found " + value + ".");
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            accounts.accept(objectMapper.readValue(parser, NEP6Account.class));
+        }
+    }
+}
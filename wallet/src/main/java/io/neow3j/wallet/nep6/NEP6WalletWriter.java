@@ -0,0 +1,133 @@
+package io.neow3j.wallet.nep6;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.neow3j.utils.AtomicFiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Streaming writer of NEP-6 wallet files.
+ *
+ * <p>The accounts are written one at a time, so that no {@link NEP6Wallet} with all accounts
+ * needs to be built. The writer remembers the JSON of every account it wrote and only
+ * serializes an account again if it changed since, which makes saving a large wallet after a
+ * few changes cheap. A writer is meant to be reused for the saves of one wallet and is not
+ * thread-safe.</p>
+ */
+public class NEP6WalletWriter {
+
+    private final ObjectMapper objectMapper;
+
+    /** The last written account and its JSON by address. */
+    private Map<String, Written> written = new HashMap<>();
+
+    private int serializedCount;
+
+    public NEP6WalletWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes the wallet to a temporary file next to the given file, syncs it to disk and then
+     * atomically renames it to the given file, see {@link AtomicFiles#replace}. A crash
+     * therefore leaves either the old or the new wallet file, never a partially written one.
+     *
+     * @param file     the wallet file.
+     * @param wallet   the wallet, whose accounts are ignored.
+     * @param accounts the accounts.
+     * @throws IOException if the file cannot be written, or the file system cannot rename it
+     *                     atomically.
+     */
+    public void write(Path file, NEP6Wallet wallet, Iterable<NEP6Account> accounts)
+            throws IOException {
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(Channels.newOutputStream(channel), wallet, accounts);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        AtomicFiles.replace(tempFile, file);
+    }
+
+    /**
+     * Writes the wallet to the stream, which is flushed but not closed.
+     *
+     * @param out      the stream.
+     * @param wallet   the wallet, whose accounts are ignored.
+     * @param accounts the accounts.
+     * @throws IOException if the stream cannot be written.
+     */
+    public void write(OutputStream out, NEP6Wallet wallet, Iterable<NEP6Account> accounts)
+            throws IOException {
+
+        Map<String, Written> nowWritten = new HashMap<>();
+        serializedCount = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out,
+                JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartObject();
+        generator.writeStringField("name", wallet.getName());
+        generator.writeStringField("version", wallet.getVersion());
+        generator.writeFieldName("scrypt");
+        objectMapper.writeValue(generator, wallet.getScrypt());
+        generator.writeArrayFieldStart("accounts");
+        for (NEP6Account account : accounts) {
+            Written w = written.get(account.getAddress());
+            if (w == null || !sameContent(w.account, account)) {
+                w = new Written(account, objectMapper.writeValueAsString(account));
+                serializedCount++;
+            }
+            generator.writeRawValue(w.json);
+            nowWritten.put(account.getAddress(), w);
+        }
+        generator.writeEndArray();
+        generator.writeFieldName("extra");
+        objectMapper.writeValue(generator, wallet.getExtra());
+        generator.writeEndObject();
+        generator.close();
+        written = nowWritten;
+    }
+
+    /**
+     * @return the number of accounts that were serialized in the last write, i.e. that were
+     * new or changed since the write before.
+     */
+    public int getSerializedCount() {
+        return serializedCount;
+    }
+
+    private static boolean sameContent(NEP6Account a, NEP6Account b) {
+        return Objects.equals(a.getLabel(), b.getLabel())
+                && Objects.equals(a.getDefault(), b.getDefault())
+                && Objects.equals(a.getLock(), b.getLock())
+                && Objects.equals(a.getKey(), b.getKey())
+                && Objects.equals(a.getContract(), b.getContract())
+                && Objects.equals(a.getExtra(), b.getExtra());
+    }
+
+    private static class Written {
+
+        private final NEP6Account account;
+        private final String json;
+
+        private Written(NEP6Account account, String json) {
+            this.account = account;
+            this.json = json;
+        }
+    }
+}
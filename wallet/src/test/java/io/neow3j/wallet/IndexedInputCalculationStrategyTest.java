@@ -0,0 +1,145 @@
+package io.neow3j.wallet;
+
+import io.neow3j.utils.Fixed8;
+import io.neow3j.wallet.Balances.AssetBalance;
+import io.neow3j.wallet.exceptions.InsufficientFundsException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class IndexedInputCalculationStrategyTest {
+
+    private static List<Utxo> utxos(String... values) {
+        List<Utxo> utxos = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            utxos.add(new Utxo(Integer.toString(i), i, new BigDecimal(values[i])));
+        }
+        return utxos;
+    }
+
+    private static List<String> ids(List<Utxo> utxos) {
+        return utxos.stream().map(Utxo::getTxId).collect(Collectors.toList());
+    }
+
+    private static long sum(List<Utxo> utxos) {
+        return utxos.stream().mapToLong(u -> u.getFixed8Value().getRawValue()).sum();
+    }
+
+    @Test
+    public void testValueIndex() {
+        UtxoValueIndex index = new UtxoValueIndex(utxos("5", "1", "3", "3", "10"));
+        assertThat(index.getTotal(), is(Fixed8.fromDecimal("22").getRawValue()));
+        assertThat(index.getUtxo(0).getTxId(), is("1"));
+        // Equal values keep the order of the list.
+        assertThat(index.getUtxo(1).getTxId(), is("2"));
+        assertThat(index.getUtxo(2).getTxId(), is("3"));
+        assertThat(index.ceiling(Fixed8.fromDecimal("4").getRawValue()), is(3));
+        assertThat(index.ceiling(Fixed8.fromDecimal("11").getRawValue()), is(5));
+        assertThat(index.minimumInputCount(Fixed8.fromDecimal("15").getRawValue()), is(2));
+        assertThat(index.minimumInputCount(Fixed8.fromDecimal("16").getRawValue()), is(3));
+        assertThat(index.minimumInputCount(Fixed8.fromDecimal("23").getRawValue()), is(-1));
+    }
+
+    @Test
+    public void testLargestFirst() {
+        List<Utxo> inputs = new LargestFirstInputCalculationStrategy()
+                .calculateInputs(utxos("1", "7", "2", "9", "4"), new BigDecimal("12"));
+        assertThat(ids(inputs), containsInAnyOrder("3", "1"));
+    }
+
+    @Test
+    public void testMinimumInputs() {
+        // Two inputs are needed; 9 plus the smallest output of at least 3 is 9 + 4.
+        List<Utxo> inputs = new MinimumInputsInputCalculationStrategy()
+                .calculateInputs(utxos("1", "7", "2", "9", "4"), new BigDecimal("12"));
+        assertThat(ids(inputs), containsInAnyOrder("3", "4"));
+    }
+
+    @Test
+    public void testBranchAndBoundFindsExactMatch() {
+        List<Utxo> inputs = new BranchAndBoundInputCalculationStrategy()
+                .calculateInputs(utxos("1", "7", "2", "9", "4", "20"), new BigDecimal("12"));
+        assertThat(sum(inputs), is(Fixed8.fromDecimal("12").getRawValue()));
+    }
+
+    @Test
+    public void testBranchAndBoundPrefersSingleOutputWithLessChange() {
+        List<Utxo> inputs = new BranchAndBoundInputCalculationStrategy()
+                .calculateInputs(utxos("6", "6", "12.5", "30"), new BigDecimal("12.4"));
+        assertThat(ids(inputs), containsInAnyOrder("2"));
+    }
+
+    @Test
+    public void testBranchAndBoundNeverWorseThanOtherStrategies() {
+        Random random = new Random(42);
+        List<Utxo> utxos = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            utxos.add(Utxo.fromFixed8(Integer.toString(i), 0,
+                    Fixed8.fromRawValue(1 + random.nextInt(1_000_000_000))));
+        }
+        InputCalculationStrategy[] others = {new LargestFirstInputCalculationStrategy(),
+                new MinimumInputsInputCalculationStrategy(),
+                new LeftToRightInputCalculationStrategy()};
+        for (int i = 0; i < 20; i++) {
+            Fixed8 required = Fixed8.fromRawValue(1 + random.nextInt(2_000_000_000));
+            long change = sum(new BranchAndBoundInputCalculationStrategy()
+                    .calculateInputs(utxos, required)) - required.getRawValue();
+            assertThat(change >= 0, is(true));
+            for (InputCalculationStrategy other : others) {
+                long otherChange = sum(other.calculateInputs(utxos, required))
+                        - required.getRawValue();
+                assertThat(change <= otherChange, is(true));
+            }
+        }
+    }
+
+    @Test(expected = InsufficientFundsException.class)
+    public void testInsufficientFunds() {
+        new BranchAndBoundInputCalculationStrategy()
+                .calculateInputs(utxos("1", "2"), new BigDecimal("3.00000001"));
+    }
+
+    @Test
+    public void testAssetBalanceKeepsIndex() {
+        AssetBalance balance = new AssetBalance(utxos("1", "7", "2", "9", "4"));
+        assertThat(balance.getValueIndex(), is(sameInstance(balance.getValueIndex())));
+        List<Utxo> inputs = new LargestFirstInputCalculationStrategy()
+                .calculateInputs(balance, Fixed8.fromDecimal("9"));
+        assertThat(ids(inputs), containsInAnyOrder("3"));
+    }
+
+    @Test
+    public void testIndexWithoutExcludedOutputs() {
+        UtxoValueIndex index = new UtxoValueIndex(utxos("1", "7", "2", "9", "4"));
+        assertThat(index.without(u -> false), is(sameInstance(index)));
+
+        UtxoValueIndex without = index.without(u -> u.getTxId().equals("1")
+                || u.getTxId().equals("2"));
+        assertThat(without.size(), is(3));
+        assertThat(without.getTotal(), is(Fixed8.fromDecimal("14").getRawValue()));
+        assertThat(without.getUtxo(0).getTxId(), is("0"));
+        assertThat(without.getUtxo(2).getTxId(), is("3"));
+        assertThat(without.minimumInputCount(Fixed8.fromDecimal("10").getRawValue()), is(2));
+    }
+
+    @Test
+    public void testAssetBalanceRebuildsIndexAfterRecalculation() {
+        AssetBalance balance = new AssetBalance(utxos("1", "7", "2", "9", "4"));
+        balance.getValueIndex();
+        balance.getUtxos().remove(3);
+        balance.calculateAmountFormUtxos();
+
+        List<Utxo> inputs = new LargestFirstInputCalculationStrategy()
+                .calculateInputs(balance, Fixed8.fromDecimal("9"));
+        assertThat(ids(inputs), containsInAnyOrder("1", "4"));
+    }
+}
@@ -0,0 +1,161 @@
+package io.neow3j.wallet;
+
+import io.neow3j.model.types.GASAsset;
+import io.neow3j.model.types.NEOAsset;
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.TransactionInput;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import io.neow3j.utils.Fixed8;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class MappedUtxoSetTest {
+
+    private static final String ADDRESS = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+    private static final String OTHER_ADDRESS = "AHJrv6y6L6k9PfJvY7vtX3XTAmEprsd3Xn";
+    private static final String TX1 = "4ee4af75d5aa60598fbae40ce86fb9a23ffec5a75dfa8b59d259d15f9e304319";
+    private static final String TX2 = "0x8ba0c2bfdd3ebd5e2e6c4aab2b0e1c94bb3f5ab6afbfb0d1e5c5ad0ee8cf12a1";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testAddAndSpend() throws IOException {
+        try (MappedUtxoSet set = MappedUtxoSet.open(file(), 0)) {
+            assertThat(set.add(TX1, 0, NEOAsset.HASH_ID, Fixed8.fromDecimal("100"), ADDRESS),
+                    is(true));
+            assertThat(set.add("0x" + TX1.toUpperCase(), 0, NEOAsset.HASH_ID,
+                    Fixed8.fromDecimal("100"), ADDRESS), is(false));
+            set.add(TX1, 1, GASAsset.HASH_ID, Fixed8.fromDecimal("0.5"), ADDRESS);
+
+            assertThat(set.size(), is(2L));
+            assertThat(set.getValue(TX1, 1), is(Fixed8.fromDecimal("0.5")));
+            assertThat(set.spend(TX1, 0), is(true));
+            assertThat(set.spend(TX1, 0), is(false));
+            assertThat(set.contains(TX1, 0), is(false));
+            assertThat(set.getValue(TX1, 0), is(nullValue()));
+            assertThat(set.size(), is(1L));
+        }
+    }
+
+    @Test
+    public void testPersistsAcrossReopen() throws IOException {
+        Path file = file();
+        try (MappedUtxoSet set = MappedUtxoSet.open(file, 0)) {
+            set.add(TX1, 0, NEOAsset.HASH_ID, Fixed8.fromDecimal("100"), ADDRESS);
+            set.add(TX2, 3, GASAsset.HASH_ID, Fixed8.fromDecimal("1.25"), OTHER_ADDRESS);
+        }
+        try (MappedUtxoSet set = MappedUtxoSet.open(file, 0)) {
+            assertThat(set.size(), is(2L));
+            assertThat(set.getValue(TX2, 3), is(Fixed8.fromDecimal("1.25")));
+            assertThat(set.getBalance(ADDRESS, "0x" + NEOAsset.HASH_ID),
+                    is(Fixed8.fromDecimal("100")));
+            assertThat(set.getBalance(OTHER_ADDRESS, GASAsset.HASH_ID),
+                    is(Fixed8.fromDecimal("1.25")));
+        }
+    }
+
+    @Test
+    public void testGrowsAndSpendsAfterGrowth() throws IOException {
+        Path file = file();
+        try (MappedUtxoSet set = MappedUtxoSet.open(file, 0)) {
+            long initialCapacity = set.capacity();
+            for (int i = 0; i < 5000; i++) {
+                set.add(txId(i), i % 3, NEOAsset.HASH_ID, Fixed8.fromRawValue(i + 1),
+                        i % 2 == 0 ? ADDRESS : OTHER_ADDRESS);
+            }
+            assertThat(set.capacity() > initialCapacity, is(true));
+            for (int i = 0; i < 5000; i += 2) {
+                assertThat(set.spend(txId(i), i % 3), is(true));
+            }
+            assertThat(set.size(), is(2500L));
+            for (int i = 0; i < 5000; i++) {
+                assertThat(set.contains(txId(i), i % 3), is(i % 2 != 0));
+            }
+        }
+        assertThat(Files.exists(file.resolveSibling(file.getFileName() + ".resize")), is(false));
+        try (MappedUtxoSet set = MappedUtxoSet.open(file, 0)) {
+            assertThat(set.size(), is(2500L));
+            assertThat(set.getValue(txId(4999), 4999 % 3), is(Fixed8.fromRawValue(5000)));
+        }
+    }
+
+    @Test
+    public void testApplyBlockAndAggregateBalances() throws IOException {
+        try (MappedUtxoSet set = MappedUtxoSet.open(file(), 0)) {
+            set.add(TX1, 0, NEOAsset.HASH_ID, Fixed8.fromDecimal("100"), ADDRESS);
+            set.add(TX1, 1, NEOAsset.HASH_ID, Fixed8.fromDecimal("5"), ADDRESS);
+
+            // Spends 100 NEO of ADDRESS, sends 30 back to it as change and 70 to OTHER_ADDRESS.
+            Transaction tx = new Transaction(TX2, 0, TransactionType.CONTRACT_TRANSACTION, 0,
+                    null, Collections.singletonList(new TransactionInput("0x" + TX1, 0)),
+                    Arrays.asList(
+                            new TransactionOutput(0, "0x" + NEOAsset.HASH_ID, "70",
+                                    OTHER_ADDRESS),
+                            new TransactionOutput(1, "0x" + NEOAsset.HASH_ID, "30", ADDRESS)),
+                    null, null, null, null, null, null);
+            set.applyBlock(new NeoBlock(null, 0, 0, null, null, 0, 42, null, null, null,
+                    Collections.singletonList(tx), 0, null));
+
+            assertThat(set.getBlockIndex(), is(42L));
+            assertThat(set.size(), is(3L));
+            Map<String, Fixed8> balances = set.aggregateBalances(NEOAsset.HASH_ID);
+            assertThat(balances.size(), is(2));
+            assertThat(balances.get(ADDRESS), is(Fixed8.fromDecimal("35")));
+            assertThat(balances.get(OTHER_ADDRESS), is(Fixed8.fromDecimal("70")));
+            assertThat(set.aggregateBalances(GASAsset.HASH_ID).isEmpty(), is(true));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsForeignFile() throws IOException {
+        Path file = file();
+        Files.write(file, new byte[64]);
+        MappedUtxoSet.open(file, 0);
+    }
+
+    @Test
+    public void testRejectsFileChangedAfterLastFlush() throws IOException {
+        Path file = file();
+        try (MappedUtxoSet set = MappedUtxoSet.open(file, 0)) {
+            set.add(TX1, 0, NEOAsset.HASH_ID, Fixed8.fromDecimal("100"), ADDRESS);
+            set.flush();
+            // Opening a flushed file works, e.g. after a crash at this point.
+            MappedUtxoSet.open(file, 0).close();
+
+            set.spend(TX1, 0);
+            try {
+                MappedUtxoSet.open(file, 0);
+                fail();
+            } catch (IOException e) {
+                assertThat(e.getMessage().contains("rebuilt"), is(true));
+            }
+        }
+        try (MappedUtxoSet set = MappedUtxoSet.open(file, 0)) {
+            assertThat(set.size(), is(0L));
+        }
+    }
+
+    private Path file() {
+        return folder.getRoot().toPath().resolve("utxos.bin");
+    }
+
+    private static String txId(int i) {
+        return String.format("%064x", (long) i * 2654435761L);
+    }
+}
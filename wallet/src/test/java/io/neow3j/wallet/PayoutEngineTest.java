@@ -0,0 +1,312 @@
+package io.neow3j.wallet;
+
+import io.neow3j.crypto.transaction.RawTransactionInput;
+import io.neow3j.model.types.GASAsset;
+import io.neow3j.model.types.NEOAsset;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
+import io.neow3j.protocol.exceptions.ErrorResponseException;
+import io.neow3j.utils.Fixed8;
+import io.neow3j.utils.Keys;
+import io.neow3j.utils.Numeric;
+import io.neow3j.wallet.PayoutResult.Status;
+import io.neow3j.wallet.exceptions.InsufficientFundsException;
+import io.neow3j.wallet.exceptions.ReservationExpiredException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PayoutEngineTest {
+
+    private static final String TX = "4ee4af75d5aa60598fbae40ce86fb9a23ffec5a75dfa8b59d259d15f9e304319";
+
+    private final AtomicInteger sent = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private Neow3j neow3j;
+    private Account account;
+    private String rejectedScriptHash;
+    private String unreachableScriptHash;
+    private Runnable beforeSend;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        account = Account.fromNewECKeyPair().build();
+        List<Utxo> neo = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            neo.add(Utxo.fromFixed8(TX, i, Fixed8.fromDecimal("10")));
+        }
+        List<Utxo> gas = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            gas.add(Utxo.fromFixed8(TX, 100 + i, Fixed8.fromDecimal("0.01")));
+        }
+        Map<String, List<Utxo>> balances = new HashMap<>();
+        balances.put(NEOAsset.HASH_ID, neo);
+        balances.put(GASAsset.HASH_ID, gas);
+        account.getBalances().updateAssetBalances(balances);
+
+        neow3j = mock(Neow3j.class);
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), any(Class.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+            String rawTx = (String) request.getParams().get(0);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                if (beforeSend != null) {
+                    beforeSend.run();
+                }
+                Thread.sleep(5);
+                if (unreachableScriptHash != null && rawTx.contains(unreachableScriptHash)) {
+                    throw new IOException("Connection reset");
+                }
+                NeoSendRawTransaction response = new NeoSendRawTransaction();
+                if (rejectedScriptHash != null && rawTx.contains(rejectedScriptHash)) {
+                    response.setError(new Response.Error(-500, "Rejected"));
+                } else {
+                    sent.incrementAndGet();
+                    response.setResult(true);
+                }
+                return response;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        when(neow3j.sendRawTransaction(anyString())).thenAnswer(invocation -> new Request<>(
+                "sendrawtransaction", Collections.singletonList(invocation.getArguments()[0]),
+                service, NeoSendRawTransaction.class));
+    }
+
+    @Test
+    public void testPacksIntentsIntoTransactions() throws Exception {
+        List<PayoutIntent> intents = intents(NEOAsset.HASH_ID, "1", 25);
+        PayoutEngine engine = new PayoutEngine.Builder(neow3j)
+                .account(account)
+                // Five payouts and the change.
+                .maxOutputsPerTransaction(6)
+                .parallelism(4)
+                .sendConcurrency(2)
+                .build();
+
+        List<PayoutResult> results = engine.pay(intents);
+
+        assertThat(results.size(), is(25));
+        Set<String> txIds = new HashSet<>();
+        Set<Integer> inputs = new HashSet<>();
+        for (int i = 0; i < results.size(); i++) {
+            PayoutResult result = results.get(i);
+            assertThat(result.getIntent(), is(intents.get(i)));
+            assertThat(result.getStatus(), is(Status.SENT));
+            if (txIds.add(result.getTransactionId())) {
+                assertThat(result.getTransfer().getTransaction().getOutputs().size(), is(6));
+                List<RawTransactionInput> txInputs = result.getTransfer().getTransaction()
+                        .getInputs();
+                for (RawTransactionInput input : txInputs) {
+                    // No output is spent by two transactions.
+                    assertThat(inputs.add(input.getPrevIndex()), is(true));
+                }
+            }
+        }
+        assertThat(txIds.size(), is(5));
+        assertThat(sent.get(), is(5));
+        assertThat(maxInFlight.get(), is(lessThanOrEqualTo(2)));
+        assertThat(engine.getReservationPool().getReservedCount(), is(inputs.size()));
+    }
+
+    @Test
+    public void testSplitsTransactionsThatExceedTheSizeLimit() throws Exception {
+        // Each payout needs 100 inputs of 0.01 GAS, i.e. more than 3 KB.
+        PayoutEngine engine = new PayoutEngine.Builder(neow3j)
+                .account(account)
+                .maxTransactionSize(10_000)
+                .build();
+
+        List<PayoutResult> results = engine.pay(intents(GASAsset.HASH_ID, "1", 10));
+
+        Set<String> txIds = new HashSet<>();
+        for (PayoutResult result : results) {
+            assertThat(result.getStatus(), is(Status.SENT));
+            assertThat(result.getTransfer().getTransaction().toArray().length,
+                    is(lessThanOrEqualTo(10_000)));
+            txIds.add(result.getTransactionId());
+        }
+        assertThat(txIds.size() > 1, is(true));
+        assertThat(sent.get(), is(txIds.size()));
+        // The inputs of the transactions that were too large were released.
+        assertThat(engine.getReservationPool().getReservedCount(), is(1000));
+    }
+
+    @Test
+    public void testReportsFailuresPerBatch() throws Exception {
+        List<PayoutIntent> intents = intents(NEOAsset.HASH_ID, "1", 5);
+        intents.add(3, new PayoutIntent(NEOAsset.HASH_ID, intents.get(0).getAddress(),
+                new BigDecimal("10000")));
+        rejectedScriptHash = Numeric.toHexStringNoPrefix(
+                Keys.toScriptHash(intents.get(5).getAddress()));
+        PayoutEngine engine = new PayoutEngine.Builder(neow3j)
+                .account(account)
+                // Two payouts and the change.
+                .maxOutputsPerTransaction(3)
+                .build();
+
+        List<PayoutResult> results = engine.pay(intents);
+
+        assertThat(results.get(0).getStatus(), is(Status.SENT));
+        assertThat(results.get(1).getStatus(), is(Status.SENT));
+        for (int i = 2; i < 4; i++) {
+            assertThat(results.get(i).getStatus(), is(Status.FAILED));
+            assertThat(results.get(i).getError(), is(instanceOf(InsufficientFundsException.class)));
+            assertThat(results.get(i).getTransactionId(), is(nullValue()));
+        }
+        for (int i = 4; i < 6; i++) {
+            assertThat(results.get(i).getStatus(), is(Status.FAILED));
+            assertThat(results.get(i).getError(), is(instanceOf(ErrorResponseException.class)));
+        }
+        assertThat(sent.get(), is(1));
+        // Only the input of the sent transaction stays reserved.
+        assertThat(engine.getReservationPool().getReservedCount(), is(1));
+    }
+
+    @Test
+    public void testKeepsReservationIfOutcomeIsUnknown() throws Exception {
+        List<PayoutIntent> intents = intents(NEOAsset.HASH_ID, "1", 4);
+        unreachableScriptHash = Numeric.toHexStringNoPrefix(
+                Keys.toScriptHash(intents.get(2).getAddress()));
+        PayoutEngine engine = new PayoutEngine.Builder(neow3j)
+                .account(account)
+                // Two payouts and the change.
+                .maxOutputsPerTransaction(3)
+                .build();
+
+        List<PayoutResult> results = engine.pay(intents);
+
+        assertThat(results.get(0).getStatus(), is(Status.SENT));
+        assertThat(results.get(1).getStatus(), is(Status.SENT));
+        for (int i = 2; i < 4; i++) {
+            assertThat(results.get(i).getStatus(), is(Status.UNKNOWN));
+            assertThat(results.get(i).getError(), is(instanceOf(IOException.class)));
+            assertThat(results.get(i).getTransactionId(), is(not(nullValue())));
+        }
+        assertThat(sent.get(), is(1));
+        // The inputs of both transactions stay reserved.
+        assertThat(engine.getReservationPool().getReservedCount(), is(2));
+    }
+
+    @Test
+    public void testRebuildsBatchesWhoseReservationExpired() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        UtxoReservationPool pool = new UtxoReservationPool(1000, 10_000, clock::get);
+        beforeSend = () -> {
+            if (sent.get() == 0) {
+                // Lets the other batch wait for the permit with its inputs reserved, until its
+                // reservation expires.
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (pool.getReservedCount() < 2 && System.nanoTime() < deadline) {
+                    Thread.yield();
+                }
+                assertThat(pool.getReservedCount(), is(2));
+                clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+            }
+        };
+        PayoutEngine engine = new PayoutEngine.Builder(neow3j)
+                .account(account)
+                // Two payouts and the change.
+                .maxOutputsPerTransaction(3)
+                .reservationPool(pool)
+                .parallelism(2)
+                .sendConcurrency(1)
+                .build();
+
+        List<PayoutResult> results = engine.pay(intents(NEOAsset.HASH_ID, "1", 4));
+
+        Set<Integer> inputs = new HashSet<>();
+        for (PayoutResult result : results) {
+            assertThat(result.getStatus(), is(Status.SENT));
+            for (RawTransactionInput input : result.getTransfer().getTransaction().getInputs()) {
+                inputs.add(input.getPrevIndex());
+            }
+        }
+        assertThat(sent.get(), is(2));
+        assertThat(pool.getReservedCount(), is(inputs.size()));
+    }
+
+    @Test
+    public void testTransferWithExpiredReservationIsNotSent() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        UtxoReservationPool pool = new UtxoReservationPool(1000, 10_000, clock::get);
+        AssetTransfer transfer = new AssetTransfer.Builder(neow3j)
+                .account(account)
+                .output(intents(NEOAsset.HASH_ID, "1", 1).get(0).toTransactionOutput())
+                .reservationPool(pool)
+                .build()
+                .sign();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+
+        try {
+            transfer.send();
+            fail();
+        } catch (ReservationExpiredException e) {
+            assertThat(sent.get(), is(0));
+            assertThat(transfer.getReservation().isExpired(), is(true));
+            assertThat(pool.purgeExpired(), is(0));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIntentWithInvalidAddress() {
+        new PayoutIntent(NEOAsset.HASH_ID, "AK2nJJpJr6o664CWJKi1QRXjqeic", BigDecimal.ONE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIntentWithInvalidAssetId() {
+        new PayoutIntent("c56f33fc", Account.fromNewECKeyPair().build().getAddress(),
+                BigDecimal.ONE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIntentWithMoreThanEightDecimals() {
+        new PayoutIntent(GASAsset.HASH_ID, Account.fromNewECKeyPair().build().getAddress(),
+                new BigDecimal("0.000000001"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAccountNotSet() {
+        new PayoutEngine.Builder(neow3j).build();
+    }
+
+    private static List<PayoutIntent> intents(String assetId, String amount, int count) {
+        List<PayoutIntent> intents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            intents.add(new PayoutIntent(assetId, Account.fromNewECKeyPair().build().getAddress(),
+                    new BigDecimal(amount)));
+        }
+        return intents;
+    }
+}
@@ -0,0 +1,240 @@
+package io.neow3j.wallet;
+
+import io.neow3j.crypto.transaction.RawTransactionInput;
+import io.neow3j.crypto.transaction.RawTransactionOutput;
+import io.neow3j.model.types.NEOAsset;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoSendRawTransaction;
+import io.neow3j.protocol.exceptions.ErrorResponseException;
+import io.neow3j.utils.Fixed8;
+import io.neow3j.wallet.UtxoReservationPool.Reservation;
+import io.neow3j.wallet.exceptions.InsufficientFundsException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UtxoReservationPoolTest {
+
+    private static final String TX = "4ee4af75d5aa60598fbae40ce86fb9a23ffec5a75dfa8b59d259d15f9e304319";
+
+    private final AtomicLong now = new AtomicLong();
+    private final UtxoReservationPool pool = new UtxoReservationPool(1000, 5000, now::get);
+    private Account account;
+
+    @Before
+    public void setUp() {
+        account = Account.fromNewECKeyPair().build();
+        List<Utxo> utxos = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            utxos.add(Utxo.fromFixed8(TX, i, Fixed8.ONE));
+        }
+        account.getBalances().updateAssetBalances(
+                Collections.singletonMap(NEOAsset.HASH_ID, utxos));
+    }
+
+    @Test
+    public void testParallelReservationsAreDisjoint() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Reservation>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(executor.submit(() -> pool.reserve(account, NEOAsset.HASH_ID,
+                    Fixed8.fromDecimal("2"), InputCalculationStrategy.DEFAULT_INPUT_CALCULATION_STRATEGY)));
+        }
+        Set<Integer> reserved = new HashSet<>();
+        for (Future<Reservation> future : futures) {
+            for (Utxo utxo : future.get().getUtxos()) {
+                assertThat(reserved.add(utxo.getIndex()), is(true));
+            }
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        assertThat(reserved.size(), is(100));
+        assertThat(pool.getReservedCount(), is(100));
+
+        try {
+            pool.reserve(account, NEOAsset.HASH_ID, Fixed8.ONE,
+                    InputCalculationStrategy.DEFAULT_INPUT_CALCULATION_STRATEGY);
+            fail();
+        } catch (InsufficientFundsException expected) {
+        }
+    }
+
+    @Test
+    public void testExpiredClaimsArePurgedPeriodically() {
+        reserve(10).confirm();
+        reserve(20).release();
+        reserve(30);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertThat(pool.getClaimCount(), is(40));
+
+        for (int i = 3; i < UtxoReservationPool.PURGE_INTERVAL; i++) {
+            pool.newReservation();
+        }
+
+        // Only the claims of the confirmed reservation are left.
+        assertThat(pool.getClaimCount(), is(10));
+    }
+
+    @Test
+    public void testExpiredReservationsAreTakenOver() {
+        Reservation first = reserve(100);
+        assertThat(first.getUtxos().size(), is(100));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertThat(first.isExpired(), is(true));
+        assertThat(pool.getReservedCount(), is(0));
+        Reservation second = reserve(40);
+        assertThat(pool.getReservedCount(), is(40));
+        assertThat(pool.purgeExpired(), is(60));
+
+        // Releasing the expired reservation does not drop the claims taken over.
+        first.release();
+        assertThat(pool.getReservedCount(), is(40));
+        assertThat(pool.isReserved(second.getUtxos().get(0)), is(true));
+    }
+
+    @Test
+    public void testReleaseAndConfirm() {
+        Reservation failed = reserve(60);
+        Reservation confirmed = reserve(40);
+        CompletableFuture<String> failure = new CompletableFuture<>();
+        CompletableFuture<String> confirmation = new CompletableFuture<>();
+        failed.bindTo(failure);
+        confirmed.bindTo(confirmation);
+
+        failure.completeExceptionally(new IllegalStateException());
+        assertThat(pool.getReservedCount(), is(40));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(900));
+        confirmation.complete("tx");
+        // Confirmed outputs stay claimed for the retention time instead of the timeout.
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(4000));
+        assertThat(pool.getReservedCount(), is(40));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertThat(pool.getReservedCount(), is(0));
+    }
+
+    @Test
+    public void testTransfersOfOneAccountUseDifferentInputs() {
+        Neow3j neow3j = mock(Neow3j.class);
+        List<AssetTransfer> transfers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            transfers.add(new AssetTransfer.Builder(neow3j)
+                    .account(account)
+                    .output(new RawTransactionOutput(NEOAsset.HASH_ID, "3",
+                            "AJQ6FoaSXDFzA6wLnyZ1nFN7SGSN2oNTc3"))
+                    .reservationPool(pool)
+                    .build());
+        }
+        Set<Integer> first = indices(transfers.get(0).getTransaction().getInputs());
+        Set<Integer> second = indices(transfers.get(1).getTransaction().getInputs());
+        assertThat(first.size(), is(3));
+        assertThat(second.size(), is(3));
+        assertThat(first.removeAll(second), is(false));
+        assertThat(transfers.get(0).getReservation(), is(not(transfers.get(1).getReservation())));
+        assertThat(pool.getReservedCount(), is(6));
+    }
+
+    @Test
+    public void testIndexedStrategySkipsReservedOutputs() {
+        InputCalculationStrategy strategy = new LargestFirstInputCalculationStrategy();
+        Reservation first = pool.reserve(account, NEOAsset.HASH_ID, Fixed8.fromDecimal("30"),
+                strategy);
+        Reservation second = pool.reserve(account, NEOAsset.HASH_ID, Fixed8.fromDecimal("70"),
+                strategy);
+
+        Set<Utxo> utxos = new HashSet<>(first.getUtxos());
+        utxos.addAll(second.getUtxos());
+        assertThat(utxos.size(), is(100));
+        try {
+            pool.reserve(account, NEOAsset.HASH_ID, Fixed8.ONE, strategy);
+            fail();
+        } catch (InsufficientFundsException e) {
+            // All outputs are reserved.
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendConfirmsOrReleasesTheReservation() throws Exception {
+        Neow3j neow3j = mock(Neow3j.class);
+        Neow3jService service = mock(Neow3jService.class);
+        when(neow3j.sendRawTransaction(anyString())).thenAnswer(invocation -> new Request<>(
+                "sendrawtransaction", Collections.singletonList(invocation.getArguments()[0]),
+                service, NeoSendRawTransaction.class));
+        NeoSendRawTransaction accepted = new NeoSendRawTransaction();
+        accepted.setResult(true);
+        NeoSendRawTransaction rejected = new NeoSendRawTransaction();
+        rejected.setError(new Response.Error(-500, "Rejected"));
+        when(service.send(any(Request.class), any(Class.class)))
+                .thenReturn(accepted)
+                .thenThrow(new IOException("Connection reset"))
+                .thenReturn(rejected);
+
+        AssetTransfer sent = transfer(neow3j).send();
+        AssetTransfer unknown = transfer(neow3j);
+        try {
+            unknown.send();
+            fail();
+        } catch (IOException e) {
+            // The transaction may have reached the node.
+        }
+        AssetTransfer failed = transfer(neow3j);
+        try {
+            failed.send();
+            fail();
+        } catch (ErrorResponseException e) {
+            assertThat(failed.getReservation().isExpired(), is(true));
+        }
+
+        // The inputs of the sent and the possibly sent transaction outlive the timeout.
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(4000));
+        assertThat(sent.getReservation().isExpired(), is(false));
+        assertThat(unknown.getReservation().isExpired(), is(false));
+        assertThat(pool.getReservedCount(), is(6));
+    }
+
+    private AssetTransfer transfer(Neow3j neow3j) {
+        return new AssetTransfer.Builder(neow3j)
+                .account(account)
+                .output(new RawTransactionOutput(NEOAsset.HASH_ID, "3",
+                        "AJQ6FoaSXDFzA6wLnyZ1nFN7SGSN2oNTc3"))
+                .reservationPool(pool)
+                .build();
+    }
+
+    private Reservation reserve(int amount) {
+        return pool.reserve(account, NEOAsset.HASH_ID, Fixed8.fromRawValue(amount * Fixed8.FACTOR),
+                InputCalculationStrategy.DEFAULT_INPUT_CALCULATION_STRATEGY);
+    }
+
+    private static Set<Integer> indices(List<RawTransactionInput> inputs) {
+        Set<Integer> indices = new HashSet<>();
+        inputs.forEach(input -> indices.add(input.getPrevIndex()));
+        return indices;
+    }
+}
@@ -0,0 +1,39 @@
+package io.neow3j.wallet;
+
+import io.neow3j.crypto.Hash256;
+import io.neow3j.utils.Fixed8;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class UtxoTest {
+
+    private static final String TX = "4ee4af75d5aa60598fbae40ce86fb9a23ffec5a75dfa8b59d259d15f9e304319";
+
+    @Test
+    public void testFromTxHash() {
+        Utxo utxo = Utxo.fromTxHash(Hash256.fromHexString(TX), 1, Fixed8.ONE);
+
+        assertThat(utxo.getTxHash(), is(Hash256.fromHexString(TX)));
+        assertThat(utxo.getTxId(), is(TX));
+        assertThat(utxo.getOutpoint(), is(TX + ":1"));
+        assertThat(utxo.toTransactionInput().getPrevTxHash(), is(utxo.getTxHash()));
+    }
+
+    @Test
+    public void testTxIdIsKeptAsGiven() {
+        Utxo utxo = new Utxo("0x" + TX.toUpperCase(), 1, BigDecimal.ONE);
+
+        assertThat(utxo.getTxId(), is("0x" + TX.toUpperCase()));
+        assertThat(utxo.getTxHash(), is(Hash256.fromHexString(TX)));
+        assertThat(utxo.getOutpoint(), is(TX + ":1"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTxHashOfInvalidTxId() {
+        new Utxo("1", 0, BigDecimal.ONE).getTxHash();
+    }
+}
@@ -0,0 +1,151 @@
+package io.neow3j.wallet;
+
+import io.neow3j.model.types.GASAsset;
+import io.neow3j.model.types.NEOAsset;
+import io.neow3j.model.types.TransactionType;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.methods.response.NeoBlock;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents.Balance;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents.UnspentTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents.Unspents;
+import io.neow3j.protocol.core.methods.response.Transaction;
+import io.neow3j.protocol.core.methods.response.TransactionInput;
+import io.neow3j.protocol.core.methods.response.TransactionOutput;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UtxoTrackerTest {
+
+    private static final String ADDRESS = "AK2nJJpJr6o664CWJKi1QRXjqeic2zRp8y";
+    private static final String OTHER_ADDRESS = "AHJrv6y6L6k9PfJvY7vtX3XTAmEprsd3Xn";
+    private static final String TX1 = "4ee4af75d5aa60598fbae40ce86fb9a23ffec5a75dfa8b59d259d15f9e304319";
+    private static final String TX2 = "9906bf2a9f531ac523f3e3b8126fa8cbd5da1e9cf3fb5c29eb0b3fe8eabd7f5d";
+    private static final String TX3 = "0x8ba0c2bfdd3ebd5e2e6c4aab2b0e1c94bb3f5ab6afbfb0d1e5c5ad0ee8cf12a1";
+
+    private UtxoTracker tracker;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        Neow3j neow3j = mock(Neow3j.class);
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), any(Class.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+            NeoGetUnspents response = new NeoGetUnspents();
+            if (request.getParams().get(0).equals(ADDRESS)) {
+                response.setResult(new Unspents(Arrays.asList(
+                        new Balance(Arrays.asList(
+                                new UnspentTransaction(TX1, 0, new BigDecimal("100")),
+                                new UnspentTransaction(TX1, 1, new BigDecimal("5"))),
+                                NEOAsset.HASH_ID, NEOAsset.NAME, "NEO",
+                                new BigDecimal("105")),
+                        new Balance(Collections.singletonList(
+                                new UnspentTransaction(TX2, 0, new BigDecimal("0.5"))),
+                                GASAsset.HASH_ID, GASAsset.NAME, "GAS",
+                                new BigDecimal("0.5"))), ADDRESS));
+            } else {
+                response.setResult(new Unspents(Collections.emptyList(), OTHER_ADDRESS));
+            }
+            return response;
+        });
+        when(neow3j.getUnspents(anyString())).thenAnswer(invocation -> new Request<>(
+                "getunspents", Collections.singletonList(invocation.getArguments()[0]), service,
+                NeoGetUnspents.class));
+
+        tracker = new UtxoTracker(neow3j, Arrays.asList(ADDRESS, OTHER_ADDRESS));
+        tracker.bootstrap();
+    }
+
+    @Test
+    public void testBootstrap() {
+        assertThat(tracker.getUtxoCount(), is(3));
+        Map<String, List<Utxo>> utxos = tracker.getUtxos(ADDRESS);
+        assertThat(keys(utxos.get(NEOAsset.HASH_ID)), contains(TX1 + ":0", TX1 + ":1"));
+        assertThat(keys(utxos.get(GASAsset.HASH_ID)), contains(TX2 + ":0"));
+        assertThat(tracker.getUtxos(OTHER_ADDRESS).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testApplyBlock() {
+        // Spends 100 NEO of ADDRESS, sends 30 back to it as change and 70 to OTHER_ADDRESS.
+        Transaction tx = new Transaction(TX3, 0, TransactionType.CONTRACT_TRANSACTION, 0, null,
+                Collections.singletonList(new TransactionInput("0x" + TX1.toUpperCase(), 0)),
+                Arrays.asList(
+                        new TransactionOutput(0, "0x" + NEOAsset.HASH_ID, "70", OTHER_ADDRESS),
+                        new TransactionOutput(1, "0x" + NEOAsset.HASH_ID, "30", ADDRESS),
+                        new TransactionOutput(2, "0x" + NEOAsset.HASH_ID, "1", "AUnwatched")),
+                null, null, null, null, null, null);
+        NeoBlock block = new NeoBlock(null, 0, 0, null, null, 0, 10, null, null, null,
+                Collections.singletonList(tx), 0, null);
+
+        tracker.applyBlock(block);
+        // Applying a block again does not change the outputs.
+        tracker.applyBlock(block);
+
+        String tx3 = TX3.substring(2);
+        assertThat(tracker.getUtxoCount(), is(4));
+        assertThat(keys(tracker.getUtxos(ADDRESS).get(NEOAsset.HASH_ID)),
+                containsInAnyOrder(TX1 + ":1", tx3 + ":1"));
+        assertThat(keys(tracker.getUtxos(OTHER_ADDRESS).get(NEOAsset.HASH_ID)),
+                contains(tx3 + ":0"));
+    }
+
+    @Test
+    public void testAccountBalances() throws Exception {
+        Account account = Account.fromAddress(ADDRESS).build();
+        account.updateAssetBalances(tracker);
+        assertThat(account.getBalances().getAssetBalance(NEOAsset.HASH_ID).getAmount(),
+                is(new BigDecimal("105")));
+        assertThat(account.getBalances().getAssetBalance(GASAsset.HASH_ID).getAmount(),
+                is(new BigDecimal("0.5")));
+        assertThat(tracker.getBalances(account).hasAsset(NEOAsset.HASH_ID), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAccountOfUnwatchedAddress() {
+        Account.fromAddress("AUnwatched").build().updateAssetBalances(tracker);
+    }
+
+    @Test
+    public void testOutPointMap() {
+        OutPointMap<Integer> map = new OutPointMap<>();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.put(TX1, i, i), is((Integer) null));
+            // Same first 64 bits, different transaction id.
+            map.put(TX1.substring(0, 16) + i, i, -i);
+        }
+        assertThat(map.size(), is(2000));
+        for (int i = 0; i < 1000; i += 2) {
+            assertThat(map.remove(TX1, i), is(i));
+        }
+        assertThat(map.size(), is(1500));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.get(TX1, i), is(i % 2 == 0 ? null : i));
+            assertThat(map.get(TX1.substring(0, 16) + i, i), is(-i));
+        }
+    }
+
+    private static List<String> keys(List<Utxo> utxos) {
+        return utxos.stream().map(u -> u.getTxId() + ":" + u.getIndex())
+                .collect(Collectors.toList());
+    }
+}
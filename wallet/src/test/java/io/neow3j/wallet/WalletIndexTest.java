@@ -0,0 +1,134 @@
+package io.neow3j.wallet;
+
+import io.neow3j.crypto.Hash160;
+import io.neow3j.utils.Numeric;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class WalletIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Wallet wallet;
+    private Path walletFile;
+
+    @Before
+    public void setUp() throws IOException {
+        wallet = Wallet.fromNEP6Wallet("wallet.json").build();
+        File file = folder.newFile("wallet.json");
+        walletFile = file.toPath();
+        wallet.saveNEP6Wallet(file, true);
+    }
+
+    @Test
+    public void testReadAccountsFromIndex() throws IOException {
+        WalletIndex index = WalletIndex.open(walletFile);
+
+        assertThat(index.size(), is(wallet.getAccounts().size()));
+        for (int i = 0; i < index.size(); i++) {
+            Account account = wallet.getAccounts().get(i);
+            assertThat(index.getAddress(i), is(account.getAddress()));
+            assertThat(index.getScriptHash(i), is(account.getScriptHash160()));
+            assertThat(index.getLabel(i), is(account.getLabel()));
+            assertThat(index.isDefault(i), is(account.isDefault()));
+            assertThat(index.isLocked(i), is(account.isLocked()));
+            assertThat(Numeric.toHexStringNoPrefix(index.getVerificationScript(i)),
+                    is(account.getContract().getScript()));
+
+            Account fromIndex = index.getAccount(i);
+            assertThat(fromIndex.getAddress(), is(account.getAddress()));
+            assertThat(fromIndex.getContract(), is(account.getContract()));
+            assertThat(fromIndex.getEncryptedPrivateKey(), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void testLookUpAccounts() throws IOException {
+        WalletIndex index = WalletIndex.open(walletFile);
+        for (int i = 0; i < index.size(); i++) {
+            Account account = wallet.getAccounts().get(i);
+            assertThat(index.indexOf(account.getAddress()), is(i));
+            assertThat(index.indexOf(account.getScriptHash160()), is(i));
+        }
+        assertThat(index.indexOf(Hash160.ZERO), is(-1));
+        assertThat(index.indexOf(Account.createAccount().getAddress()), is(-1));
+    }
+
+    @Test
+    public void testIndexIsIgnoredWhenWalletFileChanged() throws IOException {
+        Files.write(walletFile, " ".getBytes(), StandardOpenOption.APPEND);
+        assertThat(WalletIndex.open(walletFile), is(nullValue()));
+    }
+
+    @Test
+    public void testNoIndex() throws IOException {
+        wallet.saveNEP6Wallet(folder.newFile("other.json"));
+        assertThat(WalletIndex.open(walletFile.resolveSibling("other.json")), is(nullValue()));
+    }
+
+    @Test
+    public void testSaveWithoutIndexDeletesIndex() throws IOException {
+        wallet.saveNEP6Wallet(walletFile.toFile());
+        assertThat(Files.exists(WalletIndex.indexFileOf(walletFile)), is(false));
+    }
+
+    @Test
+    public void testOpenFromIndexWithoutParsingAccounts() throws IOException {
+        // The accounts of this wallet file cannot be parsed, so the accounts must come from
+        // the index.
+        Files.write(walletFile, ("{\"name\":\"Indexed\",\"version\":\"1.0\","
+                + "\"accounts\":[{\"address\":{}}]}").getBytes());
+        WalletIndex.write(walletFile, wallet.getAccounts());
+
+        Wallet indexed = Wallet.fromIndexedNEP6Wallet(walletFile.toFile()).build();
+
+        assertThat(indexed.getName(), is("Indexed"));
+        assertThat(indexed.getAccounts().size(), is(wallet.getAccounts().size()));
+        for (int i = 0; i < indexed.getAccounts().size(); i++) {
+            Account account = indexed.getAccounts().get(i);
+            assertThat(account.getAddress(), is(wallet.getAccounts().get(i).getAddress()));
+            assertThat(account.getEncryptedPrivateKey(), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void testLoadKeysOfWalletOpenedFromIndex() throws IOException {
+        Wallet indexed = Wallet.fromIndexedNEP6Wallet(walletFile.toFile()).build();
+        assertThat(indexed.getAccounts().get(0).getEncryptedPrivateKey(), is(nullValue()));
+
+        indexed.loadKeys();
+
+        for (int i = 0; i < indexed.getAccounts().size(); i++) {
+            assertThat(indexed.getAccounts().get(i).getEncryptedPrivateKey(),
+                    is(wallet.getAccounts().get(i).getEncryptedPrivateKey()));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDecryptWithoutLoadedKeys() throws Exception {
+        Wallet.fromIndexedNEP6Wallet(walletFile.toFile()).build().decryptAllAccounts("neo");
+    }
+
+    @Test
+    public void testOpenWithoutIndexReadsWalletFile() throws IOException {
+        Files.write(walletFile, " ".getBytes(), StandardOpenOption.APPEND);
+
+        Wallet opened = Wallet.fromIndexedNEP6Wallet(walletFile.toFile()).build();
+
+        assertThat(opened.getAccounts().get(0).getEncryptedPrivateKey(),
+                is(wallet.getAccounts().get(0).getEncryptedPrivateKey()));
+    }
+}
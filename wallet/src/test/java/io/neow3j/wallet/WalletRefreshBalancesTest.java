@@ -0,0 +1,147 @@
+package io.neow3j.wallet;
+
+import io.neow3j.model.types.NEOAsset;
+import io.neow3j.protocol.Neow3j;
+import io.neow3j.protocol.Neow3jService;
+import io.neow3j.protocol.core.Request;
+import io.neow3j.protocol.core.Response;
+import io.neow3j.protocol.core.methods.response.NeoGetNep5Balances;
+import io.neow3j.protocol.core.methods.response.NeoGetNep5Balances.Nep5Balance;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents.Balance;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents.UnspentTransaction;
+import io.neow3j.protocol.core.methods.response.NeoGetUnspents.Unspents;
+import io.neow3j.protocol.exceptions.ErrorResponseException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WalletRefreshBalancesTest {
+
+    private static final String TOKEN = "1aada0032aba1ef6d1f07bbd8bec1d85f5380fb3";
+    private static final String TX = "4ee4af75d5aa60598fbae40ce86fb9a23ffec5a75dfa8b59d259d15f9e304319";
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private Neow3j neow3j;
+    private Wallet wallet;
+    private String failingAddress;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            accounts.add(Account.fromNewECKeyPair().build());
+        }
+        wallet = new Wallet.Builder().accounts(accounts).build();
+        failingAddress = accounts.get(7).getAddress();
+
+        neow3j = mock(Neow3j.class);
+        Neow3jService service = mock(Neow3jService.class);
+        when(service.send(any(Request.class), any(Class.class))).thenAnswer(invocation -> {
+            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+            String address = (String) request.getParams().get(0);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+                return respond(request.getMethod(), address);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        when(neow3j.getUnspents(anyString())).thenAnswer(invocation -> new Request<>(
+                "getunspents", Collections.singletonList(invocation.getArguments()[0]), service,
+                NeoGetUnspents.class));
+        when(neow3j.getNep5Balances(anyString())).thenAnswer(invocation -> new Request<>(
+                "getnep5balances", Collections.singletonList(invocation.getArguments()[0]),
+                service, NeoGetNep5Balances.class));
+    }
+
+    @Test
+    public void testRefreshesAllAccountsAndReportsFailures() throws Exception {
+        BalanceRefreshResult result = wallet.refreshBalances(neow3j,
+                new BalanceRefreshOptions.Builder().parallelism(4).build());
+
+        assertThat(result.getRefreshedCount(), is(19));
+        assertThat(result.isSuccessful(), is(false));
+        assertThat(result.getFailures().size(), is(1));
+        assertThat(result.getFailures().get(failingAddress),
+                is(instanceOf(ErrorResponseException.class)));
+        assertThat(maxInFlight.get(), is(lessThanOrEqualTo(4)));
+
+        for (Account account : wallet.getAccounts()) {
+            Balances balances = account.getBalances();
+            if (account.getAddress().equals(failingAddress)) {
+                // The unspents were fetched, but are not applied without the token balances.
+                assertThat(balances.hasAsset(NEOAsset.HASH_ID), is(false));
+            } else {
+                assertThat(balances.getAssetBalance(NEOAsset.HASH_ID).getAmount(),
+                        is(new BigDecimal("10")));
+                assertThat(balances.getTokenBalance(TOKEN), is(new BigDecimal("3")));
+            }
+        }
+    }
+
+    @Test
+    public void testRefreshesOnlySelectedBalances() throws Exception {
+        BalanceRefreshResult result = wallet.refreshBalances(neow3j,
+                new BalanceRefreshOptions.Builder().tokens(false).build());
+
+        assertThat(result.isSuccessful(), is(true));
+        assertThat(result.getRefreshedCount(), is(20));
+        Balances balances = wallet.getAccounts().get(0).getBalances();
+        assertThat(balances.hasAsset(NEOAsset.HASH_ID), is(true));
+        assertThat(balances.getTokenBalance(TOKEN), is(nullValue()));
+    }
+
+    @Test
+    public void testMalformedIdsAreNotFound() throws Exception {
+        wallet.refreshBalances(neow3j, new BalanceRefreshOptions.Builder().build());
+
+        Balances balances = wallet.getAccounts().get(0).getBalances();
+        assertThat(balances.hasAsset("neo"), is(false));
+        assertThat(balances.getAssetBalance("0x"), is(nullValue()));
+        assertThat(balances.hasToken(TOKEN.substring(2)), is(false));
+        assertThat(balances.getTokenBalance("zz" + TOKEN.substring(2)), is(nullValue()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNothingSelected() {
+        new BalanceRefreshOptions.Builder().assets(false).tokens(false).build();
+    }
+
+    private Response<?> respond(String method, String address) {
+        if (method.equals("getunspents")) {
+            NeoGetUnspents response = new NeoGetUnspents();
+            response.setResult(new Unspents(Collections.singletonList(new Balance(
+                    Collections.singletonList(new UnspentTransaction(TX, 0, BigDecimal.TEN)),
+                    NEOAsset.HASH_ID, NEOAsset.NAME, "NEO", BigDecimal.TEN)), address));
+            return response;
+        }
+        NeoGetNep5Balances response = new NeoGetNep5Balances();
+        if (address.equals(failingAddress)) {
+            response.setError(new Response.Error(-32603, "Internal error"));
+        } else {
+            response.setResult(new NeoGetNep5Balances.Balances(Collections.singletonList(
+                    new Nep5Balance(TOKEN, "3", BigInteger.ONE)), address));
+        }
+        return response;
+    }
+}
@@ -18,11 +18,13 @@ import java.security.InvalidAlgorithmParameterException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
@@ -252,6 +254,45 @@ public class WalletTest {
         assertThat(w.getDefaultAccount(), is(a));
     }
 
+    @Test
+    public void testAccountIndexes() {
+        Account a1 = Account.createAccount();
+        Account a2 = Account.createAccount();
+        Account a3 = Account.createAccount();
+        Wallet w = new Wallet.Builder().account(a1).account(a2).build();
+        assertThat(w.addAccount(a3), is(true));
+        assertThat(w.addAccount(Account.fromAddress(a2.getAddress()).build()), is(false));
+
+        assertThat(w.getAccount(a2.getAddress()), is(a2));
+        assertThat(w.getAccount(a3.getScriptHash160()), is(a3));
+        assertThat(w.containsAccount(a1.getAddress()), is(true));
+
+        List<Account> before = w.getAccounts();
+        assertThat(w.removeAccount(a2.getAddress()), is(true));
+        assertThat(w.removeAccount(a2.getAddress()), is(false));
+        assertThat(w.getAccount(a2.getAddress()), nullValue());
+        assertThat(w.getAccount(a2.getScriptHash160()), nullValue());
+        assertThat(w.getAccounts(), contains(a1, a3));
+        // Earlier snapshots are not affected.
+        assertThat(before, contains(a1, a2, a3));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAccountsAreUnmodifiable() {
+        Wallet.createGenericWallet().getAccounts().add(Account.createAccount());
+    }
+
+    @Test
+    public void testRemoveDefaultAccount() {
+        Account a1 = Account.fromNewECKeyPair().isDefault(true).build();
+        Account a2 = Account.fromNewECKeyPair().isDefault(true).build();
+        Wallet w = new Wallet.Builder().account(a1).account(a2).build();
+        assertThat(w.getDefaultAccount(), is(a1));
+
+        w.removeAccount(a1.getAddress());
+        assertThat(w.getDefaultAccount(), is(a2));
+    }
+
     private File createTempFile() throws IOException {
         File testFile = File.createTempFile("neow3j", "-test");
         testFile.deleteOnExit();
@@ -0,0 +1,93 @@
+package io.neow3j.wallet.nep6;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class NEP6WalletStreamingTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadAccountsOneByOne() throws IOException {
+        NEP6Wallet expected = mapper.readValue(resource(), NEP6Wallet.class);
+
+        List<NEP6Account> accounts = new ArrayList<>();
+        NEP6Wallet wallet = new NEP6WalletReader(mapper).read(resource(), accounts::add);
+
+        assertThat(wallet.getName(), is(expected.getName()));
+        assertThat(wallet.getVersion(), is(expected.getVersion()));
+        assertThat(wallet.getScrypt(), is(expected.getScrypt()));
+        assertThat(wallet.getAccounts().isEmpty(), is(true));
+        JsonNode expectedAccounts = mapper.valueToTree(expected.getAccounts());
+        assertThat(mapper.valueToTree(accounts), is(expectedAccounts));
+    }
+
+    @Test
+    public void testReadFieldsAfterAccounts() throws IOException {
+        String json = "{\"accounts\":[{\"address\":\"a1\"},{\"address\":\"a2\"}]," +
+                "\"unknown\":{\"x\":[1]},\"name\":\"late\",\"extra\":null}";
+        List<NEP6Account> accounts = new ArrayList<>();
+        NEP6Wallet wallet = new NEP6WalletReader(mapper).read(
+                new ByteArrayInputStream(json.getBytes()), accounts::add);
+
+        assertThat(wallet.getName(), is("late"));
+        assertThat(accounts.size(), is(2));
+        assertThat(accounts.get(1).getAddress(), is("a2"));
+    }
+
+    @Test
+    public void testWriteMatchesObjectMapper() throws IOException {
+        NEP6Wallet wallet = mapper.readValue(resource(), NEP6Wallet.class);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new NEP6WalletWriter(mapper).write(out, wallet, wallet.getAccounts());
+
+        JsonNode expected = mapper.valueToTree(wallet);
+        assertThat(mapper.readTree(out.toByteArray()), is(expected));
+    }
+
+    @Test
+    public void testOnlyChangedAccountsAreSerializedAgain() throws IOException {
+        NEP6Wallet wallet = mapper.readValue(resource(), NEP6Wallet.class);
+        List<NEP6Account> accounts = new ArrayList<>(wallet.getAccounts());
+        Path file = folder.getRoot().toPath().resolve("wallet.json");
+        NEP6WalletWriter writer = new NEP6WalletWriter(mapper);
+
+        writer.write(file, wallet, accounts);
+        assertThat(writer.getSerializedCount(), is(2));
+        writer.write(file, wallet, accounts);
+        assertThat(writer.getSerializedCount(), is(0));
+
+        NEP6Account first = accounts.get(0);
+        accounts.set(0, new NEP6Account(first.getAddress(), "Renamed", first.getDefault(),
+                first.getLock(), first.getKey(), first.getContract(), first.getExtra()));
+        writer.write(file, wallet, accounts);
+        assertThat(writer.getSerializedCount(), is(1));
+
+        NEP6Wallet read = mapper.readValue(file.toFile(), NEP6Wallet.class);
+        assertThat(read.getAccounts().get(0).getLabel(), is("Renamed"));
+        assertThat(read.getAccounts().get(1).getLabel(), is(accounts.get(1).getLabel()));
+        assertThat(Files.exists(file.resolveSibling("wallet.json.tmp")), is(false));
+    }
+
+    private InputStream resource() {
+        return NEP6WalletStreamingTest.class.getClassLoader().getResourceAsStream("wallet.json");
+    }
+}